@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.FieldTypeModel;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * このクラスは、10万フィールドのデータベース情報を構築するベンチマーククラスです。
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelBuildBenchmark {
+
+	@Param({ "100000" })
+	public int totalFieldCount;
+
+	@Param({ "10", "100" })
+	public int fieldCount;
+
+	@Benchmark
+	public DatabaseModel build() {
+		SchemaModel schema = new SchemaModel();
+		schema.setName("public");
+
+		FieldTypeModel type = new FieldTypeModel();
+		type.setLabel("varchar");
+
+		DatabaseModel database = new DatabaseModel();
+		int tableCount = totalFieldCount / fieldCount;
+		for (int i = 0; i < tableCount; i++) {
+			TableModel table = new TableModel();
+			table.setSchema(schema);
+			table.setName("t_" + i);
+			table.setLabel("t_" + i);
+			for (int j = 0; j < fieldCount; j++) {
+				FieldModel field = new FieldModel();
+				field.setName("c" + j);
+				field.setLabel("c" + j);
+				field.setType(type);
+				table.addField(field);
+			}
+			database.addTable(table);
+		}
+		return database;
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * このクラスは、合成した行からテーブル情報を組み立てる処理のベンチマーククラスです。
+ * <p>
+ * テーブル単位の取得とスキーマ単位の一括取得の両方を計測します。
+ * JDBCドライバの処理は含みません。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParseTableBenchmark {
+
+	@Param({ "100", "1000" })
+	public int tableCount;
+
+	@Param({ "10", "100" })
+	public int fieldCount;
+
+	@Param({ "4" })
+	public int indexCount;
+
+	@Param({ "2" })
+	public int foreignKeyCount;
+
+	private SyntheticCatalog catalog;
+
+	private SchemaModel schema;
+
+	private SyntheticDefinition tableDefinition;
+
+	private SyntheticDefinition bulkDefinition;
+
+	@Setup
+	public void setup() {
+		catalog = new SyntheticCatalog("public", tableCount, fieldCount, indexCount, foreignKeyCount);
+
+		schema = new SchemaModel();
+		schema.setName(catalog.getSchemaName());
+
+		tableDefinition = new SyntheticDefinition(catalog.getConnection());
+		tableDefinition.setBulkMode(false);
+
+		bulkDefinition = new SyntheticDefinition(catalog.getConnection());
+		bulkDefinition.setBulkMode(true);
+	}
+
+	@TearDown
+	public void tearDown() {
+		tableDefinition.close();
+		bulkDefinition.close();
+	}
+
+	@Benchmark
+	public TableModel getTable() throws SQLException {
+		return tableDefinition.getTable(schema, catalog.getTableNames().get(tableCount / 2));
+	}
+
+	@Benchmark
+	public List<TableModel> getTableListByTable() throws SQLException {
+		return tableDefinition.getTableList(schema);
+	}
+
+	@Benchmark
+	public List<TableModel> getTableListBySchema() throws SQLException {
+		return bulkDefinition.getTableList(schema);
+	}
+}
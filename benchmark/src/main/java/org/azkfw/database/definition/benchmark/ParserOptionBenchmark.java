@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.azkfw.database.definition.parser.DatabaseDefinitionParserOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * このクラスは、パーサーオプションのスキーマ・テーブル判定処理のベンチマーククラスです。
+ * <p>
+ * 対象・除外のパターン数を変えて、テーブル1000件・スキーマ100件を判定します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserOptionBenchmark {
+
+	@Param({ "10", "100", "500" })
+	public int patternCount;
+
+	private DatabaseDefinitionParserOption option;
+
+	private List<SchemaModel> schemas;
+
+	private List<TableModel> tables;
+
+	@Setup
+	public void setup() {
+		option = new DatabaseDefinitionParserOption();
+		for (int i = 0; i < patternCount; i++) {
+			option.addIncludeSchema(String.format("S_%03d", i * 2));
+			option.addExcludeSchema(String.format("tmp_%03d", i));
+			if (0 == i % 2) {
+				option.addIncludeTable(String.format("S_%03d", i), String.format("T_%05d", i * 2));
+			} else {
+				option.addIncludeTable(String.format("T_%05d", i * 2));
+			}
+			option.addExcludeTable(String.format("tmp_%05d", i));
+		}
+
+		schemas = new ArrayList<SchemaModel>();
+		for (int i = 0; i < 100; i++) {
+			SchemaModel schema = new SchemaModel();
+			schema.setName(String.format("s_%03d", i));
+			schemas.add(schema);
+		}
+
+		tables = new ArrayList<TableModel>();
+		for (int i = 0; i < 1000; i++) {
+			TableModel table = new TableModel();
+			table.setSchema(schemas.get(i % schemas.size()));
+			table.setName(String.format("t_%05d", i));
+			tables.add(table);
+		}
+	}
+
+	@Benchmark
+	public int isEnableSchema() {
+		int count = 0;
+		for (SchemaModel schema : schemas) {
+			if (option.isEnableSchema(schema)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int isEnableTable() {
+		int count = 0;
+		for (TableModel table : tables) {
+			if (option.isEnableTable(table)) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
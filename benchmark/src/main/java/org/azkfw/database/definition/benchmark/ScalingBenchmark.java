@@ -0,0 +1,389 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.parser.DatabaseDefinitionParser;
+import org.azkfw.database.definition.parser.DatabaseDefinitionParserOption;
+import org.azkfw.database.definition.parser.MySQLDefinitionParser;
+import org.azkfw.database.definition.parser.PostgreSQLDefinitionParser;
+
+/**
+ * このクラスは、合成スキーマに対してパーサー全体を実行するスケーリングベンチマーククラスです。
+ * <p>
+ * テーブル数毎にスキーマを生成し、{@link PostgreSQLDefinitionParser} または {@link MySQLDefinitionParser} で解析した際の
+ * スループット(テーブル/秒)・ラウンドトリップ数・アロケーション量・ピークヒープ・解析結果が保持するヒープを出力します。
+ * </p>
+ * <p>
+ * 各方言は <code>information_schema</code> の方言固有のカラムを参照する為、接続先(<code>bench.url</code>)には
+ * <code>bench.dialect</code> と同じ実データベース(PostgreSQL・MySQL)を指定する必要があります。
+ * 互換モードの組込みデータベース等はカタログが異なる為、使用できません。
+ * </p>
+ * <p>
+ * 計測値の扱いは下記の通りです。
+ * <ul>
+ * <li>ラウンドトリップ数 - 接続先に依らず、テーブル数に対する増え方(一括取得・遅延読込の効果)を比較できます。</li>
+ * <li>アロケーション量・ピークヒープ・保持ヒープ - クライアント側の値の為、接続先に依らず比較できます。</li>
+ * <li>スループット - サーバー・ネットワーク・カタログの状態に依存する為、同じ接続先で計測した値同士でのみ比較できます。
+ * ベースラインも同じ接続先で作成してください。</li>
+ * </ul>
+ * </p>
+ * <p>
+ * システムプロパティは下記の通りです。
+ * <ul>
+ * <li>bench.dialect - postgresql または mysql (既定: postgresql)</li>
+ * <li>bench.url - 接続先 (必須)</li>
+ * <li>bench.user / bench.password - 接続するユーザ・パスワード</li>
+ * <li>bench.tables - テーブル数(カンマ区切り) (既定: 10,1000,10000,50000)</li>
+ * <li>bench.fields / bench.indexs / bench.foreignKeys - テーブル毎の数 (既定: 10 / 3 / 2)</li>
+ * <li>bench.intern - 識別子・型を共有するか (既定: true)</li>
+ * <li>bench.report - 結果(テーブル/秒・ラウンドトリップ数・アロケーション量)を出力するファイル</li>
+ * <li>bench.baseline - 比較するベースラインファイル(bench.report の出力形式)</li>
+ * <li>bench.tolerance - ベースラインに対して許容するスループットの低下率・アロケーション量の増加率 (既定: 0.2)</li>
+ * </ul>
+ * スループットがベースラインを下回った場合、ラウンドトリップ数がベースラインより増えた場合、アロケーション量が許容範囲を超えて増えた場合は
+ * 例外で終了するため、ビルドを失敗させることができます。ラウンドトリップ数は接続先の性能に依らない為、1回でも増えれば失敗とします。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class ScalingBenchmark {
+
+	private final String dialect;
+
+	private final String url;
+
+	private final String user;
+
+	private final String password;
+
+	private final int fieldCount;
+
+	private final int indexCount;
+
+	private final int foreignKeyCount;
+
+	private final boolean intern;
+
+	private ScalingBenchmark(final Properties properties) {
+		dialect = properties.getProperty("bench.dialect", "postgresql").toLowerCase();
+		if (!"postgresql".equals(dialect) && !"mysql".equals(dialect)) {
+			throw new IllegalArgumentException("Unsupported dialect " + dialect);
+		}
+		url = properties.getProperty("bench.url");
+		if (null == url || url.isEmpty()) {
+			throw new IllegalArgumentException("bench.url is required. Specify a " + dialect + " server.");
+		}
+		user = properties.getProperty("bench.user");
+		password = properties.getProperty("bench.password");
+		fieldCount = Integer.parseInt(properties.getProperty("bench.fields", "10"));
+		indexCount = Integer.parseInt(properties.getProperty("bench.indexs", "3"));
+		foreignKeyCount = Integer.parseInt(properties.getProperty("bench.foreignKeys", "2"));
+		intern = Boolean.parseBoolean(properties.getProperty("bench.intern", "true"));
+	}
+
+	public static void main(final String[] args) throws Exception {
+		Properties properties = System.getProperties();
+		ScalingBenchmark benchmark = new ScalingBenchmark(properties);
+
+		List<Result> results = new ArrayList<Result>();
+		for (String value : properties.getProperty("bench.tables", "10,1000,10000,50000").split(",")) {
+			Result result = benchmark.run(Integer.parseInt(value.trim()));
+			System.out.println(result);
+			results.add(result);
+		}
+
+		String report = properties.getProperty("bench.report");
+		if (null != report) {
+			benchmark.store(results, new File(report));
+		}
+
+		String baseline = properties.getProperty("bench.baseline");
+		if (null != baseline) {
+			double tolerance = Double.parseDouble(properties.getProperty("bench.tolerance", "0.2"));
+			benchmark.verify(results, new File(baseline), tolerance);
+		}
+	}
+
+	/**
+	 * 指定テーブル数のスキーマを生成し、解析する。
+	 * 
+	 * @param tableCount テーブル数
+	 * @return 結果
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private Result run(final int tableCount) throws SQLException {
+		String schemaName = "bench_" + tableCount;
+
+		Connection connection = DriverManager.getConnection(url, user, password);
+		try {
+			dropSchema(connection, schemaName);
+			new SyntheticSchemaGenerator(tableCount, fieldCount, indexCount, foreignKeyCount).create(connection, schemaName);
+
+			DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+			option.addIncludeSchema(schemaName);
+			option.setInternMode(intern);
+			DatabaseDefinitionParser parser = "mysql".equals(dialect) ? new MySQLDefinitionParser() : new PostgreSQLDefinitionParser();
+			parser.setOption(option);
+
+			long used = getUsedHeap();
+			resetPeakHeap();
+
+			AtomicLong roundTrips = new AtomicLong();
+			long allocated = getAllocatedBytes();
+			long start = System.nanoTime();
+			DatabaseModel database = parser.parse(countRoundTrips(connection, roundTrips));
+			long time = System.nanoTime() - start;
+			allocated = getAllocatedBytes() - allocated;
+
+			long peakHeap = getPeakHeap();
+			long retained = getUsedHeap() - used;
+
+			// 保持ヒープの計測後まで解析結果を参照する
+			int parsed = database.getTables().size();
+			if (parsed != tableCount) {
+				throw new IllegalStateException(String.format("Parsed %d tables, expected %d.", parsed, tableCount));
+			}
+
+			Result result = new Result(tableCount, time, roundTrips.get(), allocated, peakHeap, retained);
+			dropSchema(connection, schemaName);
+			return result;
+		} finally {
+			connection.close();
+		}
+	}
+
+	private void dropSchema(final Connection connection, final String schemaName) throws SQLException {
+		Statement stmt = connection.createStatement();
+		try {
+			stmt.execute("DROP SCHEMA IF EXISTS " + schemaName + ("mysql".equals(dialect) ? "" : " CASCADE"));
+		} finally {
+			stmt.close();
+		}
+	}
+
+	private void store(final List<Result> results, final File file) throws IOException {
+		Properties properties = new Properties();
+		for (Result result : results) {
+			String key = dialect + "." + result.tableCount;
+			properties.setProperty(key, Double.toString(result.getThroughput()));
+			properties.setProperty(key + ".roundTrips", Long.toString(result.roundTrips));
+			if (0L <= result.allocated) {
+				properties.setProperty(key + ".allocated", Long.toString(result.allocated));
+			}
+		}
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			properties.store(stream, "tables/s, round trips, allocated bytes");
+		} finally {
+			stream.close();
+		}
+	}
+
+	private void verify(final List<Result> results, final File file, final double tolerance) throws IOException {
+		Properties baseline = new Properties();
+		InputStream stream = new FileInputStream(file);
+		try {
+			baseline.load(stream);
+		} finally {
+			stream.close();
+		}
+
+		List<String> regressions = new ArrayList<String>();
+		for (Result result : results) {
+			String key = dialect + "." + result.tableCount;
+			String value = baseline.getProperty(key);
+			if (null != value) {
+				double expected = Double.parseDouble(value);
+				if (result.getThroughput() < expected * (1.0 - tolerance)) {
+					regressions.add(String.format("%d tables: %.1f tables/s (baseline %.1f)", result.tableCount, result.getThroughput(), expected));
+				}
+			}
+
+			value = baseline.getProperty(key + ".roundTrips");
+			if (null != value) {
+				long expected = Long.parseLong(value);
+				if (result.roundTrips > expected) {
+					regressions.add(String.format("%d tables: %d round trips (baseline %d)", result.tableCount, result.roundTrips, expected));
+				}
+			}
+
+			value = baseline.getProperty(key + ".allocated");
+			if (null != value && 0L <= result.allocated) {
+				long expected = Long.parseLong(value);
+				if (result.allocated > expected * (1.0 + tolerance)) {
+					regressions.add(String.format("%d tables: %.1fMB allocated (baseline %.1fMB)", result.tableCount, result.allocated / 1048576.0,
+							expected / 1048576.0));
+				}
+			}
+		}
+		if (!regressions.isEmpty()) {
+			throw new IllegalStateException("Introspection regression " + regressions);
+		}
+	}
+
+	/**
+	 * 実行したクエリ数を数えるコネクションを取得する。
+	 * 
+	 * @param connection コネクション
+	 * @param counter カウンタ
+	 * @return コネクション
+	 */
+	private static Connection countRoundTrips(final Connection connection, final AtomicLong counter) {
+		return (Connection) Proxy.newProxyInstance(ScalingBenchmark.class.getClassLoader(), new Class<?>[] { Connection.class },
+				new InvocationHandler() {
+					@Override
+					public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+						Object result = invokeTarget(connection, method, args);
+						if (result instanceof Statement) {
+							return countRoundTrips((Statement) result, method.getReturnType(), counter);
+						}
+						return result;
+					}
+				});
+	}
+
+	private static Object countRoundTrips(final Statement statement, final Class<?> type, final AtomicLong counter) {
+		return Proxy.newProxyInstance(ScalingBenchmark.class.getClassLoader(), new Class<?>[] { type }, new InvocationHandler() {
+			@Override
+			public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+				if (method.getName().startsWith("execute")) {
+					counter.incrementAndGet();
+				}
+				return invokeTarget(statement, method, args);
+			}
+		});
+	}
+
+	private static Object invokeTarget(final Object target, final Method method, final Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		try {
+			// HotSpot拡張(com.sun.management.ThreadMXBean)が利用可能な場合のみ計測する
+			Class<?> clazz = Class.forName("com.sun.management.ThreadMXBean");
+			if (!clazz.isInstance(bean)) {
+				return -1L;
+			}
+			Method method = clazz.getMethod("getThreadAllocatedBytes", long.class);
+			return (Long) method.invoke(bean, Thread.currentThread().getId());
+		} catch (Exception ex) {
+			return -1L;
+		}
+	}
+
+	/**
+	 * GC後の使用ヒープを取得する。
+	 * 
+	 * @return 使用ヒープ
+	 */
+	private static long getUsedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static void resetPeakHeap() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (MemoryType.HEAP == pool.getType()) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	private static long getPeakHeap() {
+		long peak = 0L;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (MemoryType.HEAP == pool.getType()) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	/**
+	 * 計測結果
+	 */
+	private static final class Result {
+
+		private final int tableCount;
+
+		private final long time;
+
+		private final long roundTrips;
+
+		private final long allocated;
+
+		private final long peakHeap;
+
+		private final long retained;
+
+		private Result(final int tableCount, final long time, final long roundTrips, final long allocated, final long peakHeap,
+				final long retained) {
+			this.tableCount = tableCount;
+			this.time = time;
+			this.roundTrips = roundTrips;
+			this.allocated = allocated;
+			this.peakHeap = peakHeap;
+			this.retained = retained;
+		}
+
+		private double getThroughput() {
+			return tableCount / (time / 1000000000.0);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("tables=%d time=%.1fms throughput=%.1f tables/s roundTrips=%d allocated=%.1fMB peakHeap=%.1fMB retained=%.1fMB",
+					tableCount, time / 1000000.0, getThroughput(), roundTrips, allocated / 1048576.0, peakHeap / 1048576.0, retained / 1048576.0);
+		}
+	}
+}
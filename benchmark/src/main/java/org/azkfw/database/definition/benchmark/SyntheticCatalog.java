@@ -0,0 +1,308 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * このクラスは、ベンチマーク用の合成カタログクラスです。
+ * <p>
+ * 生成したカタログ情報をメモリ上に保持し、{@link SyntheticDefinition} が発行するクエリに応答する疑似コネクションを提供します。
+ * 各行はテーブル名順に並んでいます。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class SyntheticCatalog {
+
+	/** スキーマ名 */
+	private final String schemaName;
+
+	/** テーブル名一覧 */
+	private final List<String> tableNames;
+
+	/** クエリ毎の結果 */
+	private final Map<String, Rows> queries;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param tableCount テーブル数
+	 * @param fieldCount テーブル毎のフィールド数
+	 * @param indexCount テーブル毎のインデックス数(主キーを含む)
+	 * @param foreignKeyCount テーブル毎の外部キー数
+	 */
+	public SyntheticCatalog(final String schemaName, final int tableCount, final int fieldCount, final int indexCount, final int foreignKeyCount) {
+		this.schemaName = schemaName;
+		this.tableNames = new ArrayList<String>(tableCount);
+		this.queries = new HashMap<String, Rows>();
+
+		for (int i = 0; i < tableCount; i++) {
+			tableNames.add(String.format("t_%05d", i));
+		}
+
+		Rows schemas = new Rows("table_name", "name");
+		schemas.add(null, schemaName);
+
+		Rows tables = new Rows("table_name", "label", "name", "comment");
+		Rows fields = new Rows("table_name", "label", "name", "type", "extra", "notnull", "default", "comment");
+		Rows indexs = new Rows("table_name", "name", "field_name", "unique_key", "primary_key");
+		Rows foreignKeys = new Rows("table_name", "name", "field_name", "ref_table_name", "ref_field_name");
+		for (int i = 0; i < tableCount; i++) {
+			String table = tableNames.get(i);
+			tables.add(table, table, table, table + " comment");
+
+			for (int j = 0; j < fieldCount; j++) {
+				String field = "c" + j;
+				fields.add(table, field, field, (0 == j % 3) ? "integer" : "varchar", "", 0 == j, (0 == j % 5) ? "0" : null, null);
+			}
+			for (int j = 0; j < indexCount && j < fieldCount; j++) {
+				if (0 == j) {
+					indexs.add(table, table + "_pkey", "c0", true, true);
+				} else {
+					String index = table + "_idx" + j;
+					indexs.add(table, index, "c" + j, false, false);
+					if (j + 1 < fieldCount) {
+						indexs.add(table, index, "c" + (j + 1), false, false);
+					}
+				}
+			}
+			for (int j = 0; j < foreignKeyCount && j + 1 < fieldCount; j++) {
+				String refTable = tableNames.get((i + j + 1) % tableCount);
+				foreignKeys.add(table, table + "_fk" + j, "c" + (j + 1), refTable, "c0");
+			}
+		}
+
+		queries.put(SyntheticDefinition.SCHEMA, schemas);
+		queries.put(SyntheticDefinition.TABLE, tables);
+		queries.put(SyntheticDefinition.FIELD, fields);
+		queries.put(SyntheticDefinition.INDEX, indexs);
+		queries.put(SyntheticDefinition.FOREIGN_KEY, foreignKeys);
+	}
+
+	/**
+	 * スキーマ名を取得する。
+	 * 
+	 * @return スキーマ名
+	 */
+	public String getSchemaName() {
+		return schemaName;
+	}
+
+	/**
+	 * テーブル名一覧を取得する。
+	 * 
+	 * @return テーブル名一覧
+	 */
+	public List<String> getTableNames() {
+		return tableNames;
+	}
+
+	/**
+	 * 合成カタログに応答するコネクションを取得する。
+	 * <p>
+	 * コネクションは {@link SyntheticDefinition} のクエリのみ扱います。
+	 * </p>
+	 * 
+	 * @return コネクション
+	 */
+	public Connection getConnection() {
+		return proxy(Connection.class, new ConnectionHandler());
+	}
+
+	private static <T> T proxy(final Class<T> clazz, final InvocationHandler handler) {
+		return clazz.cast(Proxy.newProxyInstance(SyntheticCatalog.class.getClassLoader(), new Class<?>[] { clazz }, handler));
+	}
+
+	private static Object defaultValue(final Class<?> type) {
+		if (boolean.class == type) {
+			return Boolean.FALSE;
+		} else if (int.class == type) {
+			return Integer.valueOf(0);
+		} else if (long.class == type) {
+			return Long.valueOf(0L);
+		} else if (type.isPrimitive() && void.class != type) {
+			throw new UnsupportedOperationException(type.getName());
+		}
+		return null;
+	}
+
+	/**
+	 * クエリ結果(テーブル名毎に分割した行)
+	 */
+	private static final class Rows {
+
+		private final Map<String, Integer> columns;
+
+		private final List<Object[]> rows;
+
+		private final Map<String, List<Object[]>> tableRows;
+
+		private Rows(final String... names) {
+			columns = new HashMap<String, Integer>();
+			for (int i = 0; i < names.length; i++) {
+				columns.put(names[i], i);
+			}
+			rows = new ArrayList<Object[]>();
+			tableRows = new HashMap<String, List<Object[]>>();
+		}
+
+		private void add(final Object... row) {
+			rows.add(row);
+
+			String table = (String) row[0];
+			List<Object[]> list = tableRows.get(table);
+			if (null == list) {
+				list = new ArrayList<Object[]>();
+				tableRows.put(table, list);
+			}
+			list.add(row);
+		}
+
+		private List<Object[]> find(final Object tableName) {
+			if (null == tableName) {
+				return rows;
+			}
+			List<Object[]> list = tableRows.get(tableName);
+			return (null != list) ? list : Collections.<Object[]> emptyList();
+		}
+	}
+
+	private final class ConnectionHandler implements InvocationHandler {
+
+		private boolean closed = false;
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("prepareStatement".equals(name)) {
+				Rows rows = queries.get(args[0]);
+				if (null == rows) {
+					throw new UnsupportedOperationException((String) args[0]);
+				}
+				return proxy(PreparedStatement.class, new StatementHandler(rows));
+			} else if ("close".equals(name)) {
+				closed = true;
+				return null;
+			} else if ("isClosed".equals(name)) {
+				return closed;
+			}
+			return defaultValue(method.getReturnType());
+		}
+	}
+
+	private static final class StatementHandler implements InvocationHandler {
+
+		private final Rows rows;
+
+		private final Object[] parameters = new Object[3];
+
+		private boolean closed = false;
+
+		private StatementHandler(final Rows rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("setString".equals(name)) {
+				int index = (Integer) args[0];
+				if (index < parameters.length) {
+					parameters[index] = args[1];
+				}
+				return null;
+			} else if ("executeQuery".equals(name)) {
+				return proxy(ResultSet.class, new ResultSetHandler(rows, rows.find(parameters[2])));
+			} else if ("close".equals(name)) {
+				closed = true;
+				return null;
+			} else if ("isClosed".equals(name)) {
+				return closed;
+			}
+			return defaultValue(method.getReturnType());
+		}
+	}
+
+	private static final class ResultSetHandler implements InvocationHandler {
+
+		private final Rows rows;
+
+		private final List<Object[]> data;
+
+		private int index = -1;
+
+		private boolean closed = false;
+
+		private boolean wasNull = false;
+
+		private ResultSetHandler(final Rows rows, final List<Object[]> data) {
+			this.rows = rows;
+			this.data = data;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("next".equals(name)) {
+				index++;
+				return index < data.size();
+			} else if ("getString".equals(name)) {
+				// ドライバと同様に行毎に別の文字列インスタンスを返す
+				Object value = getValue(args[0]);
+				return (null != value) ? new String(value.toString()) : null;
+			} else if ("getObject".equals(name)) {
+				return getValue(args[0]);
+			} else if ("getBoolean".equals(name)) {
+				Object value = getValue(args[0]);
+				return (null != value) && ((Boolean) value).booleanValue();
+			} else if ("wasNull".equals(name)) {
+				return wasNull;
+			} else if ("close".equals(name)) {
+				closed = true;
+				return null;
+			} else if ("isClosed".equals(name)) {
+				return closed;
+			}
+			return defaultValue(method.getReturnType());
+		}
+
+		private Object getValue(final Object label) {
+			Integer column = rows.columns.get(label);
+			if (null == column) {
+				throw new IllegalArgumentException("Unknown column " + label);
+			}
+			Object value = data.get(index)[column];
+			wasNull = (null == value);
+			return value;
+		}
+	}
+}
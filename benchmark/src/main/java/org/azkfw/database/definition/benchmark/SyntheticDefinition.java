@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.sql.Connection;
+
+import org.azkfw.database.definition.AbstractDatabaseDefinition;
+
+/**
+ * このクラスは、{@link SyntheticCatalog} を参照するベンチマーク用のデータベース定義クラスです。
+ * <p>
+ * SQLの代わりにクエリ名を発行し、合成カタログが対応する行を返します。
+ * スキーマ単位のクエリはテーブル単位のクエリと同じ行を、テーブル名を指定せずに返します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public class SyntheticDefinition extends AbstractDatabaseDefinition {
+
+	static final String SCHEMA = "SCHEMA";
+
+	static final String TABLE = "TABLE";
+
+	static final String FIELD = "FIELD";
+
+	static final String INDEX = "INDEX";
+
+	static final String FOREIGN_KEY = "FOREIGN_KEY";
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param connection コネクション
+	 */
+	public SyntheticDefinition(final Connection connection) {
+		super(SyntheticDefinition.class, connection);
+	}
+
+	@Override
+	protected String getSchemaSQL() {
+		return SCHEMA;
+	}
+
+	@Override
+	protected String getTableListSQL() {
+		return TABLE;
+	}
+
+	@Override
+	protected String getTableSQL() {
+		return TABLE;
+	}
+
+	@Override
+	protected String getFieldSQL() {
+		return FIELD;
+	}
+
+	@Override
+	protected String getIndexSQL() {
+		return INDEX;
+	}
+
+	@Override
+	protected String getForeignKeySQL() {
+		return FOREIGN_KEY;
+	}
+
+	@Override
+	protected String getSchemaFieldSQL() {
+		return FIELD;
+	}
+
+	@Override
+	protected String getSchemaIndexSQL() {
+		return INDEX;
+	}
+
+	@Override
+	protected String getSchemaForeignKeySQL() {
+		return FOREIGN_KEY;
+	}
+}
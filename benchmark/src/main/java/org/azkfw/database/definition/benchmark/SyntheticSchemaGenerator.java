@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * このクラスは、ベンチマーク用の合成スキーマをデータベース上に生成するクラスです。
+ * <p>
+ * 各テーブルは主キー(c0)と、c1から順に外部キー用の整数フィールドを持ちます。
+ * 外部キーは全テーブルの作成後に後続のテーブルの主キーを参照するよう追加します。
+ * DDLはPostgreSQL・MySQLのどちらでも実行できる構文のみ使用します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class SyntheticSchemaGenerator {
+
+	/** バッチ実行するDDL数 */
+	private static final int BATCH_SIZE = 500;
+
+	/** テーブル数 */
+	private final int tableCount;
+
+	/** テーブル毎のフィールド数 */
+	private final int fieldCount;
+
+	/** テーブル毎のインデックス数(主キーを含む) */
+	private final int indexCount;
+
+	/** テーブル毎の外部キー数 */
+	private final int foreignKeyCount;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param tableCount テーブル数
+	 * @param fieldCount テーブル毎のフィールド数
+	 * @param indexCount テーブル毎のインデックス数(主キーを含む)
+	 * @param foreignKeyCount テーブル毎の外部キー数
+	 */
+	public SyntheticSchemaGenerator(final int tableCount, final int fieldCount, final int indexCount, final int foreignKeyCount) {
+		if (fieldCount < 1 || fieldCount <= foreignKeyCount) {
+			throw new IllegalArgumentException("fieldCount must be greater than foreignKeyCount.");
+		}
+		this.tableCount = tableCount;
+		this.fieldCount = fieldCount;
+		this.indexCount = Math.min(indexCount, fieldCount);
+		this.foreignKeyCount = foreignKeyCount;
+	}
+
+	/**
+	 * テーブル数を取得する。
+	 * 
+	 * @return テーブル数
+	 */
+	public int getTableCount() {
+		return tableCount;
+	}
+
+	/**
+	 * スキーマを生成する。
+	 * 
+	 * @param connection コネクション
+	 * @param schemaName スキーマ名
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public void create(final Connection connection, final String schemaName) throws SQLException {
+		Statement stmt = connection.createStatement();
+		try {
+			stmt.execute("CREATE SCHEMA " + schemaName);
+
+			int count = 0;
+			for (int i = 0; i < tableCount; i++) {
+				stmt.addBatch(getCreateTableSQL(schemaName, i));
+				for (int j = 1; j < indexCount; j++) {
+					stmt.addBatch(getCreateIndexSQL(schemaName, i, j));
+				}
+				if (++count % BATCH_SIZE == 0) {
+					stmt.executeBatch();
+				}
+			}
+			stmt.executeBatch();
+
+			if (1 < tableCount) {
+				for (int i = 0; i < tableCount; i++) {
+					for (int j = 0; j < foreignKeyCount; j++) {
+						stmt.addBatch(getAddForeignKeySQL(schemaName, i, j));
+					}
+					if (++count % BATCH_SIZE == 0) {
+						stmt.executeBatch();
+					}
+				}
+				stmt.executeBatch();
+			}
+		} finally {
+			stmt.close();
+		}
+	}
+
+	private String getCreateTableSQL(final String schemaName, final int table) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("CREATE TABLE ").append(schemaName).append(".").append(getTableName(table)).append(" (");
+		for (int j = 0; j < fieldCount; j++) {
+			sql.append("c").append(j);
+			if (j <= foreignKeyCount || 0 == j % 2) {
+				sql.append(" INTEGER");
+			} else {
+				sql.append(" VARCHAR(64)");
+			}
+			if (0 == j) {
+				sql.append(" NOT NULL");
+			}
+			sql.append(", ");
+		}
+		sql.append("PRIMARY KEY (c0))");
+		return sql.toString();
+	}
+
+	private String getCreateIndexSQL(final String schemaName, final int table, final int index) {
+		String tableName = getTableName(table);
+		StringBuilder sql = new StringBuilder();
+		sql.append("CREATE INDEX ").append(tableName).append("_idx").append(index);
+		sql.append(" ON ").append(schemaName).append(".").append(tableName);
+		sql.append(" (c").append(index);
+		if (index + 1 < fieldCount) {
+			sql.append(", c").append(index + 1);
+		}
+		sql.append(")");
+		return sql.toString();
+	}
+
+	private String getAddForeignKeySQL(final String schemaName, final int table, final int foreignKey) {
+		String tableName = getTableName(table);
+		StringBuilder sql = new StringBuilder();
+		sql.append("ALTER TABLE ").append(schemaName).append(".").append(tableName);
+		sql.append(" ADD CONSTRAINT ").append(tableName).append("_fk").append(foreignKey);
+		sql.append(" FOREIGN KEY (c").append(foreignKey + 1).append(")");
+		sql.append(" REFERENCES ").append(schemaName).append(".").append(getTableName((table + foreignKey + 1) % tableCount));
+		sql.append(" (c0)");
+		return sql.toString();
+	}
+
+	private static String getTableName(final int table) {
+		return String.format("t_%05d", table);
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * このクラスは、テーブル情報の名前検索のベンチマーククラスです。
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TableModelBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int fieldCount;
+
+	private TableModel table;
+
+	private String[] names;
+
+	@Setup
+	public void setup() {
+		table = new TableModel();
+		table.setName("t_00000");
+
+		names = new String[fieldCount];
+		for (int i = 0; i < fieldCount; i++) {
+			// 検索時に同一インスタンスとならないよう別の文字列を保持する
+			names[i] = new String("c" + i);
+
+			FieldModel field = new FieldModel();
+			field.setName("c" + i);
+			table.addField(field);
+
+			IndexModel index = new IndexModel();
+			index.setName("c" + i);
+			table.addIndex(index);
+		}
+	}
+
+	@Benchmark
+	public int getField() {
+		int count = 0;
+		for (String name : names) {
+			if (null != table.getField(name)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int getIndex() {
+		int count = 0;
+		for (String name : names) {
+			if (null != table.getIndex(name)) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,27 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * ベンチマーク関連のクラスを提供します。
+ * <p>
+ * ライブラリとは別のプロジェクト(<code>benchmark/pom.xml</code>)です。ライブラリを <code>mvn install</code> した後、
+ * <code>mvn -f benchmark/pom.xml package</code> でビルドし、<code>java -jar benchmark/target/benchmarks.jar</code> で実行します。
+ * GC・アロケーションの計測は <code>-prof gc</code> を指定します。
+ * </p>
+ */
+package org.azkfw.database.definition.benchmark;
\ No newline at end of file
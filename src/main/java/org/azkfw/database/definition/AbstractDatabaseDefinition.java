@@ -17,21 +17,36 @@
  */
 package org.azkfw.database.definition;
 
+import java.lang.ref.SoftReference;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.azkfw.database.definition.metrics.IntrospectionMetricsSink;
+import org.azkfw.database.definition.metrics.IntrospectionPhase;
+import org.azkfw.database.definition.metrics.IntrospectionTracer;
+import org.azkfw.database.definition.metrics.IntrospectionTracers;
 import org.azkfw.database.definition.model.FieldModel;
 import org.azkfw.database.definition.model.FieldTypeModel;
 import org.azkfw.database.definition.model.ForeignKeyFeildModel;
 import org.azkfw.database.definition.model.ForeignKeyModel;
 import org.azkfw.database.definition.model.IndexFieldModel;
 import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.ModelInterner;
 import org.azkfw.database.definition.model.SchemaModel;
 import org.azkfw.database.definition.model.TableModel;
+import org.azkfw.database.definition.model.TableModelLoader;
 import org.azkfw.lang.LoggingObject;
 import org.azkfw.util.StringUtility;
 
@@ -44,36 +59,388 @@ import org.azkfw.util.StringUtility;
  */
 public abstract class AbstractDatabaseDefinition extends LoggingObject implements DatabaseDefinition {
 
+	/** ストリーミングモードのフェッチサイズ(既定値) */
+	private static final int DEFAULT_STREAMING_FETCH_SIZE = 1000;
+
+	/** 先読みのテーブル名をバインドする位置を表すバインド値 */
+	private static final List<String> BATCH_TABLE_NAMES = Collections.unmodifiableList(new ArrayList<String>(0));
+
+	/** スキーマ名をバインドする位置を表すバインド値 */
+	private static final List<String> SCHEMA_NAME = Collections.unmodifiableList(new ArrayList<String>(0));
+
+	/** 先読みで一括取得するクエリ種別 */
+	private static final QueryKind[] BATCH_KINDS = { QueryKind.SCHEMA_FIELD, QueryKind.SCHEMA_INDEX, QueryKind.SCHEMA_FOREIGN_KEY };
+
 	private Connection connection;
 
+	/** 一括取得モード */
+	private boolean bulkMode;
+
+	/** 遅延読込モード */
+	private boolean lazyMode;
+
+	/** 遅延読込時の先読み件数 */
+	private int prefetchSize;
+
+	/** 遅延読込時に破棄する未参照時間(ミリ秒) */
+	private long evictIdleTime;
+
+	/** フェッチサイズ */
+	private int fetchSize;
+
+	/** ストリーミングモード */
+	private boolean streamingMode;
+
+	/** クエリのタイムアウト(秒) */
+	private int queryTimeout;
+
+	/** 解析の期限(ミリ秒) */
+	private long deadline;
+
+	/** 取消しフラグ */
+	private volatile boolean cancelled;
+
+	/** 最後に実行したステートメント(取消し用) */
+	private volatile PreparedStatement running;
+
+	/** 解析開始済み */
+	private boolean introspecting;
+
+	/** ストリーミング開始済み */
+	private boolean streaming;
+
+	/** 解放済みフラグ */
+	private volatile boolean closed;
+
+	/** メトリクスシンク */
+	private IntrospectionMetricsSink metricsSink;
+
+	/** トレーサー */
+	private IntrospectionTracer tracer;
+
+	/** カタログ絞込み条件 */
+	private CatalogFilter catalogFilter;
+
+	/** 文字列・フィールドタイプ情報のプール */
+	private ModelInterner interner;
+
+	/** SQLキャッシュ */
+	private final Map<QueryKind, String> sqls;
+
+	/** クエリ種別毎の絞込み条件のバインド値(SQLに組み込んだ順) */
+	private final Map<QueryKind, List<List<String>>> filterValues;
+
+	/** 生成中のSQLに組み込んだ絞込み条件のバインド値 */
+	private List<List<String>> appendedFilterValues;
+
+	/** ステートメントキャッシュ */
+	private final Map<QueryKind, PreparedStatement> statements;
+
+	/** 生成中のSQLに組み込むテーブル名の件数。組み込まない場合、0 */
+	private int appendingBatchSize;
+
+	/** 先読み用のSQLキャッシュ(テーブル名を絞り込んだ一括取得のSQL) */
+	private final Map<QueryKind, String> batchSqls;
+
+	/** 先読み用のクエリ種別毎の絞込み条件のバインド値 */
+	private final Map<QueryKind, List<List<String>>> batchFilterValues;
+
+	/** 先読み用のステートメントキャッシュ */
+	private final Map<QueryKind, PreparedStatement> batchStatements;
+
 	public AbstractDatabaseDefinition(final Class<?> clazz, final Connection connection) {
 		super(clazz);
 
 		this.connection = connection;
+		this.bulkMode = true;
+		this.lazyMode = false;
+		this.prefetchSize = 100;
+		this.evictIdleTime = 60 * 1000L;
+		this.fetchSize = 0;
+		this.streamingMode = false;
+		this.queryTimeout = 0;
+		this.deadline = 0L;
+		this.cancelled = false;
+		this.running = null;
+		this.introspecting = false;
+		this.streaming = false;
+		this.closed = false;
+		this.metricsSink = null;
+		this.tracer = IntrospectionTracers.getDefault();
+		this.catalogFilter = null;
+		this.interner = null;
+		this.sqls = new EnumMap<QueryKind, String>(QueryKind.class);
+		this.filterValues = new EnumMap<QueryKind, List<List<String>>>(QueryKind.class);
+		this.statements = new EnumMap<QueryKind, PreparedStatement>(QueryKind.class);
+		this.appendingBatchSize = 0;
+		this.batchSqls = new EnumMap<QueryKind, String>(QueryKind.class);
+		this.batchFilterValues = new EnumMap<QueryKind, List<List<String>>>(QueryKind.class);
+		this.batchStatements = new EnumMap<QueryKind, PreparedStatement>(QueryKind.class);
+	}
+
+	/**
+	 * 一括取得モードを設定する。
+	 * <p>
+	 * 一括取得モードが有効な場合、{@link #getTableList(SchemaModel)} はフィールド・インデックス・外部キー情報を
+	 * スキーマ単位でそれぞれ1回のSQLで取得します。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setBulkMode(final boolean flag) {
+		this.bulkMode = flag;
+	}
+
+	/**
+	 * 一括取得モードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isBulkMode() {
+		return bulkMode;
+	}
+
+	/**
+	 * 遅延読込モードを設定する。
+	 * <p>
+	 * 遅延読込モードが有効な場合、{@link #getTableList(SchemaModel)} はテーブル一覧のみを取得し、
+	 * フィールド・インデックス・外部キー情報は各テーブルを初めて参照した時に読み込みます。
+	 * 読込にはこのデータベース定義のコネクションを使用するため、参照が終わるまで {@link #close()} を呼び出さず、コネクションも閉じないでください。
+	 * 解放後に未読込のテーブルを参照した場合、{@link IllegalStateException} をスローします。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setLazyMode(final boolean flag) {
+		this.lazyMode = flag;
+	}
+
+	/**
+	 * 遅延読込モードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isLazyMode() {
+		return lazyMode;
+	}
+
+	/**
+	 * 遅延読込時の先読み件数を設定する。
+	 * <p>
+	 * テーブルを参照した時、同じテーブル一覧の後続の未読込テーブルを合わせて最大この件数まで読み込みます。
+	 * 2件以上を読み込む場合は、一括取得のSQLを読み込むテーブル名で絞り込んで使用します。
+	 * </p>
+	 * 
+	 * @param size 件数
+	 */
+	public void setPrefetchSize(final int size) {
+		if (prefetchSize != size) {
+			// 先読み用のSQLはテーブル名のバインド変数を件数分組み込む為、再生成する
+			releaseBatchStatements();
+		}
+		this.prefetchSize = size;
+	}
+
+	/**
+	 * 遅延読込時の先読み件数を取得する。
+	 * 
+	 * @return 件数
+	 */
+	public int getPrefetchSize() {
+		return prefetchSize;
+	}
+
+	/**
+	 * 遅延読込時に破棄する未参照時間を設定する。
+	 * <p>
+	 * メモリが不足した(ソフト参照が解放された)ことを次の読込時に検知した場合、この時間以上参照していないテーブルの詳細情報を破棄します。
+	 * </p>
+	 * 
+	 * @param time 時間(ミリ秒)
+	 */
+	public void setEvictIdleTime(final long time) {
+		this.evictIdleTime = time;
+	}
+
+	/**
+	 * フェッチサイズを設定する。
+	 * <p>
+	 * 0の場合、ドライバの既定値を使用します。
+	 * </p>
+	 * 
+	 * @param size フェッチサイズ
+	 */
+	public void setFetchSize(final int size) {
+		this.fetchSize = size;
+	}
+
+	/**
+	 * フェッチサイズを取得する。
+	 * 
+	 * @return フェッチサイズ
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * ストリーミングモードを設定する。
+	 * <p>
+	 * ストリーミングモードが有効な場合、カタログ情報の結果セットをクライアントに一括で展開せず、サーバー側から逐次取得します。
+	 * 方法はデータベース毎に異なり、{@link #beginStreaming(Connection)} と {@link #getStreamingFetchSize(int)} で定義します。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setStreamingMode(final boolean flag) {
+		this.streamingMode = flag;
+	}
+
+	/**
+	 * ストリーミングモードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isStreamingMode() {
+		return streamingMode;
+	}
+
+	/**
+	 * クエリのタイムアウトを設定する。
+	 * <p>
+	 * 各クエリの実行前に {@link PreparedStatement#setQueryTimeout(int)} で設定します。0の場合、タイムアウトしません。
+	 * </p>
+	 * 
+	 * @param seconds タイムアウト(秒)
+	 */
+	public void setQueryTimeout(final int seconds) {
+		this.queryTimeout = seconds;
+	}
+
+	/**
+	 * 解析の期限を設定する。
+	 * <p>
+	 * 期限を超過した後のクエリは実行せず、{@link SQLTimeoutException} をスローします。
+	 * 各クエリのタイムアウトは期限までの残り時間を上限とします。
+	 * テーブル一覧の取得後に時間切れとなった場合は、取得済みのテーブル一覧を保持した {@link IntrospectionTimeoutException} をスローします。
+	 * </p>
+	 * 
+	 * @param time 期限({@link System#currentTimeMillis()} の値)。期限を設けない場合、0
+	 */
+	public void setDeadline(final long time) {
+		this.deadline = time;
+	}
+
+	/**
+	 * 解析を取り消す。
+	 * <p>
+	 * 解析中のスレッドとは別のスレッドから呼び出します。実行中のクエリを {@link java.sql.Statement#cancel()} で取り消し、
+	 * 以降のクエリは実行せずに {@link SQLException} をスローします。取り消したクエリは {@link SQLTimeoutException} として扱いません。
+	 * </p>
+	 */
+	public void cancel() {
+		cancelled = true;
+		PreparedStatement ps = running;
+		if (null != ps) {
+			try {
+				ps.cancel();
+			} catch (SQLException ex) {
+				warn(ex);
+			}
+		}
+	}
+
+	/**
+	 * メトリクスシンクを設定する。
+	 * <p>
+	 * 設定した場合、クエリ毎の実行時間・読込行数とテーブル毎の解析時間を通知します。
+	 * </p>
+	 * 
+	 * @param sink メトリクスシンク。通知しない場合、<code>null</code>
+	 */
+	public void setMetricsSink(final IntrospectionMetricsSink sink) {
+		this.metricsSink = sink;
+	}
+
+	/**
+	 * トレーサーを設定する。
+	 * <p>
+	 * 既定では {@link IntrospectionTracers#getDefault()} を使用します。
+	 * </p>
+	 * 
+	 * @param tracer トレーサー。記録しない場合、<code>null</code>
+	 */
+	public void setTracer(final IntrospectionTracer tracer) {
+		this.tracer = tracer;
+	}
+
+	/**
+	 * カタログ絞込み条件を設定する。
+	 * <p>
+	 * 設定した場合、スキーマ一覧・テーブル一覧・一括取得・テーブルバージョンのSQLに絞込み条件を組み込み、
+	 * 対象外のスキーマ・テーブルをデータベースから転送しません。生成済みのSQLとステートメントは破棄します。
+	 * </p>
+	 * 
+	 * @param filter 絞込み条件。絞り込まない場合、<code>null</code>
+	 */
+	public void setCatalogFilter(final CatalogFilter filter) {
+		this.catalogFilter = (null != filter && !filter.isEmpty()) ? filter : null;
+
+		for (PreparedStatement ps : statements.values()) {
+			release(ps);
+		}
+		statements.clear();
+		sqls.clear();
+		filterValues.clear();
+		releaseBatchStatements();
+	}
+
+	/**
+	 * 先読み用のSQLとステートメントを破棄する。
+	 */
+	private void releaseBatchStatements() {
+		for (PreparedStatement ps : batchStatements.values()) {
+			release(ps);
+		}
+		batchStatements.clear();
+		batchSqls.clear();
+		batchFilterValues.clear();
+	}
+
+	/**
+	 * 文字列・フィールドタイプ情報のプールを設定する。
+	 * <p>
+	 * 設定した場合、スキーマ名・テーブル名・カラム名・型などの同じ値を1つのインスタンスで共有します。
+	 * 並列解析ではすべてのデータベース定義に同じプールを設定できます。
+	 * </p>
+	 * 
+	 * @param interner プール。共有しない場合、<code>null</code>
+	 */
+	public void setInterner(final ModelInterner interner) {
+		this.interner = interner;
 	}
 
 	@Override
 	public List<SchemaModel> getSchemaList() throws SQLException {
 		List<SchemaModel> schemas = new ArrayList<SchemaModel>();
 
-		PreparedStatement ps = null;
-		ResultSet rs = null;
+		// スキーマ一覧取得
+		PreparedStatement ps = getStatement(QueryKind.SCHEMA);
+		bindFilter(ps, QueryKind.SCHEMA, 1, null);
+		Query query = executeQuery(ps, QueryKind.SCHEMA, null, null);
 		try {
-			// テーブル一覧取得
-			ps = connection.prepareStatement(getSchemaSQL());
-			rs = ps.executeQuery();
-			while (rs.next()) {
+			ResultSet rs = query.getResultSet();
+			while (query.next()) {
 				String name = rs.getString("name");
 
 				SchemaModel schema = new SchemaModel();
-				schema.setName(name);
+				schema.setName(intern(name));
 
 				schemas.add(schema);
 			}
-
+			query.complete();
 		} finally {
-			release(rs);
-			release(ps);
+			query.close();
 		}
 
 		return schemas;
@@ -81,93 +448,208 @@ public abstract class AbstractDatabaseDefinition extends LoggingObject implement
 
 	@Override
 	public List<TableModel> getTableList(final SchemaModel schema) throws SQLException {
+		Object listSpan = trace(IntrospectionPhase.TABLE_LIST, null, schema.getName(), null);
 		List<TableModel> tables = new ArrayList<TableModel>();
-
-		PreparedStatement ps = null;
-		ResultSet rs = null;
+		boolean failed = true;
 		try {
 			// テーブル一覧取得
-			ps = connection.prepareStatement(getTableListSQL());
+			PreparedStatement ps = getStatement(QueryKind.TABLE_LIST);
 			ps.setString(1, schema.getName());
-			rs = ps.executeQuery();
-			while (rs.next()) {
-				String label = rs.getString("label");
-				String name = rs.getString("name");
-				String comment = rs.getString("comment");
-
-				TableModel table = new TableModel();
-				table.setLabel(label);
-				table.setSchema(schema);
-				table.setName(name);
-				table.setComment(comment);
+			bindFilter(ps, QueryKind.TABLE_LIST, 2, schema.getName());
+			Query query = executeQuery(ps, QueryKind.TABLE_LIST, schema.getName(), null);
+			try {
+				ResultSet rs = query.getResultSet();
+				while (query.next()) {
+					String label = rs.getString("label");
+					String name = rs.getString("name");
+					String comment = rs.getString("comment");
 
-				parseTable(table, connection);
+					TableModel table = new TableModel();
+					table.setLabel(intern(label));
+					table.setSchema(schema);
+					table.setName(intern(name));
+					table.setComment(comment);
 
-				tables.add(table);
+					tables.add(table);
+				}
+				query.complete();
+			} finally {
+				query.close();
 			}
 
+			if (lazyMode) {
+				LazyTableLoader loader = new LazyTableLoader(schema, tables);
+				for (TableModel table : tables) {
+					table.setLoader(loader);
+				}
+			} else if (isBulkSupport()) {
+				try {
+					parseSchema(schema, tables);
+				} catch (SQLTimeoutException ex) {
+					throw new IntrospectionTimeoutException(ex, tables, tables);
+				}
+			} else {
+				for (int i = 0; i < tables.size(); i++) {
+					try {
+						parseTable(tables.get(i));
+					} catch (SQLTimeoutException ex) {
+						throw new IntrospectionTimeoutException(ex, tables, tables.subList(i, tables.size()));
+					}
+				}
+			}
+			failed = false;
 		} finally {
-			release(rs);
-			release(ps);
+			end(listSpan, tables.size(), failed);
 		}
-
 		return tables;
 	}
 
+	/**
+	 * 遅延読込モードで取得したテーブルの詳細情報をまとめて読み込む。
+	 * <p>
+	 * 未読込のテーブルを先読み件数ずつ、先読みと同様にテーブル名で絞り込んだ一括取得のSQLで読み込みます。
+	 * 読み込んだテーブルはローダーを解除するため、このデータベース定義を解放した後も参照できます。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tables {@link #getTableList(SchemaModel)} で取得したスキーマのテーブル情報
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public void parseTables(final SchemaModel schema, final List<TableModel> tables) throws SQLException {
+		List<TableModel> targets = new ArrayList<TableModel>(tables.size());
+		for (TableModel table : tables) {
+			if (!table.isLoaded()) {
+				targets.add(table);
+			}
+			table.setLoader(null);
+		}
+
+		synchronized (this) {
+			for (int i = 0; i < targets.size(); i += prefetchSize) {
+				List<TableModel> batch = targets.subList(i, Math.min(i + prefetchSize, targets.size()));
+				if (1 < batch.size() && isBatchSupport()) {
+					parseSchema(schema, batch, true);
+				} else {
+					for (TableModel table : batch) {
+						parseTable(table);
+					}
+				}
+			}
+		}
+	}
+
 	@Override
 	public TableModel getTable(final SchemaModel schema, final String tableName) throws SQLException {
 		TableModel result = null;
 
-		PreparedStatement ps = null;
-		ResultSet rs = null;
+		// テーブル取得
+		PreparedStatement ps = getStatement(QueryKind.TABLE);
+		ps.setString(1, schema.getName());
+		ps.setString(2, tableName);
+		Query query = executeQuery(ps, QueryKind.TABLE, schema.getName(), tableName);
 		try {
-			// テーブル一覧取得
-			ps = connection.prepareStatement(getTableSQL());
-			ps.setString(1, schema.getName());
-			ps.setString(2, tableName);
-			rs = ps.executeQuery();
-			if (rs.next()) {
+			ResultSet rs = query.getResultSet();
+			if (query.next()) {
 				String label = rs.getString("label");
 				String name = rs.getString("name");
 				String comment = rs.getString("comment");
 
 				TableModel table = new TableModel();
-				table.setLabel(label);
+				table.setLabel(intern(label));
 				table.setSchema(schema);
-				table.setName(name);
+				table.setName(intern(name));
 				table.setComment(comment);
 
-				parseTable(table, connection);
-
 				result = table;
 			}
-
+			query.complete();
 		} finally {
-			release(rs);
-			release(ps);
+			query.close();
+		}
+
+		if (null != result) {
+			parseTable(result);
 		}
 
 		return result;
 	}
 
-	protected final void release(final ResultSet rs) {
-		if (null != rs) {
+	@Override
+	public Map<String, String> getTableVersions(final SchemaModel schema) throws SQLException {
+		if (!isSupport(QueryKind.TABLE_VERSION)) {
+			return null;
+		}
+
+		Map<String, String> versions = new LinkedHashMap<String, String>();
+		PreparedStatement ps = getStatement(QueryKind.TABLE_VERSION);
+		ps.setString(1, schema.getName());
+		bindFilter(ps, QueryKind.TABLE_VERSION, 2, schema.getName());
+		Query query = executeQuery(ps, QueryKind.TABLE_VERSION, schema.getName(), null);
+		try {
+			ResultSet rs = query.getResultSet();
+			while (query.next()) {
+				versions.put(rs.getString("name"), rs.getString("version"));
+			}
+			query.complete();
+		} finally {
+			query.close();
+		}
+		return versions;
+	}
+
+	@Override
+	public String getCatalogVersion() throws SQLException {
+		if (!isSupport(QueryKind.CATALOG_VERSION)) {
+			return null;
+		}
+
+		String version = null;
+		PreparedStatement ps = getStatement(QueryKind.CATALOG_VERSION);
+		bindFilter(ps, QueryKind.CATALOG_VERSION, 1, null);
+		Query query = executeQuery(ps, QueryKind.CATALOG_VERSION, null, null);
+		try {
+			if (query.next()) {
+				version = query.getResultSet().getString("version");
+			}
+			query.complete();
+		} finally {
+			query.close();
+		}
+		return version;
+	}
+
+	/**
+	 * キャッシュしているステートメントを解放する。
+	 * <p>
+	 * コネクションは解放しません。解放後はステートメントを生成できないため、未読込のテーブルも読み込めません。
+	 * 遅延読込中のテーブルがある場合は、読込の完了を待って解放します。
+	 * </p>
+	 */
+	@Override
+	public synchronized void close() {
+		closed = true;
+		for (PreparedStatement ps : statements.values()) {
+			release(ps);
+		}
+		statements.clear();
+		for (PreparedStatement ps : batchStatements.values()) {
+			release(ps);
+		}
+		batchStatements.clear();
+		running = null;
+
+		if (streaming) {
+			streaming = false;
 			try {
-				if (!rs.isClosed()) {
-					rs.close();
-				}
+				endStreaming(connection);
 			} catch (SQLException ex) {
 				warn(ex);
 			}
 		}
-	}
-
-	protected final void release(final PreparedStatement ps) {
-		if (null != ps) {
+		if (introspecting) {
+			introspecting = false;
 			try {
-				if (!ps.isClosed()) {
-					ps.close();
-				}
+				endIntrospection(connection);
 			} catch (SQLException ex) {
 				warn(ex);
 			}
@@ -175,20 +657,573 @@ public abstract class AbstractDatabaseDefinition extends LoggingObject implement
 	}
 
 	/**
-	 * スキーマ情報を取得するSQLを取得する。
-	 * <p>
-	 * バインド変数は下記の通りです。
-	 * <ul>
-	 * </ul>
-	 * </p>
+	 * ステートメントを取得する。
 	 * <p>
-	 * 取得するカラムは下記の通りです。
-	 * <ul>
-	 * <li>name - スキーマ名</li>
-	 * </ul>
+	 * SQLはクエリ種別毎に1度だけ生成し、ステートメントは {@link #close()} が呼び出されるまで再利用します。
+	 * ステートメントは前方スクロールのみ・読取専用で作成し、フェッチサイズを設定します。
 	 * </p>
 	 * 
-	 * @return SQL
+	 * @param kind クエリ種別
+	 * @return ステートメント
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private PreparedStatement getStatement(final QueryKind kind) throws SQLException {
+		PreparedStatement ps = statements.get(kind);
+		if (null == ps || ps.isClosed()) {
+			ps = prepareStatement(getSQL(kind));
+			statements.put(kind, ps);
+		}
+		return ps;
+	}
+
+	/**
+	 * 先読み用のステートメントを取得する。
+	 * 
+	 * @param kind クエリ種別
+	 * @return ステートメント
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private PreparedStatement getBatchStatement(final QueryKind kind) throws SQLException {
+		PreparedStatement ps = batchStatements.get(kind);
+		if (null == ps || ps.isClosed()) {
+			ps = prepareStatement(getBatchSQL(kind));
+			batchStatements.put(kind, ps);
+		}
+		return ps;
+	}
+
+	private PreparedStatement prepareStatement(final String sql) throws SQLException {
+		if (closed) {
+			throw new SQLException("Closed definition.");
+		}
+		if (!introspecting) {
+			beginIntrospection(connection);
+			introspecting = true;
+		}
+		if (streamingMode && !streaming) {
+			beginStreaming(connection);
+			streaming = true;
+		}
+
+		PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		int size = (streamingMode) ? getStreamingFetchSize(fetchSize) : fetchSize;
+		if (0 != size) {
+			ps.setFetchSize(size);
+		}
+		return ps;
+	}
+
+	/**
+	 * タイムアウトを設定してクエリを実行する。
+	 * <p>
+	 * 例外は {@link #translate(SQLException)} で変換してスローします。
+	 * </p>
+	 * 
+	 * @param ps ステートメント
+	 * @return 結果セット
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private ResultSet executeQuery(final PreparedStatement ps) throws SQLException {
+		int timeout = queryTimeout;
+		if (0L < deadline) {
+			long remaining = deadline - System.currentTimeMillis();
+			if (0L >= remaining) {
+				throw new SQLTimeoutException("Introspection deadline exceeded.");
+			}
+			int seconds = (int) Math.min(Integer.MAX_VALUE, (remaining + 999L) / 1000L);
+			timeout = (0 < timeout) ? Math.min(timeout, seconds) : seconds;
+		}
+		ps.setQueryTimeout(timeout);
+
+		// 結果セットの読込中も取り消せるよう、次のクエリまで保持する
+		running = ps;
+		if (cancelled) {
+			throw new SQLException("Introspection cancelled.");
+		}
+		try {
+			return execute(ps);
+		} catch (SQLException ex) {
+			throw translate(ex);
+		}
+	}
+
+	/**
+	 * クエリの実行・結果の読込で発生した例外を変換する。
+	 * <p>
+	 * タイムアウトによる中断は {@link SQLTimeoutException} に統一します。
+	 * {@link #cancel()} で取り消した場合は {@link SQLException} に変換します。
+	 * </p>
+	 * 
+	 * @param ex 例外
+	 * @return 変換した例外
+	 */
+	private SQLException translate(final SQLException ex) {
+		if (cancelled) {
+			return new SQLException("Introspection cancelled.", ex);
+		}
+		if (ex instanceof SQLTimeoutException) {
+			return ex;
+		}
+		if (isQueryTimeout(ex)) {
+			return new SQLTimeoutException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), ex);
+		}
+		return ex;
+	}
+
+	/**
+	 * SQLを取得する。
+	 * 
+	 * @param kind クエリ種別
+	 * @return SQL。対応しない場合、空文字を返す。
+	 */
+	private String getSQL(final QueryKind kind) {
+		String sql = sqls.get(kind);
+		if (null == sql) {
+			appendedFilterValues = new ArrayList<List<String>>();
+			sql = createSQL(kind);
+			sqls.put(kind, sql);
+			if (!appendedFilterValues.isEmpty()) {
+				filterValues.put(kind, appendedFilterValues);
+			}
+			appendedFilterValues = null;
+		}
+		return sql;
+	}
+
+	/**
+	 * 先読み用のSQLを取得する。
+	 * <p>
+	 * 一括取得のSQLの {@link #appendTableFilter(StringBuilder, String)} の位置に、先読み件数分のテーブル名の条件を組み込みます。
+	 * テーブル名の条件を組み込めなかった場合(絞込み条件を追加しないSQLの場合)、空文字を返します。
+	 * </p>
+	 * 
+	 * @param kind クエリ種別
+	 * @return SQL。対応しない場合、空文字を返す。
+	 */
+	private String getBatchSQL(final QueryKind kind) {
+		String sql = batchSqls.get(kind);
+		if (null == sql) {
+			appendedFilterValues = new ArrayList<List<String>>();
+			appendingBatchSize = prefetchSize;
+			try {
+				sql = createSQL(kind);
+			} finally {
+				appendingBatchSize = 0;
+			}
+			boolean appended = false;
+			for (List<String> values : appendedFilterValues) {
+				appended |= (BATCH_TABLE_NAMES == values);
+			}
+			if (!appended) {
+				sql = "";
+			}
+			batchSqls.put(kind, sql);
+			batchFilterValues.put(kind, appendedFilterValues);
+			appendedFilterValues = null;
+		}
+		return sql;
+	}
+
+	/**
+	 * SQLを生成する。
+	 * 
+	 * @param kind クエリ種別
+	 * @return SQL。対応しない場合、空文字を返す。
+	 */
+	private String createSQL(final QueryKind kind) {
+		String sql = null;
+		switch (kind) {
+		case SCHEMA:
+			sql = getSchemaSQL();
+			break;
+		case TABLE_LIST:
+			sql = getTableListSQL();
+			break;
+		case TABLE:
+			sql = getTableSQL();
+			break;
+		case FIELD:
+			sql = getFieldSQL();
+			break;
+		case INDEX:
+			sql = getIndexSQL();
+			break;
+		case FOREIGN_KEY:
+			sql = getForeignKeySQL();
+			break;
+		case SCHEMA_FIELD:
+			sql = getSchemaFieldSQL();
+			break;
+		case SCHEMA_INDEX:
+			sql = getSchemaIndexSQL();
+			break;
+		case SCHEMA_FOREIGN_KEY:
+			sql = getSchemaForeignKeySQL();
+			break;
+		case TABLE_VERSION:
+			sql = getTableVersionSQL();
+			break;
+		case CATALOG_VERSION:
+			sql = getCatalogVersionSQL();
+			break;
+		}
+		return (null != sql) ? sql : "";
+	}
+
+	/**
+	 * SQLに組み込んだ絞込み条件の値をバインドする。
+	 * 
+	 * @param ps ステートメント
+	 * @param kind クエリ種別
+	 * @param index 最初のバインド変数の位置
+	 * @param schemaName スキーマ名。スキーマを対象としないSQLの場合、<code>null</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private void bindFilter(final PreparedStatement ps, final QueryKind kind, final int index, final String schemaName) throws SQLException {
+		bindFilter(ps, kind, index, schemaName, null);
+	}
+
+	/**
+	 * SQLに組み込んだ絞込み条件の値をバインドする。
+	 * 
+	 * @param ps ステートメント
+	 * @param kind クエリ種別
+	 * @param index 最初のバインド変数の位置
+	 * @param schemaName スキーマ名。スキーマを対象としないSQLの場合、<code>null</code>
+	 * @param tableNames 先読み用のSQLの場合、先読み件数分のテーブル名。それ以外の場合、<code>null</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private void bindFilter(final PreparedStatement ps, final QueryKind kind, final int index, final String schemaName,
+			final List<String> tableNames) throws SQLException {
+		List<List<String>> values = (null != tableNames) ? batchFilterValues.get(kind) : filterValues.get(kind);
+		if (null != values) {
+			int i = index;
+			for (List<String> value : values) {
+				if (BATCH_TABLE_NAMES == value) {
+					i = bindFilterValues(ps, i, tableNames);
+				} else if (SCHEMA_NAME == value) {
+					i = bindFilterValues(ps, i, Collections.singletonList(schemaName));
+				} else {
+					i = bindFilterValues(ps, i, value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * クエリ種別に対応するSQLが存在するか判断する。
+	 * 
+	 * @param kind クエリ種別
+	 * @return 判断
+	 */
+	private boolean isSupport(final QueryKind kind) {
+		return StringUtility.isNotEmpty(getSQL(kind));
+	}
+
+	protected final void release(final ResultSet rs) {
+		if (null != rs) {
+			try {
+				if (!rs.isClosed()) {
+					rs.close();
+				}
+			} catch (SQLException ex) {
+				warn(ex);
+			}
+		}
+	}
+
+	protected final void release(final PreparedStatement ps) {
+		if (null != ps) {
+			try {
+				if (!ps.isClosed()) {
+					ps.close();
+				}
+			} catch (SQLException ex) {
+				warn(ex);
+			}
+		}
+	}
+
+	/**
+	 * スキーマ名の絞込み条件をSQLに追加する。
+	 * <p>
+	 * {@link #getSchemaSQL()} などのSQL生成メソッドから、WHERE句の末尾で呼び出してください。
+	 * 絞込み条件が設定されていない場合は何も追加しません。追加した条件のバインド変数は、既存のバインド変数の後に設定します。
+	 * </p>
+	 * 
+	 * @param sql SQL
+	 * @param column スキーマ名のカラム
+	 */
+	protected final void appendSchemaFilter(final StringBuilder sql, final String column) {
+		if (null != catalogFilter) {
+			appendFilter(sql, column, catalogFilter.getIncludeSchemas(), false);
+			appendFilter(sql, column, catalogFilter.getExcludeSchemas(), true);
+		}
+	}
+
+	/**
+	 * スキーマ名のバインド変数をSQLに追加する。
+	 * <p>
+	 * スキーマ名はバインド変数の1番目に設定します。サブクエリ毎にスキーマで絞り込む場合など、2箇所目以降のスキーマ名はこのメソッドで追加してください。
+	 * 追加したバインド変数には、絞込み条件と同様に既存のバインド変数の後にスキーマ名を設定します。
+	 * </p>
+	 * 
+	 * @param sql SQL
+	 */
+	protected final void appendSchemaParameter(final StringBuilder sql) {
+		sql.append("? ");
+		addFilterValues(SCHEMA_NAME);
+	}
+
+	/**
+	 * テーブル名の絞込み条件をSQLに追加する。
+	 * <p>
+	 * {@link #getTableListSQL()} などのSQL生成メソッドから、WHERE句の末尾で呼び出してください。
+	 * 絞込み条件が設定されていない場合は何も追加しません。追加した条件のバインド変数は、既存のバインド変数の後に設定します。
+	 * </p>
+	 * <p>
+	 * 遅延読込の先読み用に一括取得のSQLを生成する場合、先読みするテーブル名の条件も追加します。
+	 * 一括取得のSQLで呼び出さない場合、先読みはテーブル毎のSQLで行います。
+	 * </p>
+	 * 
+	 * @param sql SQL
+	 * @param column テーブル名のカラム
+	 */
+	protected final void appendTableFilter(final StringBuilder sql, final String column) {
+		if (null != catalogFilter) {
+			appendFilter(sql, column, catalogFilter.getIncludeTables(), false);
+			appendFilter(sql, column, catalogFilter.getExcludeTables(), true);
+		}
+		if (0 < appendingBatchSize) {
+			sql.append("AND (");
+			appendNameCondition(sql, column, appendingBatchSize);
+			sql.append(") ");
+			addFilterValues(BATCH_TABLE_NAMES);
+		}
+	}
+
+	private void appendFilter(final StringBuilder sql, final String column, final CatalogFilter.Condition condition, final boolean not) {
+		if (condition.isEmpty()) {
+			return;
+		}
+
+		String expression = getFilterExpression(column);
+		sql.append((not) ? "AND NOT (" : "AND (");
+		boolean first = true;
+		if (!condition.getNames().isEmpty()) {
+			appendNameCondition(sql, expression, condition.getNames().size());
+			addFilterValues(condition.getNames());
+			first = false;
+		}
+		if (!condition.getPatterns().isEmpty()) {
+			if (!first) {
+				sql.append(" OR ");
+			}
+			appendPatternCondition(sql, expression, condition.getPatterns().size());
+			addFilterValues(condition.getPatterns());
+		}
+		sql.append(") ");
+	}
+
+	private void addFilterValues(final List<String> values) {
+		// SQLキャッシュ外で生成されたSQLはバインド値を記録しない
+		if (null != appendedFilterValues) {
+			appendedFilterValues.add(values);
+		}
+	}
+
+	/**
+	 * 絞込み条件で比較する式を取得する。
+	 * <p>
+	 * 絞込み条件の値は小文字のため、デフォルトではカラムを <code>LOWER</code> で小文字に変換します。
+	 * </p>
+	 * 
+	 * @param column カラム
+	 * @return 式
+	 */
+	protected String getFilterExpression(final String column) {
+		return "LOWER(" + column + ")";
+	}
+
+	/**
+	 * 名前の完全一致条件をSQLに追加する。
+	 * <p>
+	 * デフォルトでは <code>expression IN (?, ...)</code> を追加します。
+	 * </p>
+	 * 
+	 * @param sql SQL
+	 * @param expression 比較する式
+	 * @param count 名前の数
+	 */
+	protected void appendNameCondition(final StringBuilder sql, final String expression, final int count) {
+		sql.append(expression).append(" IN (");
+		for (int i = 0; i < count; i++) {
+			if (0 < i) {
+				sql.append(", ");
+			}
+			sql.append("?");
+		}
+		sql.append(")");
+	}
+
+	/**
+	 * LIKEパターンの一致条件をSQLに追加する。
+	 * <p>
+	 * デフォルトでは <code>expression LIKE ? OR ...</code> を追加します。
+	 * </p>
+	 * 
+	 * @param sql SQL
+	 * @param expression 比較する式
+	 * @param count パターンの数
+	 */
+	protected void appendPatternCondition(final StringBuilder sql, final String expression, final int count) {
+		for (int i = 0; i < count; i++) {
+			if (0 < i) {
+				sql.append(" OR ");
+			}
+			sql.append(expression).append(" LIKE ?");
+		}
+	}
+
+	/**
+	 * {@link #appendNameCondition(StringBuilder, String, int)}、{@link #appendPatternCondition(StringBuilder, String, int)}
+	 * で追加した条件の値をバインドする。
+	 * <p>
+	 * デフォルトでは値を1つずつバインドします。
+	 * </p>
+	 * 
+	 * @param ps ステートメント
+	 * @param index 最初のバインド変数の位置
+	 * @param values 値
+	 * @return 次のバインド変数の位置
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected int bindFilterValues(final PreparedStatement ps, final int index, final List<String> values) throws SQLException {
+		int i = index;
+		for (String value : values) {
+			ps.setString(i++, value);
+		}
+		return i;
+	}
+
+	/**
+	 * クエリを実行する。
+	 * <p>
+	 * デフォルトでは {@link PreparedStatement#executeQuery()} を呼び出します。
+	 * 実行・結果の読込の成否は {@link #endQuery(Connection, boolean)} で通知します。
+	 * </p>
+	 * 
+	 * @param ps ステートメント
+	 * @return 結果セット
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected ResultSet execute(final PreparedStatement ps) throws SQLException {
+		return ps.executeQuery();
+	}
+
+	/**
+	 * クエリの結果の読込を終了する。
+	 * <p>
+	 * {@link #execute(PreparedStatement)} の実行後、結果セットを閉じてから呼び出されます。実行に失敗した場合も呼び出されます。
+	 * 結果の読込中(ストリーミングで逐次取得中を含む)のエラーも失敗として通知します。デフォルトでは何もしません。
+	 * タイムアウト等のエラーでトランザクションが中断され、後続のクエリを実行できなくなるデータベースの場合は、
+	 * オーバーライドしてコネクションを回復してください。
+	 * </p>
+	 * 
+	 * @param connection コネクション
+	 * @param failed 実行または結果の読込が失敗した場合、<code>true</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected void endQuery(final Connection connection, final boolean failed) throws SQLException {
+	}
+
+	/**
+	 * クエリのタイムアウトによる例外か判断する。
+	 * <p>
+	 * {@link SQLTimeoutException} 以外でタイムアウトを通知するドライバの場合はオーバーライドしてください。
+	 * </p>
+	 * 
+	 * @param ex 例外
+	 * @return 判断
+	 */
+	protected boolean isQueryTimeout(final SQLException ex) {
+		return ex instanceof SQLTimeoutException;
+	}
+
+	/**
+	 * 解析を開始する。
+	 * <p>
+	 * 最初のステートメントを作成する前に1度だけ呼び出されます。デフォルトでは何もしません。
+	 * カタログの参照を高速にするセッション設定などを行う場合はオーバーライドしてください。
+	 * </p>
+	 * 
+	 * @param connection コネクション
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected void beginIntrospection(final Connection connection) throws SQLException {
+	}
+
+	/**
+	 * 解析を終了する。
+	 * <p>
+	 * {@link #close()} から呼び出されます。{@link #beginIntrospection(Connection)} で変更したセッションの設定を元に戻してください。
+	 * </p>
+	 * 
+	 * @param connection コネクション
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected void endIntrospection(final Connection connection) throws SQLException {
+	}
+
+	/**
+	 * ストリーミングを開始する。
+	 * <p>
+	 * 最初のステートメントを作成する前に1度だけ呼び出されます。デフォルトでは何もしません。
+	 * </p>
+	 * 
+	 * @param connection コネクション
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected void beginStreaming(final Connection connection) throws SQLException {
+	}
+
+	/**
+	 * ストリーミングを終了する。
+	 * <p>
+	 * {@link #close()} から呼び出されます。{@link #beginStreaming(Connection)} で変更したコネクションの状態を元に戻してください。
+	 * </p>
+	 * 
+	 * @param connection コネクション
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected void endStreaming(final Connection connection) throws SQLException {
+	}
+
+	/**
+	 * ストリーミングモードのフェッチサイズを取得する。
+	 * 
+	 * @param fetchSize 設定されたフェッチサイズ
+	 * @return フェッチサイズ。設定されていない場合、{@value #DEFAULT_STREAMING_FETCH_SIZE}
+	 */
+	protected int getStreamingFetchSize(final int fetchSize) {
+		return (0 < fetchSize) ? fetchSize : DEFAULT_STREAMING_FETCH_SIZE;
+	}
+
+	/**
+	 * スキーマ情報を取得するSQLを取得する。
+	 * <p>
+	 * バインド変数は下記の通りです。
+	 * <ul>
+	 * </ul>
+	 * </p>
+	 * <p>
+	 * 取得するカラムは下記の通りです。
+	 * <ul>
+	 * <li>name - スキーマ名</li>
+	 * </ul>
+	 * </p>
+	 * 
+	 * @return SQL
 	 */
 	protected abstract String getSchemaSQL();
 
@@ -201,232 +1236,782 @@ public abstract class AbstractDatabaseDefinition extends LoggingObject implement
 	 * </ul>
 	 * </p>
 	 * <p>
-	 * 取得するカラムは下記の通りです。
+	 * 取得するカラムは下記の通りです。
+	 * <ul>
+	 * <li>label - 論理テーブル名</li>
+	 * <li>name - 物理テーブル名</li>
+	 * <li>schema - スキーマ</li>
+	 * <li>comment - コメント</li>
+	 * </ul>
+	 * </p>
+	 * 
+	 * @return SQL
+	 */
+	protected abstract String getTableListSQL();
+
+	/**
+	 * テーブル情報を取得するSQLを取得する。
+	 * <p>
+	 * バインド変数は下記の通りです。
+	 * <ul>
+	 * <li>1 - スキーマ名</li>
+	 * <li>2 - テーブル名</li>
+	 * </ul>
+	 * </p>
+	 * <p>
+	 * 取得するカラムは下記の通りです。
+	 * <ul>
+	 * <li>label - 論理テーブル名</li>
+	 * <li>name - 物理テーブル名</li>
+	 * <li>schema - スキーマ</li>
+	 * <li>comment - コメント</li>
+	 * </ul>
+	 * </p>
+	 * 
+	 * @return SQL
+	 */
+	protected abstract String getTableSQL();
+
+	/**
+	 * フィールド情報を取得するSQLを取得する。
+	 * <p>
+	 * バインド変数は下記の通りです。
+	 * <ul>
+	 * <li>1 - スキーマ名</li>
+	 * <li>2 - テーブル名</li>
+	 * </ul>
+	 * </p>
+	 * <p>
+	 * 取得するカラムは下記の通りです。
+	 * <ul>
+	 * <li>label - 論理フィールド名</li>
+	 * <li>name - 物理フィールド名</li>
+	 * <li>type - タイプ</li>
+	 * <li>extra - 付加情報</li>
+	 * <li>notnull - NULL制約</li>
+	 * <li>default - デフォルト値</li>
+	 * <li>comment - コメント</li>
+	 * </ul>
+	 * </p>
+	 * 
+	 * @return SQL
+	 */
+	protected abstract String getFieldSQL();
+
+	/**
+	 * インデックス情報を取得するSQLを取得する。
+	 * <p>
+	 * バインド変数は下記の通りです。
+	 * <ul>
+	 * <li>1 - スキーマ名</li>
+	 * <li>2 - テーブル名</li>
+	 * </ul>
+	 * </p>
+	 * <p>
+	 * 取得するカラムは下記の通りです。
+	 * <ul>
+	 * <li>name - フィールド名</li>
+	 * <li>field_name - フィールド名</li>
+	 * <li>unique_key - ユニークキー</li>
+	 * <li>primary_key - プライマリキー</li>
+	 * </ul>
+	 * 1行に複数のフィールドを返す場合、{@link #getNames(ResultSet, String)} をオーバーライドしてください。
+	 * </p>
+	 * 
+	 * @return SQL
+	 */
+	protected abstract String getIndexSQL();
+
+	/**
+	 * 外部キー情報を取得するSQLを取得する。
+	 * <p>
+	 * バインド変数は下記の通りです。
+	 * <ul>
+	 * <li>1 - スキーマ名</li>
+	 * <li>2 - テーブル名</li>
+	 * </ul>
+	 * </p>
+	 * <p>
+	 * 取得するカラムは下記の通りです。
+	 * <ul>
+	 * <li>name - 外部キー名</li>
+	 * <li>field_name - フィールド名</li>
+	 * <li>ref_table_name - 参照先テーブル名</li>
+	 * <li>ref_field_name - 参照先フィールド名</li>
+	 * </ul>
+	 * 1行に複数のフィールドを返す場合、{@link #getNames(ResultSet, String)} をオーバーライドしてください。
+	 * </p>
+	 * 
+	 * @return SQL
+	 */
+	protected abstract String getForeignKeySQL();
+
+	/**
+	 * スキーマに属する全テーブルのフィールド情報を取得するSQLを取得する。
+	 * <p>
+	 * バインド変数は下記の通りです。
+	 * <ul>
+	 * <li>1 - スキーマ名</li>
+	 * </ul>
+	 * </p>
+	 * <p>
+	 * 取得するカラムは{@link #getFieldSQL()}に加えて下記の通りです。結果はテーブル名順に並んでいる必要があります。
 	 * <ul>
-	 * <li>label - 論理テーブル名</li>
-	 * <li>name - 物理テーブル名</li>
-	 * <li>schema - スキーマ</li>
-	 * <li>comment - コメント</li>
+	 * <li>table_name - 物理テーブル名</li>
 	 * </ul>
 	 * </p>
 	 * 
-	 * @return SQL
+	 * @return SQL。一括取得に対応しない場合、<code>null</code>を返す。
 	 */
-	protected abstract String getTableListSQL();
+	protected String getSchemaFieldSQL() {
+		return null;
+	}
 
 	/**
-	 * テーブル情報を取得するSQLを取得する。
+	 * スキーマに属する全テーブルのインデックス情報を取得するSQLを取得する。
 	 * <p>
 	 * バインド変数は下記の通りです。
 	 * <ul>
 	 * <li>1 - スキーマ名</li>
-	 * <li>2 - テーブル名</li>
 	 * </ul>
 	 * </p>
 	 * <p>
-	 * 取得するカラムは下記の通りです。
+	 * 取得するカラムは{@link #getIndexSQL()}に加えて下記の通りです。結果はテーブル名順に並んでいる必要があります。
 	 * <ul>
-	 * <li>label - 論理テーブル名</li>
-	 * <li>name - 物理テーブル名</li>
-	 * <li>schema - スキーマ</li>
-	 * <li>comment - コメント</li>
+	 * <li>table_name - 物理テーブル名</li>
 	 * </ul>
 	 * </p>
 	 * 
-	 * @return SQL
+	 * @return SQL。一括取得に対応しない場合、<code>null</code>を返す。
 	 */
-	protected abstract String getTableSQL();
+	protected String getSchemaIndexSQL() {
+		return null;
+	}
 
 	/**
-	 * フィールド情報を取得するSQLを取得する。
+	 * スキーマに属する全テーブルの外部キー情報を取得するSQLを取得する。
 	 * <p>
 	 * バインド変数は下記の通りです。
 	 * <ul>
 	 * <li>1 - スキーマ名</li>
-	 * <li>2 - テーブル名</li>
 	 * </ul>
 	 * </p>
 	 * <p>
-	 * 取得するカラムは下記の通りです。
+	 * 取得するカラムは{@link #getForeignKeySQL()}に加えて下記の通りです。結果はテーブル名順に並んでいる必要があります。
 	 * <ul>
-	 * <li>label - 論理フィールド名</li>
-	 * <li>name - 物理フィールド名</li>
-	 * <li>type - タイプ</li>
-	 * <li>extra - 付加情報</li>
-	 * <li>notnull - NULL制約</li>
-	 * <li>default - デフォルト値</li>
-	 * <li>comment - コメント</li>
+	 * <li>table_name - 物理テーブル名</li>
 	 * </ul>
 	 * </p>
 	 * 
-	 * @return SQL
+	 * @return SQL。一括取得に対応しない場合、<code>null</code>を返す。
 	 */
-	protected abstract String getFieldSQL();
+	protected String getSchemaForeignKeySQL() {
+		return null;
+	}
 
 	/**
-	 * インデックス情報を取得するSQLを取得する。
+	 * テーブルのバージョン一覧を取得するSQLを取得する。
 	 * <p>
 	 * バインド変数は下記の通りです。
 	 * <ul>
 	 * <li>1 - スキーマ名</li>
-	 * <li>2 - テーブル名</li>
 	 * </ul>
 	 * </p>
 	 * <p>
 	 * 取得するカラムは下記の通りです。
 	 * <ul>
-	 * <li>name - フィールド名</li>
-	 * <li>field_name - フィールド名</li>
-	 * <li>unique_key - ユニークキー</li>
-	 * <li>primary_key - プライマリキー</li>
+	 * <li>name - 物理テーブル名</li>
+	 * <li>version - バージョン</li>
 	 * </ul>
 	 * </p>
 	 * 
-	 * @return SQL
+	 * @return SQL。対応しない場合、<code>null</code>を返す。
 	 */
-	protected abstract String getIndexSQL();
+	protected String getTableVersionSQL() {
+		return null;
+	}
 
 	/**
-	 * 外部キー情報を取得するSQLを取得する。
+	 * カタログのバージョンを取得するSQLを取得する。
 	 * <p>
-	 * バインド変数は下記の通りです。
-	 * <ul>
-	 * <li>1 - スキーマ名</li>
-	 * <li>2 - テーブル名</li>
-	 * </ul>
+	 * バインド変数は {@link #appendSchemaFilter(StringBuilder, String)} で追加した絞込み条件のみです。
+	 * 解析するスキーマのみを集計するよう、スキーマの絞込み条件を追加してください。
 	 * </p>
 	 * <p>
 	 * 取得するカラムは下記の通りです。
 	 * <ul>
-	 * <li>name - 外部キー名</li>
-	 * <li>field_name - フィールド名</li>
-	 * <li>ref_table_name - 参照先テーブル名</li>
-	 * <li>ref_field_name - 参照先フィールド名</li>
+	 * <li>version - バージョン</li>
 	 * </ul>
 	 * </p>
 	 * 
-	 * @return SQL
+	 * @return SQL。対応しない場合、<code>null</code>を返す。
 	 */
-	protected abstract String getForeignKeySQL();
+	protected String getCatalogVersionSQL() {
+		return null;
+	}
+
+	/**
+	 * 一括取得が可能か判断する。
+	 * 
+	 * @return 判断
+	 */
+	private boolean isBulkSupport() {
+		return bulkMode && isSupport(QueryKind.SCHEMA_FIELD);
+	}
+
+	/**
+	 * 先読みでテーブル名を絞り込んだ一括取得が可能か判断する。
+	 * 
+	 * @return 判断
+	 */
+	private boolean isBatchSupport() {
+		if (!isBulkSupport()) {
+			return false;
+		}
+		for (QueryKind kind : BATCH_KINDS) {
+			if (isSupport(kind) && StringUtility.isEmpty(getBatchSQL(kind))) {
+				return false;
+			}
+		}
+		return true;
+	}
 
-	private void parseTable(final TableModel table, final Connection connection) throws SQLException {
-		PreparedStatement ps = null;
-		ResultSet rs = null;
+	private void parseTable(final TableModel table) throws SQLException {
+		long parseStart = System.nanoTime();
+		String schemaName = table.getSchema().getName();
+		Object tableSpan = trace(IntrospectionPhase.TABLE, null, schemaName, table.getName());
+		boolean failed = true;
 		try {
 			// フィールド情報取得
-			ps = connection.prepareStatement(getFieldSQL());
-			ps.setString(1, table.getSchema().getName());
-			ps.setString(2, table.getName());
-			rs = ps.executeQuery();
-			while (rs.next()) {
-				String label = rs.getString("label");
-				String name = rs.getString("name");
-				String type = rs.getString("type");
-				String extra = rs.getString("extra");
-				Boolean notnull = rs.getBoolean("notnull");
-				Object def = rs.getObject("default");
-				String comment = rs.getString("comment");
-
-				FieldTypeModel fieldType = new FieldTypeModel();
-				fieldType.setLabel(type);
-
-				FieldModel field = new FieldModel();
-				field.setLabel(label);
-				field.setName(name);
-				field.setType(fieldType);
-				field.setExtra(extra);
-				field.setNotNull(notnull);
-				if (null == def) {
-					field.setDefaultFlag(false);
-				} else {
-					field.setDefaultFlag(true);
-					field.setDefaultValue(def);
+			{
+				PreparedStatement ps = getStatement(QueryKind.FIELD);
+				ps.setString(1, schemaName);
+				ps.setString(2, table.getName());
+				Query query = executeQuery(ps, QueryKind.FIELD, schemaName, table.getName());
+				try {
+					ResultSet rs = query.getResultSet();
+					while (query.next()) {
+						table.addField(toField(rs));
+					}
+					query.complete();
+				} finally {
+					query.close();
 				}
-				field.setComment(comment);
-
-				table.addField(field);
 			}
-			rs.close();
-			rs = null;
-			ps.close();
-			ps = null;
 
 			// インデックス情報取得
-			{
-				String sql = getIndexSQL();
-				if (StringUtility.isNotEmpty(sql)) {
-					ps = connection.prepareStatement(sql);
-					ps.setString(1, table.getSchema().getName());
-					ps.setString(2, table.getName());
-					rs = ps.executeQuery();
-					while (rs.next()) {
-						String name = rs.getString("name");
-						String fieldName = rs.getString("field_name");
-						Boolean unique = rs.getBoolean("unique_key");
-						Boolean primaryKey = rs.getBoolean("primary_key");
-
-						IndexModel index = table.getIndex(name);
-						if (null == index) {
-							index = new IndexModel();
-							index.setName(name);
-							index.setPrimaryKey(primaryKey);
-							index.setUnique(unique);
-							table.addIndex(index);
-						}
-
-						IndexFieldModel field = new IndexFieldModel();
-						field.setName(fieldName);
-
-						index.addField(field);
+			if (isSupport(QueryKind.INDEX)) {
+				PreparedStatement ps = getStatement(QueryKind.INDEX);
+				ps.setString(1, schemaName);
+				ps.setString(2, table.getName());
+				Query query = executeQuery(ps, QueryKind.INDEX, schemaName, table.getName());
+				try {
+					ResultSet rs = query.getResultSet();
+					while (query.next()) {
+						addIndex(table, rs);
 					}
-					rs.close();
-					rs = null;
-					ps.close();
-					ps = null;
+					query.complete();
+				} finally {
+					query.close();
 				}
 			}
 
 			// 外部キー
-			{
-				String sql = getForeignKeySQL();
-				if (StringUtility.isNotEmpty(sql)) {
-					ps = connection.prepareStatement(sql);
-					ps.setString(1, table.getSchema().getName());
-					ps.setString(2, table.getName());
-					rs = ps.executeQuery();
-					while (rs.next()) {
-						String name = rs.getString("name");
-						String fieldName = rs.getString("field_name");
-						String refTableName = rs.getString("ref_table_name");
-						String refFieldName = rs.getString("ref_field_name");
-
-						ForeignKeyModel foreignKey = table.getForeignKey(name);
-						if (null == foreignKey) {
-							foreignKey = new ForeignKeyModel();
-							foreignKey.setName(name);
-							foreignKey.setReferenceTableName(refTableName);
-							table.addForeignKey(foreignKey);
-						}
+			if (isSupport(QueryKind.FOREIGN_KEY)) {
+				PreparedStatement ps = getStatement(QueryKind.FOREIGN_KEY);
+				ps.setString(1, schemaName);
+				ps.setString(2, table.getName());
+				Query query = executeQuery(ps, QueryKind.FOREIGN_KEY, schemaName, table.getName());
+				try {
+					ResultSet rs = query.getResultSet();
+					while (query.next()) {
+						addForeignKey(table, rs);
+					}
+					query.complete();
+				} finally {
+					query.close();
+				}
+			}
+
+			failed = false;
+		} finally {
+			end(tableSpan, 1L, failed);
+		}
+
+		if (null != metricsSink) {
+			metricsSink.tableParsed(schemaName, table.getName(), System.nanoTime() - parseStart);
+		}
+	}
+
+	/**
+	 * スキーマに属するテーブルのフィールド・インデックス・外部キー情報を一括で取得する。
+	 * <p>
+	 * 各SQLの結果はテーブル名順に並んでいるため、1回の走査で各テーブルへ振り分けます。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tables テーブル情報一覧
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private void parseSchema(final SchemaModel schema, final List<TableModel> tables) throws SQLException {
+		parseSchema(schema, tables, false);
+	}
 
-						ForeignKeyFeildModel field = new ForeignKeyFeildModel();
-						field.setName(fieldName);
+	/**
+	 * スキーマに属するテーブルのフィールド・インデックス・外部キー情報を一括で取得する。
+	 * <p>
+	 * 先読みの場合、テーブル名で絞り込んだ一括取得のSQLを使用し、対象のテーブルの行のみ取得します。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tables テーブル情報一覧
+	 * @param batch 先読みの場合、<code>true</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private void parseSchema(final SchemaModel schema, final List<TableModel> tables, final boolean batch) throws SQLException {
+		List<String> tableNames = null;
+		if (batch) {
+			// バインド変数は先読み件数分の為、不足分は最後のテーブル名で埋める
+			tableNames = new ArrayList<String>(prefetchSize);
+			for (int i = 0; i < prefetchSize; i++) {
+				tableNames.add(tables.get(Math.min(i, tables.size() - 1)).getName());
+			}
+		}
 
-						ForeignKeyFeildModel referenceField = new ForeignKeyFeildModel();
-						referenceField.setName(refFieldName);
+		Map<String, TableModel> tableMap = new HashMap<String, TableModel>(tables.size() * 4 / 3 + 1);
+		for (TableModel table : tables) {
+			tableMap.put(table.getName(), table);
+		}
 
-						foreignKey.addField(field);
-						foreignKey.addReferenceField(referenceField);
+		// フィールド情報取得
+		{
+			PreparedStatement ps = (batch) ? getBatchStatement(QueryKind.SCHEMA_FIELD) : getStatement(QueryKind.SCHEMA_FIELD);
+			ps.setString(1, schema.getName());
+			bindFilter(ps, QueryKind.SCHEMA_FIELD, 2, schema.getName(), tableNames);
+			Query query = executeQuery(ps, QueryKind.SCHEMA_FIELD, schema.getName(), null);
+			try {
+				ResultSet rs = query.getResultSet();
+				TableModel table = null;
+				while (query.next()) {
+					table = findTable(tableMap, table, rs.getString("table_name"));
+					if (null != table) {
+						table.addField(toField(rs));
 					}
-					rs.close();
-					rs = null;
-					ps.close();
-					ps = null;
 				}
+				query.complete();
+			} finally {
+				query.close();
 			}
+		}
+
+		// インデックス情報取得
+		if (isSupport(QueryKind.SCHEMA_INDEX)) {
+			PreparedStatement ps = (batch) ? getBatchStatement(QueryKind.SCHEMA_INDEX) : getStatement(QueryKind.SCHEMA_INDEX);
+			ps.setString(1, schema.getName());
+			bindFilter(ps, QueryKind.SCHEMA_INDEX, 2, schema.getName(), tableNames);
+			Query query = executeQuery(ps, QueryKind.SCHEMA_INDEX, schema.getName(), null);
+			try {
+				ResultSet rs = query.getResultSet();
+				TableModel table = null;
+				while (query.next()) {
+					table = findTable(tableMap, table, rs.getString("table_name"));
+					if (null != table) {
+						addIndex(table, rs);
+					}
+				}
+				query.complete();
+			} finally {
+				query.close();
+			}
+		}
+
+		// 外部キー
+		if (isSupport(QueryKind.SCHEMA_FOREIGN_KEY)) {
+			PreparedStatement ps = (batch) ? getBatchStatement(QueryKind.SCHEMA_FOREIGN_KEY) : getStatement(QueryKind.SCHEMA_FOREIGN_KEY);
+			ps.setString(1, schema.getName());
+			bindFilter(ps, QueryKind.SCHEMA_FOREIGN_KEY, 2, schema.getName(), tableNames);
+			Query query = executeQuery(ps, QueryKind.SCHEMA_FOREIGN_KEY, schema.getName(), null);
+			try {
+				ResultSet rs = query.getResultSet();
+				TableModel table = null;
+				while (query.next()) {
+					table = findTable(tableMap, table, rs.getString("table_name"));
+					if (null != table) {
+						addForeignKey(table, rs);
+					}
+				}
+				query.complete();
+			} finally {
+				query.close();
+			}
+		}
+	}
 
+	/**
+	 * トレーサーの区間を開始する。
+	 * 
+	 * @param phase 処理段階
+	 * @param kind クエリ種別
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @return 区間情報。記録しない場合、<code>null</code>
+	 */
+	private Object trace(final IntrospectionPhase phase, final QueryKind kind, final String schemaName, final String tableName) {
+		return (null != tracer) ? tracer.start(phase, kind, schemaName, tableName) : null;
+	}
+
+	/**
+	 * トレーサーの区間を終了する。
+	 * 
+	 * @param span トレーサーの区間情報
+	 * @param rows 行数またはテーブル数
+	 * @param failed 例外で中断した場合、<code>true</code>
+	 */
+	private void end(final Object span, final long rows, final boolean failed) {
+		if (null != span) {
+			tracer.end(span, rows, failed);
+		}
+	}
+
+	/**
+	 * タイムアウトを設定してクエリを実行し、計測を開始する。
+	 * <p>
+	 * 戻り値は結果の読込後に必ず {@link Query#close()} で閉じてください。実行に失敗した場合は、失敗として記録してから例外をスローします。
+	 * </p>
+	 * 
+	 * @param ps ステートメント
+	 * @param kind クエリ種別
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @return クエリ
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private Query executeQuery(final PreparedStatement ps, final QueryKind kind, final String schemaName, final String tableName)
+			throws SQLException {
+		Query query = new Query(kind, schemaName, tableName);
+		boolean executed = false;
+		try {
+			query.rs = executeQuery(ps);
+			executed = true;
 		} finally {
+			if (!executed) {
+				query.close();
+			}
+		}
+		return query;
+	}
+
+	private String intern(final String value) {
+		return (null != interner) ? interner.intern(value) : value;
+	}
+
+	/**
+	 * 行が属するテーブルを取得する。
+	 * <p>
+	 * 結果はテーブル名順に並んでいるため、直前の行と同じテーブルであれば検索を省略します。
+	 * </p>
+	 * 
+	 * @param tableMap テーブルマップ
+	 * @param current 直前の行のテーブル
+	 * @param name テーブル名
+	 * @return テーブル。対象外のテーブルの場合、<code>null</code>を返す。
+	 */
+	private static TableModel findTable(final Map<String, TableModel> tableMap, final TableModel current, final String name) {
+		if (null != current && current.getName().equals(name)) {
+			return current;
+		}
+		return tableMap.get(name);
+	}
+
+	private FieldModel toField(final ResultSet rs) throws SQLException {
+		String label = rs.getString("label");
+		String name = rs.getString("name");
+		String type = rs.getString("type");
+		String extra = rs.getString("extra");
+		Boolean notnull = rs.getBoolean("notnull");
+		Object def = rs.getObject("default");
+		String comment = rs.getString("comment");
+
+		FieldTypeModel fieldType;
+		if (null != interner) {
+			fieldType = interner.getFieldType(type);
+		} else {
+			fieldType = new FieldTypeModel();
+			fieldType.setLabel(type);
+		}
+
+		FieldModel field = new FieldModel();
+		field.setLabel(intern(label));
+		field.setName(intern(name));
+		field.setType(fieldType);
+		field.setExtra(intern(extra));
+		field.setNotNull(notnull);
+		if (null == def) {
+			field.setDefaultFlag(false);
+		} else {
+			field.setDefaultFlag(true);
+			field.setDefaultValue(def);
+		}
+		field.setComment(comment);
+		return field;
+	}
+
+	private void addIndex(final TableModel table, final ResultSet rs) throws SQLException {
+		String name = rs.getString("name");
+		String[] fieldNames = getNames(rs, "field_name");
+		Boolean unique = rs.getBoolean("unique_key");
+		Boolean primaryKey = rs.getBoolean("primary_key");
+		if (null == name) {
+			// インデックスが存在しないテーブル
+			return;
+		}
+
+		IndexModel index = table.getIndex(name);
+		if (null == index) {
+			index = new IndexModel();
+			index.setName(intern(name));
+			index.setPrimaryKey(primaryKey);
+			index.setUnique(unique);
+			table.addIndex(index);
+		}
+
+		for (String fieldName : fieldNames) {
+			IndexFieldModel field = new IndexFieldModel();
+			field.setName(intern(fieldName));
+
+			index.addField(field);
+		}
+	}
+
+	private void addForeignKey(final TableModel table, final ResultSet rs) throws SQLException {
+		String name = rs.getString("name");
+		String[] fieldNames = getNames(rs, "field_name");
+		String refTableName = rs.getString("ref_table_name");
+		String[] refFieldNames = getNames(rs, "ref_field_name");
+		if (null == name) {
+			// 外部キーが存在しないテーブル
+			return;
+		}
+
+		ForeignKeyModel foreignKey = table.getForeignKey(name);
+		if (null == foreignKey) {
+			foreignKey = new ForeignKeyModel();
+			foreignKey.setName(intern(name));
+			foreignKey.setReferenceTableName(intern(refTableName));
+			table.addForeignKey(foreignKey);
+		}
+
+		for (int i = 0; i < fieldNames.length; i++) {
+			ForeignKeyFeildModel field = new ForeignKeyFeildModel();
+			field.setName(intern(fieldNames[i]));
+
+			ForeignKeyFeildModel referenceField = new ForeignKeyFeildModel();
+			referenceField.setName(intern((i < refFieldNames.length) ? refFieldNames[i] : null));
+
+			foreignKey.addField(field);
+			foreignKey.addReferenceField(referenceField);
+		}
+	}
+
+	/**
+	 * 結果セットから名前の一覧を取得する。
+	 * <p>
+	 * インデックス・外部キーのフィールド名の取得に使用します。デフォルトでは1行につき1つの名前を取得します。
+	 * 配列で複数の名前を返すSQLの場合はオーバーライドしてください。
+	 * </p>
+	 * 
+	 * @param rs 結果セット
+	 * @param label カラム名
+	 * @return 名前の一覧
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	protected String[] getNames(final ResultSet rs, final String label) throws SQLException {
+		return new String[] { rs.getString(label) };
+	}
+
+	/**
+	 * このクラスは、実行中のクエリの結果セットと計測情報を保持するクラスです。
+	 * <p>
+	 * {@link #close()} で結果セットを閉じ、実行時間と読込行数をメトリクスシンク・トレーサーへ通知します。
+	 * {@link #complete()} を呼び出さずに閉じた場合は、失敗として通知します。
+	 * 行の読込で発生した例外は、クエリの実行と同様に {@link AbstractDatabaseDefinition#translate(SQLException)} で変換します。
+	 * </p>
+	 */
+	private final class Query {
+
+		/** クエリ種別 */
+		private final QueryKind kind;
+
+		/** スキーマ名 */
+		private final String schemaName;
+
+		/** テーブル名 */
+		private final String tableName;
+
+		/** 実行開始時間(ナノ秒) */
+		private final long start;
+
+		/** トレーサーの区間情報 */
+		private final Object span;
+
+		/** 結果セット */
+		private ResultSet rs;
+
+		/** 読込行数 */
+		private long rows;
+
+		/** 完了フラグ */
+		private boolean completed;
+
+		private Query(final QueryKind kind, final String schemaName, final String tableName) {
+			this.kind = kind;
+			this.schemaName = schemaName;
+			this.tableName = tableName;
+			this.start = System.nanoTime();
+			this.span = trace(IntrospectionPhase.QUERY, kind, schemaName, tableName);
+		}
+
+		private ResultSet getResultSet() {
+			return rs;
+		}
+
+		/**
+		 * 次の行へ移動する。
+		 * 
+		 * @return 次の行が存在する場合、<code>true</code>
+		 * @throws SQLException SQL操作に起因する問題が発生した場合
+		 */
+		private boolean next() throws SQLException {
+			try {
+				if (rs.next()) {
+					rows++;
+					return true;
+				}
+				return false;
+			} catch (SQLException ex) {
+				throw translate(ex);
+			}
+		}
+
+		/**
+		 * 結果の読込を完了する。
+		 */
+		private void complete() {
+			completed = true;
+		}
+
+		/**
+		 * 結果セットを閉じ、実行結果を通知する。
+		 */
+		private void close() {
 			release(rs);
-			release(ps);
+			rs = null;
+			try {
+				endQuery(connection, !completed);
+			} catch (SQLException ex) {
+				warn(ex);
+			}
+			if (null != metricsSink) {
+				metricsSink.queryExecuted(kind, schemaName, tableName, System.nanoTime() - start, rows, !completed);
+			}
+			end(span, rows, !completed);
+		}
+	}
+
+	/**
+	 * このクラスは、テーブル一覧単位でテーブルの詳細情報を遅延読込するローダークラスです。
+	 */
+	private final class LazyTableLoader implements TableModelLoader {
+
+		/** スキーマ */
+		private final SchemaModel schema;
+
+		/** テーブル一覧 */
+		private final List<TableModel> tables;
+
+		/** テーブル一覧の位置 */
+		private final Map<TableModel, Integer> positions;
+
+		/** 読込中のテーブル */
+		private Set<TableModel> loadings;
+
+		/** メモリ不足検知用のソフト参照 */
+		private SoftReference<Object> sentinel;
+
+		private LazyTableLoader(final SchemaModel schema, final List<TableModel> tables) {
+			this.schema = schema;
+			this.tables = new ArrayList<TableModel>(tables);
+			this.positions = new IdentityHashMap<TableModel, Integer>(tables.size());
+			for (int i = 0; i < tables.size(); i++) {
+				positions.put(tables.get(i), Integer.valueOf(i));
+			}
+			this.loadings = null;
+			this.sentinel = new SoftReference<Object>(new Object());
+		}
+
+		@Override
+		public void load(final TableModel table) {
+			if (null != loadings && loadings.contains(table)) {
+				// 先読み中のテーブル
+				return;
+			}
+
+			evict();
+
+			List<TableModel> batch = new ArrayList<TableModel>();
+			batch.add(table);
+			Integer position = positions.get(table);
+			if (null != position) {
+				for (int i = position.intValue() + 1; i < tables.size() && batch.size() < prefetchSize; i++) {
+					TableModel other = tables.get(i);
+					if (!other.isLoaded()) {
+						batch.add(other);
+					}
+				}
+			}
+
+			loadings = Collections.newSetFromMap(new IdentityHashMap<TableModel, Boolean>(batch.size()));
+			loadings.addAll(batch);
+			try {
+				synchronized (AbstractDatabaseDefinition.this) {
+					if (1 < batch.size() && isBatchSupport()) {
+						parseSchema(schema, batch, true);
+					} else {
+						for (TableModel t : batch) {
+							parseTable(t);
+						}
+					}
+				}
+			} catch (SQLException ex) {
+				for (TableModel t : batch) {
+					if (t != table) {
+						t.unload();
+					}
+				}
+				throw new IllegalStateException(String.format("Failed to load table.[%s.%s]", schema.getName(), table.getName()), ex);
+			} finally {
+				loadings = null;
+			}
+		}
+
+		/**
+		 * メモリ不足を検知した場合、一定時間参照していないテーブルの詳細情報を破棄する。
+		 */
+		private void evict() {
+			if (null != sentinel.get()) {
+				return;
+			}
+			sentinel = new SoftReference<Object>(new Object());
+
+			long limit = System.currentTimeMillis() - evictIdleTime;
+			int count = 0;
+			for (TableModel table : tables) {
+				if (table.isLoaded() && table.getAccessTime() < limit) {
+					table.unload();
+					count++;
+				}
+			}
+			debug(String.format("Evict lazy tables.[%s] %d tables.", schema.getName(), count));
 		}
 	}
 }
@@ -0,0 +1,209 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * このクラスは、カタログ情報を取得するSQLに組み込むスキーマ・テーブルの絞込み条件クラスです。
+ * <p>
+ * 対象・除外のパターンのうち、SQLで同じ結果を得られるものだけを保持します。
+ * <ul>
+ * <li>名前 - 小文字に変換して完全一致の一覧に追加</li>
+ * <li>ワイルドカード - <code>*</code> を <code>%</code>、<code>?</code> を <code>_</code> に変換してLIKEパターンの一覧に追加</li>
+ * <li><code>regex:</code>で始まるパターン、「スキーマ名.テーブル名」形式のパターン - 組み込まない</li>
+ * </ul>
+ * 除外条件は組み込める分だけ組み込みます。対象条件は1つでも組み込めないパターンがある場合、すべて組み込みません。
+ * 組み込まなかった条件はパーサーで従来通り判定するため、結果は変わりません。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class CatalogFilter {
+
+	/** 正規表現パターンの接頭辞 */
+	private static final String REGEX_PREFIX = "regex:";
+
+	private final Condition includeSchemas;
+
+	private final Condition excludeSchemas;
+
+	private final Condition includeTables;
+
+	private final Condition excludeTables;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param includeSchemas 対象スキーマのパターン一覧
+	 * @param excludeSchemas 除外スキーマのパターン一覧
+	 * @param includeTables 対象テーブルのパターン一覧
+	 * @param excludeTables 除外テーブルのパターン一覧
+	 */
+	public CatalogFilter(final Collection<String> includeSchemas, final Collection<String> excludeSchemas, final Collection<String> includeTables,
+			final Collection<String> excludeTables) {
+		this.includeSchemas = Condition.of(includeSchemas, true, false);
+		this.excludeSchemas = Condition.of(excludeSchemas, false, false);
+		this.includeTables = Condition.of(includeTables, true, true);
+		this.excludeTables = Condition.of(excludeTables, false, true);
+	}
+
+	/**
+	 * 組み込む条件が存在しないか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isEmpty() {
+		return includeSchemas.isEmpty() && excludeSchemas.isEmpty() && includeTables.isEmpty() && excludeTables.isEmpty();
+	}
+
+	/**
+	 * 対象スキーマの条件を取得する。
+	 * 
+	 * @return 条件
+	 */
+	public Condition getIncludeSchemas() {
+		return includeSchemas;
+	}
+
+	/**
+	 * 除外スキーマの条件を取得する。
+	 * 
+	 * @return 条件
+	 */
+	public Condition getExcludeSchemas() {
+		return excludeSchemas;
+	}
+
+	/**
+	 * 対象テーブルの条件を取得する。
+	 * 
+	 * @return 条件
+	 */
+	public Condition getIncludeTables() {
+		return includeTables;
+	}
+
+	/**
+	 * 除外テーブルの条件を取得する。
+	 * 
+	 * @return 条件
+	 */
+	public Condition getExcludeTables() {
+		return excludeTables;
+	}
+
+	/**
+	 * ワイルドカードのパターンをLIKEパターンに変換する。
+	 * <p>
+	 * エスケープ文字は <code>\</code> です。
+	 * </p>
+	 * 
+	 * @param pattern パターン(小文字)
+	 * @return LIKEパターン
+	 */
+	static String toLikePattern(final String pattern) {
+		StringBuilder s = new StringBuilder(pattern.length() + 4);
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if ('*' == c) {
+				s.append('%');
+			} else if ('?' == c) {
+				s.append('_');
+			} else if ('%' == c || '_' == c || '\\' == c) {
+				s.append('\\').append(c);
+			} else {
+				s.append(c);
+			}
+		}
+		return s.toString();
+	}
+
+	/**
+	 * このクラスは、1つの対象または除外条件クラスです。
+	 */
+	public static final class Condition {
+
+		/** 完全一致する名前(小文字) */
+		private final List<String> names;
+
+		/** LIKEパターン(小文字) */
+		private final List<String> patterns;
+
+		private Condition(final List<String> names, final List<String> patterns) {
+			this.names = Collections.unmodifiableList(names);
+			this.patterns = Collections.unmodifiableList(patterns);
+		}
+
+		private static Condition of(final Collection<String> values, final boolean all, final boolean table) {
+			List<String> names = new ArrayList<String>();
+			List<String> patterns = new ArrayList<String>();
+			for (String value : values) {
+				boolean pushable = null != value && !value.startsWith(REGEX_PREFIX) && !(table && -1 != value.indexOf('.'));
+				if (!pushable) {
+					if (all) {
+						// 対象条件は一部だけ組み込むと対象が減るため、組み込まない
+						return new Condition(new ArrayList<String>(), new ArrayList<String>());
+					}
+					continue;
+				}
+
+				String lower = value.toLowerCase(Locale.ROOT);
+				if (-1 == lower.indexOf('*') && -1 == lower.indexOf('?')) {
+					names.add(lower);
+				} else {
+					patterns.add(toLikePattern(lower));
+				}
+			}
+			return new Condition(names, patterns);
+		}
+
+		/**
+		 * 条件が存在しないか判断する。
+		 * 
+		 * @return 判断
+		 */
+		public boolean isEmpty() {
+			return names.isEmpty() && patterns.isEmpty();
+		}
+
+		/**
+		 * 完全一致する名前(小文字)一覧を取得する。
+		 * 
+		 * @return 名前一覧
+		 */
+		public List<String> getNames() {
+			return names;
+		}
+
+		/**
+		 * LIKEパターン(小文字)一覧を取得する。
+		 * 
+		 * @return LIKEパターン一覧
+		 */
+		public List<String> getPatterns() {
+			return patterns;
+		}
+	}
+}
@@ -17,8 +17,10 @@
  */
 package org.azkfw.database.definition;
 
+import java.io.Closeable;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 
 import org.azkfw.database.definition.model.SchemaModel;
 import org.azkfw.database.definition.model.TableModel;
@@ -30,7 +32,7 @@ import org.azkfw.database.definition.model.TableModel;
  * @version 1.0.0 2015/03/03
  * @author kawakicchi
  */
-public interface DatabaseDefinition {
+public interface DatabaseDefinition extends Closeable {
 
 	/**
 	 * スキーマ情報一覧を取得する 。
@@ -58,4 +60,37 @@ public interface DatabaseDefinition {
 	 * @throws SQLException SQL操作に起因する問題が発生した場合
 	 */
 	public TableModel getTable(final SchemaModel schema, final String tableName) throws SQLException;
+
+	/**
+	 * スキーマに属するテーブルのバージョン一覧を取得する。
+	 * <p>
+	 * バージョンはテーブル定義が変更された場合に変化する文字列です。1回のSQLでスキーマ内の全テーブルを取得します。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @return テーブル名とバージョンのマップ(テーブル名順)。取得できない場合、<code>null</code>を返す。
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public Map<String, String> getTableVersions(final SchemaModel schema) throws SQLException;
+
+	/**
+	 * カタログのバージョンを取得する。
+	 * <p>
+	 * バージョンはテーブル・フィールド・インデックス・外部キーの定義が変更された場合に変化する文字列です。
+	 * 保存したデータベース定義が最新か判断する為に使用します。
+	 * </p>
+	 * 
+	 * @return バージョン。取得できない場合、<code>null</code>を返す。
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public String getCatalogVersion() throws SQLException;
+
+	/**
+	 * データベース定義機能が保持するリソースを解放する。
+	 * <p>
+	 * コネクションは解放しません。閉じたデータベース定義は再利用できません。
+	 * </p>
+	 */
+	@Override
+	public void close();
 }
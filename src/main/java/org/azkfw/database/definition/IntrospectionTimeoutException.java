@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このクラスは、テーブル一覧の取得後に解析が時間切れになったことを表す例外クラスです。
+ * <p>
+ * 取得済みのテーブル一覧と、フィールド・インデックス・外部キー情報の取得が完了していないテーブルを保持します。
+ * 途中までの解析結果を返す場合に使用します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public class IntrospectionTimeoutException extends SQLTimeoutException {
+
+	/** serialVersionUID */
+	private static final long serialVersionUID = 1L;
+
+	/** テーブル一覧 */
+	private final transient List<TableModel> tables;
+
+	/** 解析が完了していないテーブル一覧 */
+	private final transient List<TableModel> incompleteTables;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param cause 原因
+	 * @param tables テーブル一覧
+	 * @param incompleteTables 解析が完了していないテーブル一覧
+	 */
+	public IntrospectionTimeoutException(final SQLTimeoutException cause, final List<TableModel> tables, final List<TableModel> incompleteTables) {
+		super(cause.getMessage(), cause.getSQLState(), cause.getErrorCode(), cause);
+		this.tables = new ArrayList<TableModel>(tables);
+		this.incompleteTables = new ArrayList<TableModel>(incompleteTables);
+	}
+
+	/**
+	 * テーブル一覧を取得する。
+	 * 
+	 * @return テーブル一覧
+	 */
+	public List<TableModel> getTables() {
+		return (null != tables) ? tables : Collections.<TableModel> emptyList();
+	}
+
+	/**
+	 * 解析が完了していないテーブル一覧を取得する。
+	 * 
+	 * @return テーブル一覧
+	 */
+	public List<TableModel> getIncompleteTables() {
+		return (null != incompleteTables) ? incompleteTables : Collections.<TableModel> emptyList();
+	}
+}
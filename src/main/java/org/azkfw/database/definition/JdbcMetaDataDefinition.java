@@ -0,0 +1,856 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.azkfw.database.definition.metrics.IntrospectionMetricsSink;
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.FieldTypeModel;
+import org.azkfw.database.definition.model.ForeignKeyFeildModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexFieldModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.ModelInterner;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.azkfw.lang.LoggingObject;
+
+/**
+ * このクラスは、JDBCの {@link DatabaseMetaData} を使用してデータベースを定義したクラスです。
+ * <p>
+ * SQLを記述せずにドライバのメタデータから定義を取得するため、H2・HSQLDB・SQLite などの組込みデータベースも解析できます。
+ * </p>
+ * <p>
+ * 一括取得モードが有効な場合、{@link DatabaseMetaData#getColumns(String, String, String, String)}・
+ * {@link DatabaseMetaData#getPrimaryKeys(String, String, String)}・
+ * {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)}・
+ * {@link DatabaseMetaData#getImportedKeys(String, String, String)} をテーブル名を指定せずにスキーマ単位で1回ずつ呼出し、
+ * 結果をテーブル毎に振り分けます。テーブル名の省略に対応していないドライバ(例外をスローせずに空の結果を返すドライバを含む)の場合は、
+ * テーブル毎の呼出しに切り替えます。
+ * </p>
+ * <p>
+ * スキーマをサポートしないドライバ(MySQL等)はカタログをスキーマとして扱います。どちらもサポートしない場合は、名前が空のスキーマを1つ返します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public class JdbcMetaDataDefinition extends LoggingObject implements DatabaseDefinition {
+
+	/** コネクション */
+	private final Connection connection;
+
+	/** メタデータ */
+	private DatabaseMetaData metaData;
+
+	/** スキーマを使用するか */
+	private boolean schemaSupport;
+
+	/** カタログをスキーマとして使用するか */
+	private boolean catalogSupport;
+
+	/** 検索パターンのエスケープ文字 */
+	private String searchStringEscape;
+
+	/** 一括取得モード */
+	private boolean bulkMode;
+
+	/** 解析の期限(ミリ秒) */
+	private long deadline;
+
+	/** 取消しフラグ */
+	private volatile boolean cancelled;
+
+	/** メトリクスシンク */
+	private IntrospectionMetricsSink metricsSink;
+
+	/** 文字列・フィールドタイプ情報のプール */
+	private ModelInterner interner;
+
+	/** 一括取得に対応していないメタデータのメソッド名 */
+	private final Set<String> unsupportedMethods;
+
+	/** 一括取得で結果を得られたメタデータのメソッド名 */
+	private final Set<String> bulkMethods;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param connection コネクション
+	 */
+	public JdbcMetaDataDefinition(final Connection connection) {
+		super(JdbcMetaDataDefinition.class);
+		this.connection = connection;
+		this.metaData = null;
+		this.bulkMode = true;
+		this.deadline = 0L;
+		this.cancelled = false;
+		this.metricsSink = null;
+		this.interner = null;
+		this.unsupportedMethods = new HashSet<String>();
+		this.bulkMethods = new HashSet<String>();
+	}
+
+	/**
+	 * 一括取得モードを設定する。
+	 * <p>
+	 * 一括取得モードが有効な場合、{@link #getTableList(SchemaModel)} はフィールド・インデックス・外部キー情報を
+	 * スキーマ単位でそれぞれ1回のメタデータ呼出しで取得します。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setBulkMode(final boolean flag) {
+		bulkMode = flag;
+	}
+
+	/**
+	 * 一括取得モードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isBulkMode() {
+		return bulkMode;
+	}
+
+	/**
+	 * 解析の期限を設定する。
+	 * <p>
+	 * メタデータの取得はタイムアウトを設定できない為、各取得の前に期限を判定し、超過した場合は {@link SQLTimeoutException} をスローします。
+	 * テーブル一覧の取得後に時間切れとなった場合は、取得済みのテーブル一覧を保持した {@link IntrospectionTimeoutException} をスローします。
+	 * </p>
+	 * 
+	 * @param time 期限({@link System#currentTimeMillis()} の値)。期限を設けない場合、0
+	 */
+	public void setDeadline(final long time) {
+		deadline = time;
+	}
+
+	/**
+	 * 解析を取り消す。
+	 * <p>
+	 * メタデータの取得は取り消せない為、実行中の取得の完了後、次の取得の前に {@link SQLException} をスローします。
+	 * </p>
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * メトリクスシンクを設定する。
+	 * 
+	 * @param sink メトリクスシンク。計測しない場合、<code>null</code>
+	 */
+	public void setMetricsSink(final IntrospectionMetricsSink sink) {
+		metricsSink = sink;
+	}
+
+	/**
+	 * 文字列・フィールドタイプ情報のプールを設定する。
+	 * 
+	 * @param interner プール。共有しない場合、<code>null</code>
+	 */
+	public void setInterner(final ModelInterner interner) {
+		this.interner = interner;
+	}
+
+	@Override
+	public List<SchemaModel> getSchemaList() throws SQLException {
+		DatabaseMetaData meta = getMetaData();
+		List<SchemaModel> schemas = new ArrayList<SchemaModel>();
+
+		long start = System.nanoTime();
+		long rows = 0L;
+		boolean failed = true;
+		if (schemaSupport || catalogSupport) {
+			ResultSet rs = null;
+			try {
+				rs = (schemaSupport) ? meta.getSchemas() : meta.getCatalogs();
+				String label = (schemaSupport) ? "TABLE_SCHEM" : "TABLE_CAT";
+				while (rs.next()) {
+					rows++;
+					SchemaModel schema = new SchemaModel();
+					schema.setName(intern(rs.getString(label)));
+					schemas.add(schema);
+				}
+				failed = false;
+			} finally {
+				release(rs);
+				record(QueryKind.SCHEMA, null, null, start, rows, failed);
+			}
+		}
+
+		if (schemas.isEmpty()) {
+			// スキーマ・カタログをサポートしないデータベース
+			SchemaModel schema = new SchemaModel();
+			schema.setName("");
+			schemas.add(schema);
+		}
+		return schemas;
+	}
+
+	@Override
+	public List<TableModel> getTableList(final SchemaModel schema) throws SQLException {
+		List<TableModel> tables = getTables(schema, null);
+
+		if (bulkMode) {
+			try {
+				parseSchema(schema, tables);
+			} catch (SQLTimeoutException ex) {
+				throw new IntrospectionTimeoutException(ex, tables, tables);
+			}
+		} else {
+			for (int i = 0; i < tables.size(); i++) {
+				try {
+					parseTable(schema, tables.get(i));
+				} catch (SQLTimeoutException ex) {
+					throw new IntrospectionTimeoutException(ex, tables, tables.subList(i, tables.size()));
+				}
+			}
+		}
+		return tables;
+	}
+
+	@Override
+	public TableModel getTable(final SchemaModel schema, final String tableName) throws SQLException {
+		List<TableModel> tables = getTables(schema, tableName);
+		if (tables.isEmpty()) {
+			return null;
+		}
+
+		TableModel table = tables.get(0);
+		parseTable(schema, table);
+		return table;
+	}
+
+	/**
+	 * メタデータからはテーブルのバージョンを取得できない為、<code>null</code>を返す。
+	 */
+	@Override
+	public Map<String, String> getTableVersions(final SchemaModel schema) throws SQLException {
+		return null;
+	}
+
+	/**
+	 * メタデータからはカタログのバージョンを取得できない為、<code>null</code>を返す。
+	 */
+	@Override
+	public String getCatalogVersion() throws SQLException {
+		return null;
+	}
+
+	/**
+	 * 保持しているメタデータを解放する。
+	 * <p>
+	 * コネクションは解放しません。
+	 * </p>
+	 */
+	@Override
+	public void close() {
+		metaData = null;
+		unsupportedMethods.clear();
+		bulkMethods.clear();
+	}
+
+	private DatabaseMetaData getMetaData() throws SQLException {
+		if (cancelled) {
+			throw new SQLException("Introspection cancelled.");
+		}
+		if (0L < deadline && deadline <= System.currentTimeMillis()) {
+			throw new SQLTimeoutException("Introspection deadline exceeded.");
+		}
+		if (null == metaData) {
+			DatabaseMetaData meta = connection.getMetaData();
+			schemaSupport = meta.supportsSchemasInTableDefinitions();
+			catalogSupport = !schemaSupport && meta.supportsCatalogsInTableDefinitions();
+			searchStringEscape = meta.getSearchStringEscape();
+			metaData = meta;
+			debug(String.format("Database metadata.[%s %s] schema=%b catalog=%b", meta.getDatabaseProductName(), meta.getDatabaseProductVersion(),
+					schemaSupport, catalogSupport));
+		}
+		return metaData;
+	}
+
+	/**
+	 * テーブル情報一覧を取得する。
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tableName テーブル名。全てのテーブルを取得する場合、<code>null</code>
+	 * @return テーブル情報一覧
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private List<TableModel> getTables(final SchemaModel schema, final String tableName) throws SQLException {
+		DatabaseMetaData meta = getMetaData();
+		QueryKind kind = (null == tableName) ? QueryKind.TABLE_LIST : QueryKind.TABLE;
+		List<TableModel> tables = new ArrayList<TableModel>();
+
+		long start = System.nanoTime();
+		long rows = 0L;
+		boolean failed = true;
+		ResultSet rs = null;
+		try {
+			// テーブル種別の名称はドライバ毎に異なる(H2 1.4 は TABLE、H2 2.x は BASE TABLE)為、全種別を取得して絞り込む
+			rs = meta.getTables(getCatalog(schema), getSchemaPattern(schema), (null == tableName) ? "%" : escape(tableName), null);
+			while (rs.next()) {
+				rows++;
+				String type = rs.getString("TABLE_TYPE");
+				String name = rs.getString("TABLE_NAME");
+				if (!isTableType(type) || (null != tableName && !tableName.equals(name))) {
+					continue;
+				}
+
+				TableModel table = new TableModel();
+				table.setLabel(intern(name));
+				table.setSchema(schema);
+				table.setName(intern(name));
+				table.setComment(rs.getString("REMARKS"));
+
+				tables.add(table);
+			}
+			failed = false;
+		} finally {
+			release(rs);
+			record(kind, schema.getName(), tableName, start, rows, failed);
+		}
+
+		return tables;
+	}
+
+	private static boolean isTableType(final String type) {
+		return "TABLE".equalsIgnoreCase(type) || "BASE TABLE".equalsIgnoreCase(type);
+	}
+
+	private void parseTable(final SchemaModel schema, final TableModel table) throws SQLException {
+		long start = System.nanoTime();
+		Map<String, TableModel> tableMap = new HashMap<String, TableModel>(2);
+		tableMap.put(table.getName(), table);
+
+		readFields(schema, table.getName(), tableMap);
+		readPrimaryKeys(schema, table.getName(), tableMap);
+		readIndexes(schema, table.getName(), tableMap);
+		readForeignKeys(schema, table.getName(), tableMap);
+
+		if (null != metricsSink) {
+			metricsSink.tableParsed(schema.getName(), table.getName(), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * スキーマに属するテーブルのフィールド・インデックス・外部キー情報を一括で取得する。
+	 * <p>
+	 * 一括取得に対応していない情報はテーブル毎に取得します。
+	 * </p>
+	 * <p>
+	 * 主キー・インデックス・外部キーのメタデータはテーブル名の省略がJDBCの仕様で保証されておらず、SQLite等のドライバは例外をスローせずに空の結果を返します。
+	 * その為、テーブルが存在するのに結果が空の場合は、一括取得で結果を得られたことのないメソッドに限りテーブル毎に取得し直します。
+	 * テーブル毎の取得で結果を得られた場合は、以降もテーブル毎に取得します。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tables テーブル情報一覧
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private void parseSchema(final SchemaModel schema, final List<TableModel> tables) throws SQLException {
+		Map<String, TableModel> tableMap = new HashMap<String, TableModel>(tables.size() * 4 / 3 + 1);
+		for (TableModel table : tables) {
+			tableMap.put(table.getName(), table);
+		}
+
+		if (0L > readFields(schema, null, tableMap)) {
+			for (TableModel table : tables) {
+				readFields(schema, table.getName(), tableMap);
+			}
+		}
+		if (isPerTable("getPrimaryKeys", readPrimaryKeys(schema, null, tableMap), tables)) {
+			long rows = 0L;
+			for (TableModel table : tables) {
+				rows += readPrimaryKeys(schema, table.getName(), tableMap);
+			}
+			verify("getPrimaryKeys", rows);
+		}
+		if (isPerTable("getIndexInfo", readIndexes(schema, null, tableMap), tables)) {
+			long rows = 0L;
+			for (TableModel table : tables) {
+				rows += readIndexes(schema, table.getName(), tableMap);
+			}
+			verify("getIndexInfo", rows);
+		}
+		if (isPerTable("getImportedKeys", readForeignKeys(schema, null, tableMap), tables)) {
+			long rows = 0L;
+			for (TableModel table : tables) {
+				rows += readForeignKeys(schema, table.getName(), tableMap);
+			}
+			verify("getImportedKeys", rows);
+		}
+	}
+
+	/**
+	 * テーブル名を省略したメタデータの呼出し結果から、テーブル毎の取得が必要か判断する。
+	 * 
+	 * @param method メタデータのメソッド名
+	 * @param rows 一括取得で読み込んだ行数。一括取得に対応していない場合、<code>-1</code>
+	 * @param tables テーブル情報一覧
+	 * @return テーブル毎の取得が必要な場合、<code>true</code>
+	 */
+	private boolean isPerTable(final String method, final long rows, final List<TableModel> tables) {
+		if (0L < rows) {
+			bulkMethods.add(method);
+			return false;
+		}
+		return 0L > rows || (!tables.isEmpty() && !bulkMethods.contains(method));
+	}
+
+	/**
+	 * 一括取得の結果が空だった場合に、テーブル毎の取得結果からドライバがテーブル名の省略に対応しているか判断する。
+	 * 
+	 * @param method メタデータのメソッド名
+	 * @param rows テーブル毎の取得で読み込んだ行数
+	 */
+	private void verify(final String method, final long rows) {
+		if (0L < rows && !unsupportedMethods.contains(method)) {
+			unsupportedMethods.add(method);
+			warn(String.format("Bulk metadata returned no rows. Fall back to per table.[%s]", method));
+		}
+	}
+
+	/**
+	 * フィールド情報を取得する。
+	 * <p>
+	 * 結果はテーブル名・カラム順に並んでいます。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tableName テーブル名。スキーマ単位で取得する場合、<code>null</code>
+	 * @param tableMap テーブルマップ
+	 * @return 読み込んだ行数。一括取得に対応していない場合、<code>-1</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private long readFields(final SchemaModel schema, final String tableName, final Map<String, TableModel> tableMap) throws SQLException {
+		QueryKind kind = (null == tableName) ? QueryKind.SCHEMA_FIELD : QueryKind.FIELD;
+		if (null == tableName && unsupportedMethods.contains("getColumns")) {
+			return -1L;
+		}
+
+		long start = System.nanoTime();
+		long rows = 0L;
+		boolean failed = true;
+		ResultSet rs = null;
+		try {
+			rs = getMetaData().getColumns(getCatalog(schema), getSchemaPattern(schema), (null == tableName) ? "%" : escape(tableName), "%");
+			TableModel table = null;
+			while (rs.next()) {
+				rows++;
+				table = findTable(tableMap, table, rs.getString("TABLE_NAME"));
+				if (null != table) {
+					table.addField(toField(rs));
+				}
+			}
+			failed = false;
+		} catch (SQLException ex) {
+			if (null != tableName || 0L < rows || ex instanceof SQLTimeoutException) {
+				throw ex;
+			}
+			unsupported("getColumns", ex);
+			return -1L;
+		} finally {
+			release(rs);
+			record(kind, schema.getName(), tableName, start, rows, failed);
+		}
+		return rows;
+	}
+
+	/**
+	 * 主キー情報を取得する。
+	 * <p>
+	 * 結果はカラム名順に並んでいる為、キー内の順序で並べ替えてからインデックス情報として追加します。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tableName テーブル名。スキーマ単位で取得する場合、<code>null</code>
+	 * @param tableMap テーブルマップ
+	 * @return 読み込んだ行数。一括取得に対応していない場合、<code>-1</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private long readPrimaryKeys(final SchemaModel schema, final String tableName, final Map<String, TableModel> tableMap)
+			throws SQLException {
+		QueryKind kind = (null == tableName) ? QueryKind.SCHEMA_INDEX : QueryKind.INDEX;
+		if (null == tableName && unsupportedMethods.contains("getPrimaryKeys")) {
+			return -1L;
+		}
+
+		Map<TableModel, String> names = new LinkedHashMap<TableModel, String>();
+		Map<TableModel, SortedMap<Integer, String>> fieldNames = new HashMap<TableModel, SortedMap<Integer, String>>();
+
+		long start = System.nanoTime();
+		long rows = 0L;
+		boolean failed = true;
+		ResultSet rs = null;
+		try {
+			rs = getMetaData().getPrimaryKeys(getCatalog(schema), getSchemaName(schema), tableName);
+			TableModel table = null;
+			while (rs.next()) {
+				rows++;
+				table = findTable(tableMap, table, rs.getString("TABLE_NAME"));
+				if (null == table) {
+					continue;
+				}
+				SortedMap<Integer, String> fields = fieldNames.get(table);
+				if (null == fields) {
+					fields = new TreeMap<Integer, String>();
+					fieldNames.put(table, fields);
+					String name = rs.getString("PK_NAME");
+					names.put(table, (null != name) ? name : table.getName() + "_pkey");
+				}
+				fields.put(Integer.valueOf(rs.getInt("KEY_SEQ")), rs.getString("COLUMN_NAME"));
+			}
+			failed = false;
+		} catch (SQLException ex) {
+			if (null != tableName || 0L < rows || ex instanceof SQLTimeoutException) {
+				throw ex;
+			}
+			unsupported("getPrimaryKeys", ex);
+			return -1L;
+		} finally {
+			release(rs);
+			record(kind, schema.getName(), tableName, start, rows, failed);
+		}
+
+		for (Map.Entry<TableModel, String> entry : names.entrySet()) {
+			IndexModel index = new IndexModel();
+			index.setName(intern(entry.getValue()));
+			index.setPrimaryKey(true);
+			index.setUnique(true);
+			for (String fieldName : fieldNames.get(entry.getKey()).values()) {
+				IndexFieldModel field = new IndexFieldModel();
+				field.setName(intern(fieldName));
+				index.addField(field);
+			}
+			entry.getKey().addIndex(index);
+		}
+		return rows;
+	}
+
+	/**
+	 * インデックス情報を取得する。
+	 * <p>
+	 * 結果はユニーク有無・インデックス名・カラム順に並んでいる為、テーブル毎にまとめてから追加します。
+	 * 主キーのインデックスは主キーとして取得済みの為、主キーと同じ名前またはフィールドのユニークインデックスは除外します。
+	 * 統計情報は不要な為、概算値を許可して取得します。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tableName テーブル名。スキーマ単位で取得する場合、<code>null</code>
+	 * @param tableMap テーブルマップ
+	 * @return 読み込んだ行数。一括取得に対応していない場合、<code>-1</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private long readIndexes(final SchemaModel schema, final String tableName, final Map<String, TableModel> tableMap) throws SQLException {
+		QueryKind kind = (null == tableName) ? QueryKind.SCHEMA_INDEX : QueryKind.INDEX;
+		if (null == tableName && unsupportedMethods.contains("getIndexInfo")) {
+			return -1L;
+		}
+
+		Map<TableModel, Map<String, IndexModel>> indexs = new LinkedHashMap<TableModel, Map<String, IndexModel>>();
+
+		long start = System.nanoTime();
+		long rows = 0L;
+		boolean failed = true;
+		ResultSet rs = null;
+		try {
+			rs = getMetaData().getIndexInfo(getCatalog(schema), getSchemaName(schema), tableName, false, true);
+			TableModel table = null;
+			Map<String, IndexModel> indexMap = null;
+			while (rs.next()) {
+				rows++;
+				String name = rs.getString("INDEX_NAME");
+				if (null == name || DatabaseMetaData.tableIndexStatistic == rs.getShort("TYPE")) {
+					continue;
+				}
+				TableModel current = findTable(tableMap, table, rs.getString("TABLE_NAME"));
+				if (null == current) {
+					continue;
+				}
+				if (current != table) {
+					table = current;
+					indexMap = indexs.get(table);
+					if (null == indexMap) {
+						indexMap = new LinkedHashMap<String, IndexModel>();
+						indexs.put(table, indexMap);
+					}
+				}
+
+				IndexModel index = indexMap.get(name);
+				if (null == index) {
+					index = new IndexModel();
+					index.setName(intern(name));
+					index.setPrimaryKey(false);
+					index.setUnique(!rs.getBoolean("NON_UNIQUE"));
+					indexMap.put(name, index);
+				}
+
+				IndexFieldModel field = new IndexFieldModel();
+				field.setName(intern(rs.getString("COLUMN_NAME")));
+				index.addField(field);
+			}
+			failed = false;
+		} catch (SQLException ex) {
+			if (null != tableName || 0L < rows || ex instanceof SQLTimeoutException) {
+				throw ex;
+			}
+			unsupported("getIndexInfo", ex);
+			return -1L;
+		} finally {
+			release(rs);
+			record(kind, schema.getName(), tableName, start, rows, failed);
+		}
+
+		for (Map.Entry<TableModel, Map<String, IndexModel>> entry : indexs.entrySet()) {
+			TableModel table = entry.getKey();
+			IndexModel primary = table.getPrimaryIndex();
+			for (IndexModel index : entry.getValue().values()) {
+				if (null != table.getIndex(index.getName()) || (index.isUnique() && isSameFields(primary, index))) {
+					continue;
+				}
+				table.addIndex(index);
+			}
+		}
+		return rows;
+	}
+
+	private static boolean isSameFields(final IndexModel primary, final IndexModel index) {
+		if (null == primary || primary.getFields().size() != index.getFields().size()) {
+			return false;
+		}
+		for (int i = 0; i < index.getFields().size(); i++) {
+			String name = index.getFields().get(i).getName();
+			if (null == name || !name.equals(primary.getFields().get(i).getName())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 外部キー情報を取得する。
+	 * <p>
+	 * 結果は参照テーブル名・キー内の順序で並んでいます。外部キー名を返さないドライバ(SQLite等)の場合は、テーブル名から外部キー名を生成します。
+	 * </p>
+	 * 
+	 * @param schema スキーマ情報
+	 * @param tableName テーブル名。スキーマ単位で取得する場合、<code>null</code>
+	 * @param tableMap テーブルマップ
+	 * @return 読み込んだ行数。一括取得に対応していない場合、<code>-1</code>
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private long readForeignKeys(final SchemaModel schema, final String tableName, final Map<String, TableModel> tableMap)
+			throws SQLException {
+		QueryKind kind = (null == tableName) ? QueryKind.SCHEMA_FOREIGN_KEY : QueryKind.FOREIGN_KEY;
+		if (null == tableName && unsupportedMethods.contains("getImportedKeys")) {
+			return -1L;
+		}
+
+		long start = System.nanoTime();
+		long rows = 0L;
+		boolean failed = true;
+		ResultSet rs = null;
+		try {
+			rs = getMetaData().getImportedKeys(getCatalog(schema), getSchemaName(schema), tableName);
+			TableModel table = null;
+			while (rs.next()) {
+				rows++;
+				table = findTable(tableMap, table, rs.getString("FKTABLE_NAME"));
+				if (null == table) {
+					continue;
+				}
+
+				String refTableName = rs.getString("PKTABLE_NAME");
+				String name = rs.getString("FK_NAME");
+				if (null == name || 0 == name.length()) {
+					name = table.getName() + "_" + refTableName + "_fkey";
+				}
+
+				ForeignKeyModel foreignKey = table.getForeignKey(name);
+				if (null == foreignKey) {
+					foreignKey = new ForeignKeyModel();
+					foreignKey.setName(intern(name));
+					foreignKey.setReferenceTableName(intern(refTableName));
+					table.addForeignKey(foreignKey);
+				}
+
+				ForeignKeyFeildModel field = new ForeignKeyFeildModel();
+				field.setName(intern(rs.getString("FKCOLUMN_NAME")));
+
+				ForeignKeyFeildModel referenceField = new ForeignKeyFeildModel();
+				referenceField.setName(intern(rs.getString("PKCOLUMN_NAME")));
+
+				foreignKey.addField(field);
+				foreignKey.addReferenceField(referenceField);
+			}
+			failed = false;
+		} catch (SQLException ex) {
+			if (null != tableName || 0L < rows || ex instanceof SQLTimeoutException) {
+				throw ex;
+			}
+			unsupported("getImportedKeys", ex);
+			return -1L;
+		} finally {
+			release(rs);
+			record(kind, schema.getName(), tableName, start, rows, failed);
+		}
+		return rows;
+	}
+
+	private FieldModel toField(final ResultSet rs) throws SQLException {
+		String name = rs.getString("COLUMN_NAME");
+		String type = rs.getString("TYPE_NAME");
+		boolean notnull = DatabaseMetaData.columnNoNulls == rs.getInt("NULLABLE");
+		String def = rs.getString("COLUMN_DEF");
+		String comment = rs.getString("REMARKS");
+		String extra = ("YES".equalsIgnoreCase(getOptionalString(rs, "IS_AUTOINCREMENT"))) ? "auto_increment" : "";
+
+		FieldTypeModel fieldType;
+		if (null != interner) {
+			fieldType = interner.getFieldType(type);
+		} else {
+			fieldType = new FieldTypeModel();
+			fieldType.setLabel(type);
+		}
+
+		FieldModel field = new FieldModel();
+		field.setLabel(intern(name));
+		field.setName(intern(name));
+		field.setType(fieldType);
+		field.setExtra(intern(extra));
+		field.setNotNull(notnull);
+		if (null == def) {
+			field.setDefaultFlag(false);
+		} else {
+			field.setDefaultFlag(true);
+			field.setDefaultValue(def);
+		}
+		field.setComment(comment);
+		return field;
+	}
+
+	/**
+	 * JDBC 4.1 より前のドライバが返さないカラムを取得する。
+	 * 
+	 * @param rs 結果セット
+	 * @param label カラム名
+	 * @return 値。カラムが存在しない場合、<code>null</code>
+	 */
+	private static String getOptionalString(final ResultSet rs, final String label) {
+		try {
+			return rs.getString(label);
+		} catch (SQLException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * 一括取得に対応していないメタデータのメソッドを記録する。
+	 * <p>
+	 * 主キーとインデックスのように同じクエリ種別のメソッドでも、ドライバの対応状況は異なる為、メソッド単位で記録します。
+	 * </p>
+	 * 
+	 * @param method メソッド名
+	 * @param ex 例外
+	 */
+	private void unsupported(final String method, final SQLException ex) {
+		unsupportedMethods.add(method);
+		warn(String.format("Bulk metadata is not supported. Fall back to per table.[%s] %s", method, ex.getMessage()));
+	}
+
+	private String getCatalog(final SchemaModel schema) {
+		return (catalogSupport) ? schema.getName() : null;
+	}
+
+	private String getSchemaName(final SchemaModel schema) {
+		return (schemaSupport) ? schema.getName() : null;
+	}
+
+	private String getSchemaPattern(final SchemaModel schema) {
+		return (schemaSupport) ? escape(schema.getName()) : null;
+	}
+
+	/**
+	 * 名前を検索パターンとして一致するようにエスケープする。
+	 * 
+	 * @param name 名前
+	 * @return 検索パターン
+	 */
+	private String escape(final String name) {
+		if (null == name || null == searchStringEscape || 0 == searchStringEscape.length()) {
+			return name;
+		}
+		StringBuilder s = new StringBuilder(name.length() + 8);
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if ('_' == c || '%' == c) {
+				s.append(searchStringEscape);
+			} else if (name.startsWith(searchStringEscape, i)) {
+				s.append(searchStringEscape);
+			}
+			s.append(c);
+		}
+		return s.toString();
+	}
+
+	private void record(final QueryKind kind, final String schemaName, final String tableName, final long start, final long rows,
+			final boolean failed) {
+		if (null != metricsSink) {
+			metricsSink.queryExecuted(kind, schemaName, tableName, System.nanoTime() - start, rows, failed);
+		}
+	}
+
+	private String intern(final String value) {
+		return (null != interner) ? interner.intern(value) : value;
+	}
+
+	private static TableModel findTable(final Map<String, TableModel> tableMap, final TableModel current, final String name) {
+		if (null != current && current.getName().equals(name)) {
+			return current;
+		}
+		return tableMap.get(name);
+	}
+
+	private void release(final ResultSet rs) {
+		if (null != rs) {
+			try {
+				rs.close();
+			} catch (SQLException ex) {
+				warn(ex);
+			}
+		}
+	}
+}
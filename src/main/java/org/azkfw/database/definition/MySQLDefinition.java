@@ -18,9 +18,22 @@
 package org.azkfw.database.definition;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * このクラスは、MySQLデータベースを定義したクラスです。
+ * <p>
+ * 解析中はカタログ参照時の統計情報の更新を抑止します。
+ * <ul>
+ * <li>MySQL 8.0以降 - <code>information_schema</code> はデータディクショナリを参照し、統計情報のカラムを取得した場合のみ統計情報を更新します。
+ * 解析・バージョンのSQLは統計情報のカラム(<code>update_time</code>、<code>table_rows</code>、<code>cardinality</code> 等)を取得しない為、更新は発生しません。
+ * キャッシュした統計情報でバージョンが変化しなくなる為、セッションの <code>information_schema_stats_expiry</code> は変更しません。</li>
+ * <li>MySQL 5.x / MariaDB - <code>innodb_stats_on_metadata</code> はグローバル変数のみのため変更せず、有効な場合は警告を出力します。</li>
+ * </ul>
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/03/03
@@ -32,6 +45,54 @@ public class MySQLDefinition extends AbstractDatabaseDefinition {
 		super(MySQLDefinition.class, connection);
 	}
 
+	@Override
+	protected void beginIntrospection(final Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		String version = metaData.getDatabaseProductVersion();
+		if (8 <= metaData.getDatabaseMajorVersion() && (null == version || -1 == version.indexOf("MariaDB"))) {
+			// データディクショナリは統計情報のカラムを取得しない限り更新しない
+			return;
+		}
+
+		try {
+			String value = querySetting(connection, "SELECT @@GLOBAL.innodb_stats_on_metadata");
+			if ("1".equals(value) || "ON".equalsIgnoreCase(value)) {
+				warn(String.format("innodb_stats_on_metadata is enabled. Catalog queries refresh InnoDB statistics.[%s]", version));
+			}
+		} catch (SQLException ex) {
+			// 確認できない場合も解析は継続する
+			warn(ex);
+		}
+	}
+
+	private static String querySetting(final Connection connection, final String sql) throws SQLException {
+		Statement stmt = connection.createStatement();
+		try {
+			ResultSet rs = stmt.executeQuery(sql);
+			return (rs.next()) ? rs.getString(1) : null;
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * MySQLのドライバは前方スクロールのみ・読取専用のステートメントにフェッチサイズ {@link Integer#MIN_VALUE} を指定した場合のみ、1行ずつ逐次取得します。
+	 * 結果セットを閉じるまで同じコネクションで他のクエリは実行できません。
+	 */
+	@Override
+	protected int getStreamingFetchSize(final int fetchSize) {
+		return Integer.MIN_VALUE;
+	}
+
+	/**
+	 * MySQLのドライバはストリーミングで逐次取得中のタイムアウトを、エラーコード <code>1317</code>(ER_QUERY_INTERRUPTED)で通知します。
+	 * 実行時間の上限による中断はエラーコード <code>3024</code>(ER_QUERY_TIMEOUT)で通知します。
+	 */
+	@Override
+	protected boolean isQueryTimeout(final SQLException ex) {
+		return super.isQueryTimeout(ex) || 1317 == ex.getErrorCode() || 3024 == ex.getErrorCode();
+	}
+
 	@Override
 	protected String getSchemaSQL() {
 		StringBuilder sql = new StringBuilder();
@@ -41,6 +102,7 @@ public class MySQLDefinition extends AbstractDatabaseDefinition {
 		sql.append("    information_schema.schemata A ");
 		sql.append("WHERE ");
 		sql.append("    NOT A.schema_name IN ('mysql', 'information_schema', 'performance_schema') ");
+		appendSchemaFilter(sql, "A.schema_name");
 		sql.append("ORDER BY ");
 		sql.append("    A.schema_name ");
 		sql.append(";");
@@ -69,8 +131,12 @@ public class MySQLDefinition extends AbstractDatabaseDefinition {
 		sql.append("WHERE ");
 		sql.append("    A.table_schema = ? ");
 		if (table) {
-			sql.append("    A.table_name = ? ");
+			sql.append("AND A.table_name = ? ");
+		} else {
+			appendTableFilter(sql, "A.table_name");
 		}
+		sql.append("ORDER BY ");
+		sql.append("    A.table_name ");
 		sql.append(";");
 		return sql.toString();
 	}
@@ -139,4 +205,184 @@ public class MySQLDefinition extends AbstractDatabaseDefinition {
 		sql.append(";");
 		return sql.toString();
 	}
+
+	@Override
+	protected String getSchemaFieldSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    A.table_name     AS table_name ");
+		sql.append("  , A.column_name    AS label ");
+		sql.append("  , A.column_name    AS name ");
+		sql.append("  , A.column_type    AS type ");
+		sql.append("  , A.extra          AS extra ");
+		sql.append("  , CASE A.is_nullable WHEN 'NO' THEN true ELSE false END AS notnull ");
+		sql.append("  , A.column_default AS 'default' ");
+		sql.append("  , A.column_comment AS comment ");
+		sql.append("FROM ");
+		sql.append("    information_schema.columns A ");
+		sql.append("WHERE ");
+		sql.append("    A.table_schema = ? ");
+		appendTableFilter(sql, "A.table_name");
+		sql.append("ORDER BY ");
+		sql.append("    A.table_name ");
+		sql.append("  , A.ordinal_position ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getSchemaIndexSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    A.table_name  AS table_name ");
+		sql.append("  , A.index_name  AS name ");
+		sql.append("  , A.column_name AS field_name ");
+		sql.append("  , CASE A.non_unique WHEN 0 THEN true ELSE false END AS unique_key ");
+		sql.append("  , CASE A.index_name WHEN 'PRIMARY' THEN true ELSE false END AS primary_key ");
+		sql.append("FROM ");
+		sql.append("    information_schema.STATISTICS A ");
+		sql.append("WHERE ");
+		sql.append("    A.table_schema = ? ");
+		appendTableFilter(sql, "A.table_name");
+		sql.append("ORDER BY ");
+		sql.append("    A.table_name ASC ");
+		sql.append("  , primary_key DESC ");
+		sql.append("  , A.index_name ASC ");
+		sql.append("  , A.seq_in_index ASC ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getSchemaForeignKeySQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    A.table_name              AS table_name ");
+		sql.append("  , A.constraint_name         AS name ");
+		sql.append("  , A.column_name             AS field_name ");
+		sql.append("  , A.referenced_table_name   AS ref_table_name ");
+		sql.append("  , A.referenced_column_name  AS ref_field_name ");
+		sql.append("FROM ");
+		sql.append("    information_schema.KEY_COLUMN_USAGE A ");
+		sql.append("WHERE ");
+		sql.append("    A.table_schema        = ? ");
+		sql.append("AND NOT A.constraint_name = 'PRIMARY' ");
+		appendTableFilter(sql, "A.table_name");
+		sql.append("ORDER BY ");
+		sql.append("    A.table_name ");
+		sql.append("  , A.constraint_name ");
+		sql.append("  , A.ordinal_position ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	/**
+	 * テーブルの作成日時と、フィールド・インデックス・外部キー毎のチェックサムの合計でバージョンを生成します。
+	 * <code>update_time</code> はデータの更新で変化し、MySQL 8.0ではキャッシュした統計情報の為、使用しません。
+	 * チェックサムはテーブル毎の相関サブクエリではなく、スキーマ内をテーブル毎に集計したサブクエリを結合して求めます。
+	 */
+	@Override
+	protected String getTableVersionSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    A.table_name AS name ");
+		sql.append("  , CONCAT( ");
+		sql.append("        IFNULL(A.create_time, '') ");
+		sql.append("      , ':', CRC32(IFNULL(A.table_comment, '')) ");
+		sql.append("      , ':', IFNULL(B.checksum, 0) ");
+		sql.append("      , ':', IFNULL(C.checksum, 0) ");
+		sql.append("      , ':', IFNULL(D.checksum, 0) ");
+		sql.append("    ) AS version ");
+		sql.append("FROM ");
+		sql.append("    information_schema.tables A ");
+		// 最初のバインド変数はスキーマ名
+		sql.append("LEFT OUTER JOIN ( ");
+		sql.append("    SELECT B.table_name, SUM(CRC32(CONCAT_WS('|', B.ordinal_position, B.column_name, B.column_type, B.is_nullable, ");
+		sql.append("        IFNULL(B.column_default, '<null>'), B.extra, IFNULL(B.column_comment, '')))) AS checksum ");
+		sql.append("    FROM information_schema.columns B ");
+		sql.append("    WHERE B.table_schema = ? ");
+		appendTableFilter(sql, "B.table_name");
+		sql.append("    GROUP BY B.table_name ");
+		sql.append(") B ON B.table_name = A.table_name ");
+		sql.append("LEFT OUTER JOIN ( ");
+		sql.append("    SELECT C.table_name, SUM(CRC32(CONCAT_WS('|', C.index_name, C.seq_in_index, C.column_name, C.non_unique))) AS checksum ");
+		sql.append("    FROM information_schema.STATISTICS C ");
+		sql.append("    WHERE C.table_schema = ");
+		appendSchemaParameter(sql);
+		appendTableFilter(sql, "C.table_name");
+		sql.append("    GROUP BY C.table_name ");
+		sql.append(") C ON C.table_name = A.table_name ");
+		sql.append("LEFT OUTER JOIN ( ");
+		sql.append("    SELECT D.table_name, SUM(CRC32(CONCAT_WS('|', D.constraint_name, D.ordinal_position, D.column_name, ");
+		sql.append("        IFNULL(D.referenced_table_name, ''), IFNULL(D.referenced_column_name, '')))) AS checksum ");
+		sql.append("    FROM information_schema.KEY_COLUMN_USAGE D ");
+		sql.append("    WHERE D.table_schema = ");
+		appendSchemaParameter(sql);
+		appendTableFilter(sql, "D.table_name");
+		sql.append("    GROUP BY D.table_name ");
+		sql.append(") D ON D.table_name = A.table_name ");
+		sql.append("WHERE ");
+		sql.append("    A.table_schema = ");
+		appendSchemaParameter(sql);
+		appendTableFilter(sql, "A.table_name");
+		sql.append("ORDER BY ");
+		sql.append("    A.table_name ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	/**
+	 * テーブル・フィールド・インデックス・外部キー毎のチェックサムの合計でバージョンを生成します。
+	 * <code>create_time</code> はテーブルの再作成時のみ変化し、インスタントDDL(MySQL 8.0)によるカラム・インデックスの変更では変化しない為、
+	 * <code>information_schema.columns</code>・<code>STATISTICS</code>・<code>KEY_COLUMN_USAGE</code> の定義も含めます。
+	 * <p>
+	 * MySQLにはPostgreSQLの <code>xmin</code> のようなカタログの変更を表す値が無い為、集計対象をスキーマの絞込み条件に一致するスキーマに限定します。
+	 * 各サブクエリは絞り込んだスキーマの行のみ集計する為、解析しないスキーマの変更ではバージョンは変化しません。
+	 * </p>
+	 */
+	@Override
+	protected String getCatalogVersionSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    CONCAT( ");
+		sql.append("        (SELECT CONCAT(COUNT(*), ':', IFNULL(MAX(A.create_time), ''), ':', IFNULL(SUM(CRC32(CONCAT_WS('|', ");
+		sql.append("            A.table_schema, A.table_name, IFNULL(A.create_time, ''), IFNULL(A.table_comment, '')))), 0)) ");
+		sql.append("         FROM information_schema.tables A ");
+		appendCatalogVersionCondition(sql, "A.table_schema");
+		sql.append("        ) ");
+		sql.append("      , ':' ");
+		sql.append("      , (SELECT CONCAT(COUNT(*), ':', IFNULL(SUM(CRC32(CONCAT_WS('|', ");
+		sql.append("            B.table_schema, B.table_name, B.ordinal_position, B.column_name, B.column_type, B.is_nullable, ");
+		sql.append("            IFNULL(B.column_default, '<null>'), B.extra, IFNULL(B.column_comment, '')))), 0)) ");
+		sql.append("         FROM information_schema.columns B ");
+		appendCatalogVersionCondition(sql, "B.table_schema");
+		sql.append("        ) ");
+		sql.append("      , ':' ");
+		sql.append("      , (SELECT CONCAT(COUNT(*), ':', IFNULL(SUM(CRC32(CONCAT_WS('|', ");
+		sql.append("            C.table_schema, C.table_name, C.index_name, C.seq_in_index, C.column_name, C.non_unique))), 0)) ");
+		sql.append("         FROM information_schema.STATISTICS C ");
+		appendCatalogVersionCondition(sql, "C.table_schema");
+		sql.append("        ) ");
+		sql.append("      , ':' ");
+		sql.append("      , (SELECT CONCAT(COUNT(*), ':', IFNULL(SUM(CRC32(CONCAT_WS('|', ");
+		sql.append("            D.table_schema, D.table_name, D.constraint_name, D.ordinal_position, D.column_name, ");
+		sql.append("            IFNULL(D.referenced_table_name, ''), IFNULL(D.referenced_column_name, '')))), 0)) ");
+		sql.append("         FROM information_schema.KEY_COLUMN_USAGE D ");
+		appendCatalogVersionCondition(sql, "D.table_schema");
+		sql.append("        ) ");
+		sql.append("    ) AS version ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	/**
+	 * カタログのバージョンを集計するスキーマの条件をSQLに追加する。
+	 * 
+	 * @param sql SQL
+	 * @param column スキーマ名のカラム
+	 */
+	private void appendCatalogVersionCondition(final StringBuilder sql, final String column) {
+		sql.append("         WHERE NOT ").append(column).append(" IN ('mysql', 'information_schema', 'performance_schema') ");
+		appendSchemaFilter(sql, column);
+	}
 }
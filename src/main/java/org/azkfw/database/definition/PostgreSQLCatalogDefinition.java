@@ -0,0 +1,278 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * このクラスは、システムカタログ(<code>pg_catalog</code>)からPostgreSQLデータベースを定義したクラスです。
+ * <p>
+ * {@link PostgreSQLDefinition} が参照する <code>information_schema</code> のビューは権限の確認と多数の結合を行うため、
+ * 大きなカタログでは低速です。このクラスは <code>pg_class</code>、<code>pg_attribute</code>、<code>pg_index</code>、
+ * <code>pg_constraint</code>、<code>pg_description</code> をOIDで直接結合します。
+ * </p>
+ * <ul>
+ * <li>テーブル・フィールドのコメントを取得します。</li>
+ * <li>型は <code>format_type</code> で長さ・精度を含めて取得します。</li>
+ * <li>インデックスは主キー以外も取得し、外部キーは参照先のテーブル・フィールドを取得します。</li>
+ * <li>インデックス・外部キーは1行で1つのインデックス・外部キーを表し、フィールド名を配列で返します。</li>
+ * </ul>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public class PostgreSQLCatalogDefinition extends PostgreSQLDefinition {
+
+	/** 対象とするリレーションの種類(テーブル・ビュー・外部テーブル・パーティションテーブル) */
+	private static final String RELATION_KINDS = "('r', 'v', 'f', 'p')";
+
+	public PostgreSQLCatalogDefinition(final Connection connection) {
+		super(connection);
+	}
+
+	/**
+	 * インデックス・外部キーのフィールド名は配列で取得します。
+	 */
+	@Override
+	protected String[] getNames(final ResultSet rs, final String label) throws SQLException {
+		Array array = rs.getArray(label);
+		if (null == array) {
+			return new String[0];
+		}
+		Object[] values = (Object[]) array.getArray();
+		String[] names = new String[values.length];
+		for (int i = 0; i < values.length; i++) {
+			names[i] = (null != values[i]) ? values[i].toString() : null;
+		}
+		return names;
+	}
+
+	@Override
+	protected String getSchemaSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    N.nspname AS name ");
+		sql.append("FROM ");
+		sql.append("    pg_catalog.pg_namespace N ");
+		sql.append("WHERE ");
+		sql.append("    NOT N.nspname LIKE 'pg_%' ");
+		sql.append("AND NOT N.nspname IN ('information_schema') ");
+		appendSchemaFilter(sql, "N.nspname");
+		sql.append("ORDER BY ");
+		sql.append("    N.nspname ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getTableListSQL() {
+		return getTableSQL(false);
+	}
+
+	@Override
+	protected String getTableSQL() {
+		return getTableSQL(true);
+	}
+
+	private String getTableSQL(final boolean table) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    N.nspname AS schema ");
+		sql.append("  , C.relname AS label ");
+		sql.append("  , C.relname AS name ");
+		sql.append("  , COALESCE(D.description, '') AS comment ");
+		sql.append("FROM ");
+		sql.append("    pg_catalog.pg_class C ");
+		sql.append("    INNER JOIN pg_catalog.pg_namespace N ");
+		sql.append("    ON N.oid = C.relnamespace ");
+		sql.append("    LEFT OUTER JOIN pg_catalog.pg_description D ");
+		sql.append("    ON D.objoid = C.oid ");
+		sql.append("    AND D.classoid = 'pg_catalog.pg_class'::regclass ");
+		sql.append("    AND D.objsubid = 0 ");
+		sql.append("WHERE ");
+		sql.append("    N.nspname = ? ");
+		sql.append("AND C.relkind IN ").append(RELATION_KINDS).append(" ");
+		if (table) {
+			sql.append("AND C.relname = ? ");
+		} else {
+			appendTableFilter(sql, "C.relname");
+		}
+		sql.append("ORDER BY ");
+		sql.append("    C.relname ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getFieldSQL() {
+		return getFieldSQL(false);
+	}
+
+	@Override
+	protected String getSchemaFieldSQL() {
+		return getFieldSQL(true);
+	}
+
+	private String getFieldSQL(final boolean schema) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    C.relname AS table_name ");
+		sql.append("  , A.attname AS label ");
+		sql.append("  , A.attname AS name ");
+		sql.append("  , pg_catalog.format_type(A.atttypid, A.atttypmod) AS type ");
+		sql.append("  , '' AS extra ");
+		sql.append("  , A.attnotnull AS notnull ");
+		sql.append("  , pg_catalog.pg_get_expr(F.adbin, F.adrelid) AS default ");
+		sql.append("  , COALESCE(D.description, '') AS comment ");
+		sql.append("FROM ");
+		sql.append("    pg_catalog.pg_attribute A ");
+		sql.append("    INNER JOIN pg_catalog.pg_class C ");
+		sql.append("    ON C.oid = A.attrelid ");
+		sql.append("    INNER JOIN pg_catalog.pg_namespace N ");
+		sql.append("    ON N.oid = C.relnamespace ");
+		sql.append("    LEFT OUTER JOIN pg_catalog.pg_attrdef F ");
+		sql.append("    ON F.adrelid = A.attrelid ");
+		sql.append("    AND F.adnum = A.attnum ");
+		sql.append("    LEFT OUTER JOIN pg_catalog.pg_description D ");
+		sql.append("    ON D.objoid = A.attrelid ");
+		sql.append("    AND D.classoid = 'pg_catalog.pg_class'::regclass ");
+		sql.append("    AND D.objsubid = A.attnum ");
+		sql.append("WHERE ");
+		sql.append("    N.nspname = ? ");
+		if (schema) {
+			sql.append("AND C.relkind IN ").append(RELATION_KINDS).append(" ");
+			appendTableFilter(sql, "C.relname");
+		} else {
+			sql.append("AND C.relname = ? ");
+		}
+		sql.append("AND A.attnum > 0 ");
+		sql.append("AND NOT A.attisdropped ");
+		sql.append("ORDER BY ");
+		sql.append("    C.relname ");
+		sql.append("  , A.attnum ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getIndexSQL() {
+		return getIndexSQL(false);
+	}
+
+	@Override
+	protected String getSchemaIndexSQL() {
+		return getIndexSQL(true);
+	}
+
+	private String getIndexSQL(final boolean schema) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    C.relname AS table_name ");
+		sql.append("  , I.relname AS name ");
+		sql.append("  , ARRAY( ");
+		sql.append("        SELECT A.attname ");
+		sql.append("        FROM pg_catalog.generate_subscripts(X.indkey, 1) AS S(i) ");
+		sql.append("        INNER JOIN pg_catalog.pg_attribute A ");
+		sql.append("        ON A.attrelid = X.indrelid ");
+		sql.append("        AND A.attnum = X.indkey[S.i] ");
+		sql.append("        ORDER BY S.i ");
+		sql.append("    ) AS field_name ");
+		sql.append("  , X.indisunique AS unique_key ");
+		sql.append("  , X.indisprimary AS primary_key ");
+		sql.append("FROM ");
+		sql.append("    pg_catalog.pg_index X ");
+		sql.append("    INNER JOIN pg_catalog.pg_class C ");
+		sql.append("    ON C.oid = X.indrelid ");
+		sql.append("    INNER JOIN pg_catalog.pg_namespace N ");
+		sql.append("    ON N.oid = C.relnamespace ");
+		sql.append("    INNER JOIN pg_catalog.pg_class I ");
+		sql.append("    ON I.oid = X.indexrelid ");
+		sql.append("WHERE ");
+		sql.append("    N.nspname = ? ");
+		if (schema) {
+			appendTableFilter(sql, "C.relname");
+		} else {
+			sql.append("AND C.relname = ? ");
+		}
+		sql.append("ORDER BY ");
+		sql.append("    C.relname ");
+		sql.append("  , X.indisprimary DESC ");
+		sql.append("  , I.relname ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getForeignKeySQL() {
+		return getForeignKeySQL(false);
+	}
+
+	@Override
+	protected String getSchemaForeignKeySQL() {
+		return getForeignKeySQL(true);
+	}
+
+	private String getForeignKeySQL(final boolean schema) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    C.relname AS table_name ");
+		sql.append("  , O.conname AS name ");
+		sql.append("  , ARRAY( ");
+		sql.append("        SELECT A.attname ");
+		sql.append("        FROM pg_catalog.generate_subscripts(O.conkey, 1) AS S(i) ");
+		sql.append("        INNER JOIN pg_catalog.pg_attribute A ");
+		sql.append("        ON A.attrelid = O.conrelid ");
+		sql.append("        AND A.attnum = O.conkey[S.i] ");
+		sql.append("        ORDER BY S.i ");
+		sql.append("    ) AS field_name ");
+		sql.append("  , R.relname AS ref_table_name ");
+		sql.append("  , ARRAY( ");
+		sql.append("        SELECT A.attname ");
+		sql.append("        FROM pg_catalog.generate_subscripts(O.confkey, 1) AS S(i) ");
+		sql.append("        INNER JOIN pg_catalog.pg_attribute A ");
+		sql.append("        ON A.attrelid = O.confrelid ");
+		sql.append("        AND A.attnum = O.confkey[S.i] ");
+		sql.append("        ORDER BY S.i ");
+		sql.append("    ) AS ref_field_name ");
+		sql.append("FROM ");
+		sql.append("    pg_catalog.pg_constraint O ");
+		sql.append("    INNER JOIN pg_catalog.pg_class C ");
+		sql.append("    ON C.oid = O.conrelid ");
+		sql.append("    INNER JOIN pg_catalog.pg_namespace N ");
+		sql.append("    ON N.oid = C.relnamespace ");
+		sql.append("    INNER JOIN pg_catalog.pg_class R ");
+		sql.append("    ON R.oid = O.confrelid ");
+		sql.append("WHERE ");
+		sql.append("    O.contype = 'f' ");
+		sql.append("AND N.nspname = ? ");
+		if (schema) {
+			appendTableFilter(sql, "C.relname");
+		} else {
+			sql.append("AND C.relname = ? ");
+		}
+		sql.append("ORDER BY ");
+		sql.append("    C.relname ");
+		sql.append("  , O.conname ");
+		sql.append(";");
+		return sql.toString();
+	}
+}
@@ -18,6 +18,11 @@
 package org.azkfw.database.definition;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.List;
 
 /**
  * このクラスは、PostgreSQLデータベースを定義したクラスです。
@@ -28,8 +33,96 @@ import java.sql.Connection;
  */
 public class PostgreSQLDefinition extends AbstractDatabaseDefinition {
 
+	/** ストリーミング終了時に自動コミットを戻すか */
+	private boolean restoreAutoCommit;
+
+	/** 実行中のクエリの前に設定したセーブポイント */
+	private Savepoint savepoint;
+
 	public PostgreSQLDefinition(final Connection connection) {
 		super(PostgreSQLDefinition.class, connection);
+		restoreAutoCommit = false;
+		savepoint = null;
+	}
+
+	/**
+	 * PostgreSQLのドライバは自動コミットが無効な場合のみカーソルで逐次取得するため、自動コミットを無効にします。
+	 */
+	@Override
+	protected void beginStreaming(final Connection connection) throws SQLException {
+		if (connection.getAutoCommit()) {
+			connection.setAutoCommit(false);
+			restoreAutoCommit = true;
+		}
+	}
+
+	@Override
+	protected void endStreaming(final Connection connection) throws SQLException {
+		if (restoreAutoCommit) {
+			restoreAutoCommit = false;
+			// 参照のみのトランザクションを終了する
+			connection.rollback();
+			connection.setAutoCommit(true);
+		}
+	}
+
+	/**
+	 * 呼出し元のトランザクション内で実行する場合、クエリ前にセーブポイントを設定します。
+	 */
+	@Override
+	protected ResultSet execute(final PreparedStatement ps) throws SQLException {
+		Connection connection = ps.getConnection();
+		if (!restoreAutoCommit && !connection.getAutoCommit()) {
+			savepoint = connection.setSavepoint();
+		}
+		return super.execute(ps);
+	}
+
+	/**
+	 * PostgreSQLはエラー(タイムアウトによる取消しを含む)でトランザクションを中断し、以降のクエリは SQLState <code>25P02</code> で失敗します。
+	 * 自動コミットが無効な場合、実行または結果の読込(カーソルでの逐次取得)のエラー時にロールバックして後続のクエリを実行できるようにします。
+	 * ストリーミングで開始した参照のみのトランザクションはロールバックし、呼出し元のトランザクションはクエリ前に設定したセーブポイントまでロールバックします。
+	 */
+	@Override
+	protected void endQuery(final Connection connection, final boolean failed) throws SQLException {
+		Savepoint current = savepoint;
+		savepoint = null;
+		if (null != current) {
+			if (failed) {
+				connection.rollback(current);
+			} else {
+				connection.releaseSavepoint(current);
+			}
+		} else if (failed && restoreAutoCommit) {
+			connection.rollback();
+		}
+	}
+
+	/**
+	 * PostgreSQLのドライバはタイムアウトによる取消しをSQLState <code>57014</code>(query_canceled)で通知します。
+	 */
+	@Override
+	protected boolean isQueryTimeout(final SQLException ex) {
+		return super.isQueryTimeout(ex) || "57014".equals(ex.getSQLState());
+	}
+
+	/**
+	 * 名前の数によらずSQLが変わらないよう、配列のバインド変数 <code>= ANY(?)</code> で比較します。
+	 */
+	@Override
+	protected void appendNameCondition(final StringBuilder sql, final String expression, final int count) {
+		sql.append(expression).append(" = ANY(?)");
+	}
+
+	@Override
+	protected void appendPatternCondition(final StringBuilder sql, final String expression, final int count) {
+		sql.append(expression).append(" LIKE ANY(?)");
+	}
+
+	@Override
+	protected int bindFilterValues(final PreparedStatement ps, final int index, final List<String> values) throws SQLException {
+		ps.setArray(index, ps.getConnection().createArrayOf("varchar", values.toArray()));
+		return index + 1;
 	}
 
 	@Override
@@ -42,6 +135,7 @@ public class PostgreSQLDefinition extends AbstractDatabaseDefinition {
 		sql.append("WHERE ");
 		sql.append("    NOT schema_name like 'pg_%' ");
 		sql.append("AND NOT schema_name in ('information_schema') ");
+		appendSchemaFilter(sql, "A.schema_name");
 		sql.append("ORDER BY ");
 		sql.append("    A.schema_name ");
 		sql.append(";");
@@ -71,6 +165,8 @@ public class PostgreSQLDefinition extends AbstractDatabaseDefinition {
 		sql.append("    A.table_schema = ? ");
 		if (table) {
 			sql.append("AND A.table_name = ? ");
+		} else {
+			appendTableFilter(sql, "A.table_name");
 		}
 		sql.append("ORDER BY ");
 		sql.append("    A.table_name ");
@@ -185,4 +281,120 @@ public class PostgreSQLDefinition extends AbstractDatabaseDefinition {
 		sql.append("");
 		return sql.toString();
 	}
+
+	@Override
+	protected String getSchemaFieldSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    A.table_name     AS table_name ");
+		sql.append("  , A.column_name    AS label ");
+		sql.append("  , A.column_name    AS name ");
+		sql.append("  , A.data_type      AS type ");
+		sql.append("  , ''               AS extra ");
+		sql.append("  , CASE A.is_nullable WHEN 'NO' THEN true ELSE false END AS notnull ");
+		sql.append("  , A.column_default AS default ");
+		sql.append("  , ''               AS comment ");
+		sql.append("FROM ");
+		sql.append("    information_schema.columns A ");
+		sql.append("WHERE ");
+		sql.append("    A.table_schema = ? ");
+		appendTableFilter(sql, "A.table_name");
+		sql.append("ORDER BY ");
+		sql.append("    A.table_name ");
+		sql.append("  , A.ordinal_position ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getSchemaIndexSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    tc.table_name       AS table_name ");
+		sql.append("  , kcu.constraint_name AS name ");
+		sql.append("  , kcu.column_name     AS field_name ");
+		sql.append("  , true AS  unique_key ");
+		sql.append("  , true AS  primary_key ");
+		sql.append("FROM ");
+		sql.append("    INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc ");
+		sql.append("    INNER JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu ");
+		sql.append("    ON kcu.table_catalog = tc.table_catalog ");
+		sql.append("    AND kcu.table_schema = tc.table_schema ");
+		sql.append("    AND kcu.table_name = tc.table_name ");
+		sql.append("    AND kcu.constraint_name = tc.constraint_name ");
+		sql.append("WHERE ");
+		sql.append("    tc.constraint_type = 'PRIMARY KEY' ");
+		sql.append("AND tc.table_schema = ? ");
+		appendTableFilter(sql, "tc.table_name");
+		sql.append("ORDER BY ");
+		sql.append("    tc.table_name ");
+		sql.append("  , kcu.constraint_name ");
+		sql.append("  , kcu.ordinal_position ");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getSchemaForeignKeySQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    tc.table_name       AS table_name ");
+		sql.append("  , kcu.constraint_name AS name ");
+		sql.append("  , kcu.column_name     AS field_name ");
+		sql.append("  , '' AS  ref_table_name ");
+		sql.append("  , '' AS  ref_field_name ");
+		sql.append("FROM ");
+		sql.append("    INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc ");
+		sql.append("    INNER JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu ");
+		sql.append("    ON kcu.table_catalog = tc.table_catalog ");
+		sql.append("    AND kcu.table_schema = tc.table_schema ");
+		sql.append("    AND kcu.table_name = tc.table_name ");
+		sql.append("    AND kcu.constraint_name = tc.constraint_name ");
+		sql.append("WHERE ");
+		sql.append("    tc.constraint_type = 'FOREIGN KEY' ");
+		sql.append("AND tc.table_schema = ? ");
+		appendTableFilter(sql, "tc.table_name");
+		sql.append("ORDER BY ");
+		sql.append("    tc.table_name ");
+		sql.append("  , kcu.constraint_name ");
+		sql.append("  , kcu.ordinal_position ");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getTableVersionSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("    C.relname AS name ");
+		sql.append("  , C.oid || ':' || C.xmin ");
+		sql.append("    || ':' || COALESCE((SELECT max(A.xmin::text::bigint) FROM pg_catalog.pg_attribute A WHERE A.attrelid = C.oid), 0) ");
+		sql.append("    || ':' || COALESCE((SELECT sum(I.indexrelid::bigint) FROM pg_catalog.pg_index I WHERE I.indrelid = C.oid), 0) ");
+		sql.append("    || ':' || COALESCE((SELECT sum(O.oid::bigint) FROM pg_catalog.pg_constraint O WHERE O.conrelid = C.oid), 0) ");
+		sql.append("    || ':' || COALESCE((SELECT max(D.xmin::text::bigint) FROM pg_catalog.pg_description D WHERE D.objoid = C.oid), 0) ");
+		sql.append("    AS version ");
+		sql.append("FROM ");
+		sql.append("    pg_catalog.pg_class C ");
+		sql.append("    INNER JOIN pg_catalog.pg_namespace N ");
+		sql.append("    ON N.oid = C.relnamespace ");
+		sql.append("WHERE ");
+		sql.append("    N.nspname = ? ");
+		sql.append("AND C.relkind IN ('r', 'v', 'f', 'p') ");
+		appendTableFilter(sql, "C.relname");
+		sql.append("ORDER BY ");
+		sql.append("    C.relname ");
+		sql.append(";");
+		return sql.toString();
+	}
+
+	@Override
+	protected String getCatalogVersionSQL() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append("       (SELECT count(*) || ':' || COALESCE(max(xmin::text::bigint), 0) FROM pg_catalog.pg_class) ");
+		sql.append("    || ':' || (SELECT COALESCE(max(xmin::text::bigint), 0) FROM pg_catalog.pg_attribute) ");
+		sql.append("    || ':' || (SELECT count(*) || ':' || COALESCE(max(xmin::text::bigint), 0) FROM pg_catalog.pg_constraint) ");
+		sql.append("    || ':' || (SELECT count(*) || ':' || COALESCE(max(xmin::text::bigint), 0) FROM pg_catalog.pg_description) ");
+		sql.append("    AS version ");
+		sql.append(";");
+		return sql.toString();
+	}
 }
@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+/**
+ * この列挙型は、データベース定義を取得するクエリの種別を表現する列挙型です。
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public enum QueryKind {
+
+	/** スキーマ一覧 */
+	SCHEMA,
+
+	/** テーブル一覧 */
+	TABLE_LIST,
+
+	/** テーブル */
+	TABLE,
+
+	/** フィールド(テーブル単位) */
+	FIELD,
+
+	/** インデックス(テーブル単位) */
+	INDEX,
+
+	/** 外部キー(テーブル単位) */
+	FOREIGN_KEY,
+
+	/** フィールド(スキーマ単位) */
+	SCHEMA_FIELD,
+
+	/** インデックス(スキーマ単位) */
+	SCHEMA_INDEX,
+
+	/** 外部キー(スキーマ単位) */
+	SCHEMA_FOREIGN_KEY,
+
+	/** テーブルバージョン */
+	TABLE_VERSION,
+
+	/** カタログバージョン */
+	CATALOG_VERSION;
+}
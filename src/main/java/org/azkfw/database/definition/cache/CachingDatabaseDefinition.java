@@ -0,0 +1,250 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.cache;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.azkfw.database.definition.DatabaseDefinition;
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.azkfw.lang.LoggingObject;
+
+/**
+ * このクラスは、{@link CatalogCache} を使用してデータベース定義の取得結果をキャッシュするクラスです。
+ * <p>
+ * キャッシュしたテーブル情報は凍結したインスタンス({@link DatabaseModel#freeze()})として複数の解析で共有する為、変更できません。
+ * 遅延読込のテーブルは凍結時に読み込みます。
+ * </p>
+ * <p>
+ * {@link #getTableVersions(SchemaModel)} を呼び出した場合、取得したバージョンとキャッシュしたテーブルのバージョンを比較し、
+ * 変更・削除されたテーブルのエントリを破棄します。
+ * </p>
+ * <p>
+ * テーブル一覧はテーブル名のみを保持し、テーブル情報はテーブル毎のエントリから取得します。
+ * スキーマのテーブル情報の重みの合計がキャッシュの上限を超える場合、保持しても直ちに破棄される為、テーブル毎のエントリは保持しません。
+ * 破棄されたテーブルが複数ある場合はテーブル一覧を1回で取得し直し、1件のみの場合はそのテーブルのみ取得します。
+ * </p>
+ * <p>
+ * キャッシュのキーはデータベースの識別文字列・スキーマ名・テーブル名です。
+ * フィルタ等により取得結果が異なるデータベース定義は、異なる識別文字列またはキャッシュを使用してください。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class CachingDatabaseDefinition extends LoggingObject implements DatabaseDefinition {
+
+	/** データベース定義 */
+	private final DatabaseDefinition definition;
+
+	/** キャッシュ */
+	private final CatalogCache cache;
+
+	/** データベースの識別文字列 */
+	private final String database;
+
+	/** 取得したテーブルのバージョン(スキーマ名毎) */
+	private final Map<String, Map<String, String>> versions;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param definition データベース定義
+	 * @param cache キャッシュ
+	 * @param database データベースの識別文字列({@link CatalogCache#getDatabaseId(java.sql.Connection)})。
+	 *            絞込み条件等、取得結果が異なるデータベース定義でキャッシュを共有する場合、それらを区別する文字列を付加すること
+	 */
+	public CachingDatabaseDefinition(final DatabaseDefinition definition, final CatalogCache cache, final String database) {
+		super(CachingDatabaseDefinition.class);
+		this.definition = definition;
+		this.cache = cache;
+		this.database = database;
+		this.versions = new ConcurrentHashMap<String, Map<String, String>>();
+	}
+
+	/**
+	 * データベース定義を取得する。
+	 * 
+	 * @return データベース定義
+	 */
+	public DatabaseDefinition getDefinition() {
+		return definition;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<SchemaModel> getSchemaList() throws SQLException {
+		Object value = cache.get(new CatalogCache.Key(database, null, null), new Callable<Object>() {
+			@Override
+			public Object call() throws SQLException {
+				return Collections.unmodifiableList(new ArrayList<SchemaModel>(definition.getSchemaList()));
+			}
+		});
+		return new ArrayList<SchemaModel>((List<SchemaModel>) value);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<TableModel> getTableList(final SchemaModel schema) throws SQLException {
+		final String schemaName = getSchemaName(schema);
+		final List<List<TableModel>> loaded = new ArrayList<List<TableModel>>(1);
+		Object value = cache.get(new CatalogCache.Key(database, schemaName, null), new Callable<Object>() {
+			@Override
+			public Object call() throws SQLException {
+				List<TableModel> tables = freeze(definition.getTableList(schema), versions.get(schemaName));
+				boolean fits = cache.fits(tables);
+				List<String> names = new ArrayList<String>(tables.size());
+				for (TableModel table : tables) {
+					if (fits) {
+						cache.put(new CatalogCache.Key(database, schemaName, table.getName()), table);
+					}
+					names.add(table.getName());
+				}
+				loaded.add(tables);
+				return Collections.unmodifiableList(names);
+			}
+		});
+
+		List<String> names = (List<String>) value;
+		List<TableModel> tables = new ArrayList<TableModel>(names.size());
+		List<Integer> misses = new ArrayList<Integer>();
+		for (String name : names) {
+			Object table = cache.getIfPresent(new CatalogCache.Key(database, schemaName, name));
+			if (null == table) {
+				misses.add(tables.size());
+			}
+			tables.add((table instanceof TableModel) ? (TableModel) table : null);
+		}
+
+		if (!misses.isEmpty()) {
+			// 破棄されたテーブルが複数ある場合はテーブル一覧から取得する
+			Map<String, TableModel> reloaded = null;
+			if (!loaded.isEmpty() || 1 < misses.size()) {
+				List<TableModel> list = (loaded.isEmpty()) ? freeze(definition.getTableList(schema), versions.get(schemaName)) : loaded.get(0);
+				reloaded = new HashMap<String, TableModel>(list.size() * 4 / 3 + 1);
+				for (TableModel table : list) {
+					reloaded.put(table.getName(), table);
+				}
+			}
+			for (Integer index : misses) {
+				String name = names.get(index);
+				tables.set(index, (null != reloaded) ? reloaded.get(name) : getTable(schema, name));
+			}
+		}
+
+		for (Iterator<TableModel> it = tables.iterator(); it.hasNext();) {
+			if (null == it.next()) {
+				it.remove();
+			}
+		}
+		return tables;
+	}
+
+	@Override
+	public TableModel getTable(final SchemaModel schema, final String tableName) throws SQLException {
+		final String schemaName = getSchemaName(schema);
+		Object value = cache.get(new CatalogCache.Key(database, schemaName, tableName), new Callable<Object>() {
+			@Override
+			public Object call() throws SQLException {
+				TableModel table = definition.getTable(schema, tableName);
+				if (null == table) {
+					return CatalogCache.NULL;
+				}
+				return freeze(Collections.singletonList(table), versions.get(schemaName)).get(0);
+			}
+		});
+		return (value instanceof TableModel) ? (TableModel) value : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Map<String, String> getTableVersions(final SchemaModel schema) throws SQLException {
+		Map<String, String> result = definition.getTableVersions(schema);
+		if (null == result) {
+			return null;
+		}
+
+		String schemaName = getSchemaName(schema);
+		versions.put(schemaName, result);
+
+		CatalogCache.Key namesKey = new CatalogCache.Key(database, schemaName, null);
+		Object names = cache.getIfPresent(namesKey);
+		if (names instanceof List && !new HashSet<String>((List<String>) names).equals(result.keySet())) {
+			debug(String.format("Invalidate table list.[%s]", schemaName));
+			cache.invalidate(namesKey);
+		}
+		if (names instanceof List) {
+			for (String name : (List<String>) names) {
+				CatalogCache.Key key = new CatalogCache.Key(database, schemaName, name);
+				Object table = cache.getIfPresent(key);
+				if (table instanceof TableModel && !equals(result.get(name), ((TableModel) table).getVersion())) {
+					debug(String.format("Invalidate table.[%s.%s]", schemaName, name));
+					cache.invalidate(key);
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String getCatalogVersion() throws SQLException {
+		return definition.getCatalogVersion();
+	}
+
+	@Override
+	public void close() {
+		definition.close();
+	}
+
+	/**
+	 * テーブル情報を凍結する。
+	 * 
+	 * @param tables テーブル情報一覧
+	 * @param versions テーブルのバージョン。取得していない場合、<code>null</code>
+	 * @return 凍結したテーブル情報一覧
+	 */
+	private static List<TableModel> freeze(final List<TableModel> tables, final Map<String, String> versions) {
+		DatabaseModel model = new DatabaseModel();
+		for (TableModel table : tables) {
+			if (null != versions && !table.isFrozen()) {
+				table.setVersion(versions.get(table.getName()));
+			}
+			model.addTable(table);
+		}
+		return model.freeze().getTables();
+	}
+
+	private static String getSchemaName(final SchemaModel schema) {
+		return (null != schema && null != schema.getName()) ? schema.getName() : "";
+	}
+
+	private static boolean equals(final String a, final String b) {
+		return (null == a) ? null == b : a.equals(b);
+	}
+}
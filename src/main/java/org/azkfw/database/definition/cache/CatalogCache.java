@@ -0,0 +1,560 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.cache;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このクラスは、同一JVM内で共有するカタログ情報のキャッシュクラスです。
+ * <p>
+ * データベース・スキーマ・テーブル毎に {@link CachingDatabaseDefinition} が取得した定義を保持します。
+ * 同じキーの読込が同時に発生した場合、1つのスレッドのみがデータベースから取得し、他のスレッドはその結果を待ちます。
+ * </p>
+ * <p>
+ * 保持期間を超過したエントリは次の参照時に再取得します。エントリの重み(テーブルはカラム数)の合計が上限を超えた場合、参照が古いエントリから破棄します。
+ * 破棄は上限の3/4まで行い、上限付近で読込の度に破棄が発生しないようにします。
+ * </p>
+ * <p>
+ * 参照順序は読込済みのエントリを参照の古い順に連結したリストで管理します。破棄は先頭から必要な件数のみ辿る為、エントリ数によらず破棄する件数に比例した時間で完了します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class CatalogCache {
+
+	/** 取得できなかった(存在しない)ことを表す値 */
+	static final Object NULL = new Object();
+
+	/** 保持期間(ミリ秒) */
+	private final long ttl;
+
+	/** 重みの上限 */
+	private final long maxWeight;
+
+	/** エントリ */
+	private final ConcurrentMap<Key, Entry> entries;
+
+	/** 重みの合計 */
+	private final AtomicLong weight;
+
+	/** 読込済みのエントリ(参照が古い順)。参照順序の更新・破棄はこのインスタンスで同期する */
+	private final LinkedHashMap<Key, Entry> lru;
+
+	/** ヒット数 */
+	private final AtomicLong hitCount;
+
+	/** ミス数 */
+	private final AtomicLong missCount;
+
+	/** 読込数 */
+	private final AtomicLong loadCount;
+
+	/** 破棄数 */
+	private final AtomicLong evictionCount;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param ttl 保持期間(ミリ秒)。期限を設けない場合、0
+	 * @param maxWeight 重みの上限。上限を設けない場合、0
+	 */
+	public CatalogCache(final long ttl, final long maxWeight) {
+		this.ttl = ttl;
+		this.maxWeight = maxWeight;
+		this.entries = new ConcurrentHashMap<Key, Entry>();
+		this.weight = new AtomicLong();
+		this.lru = new LinkedHashMap<Key, Entry>();
+		this.hitCount = new AtomicLong();
+		this.missCount = new AtomicLong();
+		this.loadCount = new AtomicLong();
+		this.evictionCount = new AtomicLong();
+	}
+
+	/**
+	 * コネクションの接続先を識別する文字列を取得する。
+	 * <p>
+	 * 接続URLとユーザ名から生成します。同じデータベースに接続したコネクションは同じ文字列になります。
+	 * </p>
+	 * 
+	 * @param connection コネクション
+	 * @return 識別文字列
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public static String getDatabaseId(final Connection connection) throws SQLException {
+		DatabaseMetaData meta = connection.getMetaData();
+		return meta.getURL() + "#" + meta.getUserName();
+	}
+
+	/**
+	 * ヒット数を取得する。
+	 * 
+	 * @return ヒット数
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * ミス数を取得する。
+	 * 
+	 * @return ミス数
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * データベースからの読込数を取得する。
+	 * <p>
+	 * 同時に発生したミスは1回の読込となる為、ミス数以下になります。
+	 * </p>
+	 * 
+	 * @return 読込数
+	 */
+	public long getLoadCount() {
+		return loadCount.get();
+	}
+
+	/**
+	 * 重みの上限により破棄したエントリ数を取得する。
+	 * 
+	 * @return 破棄数
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * 重みの合計を取得する。
+	 * 
+	 * @return 重み
+	 */
+	public long getWeight() {
+		return weight.get();
+	}
+
+	/**
+	 * エントリ数を取得する。
+	 * 
+	 * @return エントリ数
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * データベースのエントリを全て破棄する。
+	 * 
+	 * @param database データベースの識別文字列
+	 */
+	public void invalidate(final String database) {
+		for (Map.Entry<Key, Entry> e : entries.entrySet()) {
+			if (database.equals(e.getKey().database)) {
+				remove(e.getKey(), e.getValue());
+			}
+		}
+	}
+
+	/**
+	 * 全てのエントリを破棄する。
+	 */
+	public void invalidateAll() {
+		for (Map.Entry<Key, Entry> e : entries.entrySet()) {
+			remove(e.getKey(), e.getValue());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CatalogCache[size=%d, weight=%d, hit=%d, miss=%d, load=%d, eviction=%d]", size(), getWeight(), getHitCount(),
+				getMissCount(), getLoadCount(), getEvictionCount());
+	}
+
+	/**
+	 * エントリを取得する。
+	 * <p>
+	 * エントリが存在しない場合、保持期間を超過した場合は読込処理で取得して保持します。読込中のエントリは読込の完了を待ちます。
+	 * </p>
+	 * 
+	 * @param key キー
+	 * @param loader 読込処理
+	 * @return 値。存在しない場合、{@link #NULL}
+	 * @throws SQLException 読込に失敗した場合
+	 */
+	Object get(final Key key, final Callable<Object> loader) throws SQLException {
+		while (true) {
+			long now = System.currentTimeMillis();
+			Entry entry = entries.get(key);
+			if (null != entry) {
+				if (!entry.isExpired(now)) {
+					hitCount.incrementAndGet();
+					touch(key, entry);
+					return entry.get();
+				}
+				remove(key, entry);
+			}
+
+			Entry loading = new Entry(loader);
+			if (null != entries.putIfAbsent(key, loading)) {
+				// 他のスレッドが読込を開始した
+				continue;
+			}
+			missCount.incrementAndGet();
+			loadCount.incrementAndGet();
+
+			loading.task.run();
+			try {
+				Object value = loading.get();
+				loaded(key, loading, value);
+				return value;
+			} catch (SQLException ex) {
+				remove(key, loading);
+				throw ex;
+			} catch (RuntimeException ex) {
+				remove(key, loading);
+				throw ex;
+			}
+		}
+	}
+
+	/**
+	 * 保持期間内のエントリを取得する。
+	 * <p>
+	 * 読込中・読込に失敗したエントリは存在しないものとします。ヒット数・ミス数には計上しませんが、参照順序は更新します。
+	 * </p>
+	 * 
+	 * @param key キー
+	 * @return 値。エントリが存在しない場合、<code>null</code>
+	 */
+	Object getIfPresent(final Key key) {
+		Entry entry = entries.get(key);
+		if (null == entry || !entry.task.isDone() || entry.isExpired(System.currentTimeMillis())) {
+			return null;
+		}
+		try {
+			Object value = entry.get();
+			touch(key, entry);
+			return value;
+		} catch (SQLException ex) {
+			return null;
+		} catch (RuntimeException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * 取得済みの値を保持する。
+	 * 
+	 * @param key キー
+	 * @param value 値
+	 */
+	void put(final Key key, final Object value) {
+		Entry entry = new Entry(new Callable<Object>() {
+			@Override
+			public Object call() {
+				return value;
+			}
+		});
+		entry.task.run();
+
+		Entry old = entries.put(key, entry);
+		if (null != old) {
+			removed(key, old);
+		}
+		loaded(key, entry, value);
+	}
+
+	/**
+	 * 値を保持した場合に重みの上限を超えないか判定する。
+	 * 
+	 * @param values 値一覧
+	 * @return 上限を設けない場合、または値の重みの合計が上限以下の場合、<code>true</code>
+	 */
+	boolean fits(final List<?> values) {
+		if (0L >= maxWeight) {
+			return true;
+		}
+		long total = 0L;
+		for (Object value : values) {
+			total += weigh(value);
+		}
+		return total <= maxWeight;
+	}
+
+	/**
+	 * エントリを破棄する。
+	 * 
+	 * @param key キー
+	 */
+	void invalidate(final Key key) {
+		Entry entry = entries.get(key);
+		if (null != entry) {
+			remove(key, entry);
+		}
+	}
+
+	private boolean remove(final Key key, final Entry entry) {
+		if (entries.remove(key, entry)) {
+			removed(key, entry);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 破棄したエントリの重みを合計から差し引き、参照順序から取り除く。
+	 * <p>
+	 * 読込の完了前に破棄したエントリは合計に加算していない為、差し引きません。
+	 * </p>
+	 * 
+	 * @param key キー
+	 * @param entry エントリ
+	 */
+	private void removed(final Key key, final Entry entry) {
+		synchronized (entry) {
+			entry.removed = true;
+			if (entry.counted) {
+				entry.counted = false;
+				weight.addAndGet(-entry.weight);
+			}
+		}
+		synchronized (lru) {
+			unlink(key, entry);
+		}
+	}
+
+	/**
+	 * 読込んだエントリの重みを合計に加算し、参照順序の末尾に追加する。
+	 * <p>
+	 * 参照順序への追加はエントリのロックを解放してから行います。
+	 * 追加前に破棄された場合、破棄済みであることを参照順序のロック内で確認して追加しません。
+	 * </p>
+	 * 
+	 * @param key キー
+	 * @param entry エントリ
+	 * @param value 値
+	 */
+	private void loaded(final Key key, final Entry entry, final Object value) {
+		long now = System.currentTimeMillis();
+		entry.expireTime = (0L < ttl) ? now + ttl : Long.MAX_VALUE;
+		synchronized (entry) {
+			entry.weight = weigh(value);
+			if (!entry.removed) {
+				entry.counted = true;
+				weight.addAndGet(entry.weight);
+			}
+		}
+		synchronized (lru) {
+			if (!entry.removed) {
+				lru.remove(key);
+				lru.put(key, entry);
+			}
+		}
+
+		if (0L < maxWeight && maxWeight < weight.get()) {
+			evict();
+		}
+	}
+
+	/**
+	 * エントリを参照順序の末尾に移動する。
+	 * 
+	 * @param key キー
+	 * @param entry エントリ
+	 */
+	private void touch(final Key key, final Entry entry) {
+		synchronized (lru) {
+			if (lru.get(key) == entry) {
+				lru.remove(key);
+				lru.put(key, entry);
+			}
+		}
+	}
+
+	/**
+	 * エントリを参照順序から取り除く。参照順序のロックを取得して呼び出すこと。
+	 * 
+	 * @param key キー
+	 * @param entry エントリ。異なるエントリに置き換わっている場合は取り除かない
+	 */
+	private void unlink(final Key key, final Entry entry) {
+		if (lru.get(key) == entry) {
+			lru.remove(key);
+		}
+	}
+
+	/**
+	 * 重みの合計が上限の3/4以下になるまで、参照が古いエントリから破棄する。
+	 * <p>
+	 * 参照順序の先頭から辿る為、破棄しないエントリは走査しません。保持期間を超過したエントリは破棄数に計上しません。
+	 * </p>
+	 */
+	private void evict() {
+		long lowWater = maxWeight - maxWeight / 4L;
+		long now = System.currentTimeMillis();
+		synchronized (lru) {
+			while (lowWater < weight.get() && !lru.isEmpty()) {
+				Map.Entry<Key, Entry> eldest = lru.entrySet().iterator().next();
+				Key key = eldest.getKey();
+				Entry entry = eldest.getValue();
+				if (remove(key, entry)) {
+					if (!entry.isExpired(now)) {
+						evictionCount.incrementAndGet();
+					}
+				} else {
+					// 既に置き換わったエントリ
+					unlink(key, entry);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 値の重みを取得する。
+	 * 
+	 * @param value 値
+	 * @return 重み。テーブルはカラム数+1、一覧は要素数
+	 */
+	private static long weigh(final Object value) {
+		if (value instanceof TableModel) {
+			return ((TableModel) value).getFields().size() + 1L;
+		}
+		if (value instanceof List) {
+			return Math.max(1L, ((List<?>) value).size());
+		}
+		return 1L;
+	}
+
+	/**
+	 * このクラスは、キャッシュのキークラスです。
+	 */
+	static final class Key {
+
+		/** データベースの識別文字列 */
+		private final String database;
+
+		/** スキーマ名 */
+		private final String schema;
+
+		/** テーブル名 */
+		private final String table;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param database データベースの識別文字列
+		 * @param schema スキーマ名。スキーマ一覧の場合、<code>null</code>
+		 * @param table テーブル名。テーブル一覧の場合、<code>null</code>
+		 */
+		Key(final String database, final String schema, final String table) {
+			this.database = database;
+			this.schema = schema;
+			this.table = table;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return equals(database, other.database) && equals(schema, other.schema) && equals(table, other.table);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = (null != database) ? database.hashCode() : 0;
+			result = 31 * result + ((null != schema) ? schema.hashCode() : 0);
+			result = 31 * result + ((null != table) ? table.hashCode() : 0);
+			return result;
+		}
+
+		private static boolean equals(final String a, final String b) {
+			return (null == a) ? null == b : a.equals(b);
+		}
+	}
+
+	/**
+	 * このクラスは、キャッシュのエントリクラスです。
+	 */
+	private static final class Entry {
+
+		/** 読込処理 */
+		private final FutureTask<Object> task;
+
+		/** 期限(ミリ秒)。読込中は期限なし */
+		private volatile long expireTime;
+
+		/** 重み */
+		private long weight;
+
+		/** 重みを合計に加算済みか */
+		private boolean counted;
+
+		/** 破棄済みか */
+		private volatile boolean removed;
+
+		private Entry(final Callable<Object> loader) {
+			this.task = new FutureTask<Object>(loader);
+			this.expireTime = Long.MAX_VALUE;
+			this.weight = 0L;
+			this.counted = false;
+			this.removed = false;
+		}
+
+		private boolean isExpired(final long now) {
+			return expireTime <= now;
+		}
+
+		private Object get() throws SQLException {
+			try {
+				return task.get();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new SQLException("Interrupted waiting for catalog cache.", ex);
+			} catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof SQLException) {
+					throw (SQLException) cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new SQLException(cause);
+			}
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.diff;
+
+/**
+ * このクラスは、データベース定義の1件の変更を保持するクラスです。
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ * @param <T> 変更対象のモデル
+ */
+public final class Change<T> {
+
+	/** 種別 */
+	private final ChangeType type;
+
+	/** スキーマ名 */
+	private final String schemaName;
+
+	/** テーブル名 */
+	private final String tableName;
+
+	/** 名前 */
+	private final String name;
+
+	/** 変更前 */
+	private final T before;
+
+	/** 変更後 */
+	private final T after;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param type 種別
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @param name 名前
+	 * @param before 変更前。追加の場合、<code>null</code>
+	 * @param after 変更後。削除の場合、<code>null</code>
+	 */
+	public Change(final ChangeType type, final String schemaName, final String tableName, final String name, final T before, final T after) {
+		this.type = type;
+		this.schemaName = schemaName;
+		this.tableName = tableName;
+		this.name = name;
+		this.before = before;
+		this.after = after;
+	}
+
+	/**
+	 * 種別を取得する。
+	 * 
+	 * @return 種別
+	 */
+	public ChangeType getType() {
+		return type;
+	}
+
+	/**
+	 * スキーマ名を取得する。
+	 * 
+	 * @return スキーマ名
+	 */
+	public String getSchemaName() {
+		return schemaName;
+	}
+
+	/**
+	 * テーブル名を取得する。
+	 * 
+	 * @return テーブル名
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * 変更対象の名前を取得する。
+	 * 
+	 * @return 名前。テーブルの変更の場合、テーブル名
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 変更前のモデルを取得する。
+	 * 
+	 * @return 変更前のモデル。追加の場合、<code>null</code>を返す。
+	 */
+	public T getBefore() {
+		return before;
+	}
+
+	/**
+	 * 変更後のモデルを取得する。
+	 * 
+	 * @return 変更後のモデル。削除の場合、<code>null</code>を返す。
+	 */
+	public T getAfter() {
+		return after;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s %s.%s %s", type, schemaName, tableName, name);
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このクラスは、データベース定義の差分を保持するクラスです。
+ * <p>
+ * 変更はテーブル・フィールド・インデックス・外部キーの種類毎に保持します。
+ * 子要素(フィールド・インデックス・外部キー)が変更されたテーブルは、テーブルの変更({@link ChangeType#ALTERED})としても保持します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class ChangeSet {
+
+	/** テーブルの変更 */
+	private final List<Change<TableModel>> tableChanges;
+
+	/** フィールドの変更 */
+	private final List<Change<FieldModel>> fieldChanges;
+
+	/** インデックスの変更 */
+	private final List<Change<IndexModel>> indexChanges;
+
+	/** 外部キーの変更 */
+	private final List<Change<ForeignKeyModel>> foreignKeyChanges;
+
+	/**
+	 * コンストラクタ
+	 */
+	public ChangeSet() {
+		tableChanges = new ArrayList<Change<TableModel>>();
+		fieldChanges = new ArrayList<Change<FieldModel>>();
+		indexChanges = new ArrayList<Change<IndexModel>>();
+		foreignKeyChanges = new ArrayList<Change<ForeignKeyModel>>();
+	}
+
+	/**
+	 * 差分が存在しないか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isEmpty() {
+		return tableChanges.isEmpty();
+	}
+
+	/**
+	 * テーブルの変更を取得する。
+	 * 
+	 * @return テーブルの変更
+	 */
+	public List<Change<TableModel>> getTableChanges() {
+		return tableChanges;
+	}
+
+	/**
+	 * フィールドの変更を取得する。
+	 * 
+	 * @return フィールドの変更
+	 */
+	public List<Change<FieldModel>> getFieldChanges() {
+		return fieldChanges;
+	}
+
+	/**
+	 * インデックスの変更を取得する。
+	 * 
+	 * @return インデックスの変更
+	 */
+	public List<Change<IndexModel>> getIndexChanges() {
+		return indexChanges;
+	}
+
+	/**
+	 * 外部キーの変更を取得する。
+	 * 
+	 * @return 外部キーの変更
+	 */
+	public List<Change<ForeignKeyModel>> getForeignKeyChanges() {
+		return foreignKeyChanges;
+	}
+
+	void addTableChange(final Change<TableModel> change) {
+		tableChanges.add(change);
+	}
+
+	void addFieldChange(final Change<FieldModel> change) {
+		fieldChanges.add(change);
+	}
+
+	void addIndexChange(final Change<IndexModel> change) {
+		indexChanges.add(change);
+	}
+
+	void addForeignKeyChange(final Change<ForeignKeyModel> change) {
+		foreignKeyChanges.add(change);
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.diff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このクラスは、データベース情報のテーブル毎の構造ハッシュを保持するクラスです。
+ * <p>
+ * ハッシュは生成時に1度だけ計算します。同じデータベース情報と繰り返し比較する場合は、このクラスを保持して再利用してください。
+ * 生成後にデータベース情報を変更した場合、ハッシュには反映されません。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class DatabaseFingerprint {
+
+	/** データベース情報 */
+	private final DatabaseModel database;
+
+	/** テーブルのハッシュ(スキーマ名とテーブル名のキー) */
+	private final Map<String, Long> tableHashs;
+
+	/** データベース全体のハッシュ */
+	private final long hash;
+
+	private DatabaseFingerprint(final DatabaseModel database) {
+		this.database = database;
+		this.tableHashs = new HashMap<String, Long>(database.getTables().size() * 4 / 3 + 1);
+
+		long h = 0L;
+		for (TableModel table : database.getTables()) {
+			String key = toKey(table);
+			long tableHash = ModelFingerprint.of(table);
+			if (!tableHashs.containsKey(key)) {
+				tableHashs.put(key, Long.valueOf(tableHash));
+			}
+			// テーブルの順序に依存しないよう加算で合成する
+			h += tableHash * 31 + key.hashCode();
+		}
+		this.hash = h;
+	}
+
+	/**
+	 * データベース情報の構造ハッシュを計算する。
+	 * 
+	 * @param database データベース情報
+	 * @return 構造ハッシュ
+	 */
+	public static DatabaseFingerprint of(final DatabaseModel database) {
+		return new DatabaseFingerprint(database);
+	}
+
+	/**
+	 * データベース情報を取得する。
+	 * 
+	 * @return データベース情報
+	 */
+	public DatabaseModel getDatabase() {
+		return database;
+	}
+
+	/**
+	 * データベース全体のハッシュを取得する。
+	 * 
+	 * @return ハッシュ
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	/**
+	 * テーブルのハッシュを取得する。
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @return ハッシュ。テーブルが存在しない場合、<code>null</code>を返す。
+	 */
+	public Long getTableHash(final String schemaName, final String tableName) {
+		return tableHashs.get(toKey(schemaName, tableName));
+	}
+
+	static String toKey(final TableModel table) {
+		return toKey((null != table.getSchema()) ? table.getSchema().getName() : null, table.getName());
+	}
+
+	/**
+	 * スキーマ名とテーブル名からキーを生成する。
+	 * <p>
+	 * 名前に区切り文字が含まれても一意になるよう、各名前を長さ付きで連結する。<code>null</code>は長さを持たない記号で表す。
+	 * </p>
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @return キー
+	 */
+	static String toKey(final String schemaName, final String tableName) {
+		StringBuilder s = new StringBuilder();
+		appendKey(s, schemaName);
+		appendKey(s, tableName);
+		return s.toString();
+	}
+
+	private static void appendKey(final StringBuilder s, final String name) {
+		if (null == name) {
+			s.append('-');
+		} else {
+			s.append(name.length()).append(':').append(name);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.diff;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このクラスは、2つのデータベース情報の差分を計算するクラスです。
+ * <p>
+ * テーブル毎の構造ハッシュを比較し、ハッシュが一致するテーブルは子要素を比較せずに読み飛ばします。
+ * ハッシュが異なるテーブルのみフィールド・インデックス・外部キーを名前で突き合わせて比較します。
+ * テーブルはスキーマ名とテーブル名で突き合わせます。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class DatabaseModelDiff {
+
+	private DatabaseModelDiff() {
+	}
+
+	/**
+	 * データベース情報の差分を計算する。
+	 * 
+	 * @param before 変更前のデータベース情報
+	 * @param after 変更後のデータベース情報
+	 * @return 差分
+	 */
+	public static ChangeSet diff(final DatabaseModel before, final DatabaseModel after) {
+		return diff(DatabaseFingerprint.of(before), DatabaseFingerprint.of(after));
+	}
+
+	/**
+	 * データベース情報の差分を計算する。
+	 * 
+	 * @param before 変更前のデータベース情報の構造ハッシュ
+	 * @param after 変更後のデータベース情報の構造ハッシュ
+	 * @return 差分
+	 */
+	public static ChangeSet diff(final DatabaseFingerprint before, final DatabaseFingerprint after) {
+		ChangeSet changes = new ChangeSet();
+		if (before.getHash() == after.getHash() && before.getDatabase().getTables().size() == after.getDatabase().getTables().size()) {
+			return changes;
+		}
+
+		Set<String> keys = new HashSet<String>();
+		for (TableModel table : before.getDatabase().getTables()) {
+			String schemaName = getSchemaName(table);
+			String key = DatabaseFingerprint.toKey(table);
+			if (!keys.add(key)) {
+				continue;
+			}
+
+			Long afterHash = after.getTableHash(schemaName, table.getName());
+			if (null == afterHash) {
+				changes.addTableChange(new Change<TableModel>(ChangeType.REMOVED, schemaName, table.getName(), table.getName(), table, null));
+			} else if (!afterHash.equals(before.getTableHash(schemaName, table.getName()))) {
+				TableModel afterTable = getTable(after.getDatabase(), schemaName, table.getName());
+				changes.addTableChange(new Change<TableModel>(ChangeType.ALTERED, schemaName, table.getName(), table.getName(), table, afterTable));
+				diffTable(changes, schemaName, table, afterTable);
+			}
+		}
+
+		for (TableModel table : after.getDatabase().getTables()) {
+			String schemaName = getSchemaName(table);
+			if (null == before.getTableHash(schemaName, table.getName()) && keys.add(DatabaseFingerprint.toKey(table))) {
+				changes.addTableChange(new Change<TableModel>(ChangeType.ADDED, schemaName, table.getName(), table.getName(), null, table));
+			}
+		}
+		return changes;
+	}
+
+	private static void diffTable(final ChangeSet changes, final String schemaName, final TableModel before, final TableModel after) {
+		String tableName = before.getName();
+
+		// フィールド
+		for (FieldModel field : before.getFields()) {
+			FieldModel other = after.getField(field.getName());
+			if (null == other) {
+				changes.addFieldChange(new Change<FieldModel>(ChangeType.REMOVED, schemaName, tableName, field.getName(), field, null));
+			} else if (ModelFingerprint.of(field) != ModelFingerprint.of(other)) {
+				changes.addFieldChange(new Change<FieldModel>(ChangeType.ALTERED, schemaName, tableName, field.getName(), field, other));
+			}
+		}
+		for (FieldModel field : after.getFields()) {
+			if (null == before.getField(field.getName())) {
+				changes.addFieldChange(new Change<FieldModel>(ChangeType.ADDED, schemaName, tableName, field.getName(), null, field));
+			}
+		}
+
+		// インデックス
+		for (IndexModel index : before.getIndexs()) {
+			IndexModel other = after.getIndex(index.getName());
+			if (null == other) {
+				changes.addIndexChange(new Change<IndexModel>(ChangeType.REMOVED, schemaName, tableName, index.getName(), index, null));
+			} else if (ModelFingerprint.of(index) != ModelFingerprint.of(other)) {
+				changes.addIndexChange(new Change<IndexModel>(ChangeType.ALTERED, schemaName, tableName, index.getName(), index, other));
+			}
+		}
+		for (IndexModel index : after.getIndexs()) {
+			if (null == before.getIndex(index.getName())) {
+				changes.addIndexChange(new Change<IndexModel>(ChangeType.ADDED, schemaName, tableName, index.getName(), null, index));
+			}
+		}
+
+		// 外部キー
+		for (ForeignKeyModel foreignKey : before.getForeignKeys()) {
+			ForeignKeyModel other = after.getForeignKey(foreignKey.getName());
+			if (null == other) {
+				changes.addForeignKeyChange(new Change<ForeignKeyModel>(ChangeType.REMOVED, schemaName, tableName, foreignKey.getName(), foreignKey, null));
+			} else if (ModelFingerprint.of(foreignKey) != ModelFingerprint.of(other)) {
+				changes.addForeignKeyChange(new Change<ForeignKeyModel>(ChangeType.ALTERED, schemaName, tableName, foreignKey.getName(), foreignKey, other));
+			}
+		}
+		for (ForeignKeyModel foreignKey : after.getForeignKeys()) {
+			if (null == before.getForeignKey(foreignKey.getName())) {
+				changes.addForeignKeyChange(new Change<ForeignKeyModel>(ChangeType.ADDED, schemaName, tableName, foreignKey.getName(), null, foreignKey));
+			}
+		}
+	}
+
+	private static String getSchemaName(final TableModel table) {
+		return (null != table.getSchema()) ? table.getSchema().getName() : null;
+	}
+
+	private static TableModel getTable(final DatabaseModel database, final String schemaName, final String tableName) {
+		if (null == schemaName) {
+			return database.getTable(tableName);
+		}
+		return database.getTable(schemaName, tableName);
+	}
+}
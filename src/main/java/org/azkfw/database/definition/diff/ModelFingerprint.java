@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.diff;
+
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.ForeignKeyFeildModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexFieldModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このクラスは、モデルの構造ハッシュを計算するクラスです。
+ * <p>
+ * ハッシュは64bitのFNV-1aで計算し、同じ構造のモデルからは常に同じ値を返します。
+ * テーブルのハッシュはフィールド・インデックス・外部キーのハッシュを順に合成したものであり、テーブルのハッシュが一致する場合は子要素も一致するとみなせます。
+ * バージョンは構造に含めません。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class ModelFingerprint {
+
+	private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	private static final long PRIME = 0x100000001b3L;
+
+	private ModelFingerprint() {
+	}
+
+	/**
+	 * テーブルのハッシュを計算する。
+	 * 
+	 * @param table テーブル情報
+	 * @return ハッシュ
+	 */
+	public static long of(final TableModel table) {
+		long hash = OFFSET_BASIS;
+		hash = mix(hash, table.getName());
+		hash = mix(hash, table.getLabel());
+		hash = mix(hash, table.getComment());
+
+		hash = mix(hash, table.getFields().size());
+		for (FieldModel field : table.getFields()) {
+			hash = mix(hash, of(field));
+		}
+		hash = mix(hash, table.getIndexs().size());
+		for (IndexModel index : table.getIndexs()) {
+			hash = mix(hash, of(index));
+		}
+		hash = mix(hash, table.getForeignKeys().size());
+		for (ForeignKeyModel foreignKey : table.getForeignKeys()) {
+			hash = mix(hash, of(foreignKey));
+		}
+		return hash;
+	}
+
+	/**
+	 * フィールドのハッシュを計算する。
+	 * 
+	 * @param field フィールド情報
+	 * @return ハッシュ
+	 */
+	public static long of(final FieldModel field) {
+		long hash = OFFSET_BASIS;
+		hash = mix(hash, field.getName());
+		hash = mix(hash, field.getLabel());
+		hash = mix(hash, (null != field.getType()) ? field.getType().getLabel() : null);
+		hash = mix(hash, field.getExtra());
+		hash = mix(hash, field.getComment());
+		hash = mix(hash, field.isNotNull() ? 1 : 0);
+		hash = mix(hash, field.isDefaultFlag() ? 1 : 0);
+		if (field.isDefaultFlag()) {
+			Object value = field.getDefaultValue();
+			hash = mix(hash, (null != value) ? value.toString() : null);
+		}
+		return hash;
+	}
+
+	/**
+	 * インデックスのハッシュを計算する。
+	 * 
+	 * @param index インデックス情報
+	 * @return ハッシュ
+	 */
+	public static long of(final IndexModel index) {
+		long hash = OFFSET_BASIS;
+		hash = mix(hash, index.getName());
+		hash = mix(hash, index.getComment());
+		hash = mix(hash, index.isPrimaryKey() ? 1 : 0);
+		hash = mix(hash, index.isUnique() ? 1 : 0);
+		hash = mix(hash, index.getFields().size());
+		for (IndexFieldModel field : index.getFields()) {
+			hash = mix(hash, field.getName());
+		}
+		return hash;
+	}
+
+	/**
+	 * 外部キーのハッシュを計算する。
+	 * 
+	 * @param foreignKey 外部キー情報
+	 * @return ハッシュ
+	 */
+	public static long of(final ForeignKeyModel foreignKey) {
+		long hash = OFFSET_BASIS;
+		hash = mix(hash, foreignKey.getName());
+		hash = mix(hash, foreignKey.getReferenceTableName());
+		hash = mix(hash, foreignKey.getFields().size());
+		for (ForeignKeyFeildModel field : foreignKey.getFields()) {
+			hash = mix(hash, field.getName());
+		}
+		hash = mix(hash, foreignKey.getReferenceFields().size());
+		for (ForeignKeyFeildModel field : foreignKey.getReferenceFields()) {
+			hash = mix(hash, field.getName());
+		}
+		return hash;
+	}
+
+	private static long mix(final long hash, final String value) {
+		long h = hash;
+		if (null == value) {
+			// nullと空文字を区別する
+			h = (h ^ 0xff) * PRIME;
+		} else {
+			int length = value.length();
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				h = (h ^ (c & 0xff)) * PRIME;
+				h = (h ^ (c >>> 8)) * PRIME;
+			}
+			h = (h ^ 0xfe) * PRIME;
+		}
+		return h;
+	}
+
+	private static long mix(final long hash, final long value) {
+		long h = hash;
+		for (int i = 0; i < 8; i++) {
+			h = (h ^ ((value >>> (i * 8)) & 0xff)) * PRIME;
+		}
+		return h;
+	}
+}
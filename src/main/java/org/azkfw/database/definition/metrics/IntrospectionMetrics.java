@@ -0,0 +1,275 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.azkfw.database.definition.QueryKind;
+
+/**
+ * このクラスは、データベース定義取得のメトリクスを集計するクラスです。
+ * <p>
+ * クエリ種別毎の時間分布と行数・失敗数、スキーマ毎・テーブル毎の合計、コネクション待ち時間を集計します。
+ * 失敗したクエリの時間は時間分布に含め、失敗数を別に集計します。
+ * 集計はアトミック変数のみで行うため、並列解析時もロックを取得しません。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class IntrospectionMetrics implements IntrospectionMetricsSink {
+
+	/** クエリ種別毎の時間分布 */
+	private final Map<QueryKind, LatencyHistogram> latencies;
+
+	/** クエリ種別毎の行数 */
+	private final Map<QueryKind, AtomicLong> rows;
+
+	/** クエリ種別毎の失敗数 */
+	private final Map<QueryKind, AtomicLong> failures;
+
+	/** スキーマ毎の合計 */
+	private final ConcurrentMap<String, Totals> schemaTotals;
+
+	/** テーブル毎の合計 */
+	private final ConcurrentMap<String, Totals> tableTotals;
+
+	/** コネクション待ち時間 */
+	private final LatencyHistogram connectionWait;
+
+	/**
+	 * コンストラクタ
+	 */
+	public IntrospectionMetrics() {
+		latencies = new EnumMap<QueryKind, LatencyHistogram>(QueryKind.class);
+		rows = new EnumMap<QueryKind, AtomicLong>(QueryKind.class);
+		failures = new EnumMap<QueryKind, AtomicLong>(QueryKind.class);
+		for (QueryKind kind : QueryKind.values()) {
+			latencies.put(kind, new LatencyHistogram());
+			rows.put(kind, new AtomicLong());
+			failures.put(kind, new AtomicLong());
+		}
+		schemaTotals = new ConcurrentHashMap<String, Totals>();
+		tableTotals = new ConcurrentHashMap<String, Totals>();
+		connectionWait = new LatencyHistogram();
+	}
+
+	@Override
+	public void queryExecuted(final QueryKind kind, final String schemaName, final String tableName, final long time, final long rows,
+			final boolean failed) {
+		latencies.get(kind).record(time);
+		this.rows.get(kind).addAndGet(rows);
+		if (failed) {
+			failures.get(kind).incrementAndGet();
+		}
+		if (null != schemaName) {
+			getTotals(schemaTotals, schemaName).addQuery(time, rows);
+			if (null != tableName) {
+				getTotals(tableTotals, schemaName + "." + tableName).addQuery(time, rows);
+			}
+		}
+	}
+
+	@Override
+	public void tableParsed(final String schemaName, final String tableName, final long time) {
+		getTotals(tableTotals, schemaName + "." + tableName).addParse(1, time);
+	}
+
+	@Override
+	public void schemaParsed(final String schemaName, final int tableCount, final long time) {
+		getTotals(schemaTotals, schemaName).addParse(tableCount, time);
+	}
+
+	@Override
+	public void connectionAcquired(final long time) {
+		connectionWait.record(time);
+	}
+
+	/**
+	 * クエリ種別の時間分布を取得する。
+	 * 
+	 * @param kind クエリ種別
+	 * @return 時間分布
+	 */
+	public LatencyHistogram getLatency(final QueryKind kind) {
+		return latencies.get(kind);
+	}
+
+	/**
+	 * クエリ種別の読込行数を取得する。
+	 * 
+	 * @param kind クエリ種別
+	 * @return 行数
+	 */
+	public long getRowCount(final QueryKind kind) {
+		return rows.get(kind).get();
+	}
+
+	/**
+	 * クエリ種別の失敗数を取得する。
+	 * 
+	 * @param kind クエリ種別
+	 * @return 失敗数
+	 */
+	public long getFailureCount(final QueryKind kind) {
+		return failures.get(kind).get();
+	}
+
+	/**
+	 * スキーマ毎の合計を取得する。
+	 * 
+	 * @return スキーマ名をキーとした合計
+	 */
+	public Map<String, Totals> getSchemaTotals() {
+		return Collections.unmodifiableMap(schemaTotals);
+	}
+
+	/**
+	 * テーブル毎の合計を取得する。
+	 * <p>
+	 * スキーマ単位の一括取得クエリはテーブル毎のクエリ数・行数に含まれません。
+	 * </p>
+	 * 
+	 * @return 「スキーマ名.テーブル名」をキーとした合計
+	 */
+	public Map<String, Totals> getTableTotals() {
+		return Collections.unmodifiableMap(tableTotals);
+	}
+
+	/**
+	 * コネクション待ち時間の分布を取得する。
+	 * 
+	 * @return 時間分布
+	 */
+	public LatencyHistogram getConnectionWait() {
+		return connectionWait;
+	}
+
+	private static Totals getTotals(final ConcurrentMap<String, Totals> map, final String key) {
+		Totals totals = map.get(key);
+		if (null == totals) {
+			Totals created = new Totals();
+			totals = map.putIfAbsent(key, created);
+			if (null == totals) {
+				totals = created;
+			}
+		}
+		return totals;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder s = new StringBuilder();
+		for (QueryKind kind : QueryKind.values()) {
+			LatencyHistogram latency = latencies.get(kind);
+			if (0 < latency.getCount()) {
+				s.append(kind).append(": ").append(latency).append(" rows=").append(getRowCount(kind));
+				if (0 < getFailureCount(kind)) {
+					s.append(" failures=").append(getFailureCount(kind));
+				}
+				s.append("\n");
+			}
+		}
+		s.append("CONNECTION_WAIT: ").append(connectionWait);
+		return s.toString();
+	}
+
+	/**
+	 * このクラスは、スキーマまたはテーブル単位の合計クラスです。
+	 */
+	public static final class Totals {
+
+		private final AtomicLong queryCount = new AtomicLong();
+
+		private final AtomicLong queryTime = new AtomicLong();
+
+		private final AtomicLong rowCount = new AtomicLong();
+
+		private final AtomicLong tableCount = new AtomicLong();
+
+		private final AtomicLong parseTime = new AtomicLong();
+
+		private void addQuery(final long time, final long rows) {
+			queryCount.incrementAndGet();
+			queryTime.addAndGet(time);
+			rowCount.addAndGet(rows);
+		}
+
+		private void addParse(final int tables, final long time) {
+			tableCount.addAndGet(tables);
+			parseTime.addAndGet(time);
+		}
+
+		/**
+		 * クエリ実行数を取得する。
+		 * 
+		 * @return クエリ実行数
+		 */
+		public long getQueryCount() {
+			return queryCount.get();
+		}
+
+		/**
+		 * クエリ時間の合計を取得する。
+		 * 
+		 * @return 時間(ナノ秒)
+		 */
+		public long getQueryTime() {
+			return queryTime.get();
+		}
+
+		/**
+		 * 読込行数を取得する。
+		 * 
+		 * @return 行数
+		 */
+		public long getRowCount() {
+			return rowCount.get();
+		}
+
+		/**
+		 * 解析したテーブル数を取得する。
+		 * 
+		 * @return テーブル数
+		 */
+		public long getTableCount() {
+			return tableCount.get();
+		}
+
+		/**
+		 * 解析時間の合計を取得する。
+		 * 
+		 * @return 時間(ナノ秒)
+		 */
+		public long getParseTime() {
+			return parseTime.get();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("queries=%d queryTime=%dns rows=%d tables=%d parseTime=%dns", getQueryCount(), getQueryTime(), getRowCount(),
+					getTableCount(), getParseTime());
+		}
+	}
+}
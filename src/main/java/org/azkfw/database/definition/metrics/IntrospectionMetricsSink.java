@@ -0,0 +1,75 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.metrics;
+
+import org.azkfw.database.definition.QueryKind;
+
+/**
+ * このインターフェースは、データベース定義取得のメトリクスを受け取るシンクを定義したインターフェースです。
+ * <p>
+ * 解析処理のスレッドから直接呼び出されるため、実装は短時間で復帰する必要があります。
+ * 並列解析時は複数スレッドから同時に呼び出されます。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public interface IntrospectionMetricsSink {
+
+	/**
+	 * クエリを実行した際に呼び出される。
+	 * <p>
+	 * タイムアウト等の例外で中断したクエリも、中断までの時間と行数で呼び出されます。
+	 * </p>
+	 * 
+	 * @param kind クエリ種別
+	 * @param schemaName スキーマ名。スキーマに依存しないクエリの場合、<code>null</code>
+	 * @param tableName テーブル名。テーブル単位のクエリでない場合、<code>null</code>
+	 * @param time 実行から結果の読込完了(中断)までの時間(ナノ秒)
+	 * @param rows 読込んだ行数
+	 * @param failed 例外で中断した場合、<code>true</code>
+	 */
+	public void queryExecuted(final QueryKind kind, final String schemaName, final String tableName, final long time, final long rows,
+			final boolean failed);
+
+	/**
+	 * テーブル単位の詳細情報の解析が完了した際に呼び出される。
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @param time 時間(ナノ秒)
+	 */
+	public void tableParsed(final String schemaName, final String tableName, final long time);
+
+	/**
+	 * スキーマの解析が完了した際に呼び出される。
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param tableCount テーブル数
+	 * @param time 時間(ナノ秒)
+	 */
+	public void schemaParsed(final String schemaName, final int tableCount, final long time);
+
+	/**
+	 * データソースからコネクションを取得した際に呼び出される。
+	 * 
+	 * @param time 待ち時間(ナノ秒)
+	 */
+	public void connectionAcquired(final long time);
+}
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.metrics;
+
+import org.azkfw.database.definition.QueryKind;
+
+/**
+ * このインターフェースは、データベース定義取得の処理区間を記録するトレーサーを定義したインターフェースです。
+ * <p>
+ * {@link #start(IntrospectionPhase, QueryKind, String, String)} で区間を開始し、戻り値を {@link #end(Object, long, boolean)} に渡して終了します。
+ * 処理が例外で中断した場合も、失敗として {@link #end(Object, long, boolean)} を呼び出します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public interface IntrospectionTracer {
+
+	/**
+	 * 区間を開始する。
+	 * 
+	 * @param phase 処理段階
+	 * @param kind クエリ種別。クエリ以外の場合、<code>null</code>
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @return 区間情報。記録しない場合、<code>null</code>
+	 */
+	public Object start(final IntrospectionPhase phase, final QueryKind kind, final String schemaName, final String tableName);
+
+	/**
+	 * 区間を終了する。
+	 * 
+	 * @param context {@link #start(IntrospectionPhase, QueryKind, String, String)} の戻り値
+	 * @param rows 行数またはテーブル数。失敗した場合、中断までに読込んだ数
+	 * @param failed 例外で中断した場合、<code>true</code>
+	 */
+	public void end(final Object context, final long rows, final boolean failed);
+}
@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.metrics;
+
+/**
+ * このクラスは、トレーサーのユーティリティクラスです。
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class IntrospectionTracers {
+
+	/** Java Flight Recorder トレーサーのクラス名 */
+	private static final String JFR_TRACER = "org.azkfw.database.definition.jfr.JfrIntrospectionTracer";
+
+	/** 既定のトレーサー */
+	private static final IntrospectionTracer DEFAULT = load();
+
+	private IntrospectionTracers() {
+	}
+
+	/**
+	 * 既定のトレーサーを取得する。
+	 * <p>
+	 * Java 11以降でマルチリリースJARから実行している場合、Java Flight Recorder のイベントを発行するトレーサーを返します。
+	 * 記録が無効な間はイベントを生成しません。
+	 * </p>
+	 * 
+	 * @return トレーサー。利用できない場合、<code>null</code>
+	 */
+	public static IntrospectionTracer getDefault() {
+		return DEFAULT;
+	}
+
+	private static IntrospectionTracer load() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return (IntrospectionTracer) Class.forName(JFR_TRACER).newInstance();
+		} catch (Exception ex) {
+			return null;
+		} catch (LinkageError ex) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * このクラスは、ロックを使用せずに時間の分布を記録するヒストグラムクラスです。
+ * <p>
+ * 時間(ナノ秒)を2のべき乗単位のバケットに集計します。パーセンタイルはバケットの上限値で近似します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class LatencyHistogram {
+
+	/** バケット */
+	private final AtomicLongArray buckets;
+
+	/** 件数 */
+	private final AtomicLong count;
+
+	/** 合計時間 */
+	private final AtomicLong total;
+
+	/** 最大時間 */
+	private final AtomicLong max;
+
+	/**
+	 * コンストラクタ
+	 */
+	public LatencyHistogram() {
+		buckets = new AtomicLongArray(Long.SIZE + 1);
+		count = new AtomicLong();
+		total = new AtomicLong();
+		max = new AtomicLong();
+	}
+
+	/**
+	 * 時間を記録する。
+	 * 
+	 * @param time 時間(ナノ秒)
+	 */
+	public void record(final long time) {
+		long value = Math.max(0L, time);
+		buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+		count.incrementAndGet();
+		total.addAndGet(value);
+
+		long current = max.get();
+		while (current < value && !max.compareAndSet(current, value)) {
+			current = max.get();
+		}
+	}
+
+	/**
+	 * 件数を取得する。
+	 * 
+	 * @return 件数
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * 合計時間を取得する。
+	 * 
+	 * @return 合計時間(ナノ秒)
+	 */
+	public long getTotalTime() {
+		return total.get();
+	}
+
+	/**
+	 * 最大時間を取得する。
+	 * 
+	 * @return 最大時間(ナノ秒)
+	 */
+	public long getMaxTime() {
+		return max.get();
+	}
+
+	/**
+	 * 平均時間を取得する。
+	 * 
+	 * @return 平均時間(ナノ秒)
+	 */
+	public long getMeanTime() {
+		long size = count.get();
+		return (0 == size) ? 0L : total.get() / size;
+	}
+
+	/**
+	 * パーセンタイルを取得する。
+	 * 
+	 * @param percentile パーセンタイル(0.0～100.0)
+	 * @return 時間(ナノ秒)。記録がない場合、0を返す。
+	 */
+	public long getPercentile(final double percentile) {
+		long size = count.get();
+		if (0 == size) {
+			return 0L;
+		}
+		long rank = (long) Math.ceil(size * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+		long sum = 0L;
+		for (int i = 0; i < buckets.length(); i++) {
+			sum += buckets.get(i);
+			if (rank <= sum) {
+				long upper = (0 == i) ? 0L : (Long.SIZE == i) ? Long.MAX_VALUE : (1L << i) - 1L;
+				return Math.min(upper, max.get());
+			}
+		}
+		return max.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d mean=%dns p50=%dns p99=%dns max=%dns", getCount(), getMeanTime(), getPercentile(50.0), getPercentile(99.0),
+				getMaxTime());
+	}
+}
@@ -17,11 +17,37 @@
  */
 package org.azkfw.database.definition.model;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * このクラスは、データベース情報を保持するモデルクラスです。
+ * <p>
+ * テーブルの追加・取得は同期化されているため、複数スレッドから操作できます。
+ * </p>
+ * <p>
+ * テーブルはテーブル名、大文字小文字を区別しないテーブル名、スキーマ名で修飾したテーブル名(<code>schema.table</code>)をキーとしたマップでも保持するため、
+ * 名前による取得は一定時間で行えます。同じキーのテーブルが複数存在する場合、先に追加したテーブルを返します。
+ * </p>
+ * <p>
+ * 解析が完了したモデルは {@link #freeze()} で変更不可のモデルに変換できます。凍結したモデルは余分な容量を持たない配列で保持し、
+ * 同じ名前・型のインスタンスを共有するため、長期間キャッシュする場合のメモリ使用量を抑えます。
+ * 凍結したモデルはすべての状態をコンストラクタで確定するため、ロックせずに複数スレッドから参照できます。
+ * </p>
+ * <p>
+ * 解析の期限を超過して途中までの結果を返した場合、解析が完了していないスキーマ・テーブルを保持します。{@link #isComplete()} で判断できます。
+ * </p>
+ * <p>
+ * 遅延読込モードで解析したモデルは、未読込のテーブルを読み込むためのデータベース定義を保持します。参照が終わったら {@link #release()} で解放してください。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/05
@@ -30,13 +56,153 @@ import java.util.List;
 public class DatabaseModel {
 
 	/** テーブルリスト */
-	private List<TableModel> tables;
+	private final List<TableModel> tables;
+
+	/** テーブルマップ(テーブル名) */
+	private final Map<String, TableModel> tableMap;
+
+	/** テーブルマップ(小文字のテーブル名) */
+	private final Map<String, TableModel> ignoreCaseTableMap;
+
+	/** テーブルマップ(スキーマ名.テーブル名) */
+	private final Map<String, TableModel> qualifiedTableMap;
+
+	/** 解析が完了していないスキーマ名 */
+	private final Set<String> incompleteSchemas;
+
+	/** 解析が完了していないテーブル(スキーマ名.テーブル名) */
+	private final Set<String> incompleteTables;
+
+	/** 凍結フラグ */
+	private final boolean frozen;
+
+	/** 遅延読込に使用するリソース */
+	private Closeable resource;
 
 	/**
 	 * コンストラクタ
 	 */
 	public DatabaseModel() {
 		tables = new ArrayList<TableModel>();
+		tableMap = new HashMap<String, TableModel>();
+		ignoreCaseTableMap = new HashMap<String, TableModel>();
+		qualifiedTableMap = new HashMap<String, TableModel>();
+		incompleteSchemas = new LinkedHashSet<String>();
+		incompleteTables = new LinkedHashSet<String>();
+		frozen = false;
+		resource = null;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結したモデルを生成します。
+	 * </p>
+	 * 
+	 * @param tables 凍結したテーブルリスト
+	 * @param incompleteSchemas 解析が完了していないスキーマ名
+	 * @param incompleteTables 解析が完了していないテーブル
+	 */
+	private DatabaseModel(final List<TableModel> tables, final Set<String> incompleteSchemas, final Set<String> incompleteTables) {
+		int capacity = tables.size() * 4 / 3 + 1;
+		this.tables = Collections.unmodifiableList(new ArrayList<TableModel>(tables));
+		tableMap = new HashMap<String, TableModel>(capacity);
+		ignoreCaseTableMap = new HashMap<String, TableModel>(capacity);
+		qualifiedTableMap = new HashMap<String, TableModel>(capacity);
+		for (TableModel table : tables) {
+			put(table);
+		}
+		this.incompleteSchemas = incompleteSchemas;
+		this.incompleteTables = incompleteTables;
+		frozen = true;
+		resource = null;
+	}
+
+	/**
+	 * 凍結したモデルを取得する。
+	 * <p>
+	 * テーブル・フィールド・インデックス・外部キーを変更不可のインスタンスに複製します。
+	 * 遅延読込のテーブルは複製前に読み込みます。複製後に元のモデルを変更しても、凍結したモデルには反映されません。
+	 * 凍結したモデルのフィールド・フィールドタイプ・スキーマ・インデックスフィールド・外部キーフィールドも変更できず、変更するメソッドは {@link UnsupportedOperationException} をスローします。
+	 * </p>
+	 * 
+	 * @return 凍結したモデル。凍結済みの場合、このインスタンス
+	 */
+	public DatabaseModel freeze() {
+		if (frozen) {
+			return this;
+		}
+
+		List<TableModel> source;
+		Set<String> schemas;
+		Set<String> incompletes;
+		synchronized (this) {
+			source = new ArrayList<TableModel>(tables);
+			schemas = new LinkedHashSet<String>(incompleteSchemas);
+			incompletes = new LinkedHashSet<String>(incompleteTables);
+		}
+		ModelFreezer freezer = new ModelFreezer();
+		List<TableModel> frozenTables = new ArrayList<TableModel>(source.size());
+		for (TableModel table : source) {
+			frozenTables.add(freezer.freeze(table));
+		}
+		return new DatabaseModel(frozenTables, schemas, incompletes);
+	}
+
+	/**
+	 * 凍結したモデルか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * 遅延読込に使用するリソースを設定する。
+	 * <p>
+	 * 設定したリソースは {@link #release()} で解放します。設定済みのリソースがある場合は、先に解放します。
+	 * </p>
+	 * 
+	 * @param resource リソース
+	 */
+	public void setResource(final Closeable resource) {
+		if (frozen) {
+			throw new UnsupportedOperationException("Frozen database.");
+		}
+		Closeable old;
+		synchronized (this) {
+			old = this.resource;
+			this.resource = resource;
+		}
+		close(old);
+	}
+
+	/**
+	 * 遅延読込に使用するリソースを解放する。
+	 * <p>
+	 * 遅延読込モードで解析したモデルは、未読込のテーブルを読み込むためにデータベース定義を保持しています。
+	 * 参照が終わったら、コネクションを閉じる前にこのメソッドを呼び出してください。解放後に未読込のテーブルを参照した場合、{@link IllegalStateException} をスローします。
+	 * リソースを保持していない場合は何もしません。
+	 * </p>
+	 */
+	public void release() {
+		Closeable old;
+		synchronized (this) {
+			old = resource;
+			resource = null;
+		}
+		close(old);
+	}
+
+	private static void close(final Closeable resource) {
+		if (null != resource) {
+			try {
+				resource.close();
+			} catch (IOException ex) {
+				throw new IllegalStateException("Failed to release resource.", ex);
+			}
+		}
 	}
 
 	/**
@@ -44,8 +210,102 @@ public class DatabaseModel {
 	 * 
 	 * @param table テーブル
 	 */
-	public void addTable(final TableModel table) {
+	public synchronized void addTable(final TableModel table) {
+		if (frozen) {
+			throw new UnsupportedOperationException("Frozen database.");
+		}
 		this.tables.add(table);
+		put(table);
+	}
+
+	/**
+	 * 解析が完了していないスキーマを追加する。
+	 * 
+	 * @param schemaName スキーマ名
+	 */
+	public synchronized void addIncompleteSchema(final String schemaName) {
+		if (frozen) {
+			throw new UnsupportedOperationException("Frozen database.");
+		}
+		incompleteSchemas.add(schemaName);
+	}
+
+	/**
+	 * 解析が完了していないテーブルを追加する。
+	 * <p>
+	 * フィールド・インデックス・外部キー情報の一部または全てを取得できていないテーブルです。
+	 * </p>
+	 * 
+	 * @param table テーブル
+	 */
+	public synchronized void addIncompleteTable(final TableModel table) {
+		if (frozen) {
+			throw new UnsupportedOperationException("Frozen database.");
+		}
+		incompleteTables.add(toQualifiedName(table));
+	}
+
+	/**
+	 * 解析が完了しているか判断する。
+	 * 
+	 * @return 全てのスキーマの解析が完了している場合、<code>true</code>
+	 */
+	public boolean isComplete() {
+		if (frozen) {
+			return incompleteSchemas.isEmpty();
+		}
+		synchronized (this) {
+			return incompleteSchemas.isEmpty();
+		}
+	}
+
+	/**
+	 * 解析が完了していないスキーマ名一覧を取得する。
+	 * 
+	 * @return スキーマ名一覧
+	 */
+	public List<String> getIncompleteSchemas() {
+		if (frozen) {
+			return new ArrayList<String>(incompleteSchemas);
+		}
+		synchronized (this) {
+			return new ArrayList<String>(incompleteSchemas);
+		}
+	}
+
+	/**
+	 * 解析が完了していないテーブルか判断する。
+	 * 
+	 * @param table テーブル
+	 * @return 判断
+	 */
+	public boolean isIncomplete(final TableModel table) {
+		String qualifiedName = toQualifiedName(table);
+		if (frozen) {
+			return incompleteTables.contains(qualifiedName);
+		}
+		synchronized (this) {
+			return incompleteTables.contains(qualifiedName);
+		}
+	}
+
+	private void put(final TableModel table) {
+		String name = table.getName();
+		if (!tableMap.containsKey(name)) {
+			tableMap.put(name, table);
+		}
+		if (null != name) {
+			String lowerName = name.toLowerCase(Locale.ROOT);
+			if (!ignoreCaseTableMap.containsKey(lowerName)) {
+				ignoreCaseTableMap.put(lowerName, table);
+			}
+			if (null != table.getSchema()) {
+				String qualifiedName = toQualifiedName(table.getSchema().getName(), name);
+				if (!qualifiedTableMap.containsKey(qualifiedName)) {
+					qualifiedTableMap.put(qualifiedName, table);
+				}
+			}
+		}
 	}
 
 	/**
@@ -64,11 +324,55 @@ public class DatabaseModel {
 	 * @return テーブル。テーブルが存在しない場合、<code>null</code>を返す。
 	 */
 	public TableModel getTable(final String name) {
-		for (TableModel table : tables) {
-			if (table.getName().equals(name)) {
-				return table;
-			}
+		if (frozen) {
+			return tableMap.get(name);
+		}
+		synchronized (this) {
+			return tableMap.get(name);
+		}
+	}
+
+	/**
+	 * テーブルを取得する。
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param name テーブル名
+	 * @return テーブル。テーブルが存在しない場合、<code>null</code>を返す。
+	 */
+	public TableModel getTable(final String schemaName, final String name) {
+		String qualifiedName = toQualifiedName(schemaName, name);
+		if (frozen) {
+			return qualifiedTableMap.get(qualifiedName);
+		}
+		synchronized (this) {
+			return qualifiedTableMap.get(qualifiedName);
 		}
-		return null;
+	}
+
+	/**
+	 * 大文字小文字を区別せずにテーブルを取得する。
+	 * 
+	 * @param name テーブル名
+	 * @return テーブル。テーブルが存在しない場合、<code>null</code>を返す。
+	 */
+	public TableModel getTableIgnoreCase(final String name) {
+		if (null == name) {
+			return null;
+		}
+		String lowerName = name.toLowerCase(Locale.ROOT);
+		if (frozen) {
+			return ignoreCaseTableMap.get(lowerName);
+		}
+		synchronized (this) {
+			return ignoreCaseTableMap.get(lowerName);
+		}
+	}
+
+	private static String toQualifiedName(final TableModel table) {
+		return toQualifiedName((null != table.getSchema()) ? table.getSchema().getName() : null, table.getName());
+	}
+
+	private static String toQualifiedName(final String schemaName, final String name) {
+		return schemaName + "." + name;
 	}
 }
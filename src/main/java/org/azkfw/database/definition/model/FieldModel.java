@@ -19,6 +19,9 @@ package org.azkfw.database.definition.model;
 
 /**
  * このクラスは、フィールド情報を保持するモデルクラスです。
+ * <p>
+ * {@link DatabaseModel#freeze()} で凍結したフィールドは変更できません。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/04
@@ -50,6 +53,9 @@ public class FieldModel {
 	/** デフォルト値 */
 	private Object defaultValue;
 
+	/** 凍結フラグ */
+	private final boolean frozen;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -62,6 +68,44 @@ public class FieldModel {
 		notNullFlag = false;
 		defaultFlag = false;
 		defaultValue = null;
+		frozen = false;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結したフィールドを生成します。
+	 * </p>
+	 * 
+	 * @param source 凍結するフィールド
+	 * @param type 凍結したタイプ
+	 * @param freezer 凍結処理
+	 */
+	FieldModel(final FieldModel source, final FieldTypeModel type, final ModelFreezer freezer) {
+		label = freezer.intern(source.getLabel());
+		name = freezer.intern(source.getName());
+		comment = source.getComment();
+		this.type = type;
+		extra = freezer.intern(source.getExtra());
+		notNullFlag = source.isNotNull();
+		defaultFlag = source.isDefaultFlag();
+		defaultValue = source.getDefaultValue();
+		frozen = true;
+	}
+
+	/**
+	 * 凍結したフィールドか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException(String.format("Frozen field.[%s]", name));
+		}
 	}
 
 	/**
@@ -70,6 +114,7 @@ public class FieldModel {
 	 * @param label ラベル
 	 */
 	public void setLabel(final String label) {
+		checkMutable();
 		this.label = label;
 	}
 
@@ -88,6 +133,7 @@ public class FieldModel {
 	 * @param name フィールド名
 	 */
 	public void setName(final String name) {
+		checkMutable();
 		this.name = name;
 	}
 
@@ -106,6 +152,7 @@ public class FieldModel {
 	 * @param comment コメント
 	 */
 	public void setComment(final String comment) {
+		checkMutable();
 		this.comment = comment;
 	}
 
@@ -124,6 +171,7 @@ public class FieldModel {
 	 * @param タイプ
 	 */
 	public void setType(final FieldTypeModel type) {
+		checkMutable();
 		this.type = type;
 	}
 
@@ -142,6 +190,7 @@ public class FieldModel {
 	 * @param extra 付加情報
 	 */
 	public void setExtra(final String extra) {
+		checkMutable();
 		this.extra = extra;
 	}
 
@@ -160,6 +209,7 @@ public class FieldModel {
 	 * @param flag フラグ
 	 */
 	public void setNotNull(final boolean flag) {
+		checkMutable();
 		this.notNullFlag = flag;
 	}
 
@@ -178,6 +228,7 @@ public class FieldModel {
 	 * @param flag フラグ
 	 */
 	public void setDefaultFlag(final boolean flag) {
+		checkMutable();
 		this.defaultFlag = flag;
 	}
 
@@ -196,6 +247,7 @@ public class FieldModel {
 	 * @param value デフォルト値
 	 */
 	public void setDefaultValue(final Object value) {
+		checkMutable();
 		this.defaultValue = value;
 	}
 
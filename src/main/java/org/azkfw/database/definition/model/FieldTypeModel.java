@@ -19,6 +19,10 @@ package org.azkfw.database.definition.model;
 
 /**
  * このクラスは、フィールドタイプ情報を保持するモデルクラスです。
+ * <p>
+ * 解析したモデルでは同じラベルのインスタンスを複数のフィールドで共有します({@link ModelInterner})。
+ * {@link DatabaseModel#freeze()} で凍結したフィールドタイプは変更できません。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/04
@@ -29,11 +33,43 @@ public class FieldTypeModel {
 	/** ラベル */
 	private String label;
 
+	/** 凍結フラグ */
+	private final boolean frozen;
+
 	/**
 	 * コンストラクタ
 	 */
 	public FieldTypeModel() {
 		label = null;
+		frozen = false;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結したフィールドタイプを生成します。
+	 * </p>
+	 * 
+	 * @param label ラベル
+	 */
+	FieldTypeModel(final String label) {
+		this.label = label;
+		frozen = true;
+	}
+
+	/**
+	 * 凍結したフィールドタイプか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException(String.format("Frozen field type.[%s]", label));
+		}
 	}
 
 	/**
@@ -42,6 +78,7 @@ public class FieldTypeModel {
 	 * @param label ラベル
 	 */
 	public void setLabel(final String label) {
+		checkMutable();
 		this.label = label;
 	}
 
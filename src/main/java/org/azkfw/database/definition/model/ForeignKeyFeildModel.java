@@ -19,6 +19,9 @@ package org.azkfw.database.definition.model;
 
 /**
  * このクラスは、外部キーフィールド情報を保持するモデルクラスです。
+ * <p>
+ * {@link DatabaseModel#freeze()} で凍結した外部キーフィールドは変更できません。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/04
@@ -29,11 +32,43 @@ public class ForeignKeyFeildModel {
 	/** フィールド名 */
 	private String name;
 
+	/** 凍結フラグ */
+	private final boolean frozen;
+
 	/**
 	 * コンストラクタ
 	 */
 	public ForeignKeyFeildModel() {
 		name = null;
+		frozen = false;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結した外部キーフィールドを生成します。
+	 * </p>
+	 * 
+	 * @param name フィールド名
+	 */
+	ForeignKeyFeildModel(final String name) {
+		this.name = name;
+		frozen = true;
+	}
+
+	/**
+	 * 凍結した外部キーフィールドか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException(String.format("Frozen foreign key field.[%s]", name));
+		}
 	}
 
 	/**
@@ -42,6 +77,7 @@ public class ForeignKeyFeildModel {
 	 * @param name フィールド名
 	 */
 	public void setName(final String name) {
+		checkMutable();
 		this.name = name;
 	}
 
@@ -17,11 +17,17 @@
  */
 package org.azkfw.database.definition.model;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * このクラスは、外部キー情報を保持するモデルクラスです。
+ * <p>
+ * {@link DatabaseModel#freeze()} で凍結した外部キーは変更できません。
+ * 凍結した外部キーはフィールドと参照フィールドを交互に並べた1つの配列で保持し、同じ名前のフィールドはインスタンスを共有します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/04
@@ -41,6 +47,9 @@ public class ForeignKeyModel {
 	/** 参照フィールドリスト */
 	private List<ForeignKeyFeildModel> referenceFields;
 
+	/** フィールドと参照フィールドの組(凍結した場合のみ) */
+	private final ForeignKeyFeildModel[] pairs;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -49,6 +58,40 @@ public class ForeignKeyModel {
 		fields = new ArrayList<ForeignKeyFeildModel>();
 		referenceTableName = null;
 		referenceFields = new ArrayList<ForeignKeyFeildModel>();
+		pairs = null;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結した外部キーを生成します。
+	 * </p>
+	 * 
+	 * @param source 凍結する外部キー
+	 * @param pairs フィールドと参照フィールドを交互に並べた配列
+	 * @param freezer 凍結処理
+	 */
+	ForeignKeyModel(final ForeignKeyModel source, final ForeignKeyFeildModel[] pairs, final ModelFreezer freezer) {
+		name = freezer.intern(source.getName());
+		fields = null;
+		referenceTableName = freezer.intern(source.getReferenceTableName());
+		referenceFields = null;
+		this.pairs = pairs;
+	}
+
+	/**
+	 * 凍結した外部キーか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return null != pairs;
+	}
+
+	private void checkMutable() {
+		if (null != pairs) {
+			throw new UnsupportedOperationException(String.format("Frozen foreign key.[%s]", name));
+		}
 	}
 
 	/**
@@ -57,6 +100,7 @@ public class ForeignKeyModel {
 	 * @param name 外部キー名
 	 */
 	public void setName(final String name) {
+		checkMutable();
 		this.name = name;
 	}
 
@@ -75,6 +119,7 @@ public class ForeignKeyModel {
 	 * @param field フィールド
 	 */
 	public void addField(final ForeignKeyFeildModel field) {
+		checkMutable();
 		this.fields.add(field);
 	}
 
@@ -84,6 +129,9 @@ public class ForeignKeyModel {
 	 * @return リスト
 	 */
 	public List<ForeignKeyFeildModel> getFields() {
+		if (null != pairs) {
+			return new PairList(pairs, 0);
+		}
 		return fields;
 	}
 
@@ -93,6 +141,7 @@ public class ForeignKeyModel {
 	 * @param name テーブル名
 	 */
 	public void setReferenceTableName(final String name) {
+		checkMutable();
 		referenceTableName = name;
 	}
 
@@ -111,6 +160,7 @@ public class ForeignKeyModel {
 	 * @param field フィールド
 	 */
 	public void addReferenceField(final ForeignKeyFeildModel field) {
+		checkMutable();
 		referenceFields.add(field);
 	}
 
@@ -120,6 +170,37 @@ public class ForeignKeyModel {
 	 * @return フィールド
 	 */
 	public List<ForeignKeyFeildModel> getReferenceFields() {
+		if (null != pairs) {
+			return new PairList(pairs, 1);
+		}
 		return referenceFields;
 	}
+
+	/**
+	 * 組の配列の一方を参照する変更不可のリスト
+	 */
+	private static final class PairList extends AbstractList<ForeignKeyFeildModel> implements RandomAccess {
+
+		private final ForeignKeyFeildModel[] pairs;
+
+		private final int offset;
+
+		private PairList(final ForeignKeyFeildModel[] pairs, final int offset) {
+			this.pairs = pairs;
+			this.offset = offset;
+		}
+
+		@Override
+		public ForeignKeyFeildModel get(final int index) {
+			if (0 > index || size() <= index) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			return pairs[index * 2 + offset];
+		}
+
+		@Override
+		public int size() {
+			return pairs.length / 2;
+		}
+	}
 }
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.model;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * このクラスは、凍結したモデルが保持する変更不可の名前付き要素リストクラスです。
+ * <p>
+ * 要素は余分な容量のない配列で保持し、名前による取得は要素数が少ない場合は線形探索、多い場合はオープンアドレス法の索引で行います。
+ * 同じ名前の要素が複数存在する場合、先頭の要素を返します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ * @param <E> 要素
+ */
+abstract class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+
+	/** 線形探索を行う最大要素数 */
+	private static final int LINEAR_SEARCH_SIZE = 8;
+
+	/** 要素 */
+	private final Object[] elements;
+
+	/** 索引(要素の位置 + 1)。線形探索する場合、<code>null</code> */
+	private final int[] slots;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param source 要素
+	 */
+	protected FrozenList(final Collection<? extends E> source) {
+		elements = source.toArray();
+		if (elements.length <= LINEAR_SEARCH_SIZE) {
+			slots = null;
+		} else {
+			// 負荷率を1/2以下にする
+			slots = new int[Integer.highestOneBit(elements.length) << 2];
+			int mask = slots.length - 1;
+			for (int i = 0; i < elements.length; i++) {
+				String name = getName(element(i));
+				int slot = hash(name) & mask;
+				while (0 != slots[slot] && !equals(name, getName(element(slots[slot] - 1)))) {
+					slot = (slot + 1) & mask;
+				}
+				if (0 == slots[slot]) {
+					slots[slot] = i + 1;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 要素の名前を取得する。
+	 * 
+	 * @param element 要素
+	 * @return 名前
+	 */
+	protected abstract String getName(final E element);
+
+	/**
+	 * 名前から要素を取得する。
+	 * 
+	 * @param name 名前
+	 * @return 要素。存在しない場合、<code>null</code>
+	 */
+	public final E find(final String name) {
+		if (null == slots) {
+			for (int i = 0; i < elements.length; i++) {
+				E element = element(i);
+				if (equals(name, getName(element))) {
+					return element;
+				}
+			}
+			return null;
+		}
+
+		int mask = slots.length - 1;
+		int slot = hash(name) & mask;
+		while (0 != slots[slot]) {
+			E element = element(slots[slot] - 1);
+			if (equals(name, getName(element))) {
+				return element;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	@Override
+	public final E get(final int index) {
+		if (0 > index || elements.length <= index) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.length);
+		}
+		return element(index);
+	}
+
+	@Override
+	public final int size() {
+		return elements.length;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E element(final int index) {
+		return (E) elements[index];
+	}
+
+	private static int hash(final String name) {
+		int h = (null != name) ? name.hashCode() : 0;
+		return h ^ (h >>> 16);
+	}
+
+	private static boolean equals(final String a, final String b) {
+		return (null == a) ? null == b : a.equals(b);
+	}
+}
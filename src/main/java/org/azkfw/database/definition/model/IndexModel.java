@@ -18,10 +18,15 @@
 package org.azkfw.database.definition.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * このクラスは、インデックス情報を保持するモデルクラスです。
+ * <p>
+ * {@link DatabaseModel#freeze()} で凍結したインデックスは変更できません。凍結したインデックスのフィールドは同じ名前のインスタンスを共有します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/04
@@ -41,9 +46,15 @@ public class IndexModel {
 	/** フィールドリスト */
 	private List<IndexFieldModel> fields;
 
+	/** フィールドマップ */
+	private Map<String, IndexFieldModel> fieldMap;
+
 	/** コメント */
 	private String comment;
 
+	/** 凍結フラグ */
+	private final boolean frozen;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -52,7 +63,44 @@ public class IndexModel {
 		primaryKeyFlag = false;
 		uniqueFlag = false;
 		fields = new ArrayList<IndexFieldModel>();
+		fieldMap = new HashMap<String, IndexFieldModel>();
 		comment = null;
+		frozen = false;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結したインデックスを生成します。
+	 * </p>
+	 * 
+	 * @param source 凍結するインデックス
+	 * @param fields フィールドリスト
+	 * @param freezer 凍結処理
+	 */
+	IndexModel(final IndexModel source, final List<IndexFieldModel> fields, final ModelFreezer freezer) {
+		name = freezer.intern(source.getName());
+		primaryKeyFlag = source.isPrimaryKey();
+		uniqueFlag = source.isUnique();
+		this.fields = new FrozenIndexFieldList(fields);
+		fieldMap = null;
+		comment = source.getComment();
+		frozen = true;
+	}
+
+	/**
+	 * 凍結したインデックスか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException(String.format("Frozen index.[%s]", name));
+		}
 	}
 
 	/**
@@ -61,6 +109,7 @@ public class IndexModel {
 	 * @param name インデックス名
 	 */
 	public void setName(final String name) {
+		checkMutable();
 		this.name = name;
 	}
 
@@ -79,6 +128,7 @@ public class IndexModel {
 	 * @param flag 有無
 	 */
 	public void setPrimaryKey(final boolean flag) {
+		checkMutable();
 		this.primaryKeyFlag = flag;
 	}
 
@@ -97,6 +147,7 @@ public class IndexModel {
 	 * @param flag 有無
 	 */
 	public void setUnique(final boolean flag) {
+		checkMutable();
 		this.uniqueFlag = flag;
 	}
 
@@ -115,7 +166,11 @@ public class IndexModel {
 	 * @param field フィールド
 	 */
 	public void addField(final IndexFieldModel field) {
+		checkMutable();
 		fields.add(field);
+		if (!fieldMap.containsKey(field.getName())) {
+			fieldMap.put(field.getName(), field);
+		}
 	}
 
 	/**
@@ -134,12 +189,10 @@ public class IndexModel {
 	 * @return フィールド。フィールドが存在しない場合、<code>null</code>を返す。
 	 */
 	public IndexFieldModel getField(final String name) {
-		for (IndexFieldModel field : fields) {
-			if (field.getName().equals(name)) {
-				return field;
-			}
+		if (frozen) {
+			return ((FrozenList<IndexFieldModel>) fields).find(name);
 		}
-		return null;
+		return fieldMap.get(name);
 	}
 
 	/**
@@ -148,6 +201,7 @@ public class IndexModel {
 	 * @param comment コメント
 	 */
 	public void setComment(final String comment) {
+		checkMutable();
 		this.comment = comment;
 	}
 
@@ -159,4 +213,16 @@ public class IndexModel {
 	public String getComment() {
 		return comment;
 	}
+
+	private static final class FrozenIndexFieldList extends FrozenList<IndexFieldModel> {
+
+		private FrozenIndexFieldList(final List<IndexFieldModel> fields) {
+			super(fields);
+		}
+
+		@Override
+		protected String getName(final IndexFieldModel element) {
+			return element.getName();
+		}
+	}
 }
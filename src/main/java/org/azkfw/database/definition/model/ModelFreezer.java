@@ -0,0 +1,181 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * このクラスは、モデルを凍結したモデルに複製するクラスです。
+ * <p>
+ * 1つのデータベースの凍結中は、同じ値の文字列・フィールドタイプ・スキーマ・インデックスフィールド・外部キーフィールドを共有します。
+ * 共有するモデルを含め、複製したモデルは全て凍結したモデルです。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+final class ModelFreezer {
+
+	/** 文字列 */
+	private final ModelInterner interner;
+
+	/** フィールドタイプ */
+	private final Map<String, FieldTypeModel> fieldTypes;
+
+	/** スキーマ */
+	private final Map<String, SchemaModel> schemas;
+
+	/** インデックスフィールド */
+	private final Map<String, IndexFieldModel> indexFields;
+
+	/** 外部キーフィールド */
+	private final Map<String, ForeignKeyFeildModel> foreignKeyFields;
+
+	/**
+	 * コンストラクタ
+	 */
+	ModelFreezer() {
+		interner = new ModelInterner();
+		fieldTypes = new HashMap<String, FieldTypeModel>();
+		schemas = new HashMap<String, SchemaModel>();
+		indexFields = new HashMap<String, IndexFieldModel>();
+		foreignKeyFields = new HashMap<String, ForeignKeyFeildModel>();
+	}
+
+	/**
+	 * 共有する文字列を取得する。
+	 * 
+	 * @param value 文字列
+	 * @return 文字列
+	 */
+	String intern(final String value) {
+		return interner.intern(value);
+	}
+
+	/**
+	 * 凍結したテーブルを取得する。
+	 * 
+	 * @param table テーブル
+	 * @return 凍結したテーブル
+	 */
+	TableModel freeze(final TableModel table) {
+		if (table.isFrozen()) {
+			return table;
+		}
+
+		List<FieldModel> fields = new ArrayList<FieldModel>(table.getFields().size());
+		for (FieldModel field : table.getFields()) {
+			fields.add(freeze(field));
+		}
+		List<IndexModel> indexs = new ArrayList<IndexModel>(table.getIndexs().size());
+		for (IndexModel index : table.getIndexs()) {
+			indexs.add(freeze(index));
+		}
+		List<ForeignKeyModel> foreignKeys = new ArrayList<ForeignKeyModel>(table.getForeignKeys().size());
+		for (ForeignKeyModel foreignKey : table.getForeignKeys()) {
+			foreignKeys.add(freeze(foreignKey));
+		}
+		return new TableModel(table, freeze(table.getSchema()), fields, indexs, foreignKeys, this);
+	}
+
+	private SchemaModel freeze(final SchemaModel schema) {
+		if (null == schema) {
+			return null;
+		}
+		SchemaModel result = schemas.get(schema.getName());
+		if (null == result) {
+			result = new SchemaModel(intern(schema.getName()));
+			schemas.put(result.getName(), result);
+		}
+		return result;
+	}
+
+	private FieldModel freeze(final FieldModel field) {
+		if (field.isFrozen()) {
+			return field;
+		}
+		return new FieldModel(field, freeze(field.getType()), this);
+	}
+
+	private FieldTypeModel freeze(final FieldTypeModel type) {
+		if (null == type || type.isFrozen()) {
+			return type;
+		}
+		if (null == type.getLabel()) {
+			return new FieldTypeModel(null);
+		}
+		FieldTypeModel result = fieldTypes.get(type.getLabel());
+		if (null == result) {
+			result = new FieldTypeModel(intern(type.getLabel()));
+			fieldTypes.put(result.getLabel(), result);
+		}
+		return result;
+	}
+
+	private IndexModel freeze(final IndexModel index) {
+		if (index.isFrozen()) {
+			return index;
+		}
+		List<IndexFieldModel> fields = new ArrayList<IndexFieldModel>(index.getFields().size());
+		for (IndexFieldModel field : index.getFields()) {
+			fields.add(getIndexField(field.getName()));
+		}
+		return new IndexModel(index, fields, this);
+	}
+
+	private ForeignKeyModel freeze(final ForeignKeyModel foreignKey) {
+		if (foreignKey.isFrozen()) {
+			return foreignKey;
+		}
+		List<ForeignKeyFeildModel> fields = foreignKey.getFields();
+		List<ForeignKeyFeildModel> referenceFields = foreignKey.getReferenceFields();
+		int size = Math.max(fields.size(), referenceFields.size());
+		ForeignKeyFeildModel[] pairs = new ForeignKeyFeildModel[size * 2];
+		for (int i = 0; i < size; i++) {
+			if (i < fields.size()) {
+				pairs[i * 2] = getForeignKeyField(fields.get(i).getName());
+			}
+			if (i < referenceFields.size()) {
+				pairs[i * 2 + 1] = getForeignKeyField(referenceFields.get(i).getName());
+			}
+		}
+		return new ForeignKeyModel(foreignKey, pairs, this);
+	}
+
+	private IndexFieldModel getIndexField(final String name) {
+		IndexFieldModel result = indexFields.get(name);
+		if (null == result) {
+			result = new IndexFieldModel(intern(name));
+			indexFields.put(result.getName(), result);
+		}
+		return result;
+	}
+
+	private ForeignKeyFeildModel getForeignKeyField(final String name) {
+		ForeignKeyFeildModel result = foreignKeyFields.get(name);
+		if (null == result) {
+			result = new ForeignKeyFeildModel(intern(name));
+			foreignKeyFields.put(result.getName(), result);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * このクラスは、モデルが保持する文字列・フィールドタイプ情報を共有するプールクラスです。
+ * <p>
+ * カタログから取得した識別子(スキーマ名・テーブル名・カラム名など)は行毎に別のインスタンスになるため、
+ * 同じ値を1つの文字列インスタンスに、同じラベルのフィールドタイプを1つの {@link FieldTypeModel} にまとめます。
+ * 解析毎に生成し、解析が終了したら破棄してください。複数スレッドから同時に使用できます。
+ * </p>
+ * <p>
+ * 取得した {@link FieldTypeModel} は複数のフィールドで共有するため、凍結したインスタンスです。
+ * ラベルを変更すると {@link UnsupportedOperationException} をスローします。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class ModelInterner {
+
+	/** 文字列 */
+	private final ConcurrentMap<String, String> strings;
+
+	/** フィールドタイプ */
+	private final ConcurrentMap<String, FieldTypeModel> fieldTypes;
+
+	/**
+	 * コンストラクタ
+	 */
+	public ModelInterner() {
+		strings = new ConcurrentHashMap<String, String>();
+		fieldTypes = new ConcurrentHashMap<String, FieldTypeModel>();
+	}
+
+	/**
+	 * 共有する文字列を取得する。
+	 * 
+	 * @param value 文字列
+	 * @return 同じ値の文字列。<code>null</code>の場合、<code>null</code>
+	 */
+	public String intern(final String value) {
+		if (null == value) {
+			return null;
+		}
+		String result = strings.get(value);
+		if (null == result) {
+			result = strings.putIfAbsent(value, value);
+			if (null == result) {
+				result = value;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 共有するフィールドタイプ情報を取得する。
+	 * 
+	 * @param label ラベル
+	 * @return 凍結したフィールドタイプ情報。ラベルが<code>null</code>の場合、共有しない新しいインスタンス
+	 */
+	public FieldTypeModel getFieldType(final String label) {
+		if (null == label) {
+			return new FieldTypeModel();
+		}
+		FieldTypeModel result = fieldTypes.get(label);
+		if (null == result) {
+			FieldTypeModel fieldType = new FieldTypeModel(intern(label));
+			result = fieldTypes.putIfAbsent(fieldType.getLabel(), fieldType);
+			if (null == result) {
+				result = fieldType;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 共有している文字列の数を取得する。
+	 * 
+	 * @return 文字列の数
+	 */
+	public int getStringCount() {
+		return strings.size();
+	}
+
+	/**
+	 * 共有しているフィールドタイプ情報の数を取得する。
+	 * 
+	 * @return フィールドタイプ情報の数
+	 */
+	public int getFieldTypeCount() {
+		return fieldTypes.size();
+	}
+}
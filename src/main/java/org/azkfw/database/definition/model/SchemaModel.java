@@ -19,6 +19,9 @@ package org.azkfw.database.definition.model;
 
 /**
  * このクラスは、スキーマ情報を保持するモデルクラスです。
+ * <p>
+ * {@link DatabaseModel#freeze()} で凍結したスキーマは変更できません。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/03/03
@@ -29,11 +32,43 @@ public class SchemaModel {
 	/** スキーマ名 */
 	private String name;
 
+	/** 凍結フラグ */
+	private final boolean frozen;
+
 	/**
 	 * コンストラクタ
 	 */
 	public SchemaModel() {
 		name = null;
+		frozen = false;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結したスキーマを生成します。
+	 * </p>
+	 * 
+	 * @param name スキーマ名
+	 */
+	SchemaModel(final String name) {
+		this.name = name;
+		frozen = true;
+	}
+
+	/**
+	 * 凍結したスキーマか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException(String.format("Frozen schema.[%s]", name));
+		}
 	}
 
 	/**
@@ -42,6 +77,7 @@ public class SchemaModel {
 	 * @param name スキーマ名
 	 */
 	public void setName(final String name) {
+		checkMutable();
 		this.name = name;
 	}
 
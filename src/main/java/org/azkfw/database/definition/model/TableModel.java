@@ -18,10 +18,23 @@
 package org.azkfw.database.definition.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * このクラスは、テーブル情報を保持するモデルクラスです。
+ * <p>
+ * フィールド・インデックス・外部キーは名前をキーとしたマップでも保持するため、名前による取得は一定時間で行えます。
+ * 追加は各 <code>add</code> メソッドで行ってください。
+ * </p>
+ * <p>
+ * ローダーを設定した場合、フィールド・インデックス・外部キー情報は初めて参照した時に読み込みます。
+ * 参照はローダーをロックして行い、{@link #unload()} は新しいリスト・マップに置き換えるため、破棄前に取得したリストは破棄の影響を受けません。
+ * </p>
+ * <p>
+ * {@link DatabaseModel#freeze()} で凍結したテーブルは変更できません。変更するメソッドは {@link UnsupportedOperationException} をスローします。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/04
@@ -41,6 +54,9 @@ public final class TableModel {
 	/** コメント */
 	private String comment;
 
+	/** バージョン */
+	private String version;
+
 	/** フィールドリスト */
 	private List<FieldModel> fields;
 
@@ -50,6 +66,27 @@ public final class TableModel {
 	/** 外部キーリスト */
 	private List<ForeignKeyModel> foreignKeys;
 
+	/** ローダー */
+	private TableModelLoader loader;
+
+	/** 読込済みフラグ */
+	private boolean loaded;
+
+	/** 最終参照日時 */
+	private long accessTime;
+
+	/** フィールドマップ */
+	private Map<String, FieldModel> fieldMap;
+
+	/** インデックスマップ */
+	private Map<String, IndexModel> indexMap;
+
+	/** 外部キーマップ */
+	private Map<String, ForeignKeyModel> foreignKeyMap;
+
+	/** 凍結フラグ */
+	private final boolean frozen;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -58,9 +95,64 @@ public final class TableModel {
 		schema = null;
 		name = null;
 		comment = null;
+		version = null;
 		fields = new ArrayList<FieldModel>();
 		indexs = new ArrayList<IndexModel>();
 		foreignKeys = new ArrayList<ForeignKeyModel>();
+		fieldMap = new HashMap<String, FieldModel>();
+		indexMap = new HashMap<String, IndexModel>();
+		foreignKeyMap = new HashMap<String, ForeignKeyModel>();
+		loader = null;
+		loaded = true;
+		accessTime = 0L;
+		frozen = false;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 凍結したテーブルを生成します。フィールド・インデックス・外部キーは余分な容量のない配列で保持し、マップは作成しません。
+	 * </p>
+	 * 
+	 * @param source 凍結するテーブル
+	 * @param schema スキーマ
+	 * @param fields フィールドリスト
+	 * @param indexs インデックスリスト
+	 * @param foreignKeys 外部キーリスト
+	 * @param freezer 凍結処理
+	 */
+	TableModel(final TableModel source, final SchemaModel schema, final List<FieldModel> fields, final List<IndexModel> indexs,
+			final List<ForeignKeyModel> foreignKeys, final ModelFreezer freezer) {
+		label = freezer.intern(source.getLabel());
+		this.schema = schema;
+		name = freezer.intern(source.getName());
+		comment = source.getComment();
+		version = source.getVersion();
+		this.fields = new FrozenFieldList(fields);
+		this.indexs = new FrozenIndexList(indexs);
+		this.foreignKeys = new FrozenForeignKeyList(foreignKeys);
+		fieldMap = null;
+		indexMap = null;
+		foreignKeyMap = null;
+		loader = null;
+		loaded = true;
+		accessTime = 0L;
+		frozen = true;
+	}
+
+	/**
+	 * 凍結したテーブルか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkMutable() {
+		if (frozen) {
+			throw new UnsupportedOperationException(String.format("Frozen table.[%s]", name));
+		}
 	}
 
 	/**
@@ -69,6 +161,7 @@ public final class TableModel {
 	 * @param label ラベル
 	 */
 	public void setLabel(final String label) {
+		checkMutable();
 		this.label = label;
 	}
 
@@ -87,6 +180,7 @@ public final class TableModel {
 	 * @param schema スキーマ
 	 */
 	public void setSchema(final SchemaModel schema) {
+		checkMutable();
 		this.schema = schema;
 	}
 
@@ -105,6 +199,7 @@ public final class TableModel {
 	 * @param name テーブル名
 	 */
 	public void setName(final String name) {
+		checkMutable();
 		this.name = name;
 	}
 
@@ -123,6 +218,7 @@ public final class TableModel {
 	 * @param comment コメント
 	 */
 	public void setComment(final String comment) {
+		checkMutable();
 		this.comment = comment;
 	}
 
@@ -135,13 +231,141 @@ public final class TableModel {
 		return comment;
 	}
 
+	/**
+	 * バージョンを設定する。
+	 * 
+	 * @param version バージョン
+	 */
+	public void setVersion(final String version) {
+		checkMutable();
+		this.version = version;
+	}
+
+	/**
+	 * バージョンを取得する。
+	 * <p>
+	 * バージョンはテーブル定義が変更された場合に変化する文字列です。差分更新で変更されたテーブルを判断する為に使用します。
+	 * </p>
+	 * 
+	 * @return バージョン。取得していない場合、<code>null</code>を返す。
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * ローダーを設定する。
+	 * <p>
+	 * ローダーを設定すると、フィールド・インデックス・外部キー情報は未読込の状態になります。
+	 * </p>
+	 * 
+	 * @param loader ローダー
+	 */
+	public void setLoader(final TableModelLoader loader) {
+		checkMutable();
+		this.loader = loader;
+		this.loaded = (null == loader);
+	}
+
+	/**
+	 * フィールド・インデックス・外部キー情報が読込済みか判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isLoaded() {
+		if (null == loader) {
+			return true;
+		}
+		synchronized (loader) {
+			return loaded;
+		}
+	}
+
+	/**
+	 * 最終参照日時を取得する。
+	 * <p>
+	 * ローダーを設定している場合のみ記録します。
+	 * </p>
+	 * 
+	 * @return 最終参照日時(ミリ秒)
+	 */
+	public long getAccessTime() {
+		if (null == loader) {
+			return 0L;
+		}
+		synchronized (loader) {
+			return accessTime;
+		}
+	}
+
+	/**
+	 * 読み込んだフィールド・インデックス・外部キー情報を破棄する。
+	 * <p>
+	 * ローダーを設定している場合のみ破棄し、次回参照した時に再度読み込みます。
+	 * 取得済みのリストを参照中のスレッドがあるため、リスト・マップはクリアせずに新しいインスタンスへ置き換えます。
+	 * </p>
+	 */
+	public void unload() {
+		if (null == loader) {
+			return;
+		}
+		synchronized (loader) {
+			fields = new ArrayList<FieldModel>();
+			indexs = new ArrayList<IndexModel>();
+			foreignKeys = new ArrayList<ForeignKeyModel>();
+			fieldMap = new HashMap<String, FieldModel>();
+			indexMap = new HashMap<String, IndexModel>();
+			foreignKeyMap = new HashMap<String, ForeignKeyModel>();
+			loaded = false;
+		}
+	}
+
+	/**
+	 * フィールド・インデックス・外部キー情報が未読込の場合、読み込む。
+	 */
+	private void load() {
+		if (null == loader) {
+			return;
+		}
+		synchronized (loader) {
+			accessTime = System.currentTimeMillis();
+			if (!loaded) {
+				loaded = true;
+				boolean success = false;
+				try {
+					loader.load(this);
+					success = true;
+				} finally {
+					if (!success) {
+						unload();
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * フィールドを追加する。
 	 * 
 	 * @param field フィールド
 	 */
 	public void addField(final FieldModel field) {
+		checkMutable();
+		if (null == loader) {
+			doAddField(field);
+		} else {
+			synchronized (loader) {
+				load();
+				doAddField(field);
+			}
+		}
+	}
+
+	private void doAddField(final FieldModel field) {
 		fields.add(field);
+		if (!fieldMap.containsKey(field.getName())) {
+			fieldMap.put(field.getName(), field);
+		}
 	}
 
 	/**
@@ -150,7 +374,13 @@ public final class TableModel {
 	 * @return フィールドリスト
 	 */
 	public List<FieldModel> getFields() {
-		return fields;
+		if (null == loader) {
+			return fields;
+		}
+		synchronized (loader) {
+			load();
+			return fields;
+		}
 	}
 
 	/**
@@ -160,12 +390,16 @@ public final class TableModel {
 	 * @return フィールド。フィールドが存在しない場合、<code>null</code>を返す。
 	 */
 	public FieldModel getField(final String name) {
-		for (FieldModel field : fields) {
-			if (field.getName().equals(name)) {
-				return field;
-			}
+		if (frozen) {
+			return ((FrozenList<FieldModel>) fields).find(name);
+		}
+		if (null == loader) {
+			return fieldMap.get(name);
+		}
+		synchronized (loader) {
+			load();
+			return fieldMap.get(name);
 		}
-		return null;
 	}
 
 	/**
@@ -174,7 +408,22 @@ public final class TableModel {
 	 * @param index インデックス
 	 */
 	public void addIndex(final IndexModel index) {
+		checkMutable();
+		if (null == loader) {
+			doAddIndex(index);
+		} else {
+			synchronized (loader) {
+				load();
+				doAddIndex(index);
+			}
+		}
+	}
+
+	private void doAddIndex(final IndexModel index) {
 		indexs.add(index);
+		if (!indexMap.containsKey(index.getName())) {
+			indexMap.put(index.getName(), index);
+		}
 	}
 
 	/**
@@ -183,7 +432,13 @@ public final class TableModel {
 	 * @return インデックスリスト
 	 */
 	public List<IndexModel> getIndexs() {
-		return indexs;
+		if (null == loader) {
+			return indexs;
+		}
+		synchronized (loader) {
+			load();
+			return indexs;
+		}
 	}
 
 	/**
@@ -193,12 +448,16 @@ public final class TableModel {
 	 * @return インデックス。インデックスが存在しない場合、<code>null</code>を返す。
 	 */
 	public IndexModel getIndex(final String name) {
-		for (IndexModel index : indexs) {
-			if (index.getName().equals(name)) {
-				return index;
-			}
+		if (frozen) {
+			return ((FrozenList<IndexModel>) indexs).find(name);
+		}
+		if (null == loader) {
+			return indexMap.get(name);
+		}
+		synchronized (loader) {
+			load();
+			return indexMap.get(name);
 		}
-		return null;
 	}
 
 	/**
@@ -207,7 +466,22 @@ public final class TableModel {
 	 * @param foreignKey 外部キー
 	 */
 	public void addForeignKey(final ForeignKeyModel foreignKey) {
-		this.foreignKeys.add(foreignKey);
+		checkMutable();
+		if (null == loader) {
+			doAddForeignKey(foreignKey);
+		} else {
+			synchronized (loader) {
+				load();
+				doAddForeignKey(foreignKey);
+			}
+		}
+	}
+
+	private void doAddForeignKey(final ForeignKeyModel foreignKey) {
+		foreignKeys.add(foreignKey);
+		if (!foreignKeyMap.containsKey(foreignKey.getName())) {
+			foreignKeyMap.put(foreignKey.getName(), foreignKey);
+		}
 	}
 
 	/**
@@ -216,7 +490,13 @@ public final class TableModel {
 	 * @return 外部キーリスト
 	 */
 	public List<ForeignKeyModel> getForeignKeys() {
-		return foreignKeys;
+		if (null == loader) {
+			return foreignKeys;
+		}
+		synchronized (loader) {
+			load();
+			return foreignKeys;
+		}
 	}
 
 	/**
@@ -226,12 +506,16 @@ public final class TableModel {
 	 * @return 外部キー。外部キーが存在しない場合、<code>null</code>を返す。
 	 */
 	public ForeignKeyModel getForeignKey(final String name) {
-		for (ForeignKeyModel foreignKey : foreignKeys) {
-			if (foreignKey.getName().equals(name)) {
-				return foreignKey;
-			}
+		if (frozen) {
+			return ((FrozenList<ForeignKeyModel>) foreignKeys).find(name);
+		}
+		if (null == loader) {
+			return foreignKeyMap.get(name);
+		}
+		synchronized (loader) {
+			load();
+			return foreignKeyMap.get(name);
 		}
-		return null;
 	}
 
 	/**
@@ -240,11 +524,47 @@ public final class TableModel {
 	 * @return 主キーが存在しない場合、<code>null</code>を返す。
 	 */
 	public IndexModel getPrimaryIndex() {
-		for (IndexModel index : indexs) {
+		for (IndexModel index : getIndexs()) {
 			if (index.isPrimaryKey()) {
 				return index;
 			}
 		}
 		return null;
 	}
+
+	private static final class FrozenFieldList extends FrozenList<FieldModel> {
+
+		private FrozenFieldList(final List<FieldModel> fields) {
+			super(fields);
+		}
+
+		@Override
+		protected String getName(final FieldModel element) {
+			return element.getName();
+		}
+	}
+
+	private static final class FrozenIndexList extends FrozenList<IndexModel> {
+
+		private FrozenIndexList(final List<IndexModel> indexs) {
+			super(indexs);
+		}
+
+		@Override
+		protected String getName(final IndexModel element) {
+			return element.getName();
+		}
+	}
+
+	private static final class FrozenForeignKeyList extends FrozenList<ForeignKeyModel> {
+
+		private FrozenForeignKeyList(final List<ForeignKeyModel> foreignKeys) {
+			super(foreignKeys);
+		}
+
+		@Override
+		protected String getName(final ForeignKeyModel element) {
+			return element.getName();
+		}
+	}
 }
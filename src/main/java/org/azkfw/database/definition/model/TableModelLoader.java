@@ -0,0 +1,39 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.model;
+
+/**
+ * このインターフェースは、テーブルの詳細情報を遅延読込するローダーを定義したインターフェースです。
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public interface TableModelLoader {
+
+	/**
+	 * テーブルのフィールド・インデックス・外部キー情報を読み込む。
+	 * <p>
+	 * 読み込んだ情報は {@link TableModel#addField(FieldModel)} などでテーブルへ追加してください。
+	 * このメソッドはローダーをロックした状態で呼び出されます。
+	 * </p>
+	 * 
+	 * @param table テーブル情報
+	 */
+	public void load(final TableModel table);
+}
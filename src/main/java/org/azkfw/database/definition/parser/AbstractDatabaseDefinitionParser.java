@@ -17,16 +17,44 @@
  */
 package org.azkfw.database.definition.parser;
 
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.sql.DataSource;
+
+import org.azkfw.database.definition.AbstractDatabaseDefinition;
 import org.azkfw.database.definition.DatabaseDefinition;
+import org.azkfw.database.definition.IntrospectionTimeoutException;
+import org.azkfw.database.definition.JdbcMetaDataDefinition;
+import org.azkfw.database.definition.cache.CachingDatabaseDefinition;
+import org.azkfw.database.definition.cache.CatalogCache;
+import org.azkfw.database.definition.metrics.IntrospectionMetricsSink;
+import org.azkfw.database.definition.metrics.IntrospectionPhase;
+import org.azkfw.database.definition.metrics.IntrospectionTracer;
 import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.ModelInterner;
 import org.azkfw.database.definition.model.SchemaModel;
 import org.azkfw.database.definition.model.TableModel;
+import org.azkfw.database.definition.snapshot.DatabaseModelSnapshot;
 import org.azkfw.lang.LoggingObject;
 
 /**
@@ -38,10 +66,8 @@ import org.azkfw.lang.LoggingObject;
  */
 public abstract class AbstractDatabaseDefinitionParser extends LoggingObject implements DatabaseDefinitionParser {
 
-	/** データベース定義情報 */
-	private DatabaseDefinition definition;
-
-	private DatabaseDefinitionParserOption option;
+	/** 解析オプション。解析開始時に {@link ParseContext} へ取り込み、解析中は参照しない */
+	private volatile DatabaseDefinitionParserOption option;
 
 	private DatabaseDefinitionParserEvent event;
 	private List<DatabaseDefinitionParserListener> listeners;
@@ -51,7 +77,7 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 	 */
 	public AbstractDatabaseDefinitionParser() {
 		super(DatabaseDefinitionParser.class);
-		option = null;
+		option = new DatabaseDefinitionParserOption();
 		event = new DatabaseDefinitionParserEvent(this);
 		listeners = new ArrayList<DatabaseDefinitionParserListener>();
 	}
@@ -63,7 +89,7 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 	 */
 	public AbstractDatabaseDefinitionParser(final Class<?> clazz) {
 		super(clazz);
-		option = null;
+		option = new DatabaseDefinitionParserOption();
 		event = new DatabaseDefinitionParserEvent(this);
 		listeners = new ArrayList<DatabaseDefinitionParserListener>();
 	}
@@ -75,14 +101,14 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 	 */
 	public AbstractDatabaseDefinitionParser(final String name) {
 		super(name);
-		option = null;
+		option = new DatabaseDefinitionParserOption();
 		event = new DatabaseDefinitionParserEvent(this);
 		listeners = new ArrayList<DatabaseDefinitionParserListener>();
 	}
 
 	@Override
 	public final void setOption(final DatabaseDefinitionParserOption option) {
-		this.option = option;
+		this.option = (null != option) ? option : new DatabaseDefinitionParserOption();
 	}
 
 	@Override
@@ -103,19 +129,18 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 	public DatabaseModel parse(final String driver, final String url, final String user, final String password) {
 		DatabaseModel result = null;
 
+		ParseContext context = null;
 		Connection connection = null;
 		try {
 			Class.forName(driver);
 			connection = DriverManager.getConnection(url, user, password);
 
-			if (null == option) {
-				option = new DatabaseDefinitionParserOption();
-			}
-
-			definition = getDefinition(connection);
+			context = new ParseContext(true);
+			// 解析後にコネクションを閉じる為、遅延読込は行わない
+			context.definition = createDefinition(context, connection, true);
 
 			DatabaseModel database = new DatabaseModel();
-			parse(database, connection);
+			parse(context, database, connection, null);
 			result = database;
 
 		} catch (ClassNotFoundException ex) {
@@ -123,6 +148,9 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 		} catch (SQLException ex) {
 			fatal(ex);
 		} finally {
+			if (null != context) {
+				release(context.definition);
+			}
 			release(connection);
 		}
 		return result;
@@ -130,19 +158,91 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 
 	@Override
 	public final DatabaseModel parse(final Connection connection) throws SQLException {
-		DatabaseModel database = new DatabaseModel();
+		return parse(connection, (DataSource) null);
+	}
 
-		if (null == option) {
-			option = new DatabaseDefinitionParserOption();
+	@Override
+	public final DatabaseModel parse(final DataSource dataSource) throws SQLException {
+		return parse(dataSource, new ParseContext(false));
+	}
+
+	@Override
+	public final Future<DatabaseModel> parseAsync(final DataSource dataSource, final Executor executor) {
+		final ParseContext context = new ParseContext(false);
+		FutureTask<DatabaseModel> task = new FutureTask<DatabaseModel>(new Callable<DatabaseModel>() {
+			@Override
+			public DatabaseModel call() throws Exception {
+				return parse(dataSource, context);
+			}
+		}) {
+			@Override
+			public boolean cancel(final boolean mayInterruptIfRunning) {
+				boolean cancelled = super.cancel(mayInterruptIfRunning);
+				if (cancelled && mayInterruptIfRunning) {
+					// 割込みでは応答待ちのクエリを中断できない為、実行中のクエリを取り消す
+					context.cancel();
+				}
+				return cancelled;
+			}
+		};
+		((null != executor) ? executor : ParseExecutors.getDefault()).execute(task);
+		return task;
+	}
+
+	private DatabaseModel parse(final DataSource dataSource, final ParseContext context) throws SQLException {
+		Connection connection = getConnection(context, dataSource);
+		try {
+			return parse(connection, dataSource, context);
+		} finally {
+			// データソースへ返却する
+			release(connection);
+			context.finish();
 		}
+	}
 
-		definition = getDefinition(connection);
+	private DatabaseModel parse(final Connection connection, final DataSource dataSource) throws SQLException {
+		return parse(connection, dataSource, new ParseContext(false));
+	}
 
-		parse(database, connection);
+	private DatabaseModel parse(final Connection connection, final DataSource dataSource, final ParseContext context) throws SQLException {
+		DatabaseModel database = new DatabaseModel();
+
+		context.deadline = context.getDeadline();
+		context.definition = createDefinition(context, connection, null != dataSource);
+
+		boolean attached = false;
+		try {
+			parse(context, database, connection, dataSource);
+			attached = attach(context.definition, database);
+		} finally {
+			// 遅延読込は期限を設けない
+			setDeadline(context.definition, 0L);
+			if (!attached) {
+				release(context.definition);
+			}
+		}
 
 		return database;
 	}
 
+	/**
+	 * 遅延読込を行うデータベース定義を解析結果に設定する。
+	 * <p>
+	 * 遅延読込は解析後もデータベース定義を使用する為、解放せずに {@link DatabaseModel#release()} で解放します。
+	 * </p>
+	 * 
+	 * @param definition データベース定義
+	 * @param database データベース情報
+	 * @return 設定した場合、<code>true</code>
+	 */
+	private static boolean attach(final DatabaseDefinition definition, final DatabaseModel database) {
+		if (definition instanceof AbstractDatabaseDefinition && ((AbstractDatabaseDefinition) definition).isLazyMode()) {
+			database.setResource(definition);
+			return true;
+		}
+		return false;
+	}
+
 	/**
 	 * コネクションを閉じる。
 	 * 
@@ -160,6 +260,17 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 		}
 	}
 
+	/**
+	 * データベース定義が保持するリソースを解放する。
+	 * 
+	 * @param definition データベース定義
+	 */
+	protected final void release(final DatabaseDefinition definition) {
+		if (null != definition) {
+			definition.close();
+		}
+	}
+
 	/**
 	 * データベース定義を取得する。
 	 * 
@@ -168,15 +279,286 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 	 */
 	protected abstract DatabaseDefinition getDefinition(final Connection connection);
 
-	private void parse(final DatabaseModel database, final Connection connection) throws SQLException {
+	/**
+	 * 解析オプションを反映したデータベース定義を生成する。
+	 * <p>
+	 * カタログキャッシュが設定されている場合、キャッシュするデータベース定義を返します。
+	 * キャッシュのキーには、データベースの識別文字列にデータベース定義のクラス名と {@link DatabaseDefinitionParserOption#getFingerprint()} を付加して使用します。
+	 * </p>
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param connection コネクション
+	 * @param pooled 解析後にコネクションを返却する(閉じる)場合、またはデータベース定義を解放する場合、<code>true</code>
+	 * @return データベース定義
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private DatabaseDefinition createDefinition(final ParseContext context, final Connection connection, final boolean pooled)
+			throws SQLException {
+		DatabaseDefinition def = getDefinition(connection);
+		configure(context, def);
+		context.register(def);
+
+		CatalogCache cache = context.option.getCatalogCache();
+		if (pooled || null != cache) {
+			// キャッシュしたテーブルは凍結する為、遅延読込は行わない
+			detach(context, def);
+		}
+		if (null != cache) {
+			try {
+				// 解析結果はデータベース定義の種類と絞込み条件で異なる為、識別文字列に含める
+				String database = String.format("%s#%s#%s", CatalogCache.getDatabaseId(connection), def.getClass().getName(),
+						context.option.getFingerprint());
+				def = new CachingDatabaseDefinition(def, cache, database);
+			} catch (SQLException ex) {
+				release(def);
+				throw ex;
+			}
+		}
+		return def;
+	}
+
+	/**
+	 * データベース定義に解析オプションを反映する。
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param definition データベース定義
+	 */
+	private void configure(final ParseContext context, final DatabaseDefinition definition) {
+		if (definition instanceof AbstractDatabaseDefinition) {
+			AbstractDatabaseDefinition def = (AbstractDatabaseDefinition) definition;
+			def.setBulkMode(context.option.isBulkMode());
+			def.setLazyMode(context.option.isLazyMode());
+			def.setPrefetchSize(context.option.getPrefetchSize());
+			def.setFetchSize(context.option.getFetchSize());
+			// 遅延読込は解析後もコネクションを使用する為、ストリーミングは行わない
+			def.setStreamingMode(context.option.isStreamingMode() && !context.option.isLazyMode());
+			def.setMetricsSink(context.option.getMetricsSink());
+			def.setTracer(context.option.getTracer());
+			def.setCatalogFilter(context.option.getCatalogFilter());
+			def.setInterner(context.interner);
+			def.setQueryTimeout(context.option.getQueryTimeout());
+		} else if (definition instanceof JdbcMetaDataDefinition) {
+			JdbcMetaDataDefinition def = (JdbcMetaDataDefinition) definition;
+			def.setBulkMode(context.option.isBulkMode());
+			def.setMetricsSink(context.option.getMetricsSink());
+			def.setInterner(context.interner);
+		}
+		setDeadline(definition, context.deadline);
+	}
+
+	/**
+	 * データベース定義に解析の期限を設定する。
+	 * 
+	 * @param definition データベース定義
+	 * @param time 期限。期限を設けない場合、0
+	 */
+	private static void setDeadline(final DatabaseDefinition definition, final long time) {
+		if (definition instanceof CachingDatabaseDefinition) {
+			setDeadline(((CachingDatabaseDefinition) definition).getDefinition(), time);
+		} else if (definition instanceof AbstractDatabaseDefinition) {
+			((AbstractDatabaseDefinition) definition).setDeadline(time);
+		} else if (definition instanceof JdbcMetaDataDefinition) {
+			((JdbcMetaDataDefinition) definition).setDeadline(time);
+		}
+	}
+
+	/**
+	 * データベース定義の解析を取り消す。
+	 * 
+	 * @param definition データベース定義
+	 */
+	private static void cancel(final DatabaseDefinition definition) {
+		if (definition instanceof CachingDatabaseDefinition) {
+			cancel(((CachingDatabaseDefinition) definition).getDefinition());
+		} else if (definition instanceof AbstractDatabaseDefinition) {
+			((AbstractDatabaseDefinition) definition).cancel();
+		} else if (definition instanceof JdbcMetaDataDefinition) {
+			((JdbcMetaDataDefinition) definition).cancel();
+		}
+	}
+
+	/**
+	 * タイムアウトにより解析が完了していないスキーマを記録する。
+	 * <p>
+	 * 部分結果モードが無効な場合は例外をスローします。テーブル一覧を取得済みの場合、テーブルを追加し、詳細情報を取得できていないテーブルを記録します。
+	 * </p>
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param database データベース情報
+	 * @param schema スキーマ情報
+	 * @param ex 例外
+	 * @throws SQLTimeoutException 部分結果モードが無効な場合
+	 */
+	private void incomplete(final ParseContext context, final DatabaseModel database, final SchemaModel schema, final SQLTimeoutException ex) throws SQLTimeoutException {
+		if (!context.option.isPartialResult()) {
+			throw ex;
+		}
+
+		if (ex instanceof IntrospectionTimeoutException) {
+			IntrospectionTimeoutException timeout = (IntrospectionTimeoutException) ex;
+			Set<TableModel> incompletes = new HashSet<TableModel>(timeout.getIncompleteTables());
+			for (TableModel table : filterTables(context, timeout.getTables())) {
+				database.addTable(table);
+				if (incompletes.contains(table)) {
+					database.addIncompleteTable(table);
+				}
+			}
+		}
+		database.addIncompleteSchema(schema.getName());
+		warn(String.format("Incomplete schema.[%s] %s", schema.getName(), ex.getMessage()));
+	}
+
+	/**
+	 * 解析後にコネクションを返却するデータベース定義の設定を行う。
+	 * <p>
+	 * 遅延読込は解析後もコネクションを使用する為、無効にします。
+	 * </p>
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param definition データベース定義
+	 */
+	private void detach(final ParseContext context, final DatabaseDefinition definition) {
+		if (definition instanceof AbstractDatabaseDefinition) {
+			((AbstractDatabaseDefinition) definition).setLazyMode(false);
+			((AbstractDatabaseDefinition) definition).setStreamingMode(context.option.isStreamingMode());
+		}
+	}
+
+	@Override
+	public final DatabaseModel parse(final Connection connection, final File snapshot) throws SQLException {
+		ParseContext context = new ParseContext(true);
+		context.definition = createDefinition(context, connection, false);
+
+		boolean attached = false;
+		try {
+			String version = context.definition.getCatalogVersion();
+			String fingerprint = context.option.getFingerprint();
+			if (null != version && snapshot.isFile()) {
+				try {
+					DatabaseModelSnapshot ss = DatabaseModelSnapshot.read(snapshot);
+					if (version.equals(ss.getCatalogVersion()) && fingerprint.equals(ss.getOptionFingerprint())) {
+						debug(String.format("Load snapshot.[%s]", snapshot.getPath()));
+						return ss.getDatabase();
+					}
+				} catch (IOException ex) {
+					warn(ex);
+				}
+			}
+
+			DatabaseModel database = new DatabaseModel();
+			parse(context, database, connection, null);
+
+			if (null != version && database.isComplete()) {
+				try {
+					new DatabaseModelSnapshot(database, version, fingerprint).write(snapshot);
+				} catch (IOException ex) {
+					warn(ex);
+				}
+			}
+
+			attached = attach(context.definition, database);
+			return database;
+		} finally {
+			setDeadline(context.definition, 0L);
+			if (!attached) {
+				release(context.definition);
+			}
+		}
+	}
+
+	@Override
+	public final DatabaseModel refresh(final DataSource dataSource, final DatabaseModel previous) throws SQLException {
+		ParseContext context = new ParseContext(false);
+		Connection connection = getConnection(context, dataSource);
+		try {
+			return refresh(context, connection, previous, true);
+		} finally {
+			// データソースへ返却する
+			release(connection);
+		}
+	}
+
+	@Override
+	public final DatabaseModel refresh(final Connection connection, final DatabaseModel previous) throws SQLException {
+		return refresh(new ParseContext(false), connection, previous, false);
+	}
+
+	private DatabaseModel refresh(final ParseContext context, final Connection connection, final DatabaseModel previous, final boolean pooled)
+			throws SQLException {
+		context.deadline = context.getDeadline();
+		context.definition = createDefinition(context, connection, pooled);
+
+		DatabaseModel database = new DatabaseModel();
+		boolean attached = false;
+		try {
+			fireStarted();
+
+			for (SchemaModel schema : context.definition.getSchemaList()) {
+				if (context.option.isEnableSchema(schema)) {
+					try {
+						refreshSchema(context, context.definition, database, schema, previous);
+					} catch (SQLTimeoutException ex) {
+						if (!context.option.isPartialResult()) {
+							throw ex;
+						}
+						// 前回のテーブル情報を返す
+						for (TableModel table : previous.getTables()) {
+							if (null != table.getSchema() && schema.getName().equals(table.getSchema().getName())) {
+								database.addTable(table);
+							}
+						}
+						database.addIncompleteSchema(schema.getName());
+						warn(String.format("Incomplete schema.[%s] %s", schema.getName(), ex.getMessage()));
+					}
+				} else {
+					debug(String.format("Exclude schema.[%s]", schema.getName()));
+				}
+			}
+
+			fireFinished();
+			attached = attach(context.definition, database);
+		} finally {
+			setDeadline(context.definition, 0L);
+			if (!attached) {
+				release(context.definition);
+			}
+		}
+		return database;
+	}
+
+	@Override
+	public final DatabaseDefinitionPublisher publish(final Connection connection) {
+		return new TablePublisher(connection, new ParseContext(false));
+	}
+
+	private void parse(final ParseContext context, final DatabaseModel database, final Connection connection, final DataSource dataSource)
+			throws SQLException {
+		IntrospectionTracer tracer = context.option.getTracer();
+		Object span = (null != tracer) ? tracer.start(IntrospectionPhase.PARSE, null, null, null) : null;
+		boolean failed = true;
+		try {
+			fireStarted();
+
+			parseDatabase(context, database, connection, dataSource);
+
+			fireFinished();
+			failed = false;
+		} finally {
+			if (null != span) {
+				tracer.end(span, database.getTables().size(), failed);
+			}
+		}
+	}
+
+	private void fireStarted() {
 		synchronized (listeners) {
 			for (DatabaseDefinitionParserListener l : listeners) {
 				l.databaseDefinitionParserStarted(event);
 			}
 		}
+	}
 
-		parseDatabase(database, connection);
-
+	private void fireFinished() {
 		synchronized (listeners) {
 			for (DatabaseDefinitionParserListener l : listeners) {
 				l.databaseDefinitionParserFinished(event);
@@ -184,25 +566,710 @@ public abstract class AbstractDatabaseDefinitionParser extends LoggingObject imp
 		}
 	}
 
-	private void parseDatabase(final DatabaseModel database, final Connection connection) throws SQLException {
-		List<SchemaModel> schemas = definition.getSchemaList();
-		for (SchemaModel schema : schemas) {
-			if (option.isEnableSchema(schema)) {
-				parseDatabase(database, schema, connection);
+	private void parseDatabase(final ParseContext context, final DatabaseModel database, final Connection connection,
+			final DataSource dataSource) throws SQLException {
+		List<SchemaModel> schemas = new ArrayList<SchemaModel>();
+		for (SchemaModel schema : context.definition.getSchemaList()) {
+			if (context.option.isEnableSchema(schema)) {
+				schemas.add(schema);
 			} else {
 				debug(String.format("Exclude schema.[%s]", schema.getName()));
 			}
 		}
+
+		DataSource parallelDataSource = (null != context.option.getDataSource()) ? context.option.getDataSource() : dataSource;
+		if (null != parallelDataSource && 1 < context.option.getParallelism() && !schemas.isEmpty()) {
+			parseDatabaseParallel(context, database, schemas, parallelDataSource);
+		} else {
+			for (SchemaModel schema : schemas) {
+				if (Thread.currentThread().isInterrupted()) {
+					throw new SQLException("Interrupted parse.");
+				}
+				try {
+					parseDatabase(context, context.definition, database, schema);
+				} catch (SQLTimeoutException ex) {
+					incomplete(context, database, schema, ex);
+				}
+			}
+		}
 	}
 
-	private void parseDatabase(final DatabaseModel database, final SchemaModel schema, final Connection connection) throws SQLException {
-		List<TableModel> tables = definition.getTableList(schema);
-		for (TableModel table : tables) {
-			if (option.isEnableTable(table)) {
+	private void parseDatabase(final ParseContext context, final DatabaseDefinition def, final DatabaseModel database, final SchemaModel schema)
+			throws SQLException {
+		for (TableModel table : parseSchema(context, def, schema)) {
+			database.addTable(table);
+		}
+	}
+
+	/**
+	 * スキーマに属する解析対象のテーブル情報一覧を取得する。
+	 * <p>
+	 * テーブル情報にはバージョンを設定します。解析中の定義変更を差分更新で検知できるよう、バージョンはテーブル情報より先に取得します。
+	 * </p>
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param def データベース定義
+	 * @param schema スキーマ情報
+	 * @return テーブル情報一覧
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private List<TableModel> parseSchema(final ParseContext context, final DatabaseDefinition def, final SchemaModel schema) throws SQLException {
+		long start = System.nanoTime();
+		IntrospectionTracer tracer = context.option.getTracer();
+		Object span = (null != tracer) ? tracer.start(IntrospectionPhase.SCHEMA, null, schema.getName(), null) : null;
+		List<TableModel> result = null;
+		try {
+			Map<String, String> versions = def.getTableVersions(schema);
+			List<TableModel> tables = def.getTableList(schema);
+			if (null != versions) {
+				for (TableModel table : tables) {
+					if (!table.isFrozen()) {
+						table.setVersion(versions.get(table.getName()));
+					}
+				}
+			}
+			result = filterTables(context, tables);
+		} finally {
+			if (null != span) {
+				tracer.end(span, (null != result) ? result.size() : 0L, null == result);
+			}
+		}
+
+		IntrospectionMetricsSink sink = context.option.getMetricsSink();
+		if (null != sink) {
+			sink.schemaParsed(schema.getName(), result.size(), System.nanoTime() - start);
+		}
+		return result;
+	}
+
+	/**
+	 * スキーマに属するテーブルを差分更新する。
+	 * <p>
+	 * バージョンが一致するテーブルは前回のテーブル情報を再利用し、変更・追加されたテーブルのみ解析します。
+	 * 削除されたテーブルはバージョン一覧に存在しないため除外されます。 変更されたテーブルが半数を超える場合は、スキーマ単位で一括取得します。
+	 * </p>
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param def データベース定義
+	 * @param database データベース情報
+	 * @param schema スキーマ情報
+	 * @param previous 前回のデータベース情報
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private void refreshSchema(final ParseContext context, final DatabaseDefinition def, final DatabaseModel database, final SchemaModel schema,
+			final DatabaseModel previous) throws SQLException {
+		Map<String, String> versions = def.getTableVersions(schema);
+		if (null == versions) {
+			// バージョンを取得できない場合は全て解析する
+			for (TableModel table : parseSchema(context, def, schema)) {
 				database.addTable(table);
+			}
+			return;
+		}
+
+		Set<String> changes = new HashSet<String>();
+		for (Map.Entry<String, String> entry : versions.entrySet()) {
+			TableModel table = previous.getTable(schema.getName(), entry.getKey());
+			if (null == table || null == entry.getValue() || !entry.getValue().equals(table.getVersion())) {
+				changes.add(entry.getKey());
+			}
+		}
+		debug(String.format("Refresh schema.[%s] %d/%d tables changed.", schema.getName(), changes.size(), versions.size()));
+
+		Map<String, TableModel> fetches = new HashMap<String, TableModel>();
+		if (1 < changes.size() && versions.size() < changes.size() * 2) {
+			for (TableModel table : def.getTableList(schema)) {
+				if (changes.contains(table.getName())) {
+					fetches.put(table.getName(), table);
+				}
+			}
+		} else {
+			for (String name : changes) {
+				TableModel table = def.getTable(schema, name);
+				if (null != table) {
+					fetches.put(name, table);
+				}
+			}
+		}
+
+		List<TableModel> tables = new ArrayList<TableModel>(versions.size());
+		for (Map.Entry<String, String> entry : versions.entrySet()) {
+			TableModel table;
+			if (changes.contains(entry.getKey())) {
+				table = fetches.get(entry.getKey());
+				if (null == table) {
+					// バージョン取得後に削除されたテーブル
+					continue;
+				}
+				if (!table.isFrozen()) {
+					table.setVersion(entry.getValue());
+				}
+			} else {
+				table = previous.getTable(schema.getName(), entry.getKey());
+			}
+			tables.add(table);
+		}
+
+		for (TableModel table : filterTables(context, tables)) {
+			database.addTable(table);
+		}
+	}
+
+	/**
+	 * 解析を複数のコネクションで並列に実行する。
+	 * <p>
+	 * 一括取得できるデータベース定義の場合、テーブル一覧をこのスレッドで取得し、詳細情報を先読み件数ずつのテーブルに分けて並列に読み込みます。
+	 * その為、テーブル数の多いスキーマも複数のコネクションで解析します。それ以外のデータベース定義はスキーマ単位で並列に解析します。
+	 * </p>
+	 * <p>
+	 * 解析は {@link DatabaseDefinitionParserOption#getExecutor()} で実行し、並列数分のコネクションをデータソースから取得して解析単位を順に処理します。
+	 * 解析結果はスキーマ一覧・テーブル一覧の順序でデータベース情報へ追加するため、結果の順序は逐次解析と同じになります。
+	 * </p>
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param database データベース情報
+	 * @param schemas スキーマ情報一覧
+	 * @param dataSource データソース
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private void parseDatabaseParallel(final ParseContext context, final DatabaseModel database, final List<SchemaModel> schemas,
+			final DataSource dataSource) throws SQLException {
+		final List<ParseTask> tasks = createTasks(context, schemas);
+		final AtomicInteger next = new AtomicInteger();
+		final AtomicBoolean aborted = new AtomicBoolean();
+
+		int threads = Math.min(context.option.getParallelism(), tasks.size());
+		Executor executor = (null != context.option.getExecutor()) ? context.option.getExecutor() : ParseExecutors.getDefault();
+		List<FutureTask<Void>> workers = new ArrayList<FutureTask<Void>>(threads);
+		for (int i = 0; i < threads; i++) {
+			FutureTask<Void> worker = new FutureTask<Void>(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					Connection connection = null;
+					DatabaseDefinition def = null;
+					try {
+						for (int index = next.getAndIncrement(); index < tasks.size() && !aborted.get(); index = next.getAndIncrement()) {
+							ParseTask task = tasks.get(index);
+							if (null != task.failure) {
+								continue;
+							}
+							try {
+								if (null == def) {
+									connection = getConnection(context, dataSource);
+									// コネクションを返却する為、遅延読込は行わない
+									def = createDefinition(context, connection, true);
+								}
+								if (null == task.tables) {
+									task.result = parseSchema(context, def, task.schema);
+								} else {
+									((AbstractDatabaseDefinition) def).parseTables(task.schema, task.tables);
+									task.result = task.tables;
+								}
+							} catch (SQLException ex) {
+								task.failure = ex;
+								if (!(ex instanceof SQLTimeoutException)) {
+									aborted.set(true);
+								}
+							}
+						}
+					} finally {
+						release(def);
+						release(connection);
+					}
+					return null;
+				}
+			});
+			workers.add(worker);
+			executor.execute(worker);
+		}
+
+		try {
+			for (FutureTask<Void> worker : workers) {
+				worker.get();
+			}
+		} catch (InterruptedException ex) {
+			for (FutureTask<Void> worker : workers) {
+				worker.cancel(true);
+			}
+			context.cancel();
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted parallel parse.", ex);
+		} catch (ExecutionException ex) {
+			context.cancel();
+			throw new SQLException(ex.getCause());
+		}
+
+		// スキーマ毎に解析結果を追加する
+		for (int i = 0; i < tasks.size();) {
+			SchemaModel schema = tasks.get(i).schema;
+			List<TableModel> tables = new ArrayList<TableModel>();
+			List<TableModel> incompletes = new ArrayList<TableModel>();
+			SQLTimeoutException timeout = null;
+			boolean batch = true;
+			for (; i < tasks.size() && schema == tasks.get(i).schema; i++) {
+				ParseTask task = tasks.get(i);
+				batch &= (null != task.tables);
+				if (null == task.failure) {
+					tables.addAll(task.result);
+				} else if (task.failure instanceof SQLTimeoutException) {
+					if (null == timeout) {
+						timeout = (SQLTimeoutException) task.failure;
+					}
+					if (null != task.tables) {
+						tables.addAll(task.tables);
+						incompletes.addAll(task.tables);
+					}
+				} else {
+					throw task.failure;
+				}
+			}
+
+			if (null == timeout) {
+				for (TableModel table : tables) {
+					database.addTable(table);
+				}
+			} else if (batch) {
+				incomplete(context, database, schema, new IntrospectionTimeoutException(timeout, tables, incompletes));
+			} else {
+				incomplete(context, database, schema, timeout);
+			}
+		}
+	}
+
+	/**
+	 * 並列解析の解析単位を作成する。
+	 * <p>
+	 * 一括取得できるデータベース定義の場合、スキーマ毎にテーブル一覧を取得し、先読み件数ずつのテーブルに分けます。
+	 * テーブル一覧の取得でタイムアウトした場合、失敗した解析単位として作成します。
+	 * </p>
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param schemas スキーマ情報一覧
+	 * @return 解析単位の一覧
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private List<ParseTask> createTasks(final ParseContext context, final List<SchemaModel> schemas) throws SQLException {
+		List<ParseTask> tasks = new ArrayList<ParseTask>();
+		if (!(context.definition instanceof AbstractDatabaseDefinition)) {
+			for (SchemaModel schema : schemas) {
+				tasks.add(new ParseTask(schema, null));
+			}
+			return tasks;
+		}
+
+		// テーブル一覧のみを取得する
+		AbstractDatabaseDefinition def = (AbstractDatabaseDefinition) context.definition;
+		boolean lazyMode = def.isLazyMode();
+		def.setLazyMode(true);
+		try {
+			int size = Math.max(context.option.getPrefetchSize(), 1);
+			for (SchemaModel schema : schemas) {
+				List<TableModel> tables;
+				try {
+					tables = parseSchema(context, def, schema);
+				} catch (SQLTimeoutException ex) {
+					ParseTask task = new ParseTask(schema, null);
+					task.failure = ex;
+					tasks.add(task);
+					continue;
+				}
+				if (tables.isEmpty()) {
+					ParseTask task = new ParseTask(schema, tables);
+					task.result = tables;
+					tasks.add(task);
+				}
+				for (int i = 0; i < tables.size(); i += size) {
+					tasks.add(new ParseTask(schema, new ArrayList<TableModel>(tables.subList(i, Math.min(i + size, tables.size())))));
+				}
+			}
+		} finally {
+			def.setLazyMode(lazyMode);
+		}
+		return tasks;
+	}
+
+	/**
+	 * データソースからコネクションを取得する。
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param dataSource データソース
+	 * @return コネクション
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private Connection getConnection(final ParseContext context, final DataSource dataSource) throws SQLException {
+		long start = System.nanoTime();
+		Connection connection = dataSource.getConnection();
+
+		IntrospectionMetricsSink sink = context.option.getMetricsSink();
+		if (null != sink) {
+			sink.connectionAcquired(System.nanoTime() - start);
+		}
+		return connection;
+	}
+
+	/**
+	 * 解析対象のテーブルを抽出する。
+	 * 
+	 * @param context 解析コンテキスト
+	 * @param tables テーブル情報一覧
+	 * @return 解析対象のテーブル情報一覧
+	 */
+	private List<TableModel> filterTables(final ParseContext context, final List<TableModel> tables) {
+		List<TableModel> result = new ArrayList<TableModel>(tables.size());
+		for (TableModel table : tables) {
+			if (context.option.isEnableTable(table)) {
+				result.add(table);
 			} else {
 				debug(String.format("Exclude table.[%s.%s]", table.getSchema().getName(), table.getName()));
 			}
 		}
+		return result;
+	}
+
+	/**
+	 * このクラスは、テーブル情報を逐次発行するパブリッシャークラスです。
+	 * <p>
+	 * スキーマ毎にテーブル一覧を取得し、フィールド・インデックス・外部キー情報は要求件数(先読み件数を上限とする)分のテーブルずつ、
+	 * テーブル名で絞り込んだ一括取得で読み込みます。発行したテーブル情報は保持せず、未発行のテーブルは解析中のスキーマのテーブル一覧のみ保持します。
+	 * 詳細情報をまとめて読み込めないデータベース定義(カタログキャッシュを使用する場合など)では、スキーマ単位で取得します。
+	 * </p>
+	 * <p>
+	 * 発行は1つのスレッドのみで行います。発行中に他のスレッドから呼び出された {@link #request(long)}、{@link #cancel()} は状態のみを更新し、
+	 * 終了の通知・リソースの解放は発行中のスレッドで行います。
+	 * </p>
+	 */
+	private final class TablePublisher implements DatabaseDefinitionPublisher, DatabaseDefinitionSubscription {
+
+		/** コネクション */
+		private final Connection connection;
+
+		/** 解析コンテキスト */
+		private final ParseContext context;
+
+		/** サブスクライバー */
+		private DatabaseDefinitionSubscriber subscriber;
+
+		/** データベース定義 */
+		private DatabaseDefinition def;
+
+		/** 未解析のスキーマ */
+		private Iterator<SchemaModel> schemas;
+
+		/** 解析中のスキーマ */
+		private SchemaModel schema;
+
+		/** 未発行のテーブル */
+		private final LinkedList<TableModel> pending;
+
+		/** 要求件数 */
+		private long demand;
+
+		/** 通知する例外 */
+		private Throwable failure;
+
+		/** 発行中フラグ */
+		private boolean emitting;
+
+		/** 終了フラグ */
+		private boolean done;
+
+		private TablePublisher(final Connection connection, final ParseContext context) {
+			this.connection = connection;
+			this.context = context;
+			this.pending = new LinkedList<TableModel>();
+		}
+
+		@Override
+		public void subscribe(final DatabaseDefinitionSubscriber subscriber) {
+			synchronized (this) {
+				if (null != this.subscriber) {
+					// 購読開始を通知してから例外を通知する
+					subscriber.onSubscribe(new DatabaseDefinitionSubscription() {
+						@Override
+						public void request(final long n) {
+						}
+
+						@Override
+						public void cancel() {
+						}
+					});
+					subscriber.onError(new IllegalStateException("Already subscribed."));
+					return;
+				}
+				this.subscriber = subscriber;
+			}
+			subscriber.onSubscribe(this);
+		}
+
+		@Override
+		public void request(final long n) {
+			synchronized (this) {
+				if (done) {
+					return;
+				}
+				if (0 >= n) {
+					// 発行中の場合は発行中のスレッドで通知する
+					if (null == failure) {
+						failure = new IllegalArgumentException(String.format("Non-positive request.[%d]", n));
+					}
+				} else {
+					demand = (Long.MAX_VALUE - demand < n) ? Long.MAX_VALUE : demand + n;
+				}
+				if (emitting) {
+					return;
+				}
+				emitting = true;
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			synchronized (this) {
+				if (done) {
+					return;
+				}
+				done = true;
+				if (emitting) {
+					// 発行中のスレッドで解放する
+					return;
+				}
+			}
+			close();
+		}
+
+		/**
+		 * 要求件数分のテーブル情報を発行する。
+		 * <p>
+		 * 要求件数が0になった場合のみ発行中フラグを戻して終了します。それ以外(完了・例外・取り消し・サブスクライバーの例外)で終了する場合、
+		 * 終了状態にしてリソースを解放します。
+		 * </p>
+		 */
+		private void drain() {
+			boolean idle = false;
+			try {
+				while (true) {
+					Throwable error;
+					long requested;
+					synchronized (this) {
+						if (done) {
+							// 取り消し
+							return;
+						}
+						error = failure;
+						requested = demand;
+						if (null == error && 0 == demand) {
+							emitting = false;
+							idle = true;
+							return;
+						}
+					}
+					if (null != error) {
+						finish();
+						subscriber.onError(error);
+						return;
+					}
+
+					TableModel table;
+					try {
+						table = next(requested);
+					} catch (SQLException ex) {
+						finish();
+						subscriber.onError(ex);
+						return;
+					}
+					if (null == table) {
+						finish();
+						fireFinished();
+						subscriber.onComplete();
+						return;
+					}
+
+					synchronized (this) {
+						if (Long.MAX_VALUE != demand) {
+							demand--;
+						}
+					}
+					subscriber.onNext(table);
+				}
+			} finally {
+				if (!idle) {
+					synchronized (this) {
+						done = true;
+						emitting = false;
+					}
+					close();
+				}
+			}
+		}
+
+		/**
+		 * 終了状態にしてリソースを解放する。発行中のスレッドから呼び出すこと。
+		 */
+		private void finish() {
+			synchronized (this) {
+				done = true;
+			}
+			close();
+		}
+
+		/**
+		 * 次に発行するテーブル情報を取得する。
+		 * <p>
+		 * 先頭の未発行のテーブルが未読込の場合、要求件数分(先読み件数を上限とする)のテーブルの詳細情報をまとめて読み込みます。
+		 * </p>
+		 * 
+		 * @param requested 要求件数
+		 * @return テーブル情報。全て発行した場合、<code>null</code>
+		 * @throws SQLException SQL操作に起因する問題が発生した場合
+		 */
+		private TableModel next(final long requested) throws SQLException {
+			if (null == def) {
+				// 発行後にデータベース定義を解放する為、遅延読込は行わない
+				def = createDefinition(context, connection, true);
+				if (def instanceof AbstractDatabaseDefinition) {
+					// テーブル一覧のみを取得し、詳細情報は要求件数分ずつ読み込む
+					((AbstractDatabaseDefinition) def).setLazyMode(true);
+				}
+				fireStarted();
+				schemas = def.getSchemaList().iterator();
+			}
+			while (pending.isEmpty()) {
+				if (!schemas.hasNext()) {
+					return null;
+				}
+				schema = schemas.next();
+				if (context.option.isEnableSchema(schema)) {
+					pending.addAll(parseSchema(context, def, schema));
+				} else {
+					debug(String.format("Exclude schema.[%s]", schema.getName()));
+				}
+			}
+
+			if (!pending.getFirst().isLoaded()) {
+				int size = (int) Math.min(Math.min(requested, context.option.getPrefetchSize()), pending.size());
+				((AbstractDatabaseDefinition) def).parseTables(schema, pending.subList(0, Math.max(size, 1)));
+			}
+			return pending.poll();
+		}
+
+		/**
+		 * リソースを解放する。発行中のスレッド、または発行中でない終了状態で呼び出すこと。
+		 */
+		private void close() {
+			pending.clear();
+			if (null != def) {
+				release(def);
+				def = null;
+			}
+		}
+	}
+
+	/**
+	 * このクラスは、並列解析の解析単位を保持するクラスです。
+	 * <p>
+	 * 結果・例外は解析したスレッドで設定し、解析スレッドの終了を待ってから参照します。
+	 * </p>
+	 */
+	private static final class ParseTask {
+
+		/** スキーマ */
+		private final SchemaModel schema;
+
+		/** 詳細情報を読み込むテーブル。スキーマ単位で解析する場合、<code>null</code> */
+		private final List<TableModel> tables;
+
+		/** 解析結果 */
+		private List<TableModel> result;
+
+		/** 例外 */
+		private SQLException failure;
+
+		private ParseTask(final SchemaModel schema, final List<TableModel> tables) {
+			this.schema = schema;
+			this.tables = tables;
+		}
+	}
+
+	/**
+	 * このクラスは、解析毎の状態を保持するクラスです。
+	 * <p>
+	 * 同じパーサーで並行して解析できるよう、解析毎の状態はフィールドに保持せず、このクラスで受け渡します。
+	 * </p>
+	 */
+	private final class ParseContext {
+
+		/** 解析オプション */
+		private final DatabaseDefinitionParserOption option;
+
+		/** 文字列・フィールドタイプ情報のプール */
+		private final ModelInterner interner;
+
+		/** 解析の期限(ミリ秒) */
+		private long deadline;
+
+		/** データベース定義 */
+		private DatabaseDefinition definition;
+
+		/** 解析に使用したデータベース定義(並列解析を含む) */
+		private final List<DatabaseDefinition> definitions;
+
+		/** 取消しフラグ */
+		private boolean cancelled;
+
+		/**
+		 * コンストラクタ
+		 * <p>
+		 * 解析オプションは生成時に1度だけ取得します。解析中に {@link AbstractDatabaseDefinitionParser#setOption(DatabaseDefinitionParserOption)}
+		 * が呼び出されても、この解析には影響しません。
+		 * </p>
+		 * 
+		 * @param timed 解析の期限を設ける場合、<code>true</code>
+		 */
+		private ParseContext(final boolean timed) {
+			this.option = AbstractDatabaseDefinitionParser.this.option;
+			this.interner = (option.isInternMode()) ? new ModelInterner() : null;
+			this.deadline = (timed) ? getDeadline() : 0L;
+			this.definitions = new ArrayList<DatabaseDefinition>();
+			this.cancelled = false;
+		}
+
+		/**
+		 * 解析の期限を取得する。
+		 * 
+		 * @return 期限({@link System#currentTimeMillis()} の値)。期限を設けない場合、0
+		 */
+		private long getDeadline() {
+			return (0L < option.getParseTimeout()) ? System.currentTimeMillis() + option.getParseTimeout() : 0L;
+		}
+
+		/**
+		 * 解析に使用するデータベース定義を登録する。取消し後に登録した場合は直ちに取り消す。
+		 * 
+		 * @param def データベース定義
+		 */
+		private synchronized void register(final DatabaseDefinition def) {
+			definitions.add(def);
+			if (cancelled) {
+				AbstractDatabaseDefinitionParser.cancel(def);
+			}
+		}
+
+		/**
+		 * 解析を終了する。登録したデータベース定義(返却したコネクション)の参照を破棄する。
+		 */
+		private synchronized void finish() {
+			definitions.clear();
+		}
+
+		/**
+		 * 解析を取り消す。登録したデータベース定義の実行中のクエリを取り消す。
+		 */
+		private synchronized void cancel() {
+			cancelled = true;
+			for (DatabaseDefinition def : definitions) {
+				AbstractDatabaseDefinitionParser.cancel(def);
+			}
+		}
 	}
 }
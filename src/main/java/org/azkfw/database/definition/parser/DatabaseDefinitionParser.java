@@ -17,8 +17,13 @@
  */
 package org.azkfw.database.definition.parser;
 
+import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
 
 import org.azkfw.database.definition.model.DatabaseModel;
 
@@ -33,6 +38,10 @@ public interface DatabaseDefinitionParser {
 
 	/**
 	 * 解析オプションを設定する。
+	 * <p>
+	 * 設定したオプションは以降に開始する解析から使用します。実行中の解析のオプションは変更されません。
+	 * <code>null</code>を指定した場合、既定のオプションを使用します。
+	 * </p>
 	 * 
 	 * @param option オプション
 	 */
@@ -54,6 +63,9 @@ public interface DatabaseDefinitionParser {
 
 	/**
 	 * データベース定義を解析する。
+	 * <p>
+	 * 呼出し毎にドライバマネージャーで接続し、解析後に切断します。繰り返し解析する場合は {@link #parse(DataSource)} を使用してください。
+	 * </p>
 	 * 
 	 * @param driver ドライバ名
 	 * @param url 接続URL
@@ -65,10 +77,99 @@ public interface DatabaseDefinitionParser {
 
 	/**
 	 * データベース定義を解析する。
+	 * <p>
+	 * 遅延読込モードの場合、解析結果は読込に使用するデータベース定義を保持します。参照が終わったら {@link DatabaseModel#release()} で解放してください。
+	 * </p>
 	 * 
 	 * @param connection コネクション情報
 	 * @return データベース情報
 	 * @throws SQLException SQL操作に起因する問題が発生した場合
 	 */
 	public DatabaseModel parse(final Connection connection) throws SQLException;
+
+	/**
+	 * データソースから取得したコネクションでデータベース定義を解析する。
+	 * <p>
+	 * コネクションは解析後に {@link Connection#close()} でデータソースへ返却します。
+	 * コネクションプールを使用するデータソースの場合、繰り返し解析しても接続・認証は初回のみとなり、確立済みのコネクションを再利用します。
+	 * 並列解析用のデータソースが設定されていない場合、並列解析にもこのデータソースを使用します。
+	 * </p>
+	 * 
+	 * @param dataSource データソース
+	 * @return データベース情報
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public DatabaseModel parse(final DataSource dataSource) throws SQLException;
+
+	/**
+	 * データソースから取得したコネクションでデータベース定義を非同期に解析する。
+	 * <p>
+	 * 解析は実行機能のスレッドで {@link #parse(DataSource)} と同様に行います。解析毎の状態はパーサーに保持しない為、同じパーサーで並行して他の解析を行えます。
+	 * {@link Future#cancel(boolean)} に <code>true</code> を指定して取り消した場合、解析中のスレッドに割り込み、実行中のクエリを
+	 * {@link java.sql.Statement#cancel()} で取り消します。以降のクエリは実行せず、解析は {@link SQLException} で終了します。
+	 * JDBCメタデータで解析する場合、メタデータの取得は取り消せない為、実行中の取得の完了後に中断します。
+	 * </p>
+	 * 
+	 * @param dataSource データソース
+	 * @param executor 実行機能。既定の実行機能({@link ParseExecutors#getDefault()})を使用する場合、<code>null</code>
+	 * @return 解析結果のフューチャー。解析に失敗した場合、{@link Future#get()} は原因の例外を保持した {@link java.util.concurrent.ExecutionException} をスローする。
+	 */
+	public Future<DatabaseModel> parseAsync(final DataSource dataSource, final Executor executor);
+
+	/**
+	 * スナップショットを利用してデータベース定義を解析する。
+	 * <p>
+	 * スナップショットが最新の場合はスナップショットを読み込み、解析を省略します。
+	 * 最新でない場合は解析を行い、結果をスナップショットへ書き込みます。
+	 * スナップショットには解析オプションの識別文字列({@link DatabaseDefinitionParserOption#getFingerprint()})を保存し、
+	 * 対象・除外のスキーマ・テーブルが異なる場合は最新でないと判断します。
+	 * タイムアウトにより解析が完了していない場合、スナップショットは書き込みません。
+	 * </p>
+	 * 
+	 * @param connection コネクション情報
+	 * @param snapshot スナップショットファイル
+	 * @return データベース情報
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public DatabaseModel parse(final Connection connection, final File snapshot) throws SQLException;
+
+	/**
+	 * データベース定義を差分更新する。
+	 * <p>
+	 * スキーマ毎にテーブルのバージョン一覧を1回のSQLで取得し、前回の解析結果とバージョンが異なるテーブルのみ解析します。
+	 * 変更のないテーブルは前回のテーブル情報をそのまま返します。
+	 * </p>
+	 * 
+	 * @param connection コネクション情報
+	 * @param previous 前回のデータベース情報
+	 * @return データベース情報
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public DatabaseModel refresh(final Connection connection, final DatabaseModel previous) throws SQLException;
+
+	/**
+	 * データソースから取得したコネクションでデータベース定義を差分更新する。
+	 * <p>
+	 * コネクションは差分更新後にデータソースへ返却します。
+	 * </p>
+	 * 
+	 * @param dataSource データソース
+	 * @param previous 前回のデータベース情報
+	 * @return データベース情報
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public DatabaseModel refresh(final DataSource dataSource, final DatabaseModel previous) throws SQLException;
+
+	/**
+	 * データベース定義を逐次解析するパブリッシャーを取得する。
+	 * <p>
+	 * テーブル情報は解析が完了した順にサブスクライバーへ通知し、通知済みのテーブル情報は保持しません。
+	 * テーブル情報はスキーマ単位で取得する為、未通知のテーブル情報を解析中のスキーマの分のみ保持します。
+	 * 解析はサブスクライバーの要求件数に応じて {@link DatabaseDefinitionSubscription#request(long)} を呼び出したスレッドで行います。
+	 * </p>
+	 * 
+	 * @param connection コネクション情報
+	 * @return パブリッシャー
+	 */
+	public DatabaseDefinitionPublisher publish(final Connection connection);
 }
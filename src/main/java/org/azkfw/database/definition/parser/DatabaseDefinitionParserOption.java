@@ -19,12 +19,24 @@ package org.azkfw.database.definition.parser;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import javax.sql.DataSource;
+
+import org.azkfw.database.definition.CatalogFilter;
+import org.azkfw.database.definition.cache.CatalogCache;
+import org.azkfw.database.definition.metrics.IntrospectionMetricsSink;
+import org.azkfw.database.definition.metrics.IntrospectionTracer;
+import org.azkfw.database.definition.metrics.IntrospectionTracers;
 import org.azkfw.database.definition.model.SchemaModel;
 import org.azkfw.database.definition.model.TableModel;
 
 /**
  * このクラスは、データベース定義解析のオプション情報を保持するクラスです。
+ * <p>
+ * 対象・除外のスキーマ名・テーブル名は大文字・小文字を区別せず、ワイルドカード(<code>*</code>, <code>?</code>)と
+ * <code>regex:</code>で始まる正規表現を指定できます。パターンは最初の判定時にコンパイルします。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/06
@@ -42,6 +54,54 @@ public class DatabaseDefinitionParserOption {
 	/** 除外テーブル名 */
 	private List<String> excludeTables;
 
+	/** コンパイル済みのマッチャー */
+	private volatile Matchers matchers;
+
+	/** 一括取得モード */
+	private boolean bulkMode;
+
+	/** 遅延読込モード */
+	private boolean lazyMode;
+
+	/** 遅延読込時の先読み件数 */
+	private int prefetchSize;
+
+	/** フェッチサイズ */
+	private int fetchSize;
+
+	/** ストリーミングモード */
+	private boolean streamingMode;
+
+	/** 共有モード */
+	private boolean internMode;
+
+	/** クエリのタイムアウト(秒) */
+	private int queryTimeout;
+
+	/** 解析のタイムアウト(ミリ秒) */
+	private long parseTimeout;
+
+	/** 部分結果モード */
+	private boolean partialResult;
+
+	/** カタログキャッシュ */
+	private CatalogCache catalogCache;
+
+	/** 並列解析用データソース */
+	private DataSource dataSource;
+
+	/** 並列数 */
+	private int parallelism;
+
+	/** 並列解析用エグゼキューター */
+	private Executor executor;
+
+	/** メトリクスシンク */
+	private IntrospectionMetricsSink metricsSink;
+
+	/** トレーサー */
+	private IntrospectionTracer tracer;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -50,6 +110,357 @@ public class DatabaseDefinitionParserOption {
 		excludeSchemas = new ArrayList<String>();
 		includeTables = new ArrayList<String>();
 		excludeTables = new ArrayList<String>();
+		bulkMode = true;
+		lazyMode = false;
+		prefetchSize = 100;
+		fetchSize = 0;
+		streamingMode = false;
+		internMode = true;
+		queryTimeout = 0;
+		parseTimeout = 0L;
+		partialResult = false;
+		catalogCache = null;
+		dataSource = null;
+		parallelism = 1;
+		executor = null;
+		metricsSink = null;
+		tracer = IntrospectionTracers.getDefault();
+	}
+
+	/**
+	 * 一括取得モードを設定する。
+	 * <p>
+	 * 一括取得モードが有効な場合、フィールド・インデックス・外部キー情報をスキーマ単位で一括取得します。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setBulkMode(final boolean flag) {
+		bulkMode = flag;
+	}
+
+	/**
+	 * 一括取得モードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isBulkMode() {
+		return bulkMode;
+	}
+
+	/**
+	 * 遅延読込モードを設定する。
+	 * <p>
+	 * 遅延読込モードが有効な場合、テーブル一覧のみを取得し、フィールド・インデックス・外部キー情報は各テーブルを初めて参照した時に読み込みます。
+	 * 読込には解析に使用したコネクションを使用するため、{@link DatabaseDefinitionParser#parse(java.sql.Connection)} で解析し、
+	 * 参照が終わるまでコネクションを閉じないでください。解析結果は読込に使用するデータベース定義を保持するため、
+	 * 参照が終わったら {@link org.azkfw.database.definition.model.DatabaseModel#release()} で解放してから、コネクションを閉じてください。
+	 * {@link DatabaseDefinitionParser#publish(java.sql.Connection)} は発行後にデータベース定義を解放するため無効です。
+	 * 解析後にコネクションを返却する {@link DatabaseDefinitionParser#parse(DataSource)}、
+	 * 解析後にコネクションを閉じる {@link DatabaseDefinitionParser#parse(String, String, String, String)} では無効です。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setLazyMode(final boolean flag) {
+		lazyMode = flag;
+	}
+
+	/**
+	 * 遅延読込モードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isLazyMode() {
+		return lazyMode;
+	}
+
+	/**
+	 * 遅延読込時の先読み件数を設定する。
+	 * <p>
+	 * {@link DatabaseDefinitionParser#publish(java.sql.Connection)} では、要求件数分のテーブルをまとめて読み込む際の上限件数として使用します。
+	 * </p>
+	 * 
+	 * @param size 件数
+	 */
+	public void setPrefetchSize(final int size) {
+		prefetchSize = size;
+	}
+
+	/**
+	 * 遅延読込時の先読み件数を取得する。
+	 * 
+	 * @return 件数
+	 */
+	public int getPrefetchSize() {
+		return prefetchSize;
+	}
+
+	/**
+	 * カタログ情報取得時のフェッチサイズを設定する。
+	 * <p>
+	 * 0の場合、ドライバの既定値を使用します。
+	 * </p>
+	 * 
+	 * @param size フェッチサイズ
+	 */
+	public void setFetchSize(final int size) {
+		this.fetchSize = size;
+	}
+
+	/**
+	 * カタログ情報取得時のフェッチサイズを取得する。
+	 * 
+	 * @return フェッチサイズ
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * ストリーミングモードを設定する。
+	 * <p>
+	 * ストリーミングモードが有効な場合、カタログ情報の結果セットをサーバー側から逐次取得し、カタログの規模に依らずメモリ使用量を抑えます。
+	 * PostgreSQLでは解析中のみ自動コミットを無効にしてカーソルで取得し、MySQLではストリーミング結果セットを使用します。
+	 * 遅延読込モードが有効な場合は適用しません。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setStreamingMode(final boolean flag) {
+		this.streamingMode = flag;
+	}
+
+	/**
+	 * ストリーミングモードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isStreamingMode() {
+		return streamingMode;
+	}
+
+	/**
+	 * 共有モードを設定する。
+	 * <p>
+	 * 共有モードが有効な場合、解析毎にプールを作成し、同じ値の識別子・型を1つのインスタンスで共有してモデルのメモリ使用量を抑えます。
+	 * 共有したフィールドタイプ情報は凍結しており、変更すると {@link UnsupportedOperationException} をスローします。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setInternMode(final boolean flag) {
+		this.internMode = flag;
+	}
+
+	/**
+	 * 共有モードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isInternMode() {
+		return internMode;
+	}
+
+	/**
+	 * クエリのタイムアウトを設定する。
+	 * <p>
+	 * カタログ情報を取得する各クエリに {@link java.sql.Statement#setQueryTimeout(int)} で設定します。0の場合、タイムアウトしません。
+	 * JDBCのメタデータから解析する場合は適用しません。
+	 * </p>
+	 * 
+	 * @param seconds タイムアウト(秒)
+	 */
+	public void setQueryTimeout(final int seconds) {
+		this.queryTimeout = seconds;
+	}
+
+	/**
+	 * クエリのタイムアウトを取得する。
+	 * 
+	 * @return タイムアウト(秒)
+	 */
+	public int getQueryTimeout() {
+		return queryTimeout;
+	}
+
+	/**
+	 * 解析のタイムアウトを設定する。
+	 * <p>
+	 * 解析開始からこの時間を超過した場合、実行中のクエリを中断し、以降のクエリを実行しません。
+	 * 各クエリのタイムアウトは残り時間を上限とします。0の場合、タイムアウトしません。
+	 * 逐次解析({@link DatabaseDefinitionParser#publish(java.sql.Connection)})には適用しません。
+	 * </p>
+	 * 
+	 * @param time タイムアウト(ミリ秒)
+	 */
+	public void setParseTimeout(final long time) {
+		this.parseTimeout = time;
+	}
+
+	/**
+	 * 解析のタイムアウトを取得する。
+	 * 
+	 * @return タイムアウト(ミリ秒)
+	 */
+	public long getParseTimeout() {
+		return parseTimeout;
+	}
+
+	/**
+	 * 部分結果モードを設定する。
+	 * <p>
+	 * 部分結果モードが無効な場合、タイムアウトした時点で {@link java.sql.SQLTimeoutException} をスローします。
+	 * 有効な場合、タイムアウトしたスキーマを {@link org.azkfw.database.definition.model.DatabaseModel#getIncompleteSchemas()} に記録して残りのスキーマの解析を続け、
+	 * 途中までの結果を返します。テーブル一覧を取得済みの場合、詳細情報を取得できていないテーブルも記録して結果に含めます。
+	 * 差分更新では、タイムアウトしたスキーマは前回のテーブル情報を返します。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setPartialResult(final boolean flag) {
+		this.partialResult = flag;
+	}
+
+	/**
+	 * 部分結果モードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isPartialResult() {
+		return partialResult;
+	}
+
+	/**
+	 * カタログキャッシュを設定する。
+	 * <p>
+	 * 設定した場合、スキーマ一覧・テーブル一覧・テーブル情報をキャッシュから取得し、キャッシュに存在しない場合のみデータベースから取得します。
+	 * キャッシュしたテーブル情報は凍結したインスタンスの為、遅延読込は行いません。
+	 * 同じキャッシュを異なるカタログフィルタの解析で共有できます。キャッシュは {@link #getFingerprint()} 毎に区別します。
+	 * </p>
+	 * 
+	 * @param cache キャッシュ。キャッシュしない場合、<code>null</code>
+	 */
+	public void setCatalogCache(final CatalogCache cache) {
+		this.catalogCache = cache;
+	}
+
+	/**
+	 * カタログキャッシュを取得する。
+	 * 
+	 * @return キャッシュ
+	 */
+	public CatalogCache getCatalogCache() {
+		return catalogCache;
+	}
+
+	/**
+	 * 並列解析用のデータソースを設定する。
+	 * <p>
+	 * 並列数が2以上の場合、スキーマ単位またはテーブルをまとめた単位の解析を、このデータソースから取得したコネクションで並列に実行します。
+	 * 設定しない場合、{@link DatabaseDefinitionParser#parse(DataSource)} に指定したデータソースを使用します。
+	 * </p>
+	 * 
+	 * @param dataSource データソース
+	 */
+	public void setDataSource(final DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	/**
+	 * 並列解析用のデータソースを取得する。
+	 * 
+	 * @return データソース
+	 */
+	public DataSource getDataSource() {
+		return dataSource;
+	}
+
+	/**
+	 * 並列数を設定する。
+	 * <p>
+	 * 並列解析では並列数分のコネクションをデータソースから取得し、解析を実行するスレッドのコネクションと合わせて最大で並列数+1のコネクションを使用します。
+	 * データソースのコネクションプールの最大数未満を指定してください。
+	 * </p>
+	 * 
+	 * @param parallelism 並列数
+	 */
+	public void setParallelism(final int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * 並列数を取得する。
+	 * 
+	 * @return 並列数
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 並列解析用のエグゼキューターを設定する。
+	 * <p>
+	 * 設定しない場合、{@link ParseExecutors#getDefault()} を使用します。
+	 * 解析を実行するスレッドは並列解析の完了を待つため、スレッド数に上限のあるエグゼキューターで解析自体を実行する場合、同じエグゼキューターは指定しないでください。
+	 * </p>
+	 * 
+	 * @param executor エグゼキューター
+	 */
+	public void setExecutor(final Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * 並列解析用のエグゼキューターを取得する。
+	 * 
+	 * @return エグゼキューター。設定されていない場合、<code>null</code>
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * メトリクスシンクを設定する。
+	 * <p>
+	 * 設定した場合、クエリ種別毎の実行時間・読込行数、スキーマ毎・テーブル毎の解析時間、コネクション待ち時間を通知します。
+	 * 集計には {@link org.azkfw.database.definition.metrics.IntrospectionMetrics} を使用できます。
+	 * </p>
+	 * 
+	 * @param sink メトリクスシンク。通知しない場合、<code>null</code>
+	 */
+	public void setMetricsSink(final IntrospectionMetricsSink sink) {
+		this.metricsSink = sink;
+	}
+
+	/**
+	 * メトリクスシンクを取得する。
+	 * 
+	 * @return メトリクスシンク
+	 */
+	public IntrospectionMetricsSink getMetricsSink() {
+		return metricsSink;
+	}
+
+	/**
+	 * トレーサーを設定する。
+	 * <p>
+	 * 既定では {@link IntrospectionTracers#getDefault()} を使用し、Java 11以降では Java Flight Recorder のイベントを発行します。
+	 * </p>
+	 * 
+	 * @param tracer トレーサー。記録しない場合、<code>null</code>
+	 */
+	public void setTracer(final IntrospectionTracer tracer) {
+		this.tracer = tracer;
+	}
+
+	/**
+	 * トレーサーを取得する。
+	 * 
+	 * @return トレーサー
+	 */
+	public IntrospectionTracer getTracer() {
+		return tracer;
 	}
 
 	/**
@@ -59,6 +470,7 @@ public class DatabaseDefinitionParserOption {
 	 */
 	public void addIncludeSchema(final String name) {
 		includeSchemas.add(name);
+		matchers = null;
 	}
 
 	/**
@@ -68,6 +480,7 @@ public class DatabaseDefinitionParserOption {
 	 */
 	public void addExcludeSchema(final String name) {
 		excludeSchemas.add(name);
+		matchers = null;
 	}
 
 	/**
@@ -78,6 +491,7 @@ public class DatabaseDefinitionParserOption {
 	 */
 	public void addIncludeTable(final String schema, final String name) {
 		includeTables.add(schema + "." + name);
+		matchers = null;
 	}
 
 	/**
@@ -87,6 +501,7 @@ public class DatabaseDefinitionParserOption {
 	 */
 	public void addIncludeTable(final String name) {
 		includeTables.add(name);
+		matchers = null;
 	}
 
 	/**
@@ -97,6 +512,7 @@ public class DatabaseDefinitionParserOption {
 	 */
 	public void addExcludeTable(final String schema, final String name) {
 		excludeTables.add(schema + "." + name);
+		matchers = null;
 	}
 
 	/**
@@ -106,89 +522,135 @@ public class DatabaseDefinitionParserOption {
 	 */
 	public void addExcludeTable(final String name) {
 		excludeTables.add(name);
+		matchers = null;
 	}
 
 	/**
 	 * スキーマが対象か判断する。
+	 * <p>
+	 * 除外スキーマに一致する場合は対象外とします。対象スキーマが設定されている場合は、いずれかに一致するスキーマのみ対象とします。
+	 * </p>
 	 * 
 	 * @param schema スキーマ
 	 * @return 結果
 	 */
 	public boolean isEnableSchema(final SchemaModel schema) {
-		for (String name : excludeSchemas) {
-			if (isMatch(name, schema.getName())) {
-				return false;
-			}
-		}
-
-		if (0 == includeSchemas.size()) {
-			return true;
-		} else {
-			for (String name : includeSchemas) {
-				if (isMatch(name, schema.getName())) {
-					return true;
-				}
-			}
+		Matchers m = getMatchers();
+		if (m.excludeSchemas.matches(schema.getName())) {
 			return false;
 		}
+		return m.includeSchemas.isEmpty() || m.includeSchemas.matches(schema.getName());
 	}
 
 	/**
 	 * テーブルが対象か判断する。
+	 * <p>
+	 * 除外テーブルに一致する場合は対象外とします。対象テーブルが設定されている場合は、いずれかに一致するテーブルのみ対象とします。
+	 * </p>
 	 * 
 	 * @param table テーブル
 	 * @return 結果
 	 */
 	public boolean isEnableTable(final TableModel table) {
-		for (String name : excludeTables) {
-			int index = name.indexOf(".");
-			if (-1 != index) {
-				String schemaName = name.substring(0, index);
-				if (isMatch(schemaName, table.getSchema().getName())) {
-					String tableName = name.substring(index + 1);
-					if (isMatch(tableName, table.getName())) {
-						return false;
-					}
-				}
-			} else {
-				if (isMatch(name, table.getName())) {
-					return false;
-				}
-			}
+		Matchers m = getMatchers();
+		String schemaName = table.getSchema().getName();
+		if (m.excludeTables.matches(schemaName, table.getName())) {
+			return false;
 		}
+		return m.includeTables.isEmpty() || m.includeTables.matches(schemaName, table.getName());
+	}
+
+	/**
+	 * カタログ絞込み条件を取得する。
+	 * <p>
+	 * 対象・除外のパターンのうち、SQLに組み込めるものから絞込み条件を生成します。
+	 * 組み込めないパターンは {@link #isEnableSchema(SchemaModel)}、{@link #isEnableTable(TableModel)} でのみ判定します。
+	 * </p>
+	 * 
+	 * @return 絞込み条件
+	 */
+	public CatalogFilter getCatalogFilter() {
+		return new CatalogFilter(includeSchemas, excludeSchemas, includeTables, excludeTables);
+	}
 
-		if (0 == includeTables.size()) {
-			return true;
-		} else {
-			for (String name : includeTables) {
-				int index = name.indexOf(".");
-				if (-1 != index) {
-					String schemaName = name.substring(0, index);
-					if (isMatch(schemaName, table.getSchema().getName())) {
-						String tableName = name.substring(index + 1);
-						if (isMatch(tableName, table.getName())) {
-							return true;
-						}
-					}
-				} else {
-					if (isMatch(name, table.getName())) {
-						return true;
-					}
+	/**
+	 * 解析結果に影響するオプションの識別文字列を取得する。
+	 * <p>
+	 * 対象・除外のスキーマ・テーブルのパターンから生成します。識別文字列が一致するオプションは、同じデータベースから同じ解析結果を得ます。
+	 * スナップショット・カタログキャッシュ等、解析結果を再利用する場合に、異なるオプションで解析した結果でないか判断する為に使用します。
+	 * </p>
+	 * 
+	 * @return 識別文字列
+	 */
+	public String getFingerprint() {
+		StringBuilder s = new StringBuilder();
+		appendFingerprint(s, "is", includeSchemas);
+		appendFingerprint(s, "es", excludeSchemas);
+		appendFingerprint(s, "it", includeTables);
+		appendFingerprint(s, "et", excludeTables);
+		return s.toString();
+	}
+
+	/**
+	 * パターン一覧を識別文字列に追加する。
+	 * <p>
+	 * パターンは長さを前置して連結する為、区切り文字を含むパターンでも一意になります。
+	 * </p>
+	 * 
+	 * @param s 識別文字列
+	 * @param name 一覧の名前
+	 * @param patterns パターン一覧
+	 */
+	private static void appendFingerprint(final StringBuilder s, final String name, final List<String> patterns) {
+		s.append(name).append('[');
+		for (String pattern : patterns) {
+			String value = String.valueOf(pattern);
+			s.append(value.length()).append(':').append(value);
+		}
+		s.append(']');
+	}
+
+	/**
+	 * コンパイル済みのマッチャーを取得する。
+	 * <p>
+	 * パターンが追加された後、最初の判定時に1度だけコンパイルします。
+	 * </p>
+	 * 
+	 * @return マッチャー
+	 */
+	private Matchers getMatchers() {
+		Matchers m = matchers;
+		if (null == m) {
+			synchronized (this) {
+				m = matchers;
+				if (null == m) {
+					m = new Matchers(includeSchemas, excludeSchemas, includeTables, excludeTables);
+					matchers = m;
 				}
 			}
-			return false;
 		}
-
+		return m;
 	}
 
-	private static boolean isMatch(final String a, final String b) {
-		if (null == a && null == b) {
-			return true;
-		} else if (null == a || null == b) {
-			return false;
-		} else {
-			return a.toLowerCase().equals(b.toLowerCase());
+	/**
+	 * コンパイル済みのマッチャー
+	 */
+	private static final class Matchers {
+
+		private final NameMatcher includeSchemas;
+
+		private final NameMatcher excludeSchemas;
+
+		private final TableNameMatcher includeTables;
+
+		private final TableNameMatcher excludeTables;
+
+		private Matchers(final List<String> includeSchemas, final List<String> excludeSchemas, final List<String> includeTables,
+				final List<String> excludeTables) {
+			this.includeSchemas = new NameMatcher(includeSchemas);
+			this.excludeSchemas = new NameMatcher(excludeSchemas);
+			this.includeTables = new TableNameMatcher(includeTables);
+			this.excludeTables = new TableNameMatcher(excludeTables);
 		}
 	}
-
 }
@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+
+/**
+ * このクラスは、データベース定義を先行して解析するクラスです。
+ * <p>
+ * アプリケーションの起動時に {@link #start(DatabaseDefinitionParser, DataSource)} で解析を開始し、
+ * 他の初期化処理と並行してカタログを読み込みます。データベース情報が必要になった時点で {@link #get()} を呼び出し、解析の完了を待ちます。
+ * </p>
+ * 
+ * <pre>
+ * DatabaseDefinitionPrefetcher prefetcher = DatabaseDefinitionPrefetcher.start(parser, dataSource);
+ * // 他の初期化処理
+ * DatabaseModel database = prefetcher.get();
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class DatabaseDefinitionPrefetcher {
+
+	/** 解析結果 */
+	private final Future<DatabaseModel> future;
+
+	private DatabaseDefinitionPrefetcher(final Future<DatabaseModel> future) {
+		this.future = future;
+	}
+
+	/**
+	 * 既定の実行機能で解析を開始する。
+	 * 
+	 * @param parser パーサー
+	 * @param dataSource データソース
+	 * @return 先行解析
+	 * @see ParseExecutors#getDefault()
+	 */
+	public static DatabaseDefinitionPrefetcher start(final DatabaseDefinitionParser parser, final DataSource dataSource) {
+		return start(parser, dataSource, null);
+	}
+
+	/**
+	 * 解析を開始する。
+	 * 
+	 * @param parser パーサー
+	 * @param dataSource データソース
+	 * @param executor 実行機能。既定の実行機能を使用する場合、<code>null</code>
+	 * @return 先行解析
+	 */
+	public static DatabaseDefinitionPrefetcher start(final DatabaseDefinitionParser parser, final DataSource dataSource, final Executor executor) {
+		return new DatabaseDefinitionPrefetcher(parser.parseAsync(dataSource, executor));
+	}
+
+	/**
+	 * 解析結果の待機に使用するフューチャーを取得する。
+	 * 
+	 * @return フューチャー
+	 */
+	public Future<DatabaseModel> getFuture() {
+		return future;
+	}
+
+	/**
+	 * 解析が終了したか判断する。
+	 * <p>
+	 * 解析に失敗した場合、取り消した場合も終了と判断します。
+	 * </p>
+	 * 
+	 * @return 判断
+	 */
+	public boolean isDone() {
+		return future.isDone();
+	}
+
+	/**
+	 * 解析の完了を待ち、データベース情報を取得する。
+	 * 
+	 * @return データベース情報
+	 * @throws SQLException 解析に失敗した場合、待機中に割り込まれた場合
+	 * @throws java.util.concurrent.CancellationException 解析を取り消した場合
+	 */
+	public DatabaseModel get() throws SQLException {
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted waiting for prefetch.", ex);
+		} catch (ExecutionException ex) {
+			throw toSQLException(ex);
+		}
+	}
+
+	/**
+	 * 解析の完了を指定時間まで待ち、データベース情報を取得する。
+	 * 
+	 * @param timeout 待機時間
+	 * @param unit 待機時間の単位
+	 * @return データベース情報
+	 * @throws SQLException 解析に失敗した場合、待機中に割り込まれた場合
+	 * @throws TimeoutException 待機時間内に解析が完了しなかった場合
+	 * @throws java.util.concurrent.CancellationException 解析を取り消した場合
+	 */
+	public DatabaseModel get(final long timeout, final TimeUnit unit) throws SQLException, TimeoutException {
+		try {
+			return future.get(timeout, unit);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted waiting for prefetch.", ex);
+		} catch (ExecutionException ex) {
+			throw toSQLException(ex);
+		}
+	}
+
+	/**
+	 * 解析を取り消す。
+	 * <p>
+	 * 解析中のスレッドに割り込み、実行中のクエリを取り消します({@link DatabaseDefinitionParser#parseAsync(DataSource, Executor)})。
+	 * </p>
+	 * 
+	 * @return 取り消した場合、<code>true</code>
+	 */
+	public boolean cancel() {
+		return future.cancel(true);
+	}
+
+	private static SQLException toSQLException(final ExecutionException ex) {
+		Throwable cause = ex.getCause();
+		if (cause instanceof SQLException) {
+			return (SQLException) cause;
+		}
+		return new SQLException(cause);
+	}
+}
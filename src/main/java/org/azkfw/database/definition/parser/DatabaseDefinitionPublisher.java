@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+/**
+ * このインターフェースは、テーブル情報を逐次発行するパブリッシャーを定義したインターフェースです。
+ * <p>
+ * <code>java.util.concurrent.Flow.Publisher</code> と同じ規約に従います。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public interface DatabaseDefinitionPublisher {
+
+	/**
+	 * サブスクライバーを登録する。
+	 * <p>
+	 * 1つのパブリッシャーに登録できるサブスクライバーは1つだけです。2つ目以降のサブスクライバーには {@link DatabaseDefinitionSubscriber#onError(Throwable)} を通知します。
+	 * </p>
+	 * 
+	 * @param subscriber サブスクライバー
+	 */
+	public void subscribe(final DatabaseDefinitionSubscriber subscriber);
+}
@@ -0,0 +1,59 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このインターフェースは、テーブル情報を逐次受け取るサブスクライバーを定義したインターフェースです。
+ * <p>
+ * <code>java.util.concurrent.Flow.Subscriber</code> と同じ規約に従います。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public interface DatabaseDefinitionSubscriber {
+
+	/**
+	 * 購読開始時に呼び出されるイベント。
+	 * 
+	 * @param subscription サブスクリプション
+	 */
+	public void onSubscribe(final DatabaseDefinitionSubscription subscription);
+
+	/**
+	 * テーブル情報の解析完了時に呼び出されるイベント。
+	 * 
+	 * @param table テーブル情報
+	 */
+	public void onNext(final TableModel table);
+
+	/**
+	 * 解析中に問題が発生した場合に呼び出されるイベント。
+	 * 
+	 * @param throwable 問題
+	 */
+	public void onError(final Throwable throwable);
+
+	/**
+	 * 全てのテーブル情報の発行後に呼び出されるイベント。
+	 */
+	public void onComplete();
+}
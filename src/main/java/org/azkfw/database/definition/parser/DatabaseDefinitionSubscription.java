@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+/**
+ * このインターフェースは、パブリッシャーとサブスクライバーの購読を定義したインターフェースです。
+ * <p>
+ * <code>java.util.concurrent.Flow.Subscription</code> と同じ規約に従います。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public interface DatabaseDefinitionSubscription {
+
+	/**
+	 * テーブル情報を要求する。
+	 * <p>
+	 * 要求した件数を上限としてテーブル情報を解析し、{@link DatabaseDefinitionSubscriber#onNext(org.azkfw.database.definition.model.TableModel)} へ通知します。
+	 * </p>
+	 * 
+	 * @param n 件数
+	 */
+	public void request(final long n);
+
+	/**
+	 * 購読を取り消す。
+	 */
+	public void cancel();
+}
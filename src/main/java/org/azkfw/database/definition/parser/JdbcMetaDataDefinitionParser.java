@@ -0,0 +1,48 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import java.sql.Connection;
+
+import org.azkfw.database.definition.DatabaseDefinition;
+import org.azkfw.database.definition.JdbcMetaDataDefinition;
+
+/**
+ * このクラスは、JDBCのメタデータからデータベース定義の解析を行うクラスです。
+ * <p>
+ * 専用の定義クラスが存在しないデータベース(H2・HSQLDB・SQLite等)の解析に使用します。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public class JdbcMetaDataDefinitionParser extends AbstractDatabaseDefinitionParser {
+
+	/**
+	 * コンストラクタ
+	 */
+	public JdbcMetaDataDefinitionParser() {
+		super(JdbcMetaDataDefinitionParser.class);
+	}
+
+	@Override
+	protected DatabaseDefinition getDefinition(final Connection connection) {
+		return new JdbcMetaDataDefinition(connection);
+	}
+}
@@ -0,0 +1,287 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * このクラスは、名前のパターン一覧をコンパイルしたマッチャークラスです。
+ * <p>
+ * パターンは大文字・小文字を区別せず、下記の形式を指定できます。
+ * <ul>
+ * <li>名前 - 完全一致</li>
+ * <li>ワイルドカード - <code>*</code> は任意の文字列、<code>?</code> は任意の1文字に一致</li>
+ * <li><code>regex:</code>で始まる文字列 - 以降を正規表現として名前全体に一致</li>
+ * </ul>
+ * 完全一致・前方一致(<code>tmp_*</code>)・後方一致(<code>*_bak</code>)のパターンはトライ木にまとめ、名前を1回走査して判定します。
+ * その他のワイルドカードと正規表現は個別に判定します。判定時にオブジェクトを生成しません(正規表現のマッチャーはスレッド毎に再利用します)。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+final class NameMatcher {
+
+	/** 正規表現パターンの接頭辞 */
+	static final String REGEX_PREFIX = "regex:";
+
+	/** 完全一致・前方一致のトライ木 */
+	private final Node prefixes;
+
+	/** 後方一致のトライ木(逆順) */
+	private final Node suffixes;
+
+	/** ワイルドカードパターン(小文字) */
+	private final char[][] globs;
+
+	/** 正規表現マッチャー */
+	private final List<ThreadLocal<Matcher>> regexs;
+
+	/** パターン数 */
+	private final int size;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param patterns パターン一覧
+	 */
+	NameMatcher(final Collection<String> patterns) {
+		prefixes = new Node();
+		suffixes = new Node();
+		List<char[]> globList = new ArrayList<char[]>();
+		regexs = new ArrayList<ThreadLocal<Matcher>>();
+
+		for (String pattern : patterns) {
+			if (null == pattern) {
+				continue;
+			}
+			if (pattern.startsWith(REGEX_PREFIX)) {
+				regexs.add(compileRegex(pattern.substring(REGEX_PREFIX.length())));
+				continue;
+			}
+
+			String lower = toLowerCase(pattern);
+			int star = lower.indexOf('*');
+			boolean question = -1 != lower.indexOf('?');
+			if (-1 == star && !question) {
+				// 完全一致
+				prefixes.put(lower, 0, lower.length(), false).exact = true;
+			} else if (!question && star == lower.length() - 1) {
+				// 前方一致
+				prefixes.put(lower, 0, star, false).prefix = true;
+			} else if (!question && 0 == star && -1 == lower.indexOf('*', 1)) {
+				// 後方一致
+				suffixes.put(lower, 1, lower.length(), true).prefix = true;
+			} else {
+				globList.add(lower.toCharArray());
+			}
+		}
+
+		globs = globList.toArray(new char[globList.size()][]);
+		size = patterns.size();
+	}
+
+	/**
+	 * パターンが存在しないか判断する。
+	 * 
+	 * @return 判断
+	 */
+	boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * 名前がいずれかのパターンに一致するか判断する。
+	 * 
+	 * @param name 名前
+	 * @return 判断
+	 */
+	boolean matches(final String name) {
+		if (null == name) {
+			return false;
+		}
+
+		// 完全一致・前方一致
+		Node node = prefixes;
+		for (int i = 0; null != node; i++) {
+			if (node.prefix) {
+				return true;
+			}
+			if (i == name.length()) {
+				if (node.exact) {
+					return true;
+				}
+				break;
+			}
+			node = node.get(lower(name.charAt(i)));
+		}
+
+		// 後方一致
+		node = suffixes;
+		for (int i = name.length() - 1; null != node; i--) {
+			if (node.prefix) {
+				return true;
+			}
+			if (i < 0) {
+				break;
+			}
+			node = node.get(lower(name.charAt(i)));
+		}
+
+		for (char[] glob : globs) {
+			if (matchesGlob(glob, name)) {
+				return true;
+			}
+		}
+
+		for (ThreadLocal<Matcher> regex : regexs) {
+			if (regex.get().reset(name).matches()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * ワイルドカードパターンに一致するか判断する。
+	 * <p>
+	 * 直前の <code>*</code> の位置まで戻る方式で、バックトラックは最大でも名前の長さ×パターン長に収まります。
+	 * </p>
+	 * 
+	 * @param glob パターン(小文字)
+	 * @param name 名前
+	 * @return 判断
+	 */
+	private static boolean matchesGlob(final char[] glob, final String name) {
+		int p = 0;
+		int n = 0;
+		int star = -1;
+		int mark = 0;
+		while (n < name.length()) {
+			if (p < glob.length && ('?' == glob[p] || glob[p] == lower(name.charAt(n)))) {
+				p++;
+				n++;
+			} else if (p < glob.length && '*' == glob[p]) {
+				star = p++;
+				mark = n;
+			} else if (-1 != star) {
+				p = star + 1;
+				n = ++mark;
+			} else {
+				return false;
+			}
+		}
+		while (p < glob.length && '*' == glob[p]) {
+			p++;
+		}
+		return p == glob.length;
+	}
+
+	private static ThreadLocal<Matcher> compileRegex(final String regex) {
+		final Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+		return new ThreadLocal<Matcher>() {
+			@Override
+			protected Matcher initialValue() {
+				return pattern.matcher("");
+			}
+		};
+	}
+
+	private static String toLowerCase(final String value) {
+		StringBuilder s = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			s.append(lower(value.charAt(i)));
+		}
+		return s.toString();
+	}
+
+	private static char lower(final char c) {
+		return Character.toLowerCase(c);
+	}
+
+	/**
+	 * トライ木のノード
+	 */
+	private static final class Node {
+
+		/** 子ノードの文字(昇順) */
+		private char[] labels = new char[0];
+
+		/** 子ノード */
+		private Node[] children = new Node[0];
+
+		/** 完全一致するパターンの終端 */
+		private boolean exact;
+
+		/** 前方一致(後方一致)するパターンの終端 */
+		private boolean prefix;
+
+		private Node get(final char c) {
+			int low = 0;
+			int high = labels.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (labels[mid] < c) {
+					low = mid + 1;
+				} else if (labels[mid] > c) {
+					high = mid - 1;
+				} else {
+					return children[mid];
+				}
+			}
+			return null;
+		}
+
+		private Node put(final String value, final int begin, final int end, final boolean reverse) {
+			Node node = this;
+			for (int i = begin; i < end; i++) {
+				char c = value.charAt(reverse ? (end - 1 - (i - begin)) : i);
+				Node child = node.get(c);
+				if (null == child) {
+					child = node.add(c);
+				}
+				node = child;
+			}
+			return node;
+		}
+
+		private Node add(final char c) {
+			int index = 0;
+			while (index < labels.length && labels[index] < c) {
+				index++;
+			}
+			char[] newLabels = new char[labels.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(labels, 0, newLabels, 0, index);
+			System.arraycopy(children, 0, newChildren, 0, index);
+			newLabels[index] = c;
+			newChildren[index] = new Node();
+			System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+			System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+			labels = newLabels;
+			children = newChildren;
+			return newChildren[index];
+		}
+	}
+}
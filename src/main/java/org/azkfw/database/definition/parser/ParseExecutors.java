@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * このクラスは、非同期解析の実行機能のユーティリティクラスです。
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class ParseExecutors {
+
+	/** 既定の実行機能 */
+	private static final Executor DEFAULT = load();
+
+	private ParseExecutors() {
+	}
+
+	/**
+	 * 既定の実行機能を取得する。
+	 * <p>
+	 * 仮想スレッドを利用できるJava(21以降)の場合、解析毎に仮想スレッドを生成する実行機能を返します。
+	 * 利用できない場合、解析毎にデーモンスレッドを生成する実行機能を返します。どちらもアプリケーションの終了を妨げません。
+	 * </p>
+	 * 
+	 * @return 実行機能
+	 */
+	public static Executor getDefault() {
+		return DEFAULT;
+	}
+
+	private static Executor load() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (Executor) method.invoke(null);
+		} catch (Exception ex) {
+			return new DaemonThreadExecutor();
+		} catch (LinkageError ex) {
+			return new DaemonThreadExecutor();
+		}
+	}
+
+	/**
+	 * このクラスは、タスク毎にデーモンスレッドを生成する実行機能クラスです。
+	 */
+	private static final class DaemonThreadExecutor implements Executor {
+
+		/** スレッド番号 */
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public void execute(final Runnable command) {
+			Thread thread = new Thread(command, "azuki-database-parser-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+}
@@ -20,10 +20,15 @@ package org.azkfw.database.definition.parser;
 import java.sql.Connection;
 
 import org.azkfw.database.definition.DatabaseDefinition;
+import org.azkfw.database.definition.PostgreSQLCatalogDefinition;
 import org.azkfw.database.definition.PostgreSQLDefinition;
 
 /**
  * このクラスは、PostgreSQLデータベース定義の解析を行うクラスです。
+ * <p>
+ * 既定では <code>information_schema</code> を参照する {@link PostgreSQLDefinition} を使用します。
+ * カタログモードが有効な場合、システムカタログを参照する {@link PostgreSQLCatalogDefinition} を使用します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2015/02/06
@@ -31,15 +36,54 @@ import org.azkfw.database.definition.PostgreSQLDefinition;
  */
 public class PostgreSQLDefinitionParser extends AbstractDatabaseDefinitionParser {
 
+	/** カタログモード */
+	private boolean catalogMode;
+
 	/**
 	 * コンストラクタ
 	 */
 	public PostgreSQLDefinitionParser() {
 		super(PostgreSQLDefinitionParser.class);
+		catalogMode = false;
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param catalogMode カタログモード
+	 */
+	public PostgreSQLDefinitionParser(final boolean catalogMode) {
+		super(PostgreSQLDefinitionParser.class);
+		this.catalogMode = catalogMode;
+	}
+
+	/**
+	 * カタログモードを設定する。
+	 * <p>
+	 * カタログモードが有効な場合、<code>pg_catalog</code> をOIDで結合して定義を取得します。
+	 * <code>information_schema</code> より高速で、コメントと外部キーの参照先も取得します。
+	 * </p>
+	 * 
+	 * @param flag 有無
+	 */
+	public void setCatalogMode(final boolean flag) {
+		catalogMode = flag;
+	}
+
+	/**
+	 * カタログモードを判断する。
+	 * 
+	 * @return 判断
+	 */
+	public boolean isCatalogMode() {
+		return catalogMode;
 	}
 
 	@Override
 	protected DatabaseDefinition getDefinition(final Connection connection) {
+		if (catalogMode) {
+			return new PostgreSQLCatalogDefinition(connection);
+		}
 		return new PostgreSQLDefinition(connection);
 	}
 }
@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * このクラスは、テーブル名のパターン一覧をコンパイルしたマッチャークラスです。
+ * <p>
+ * 「スキーマ名.テーブル名」形式のパターンは、スキーマ名・テーブル名をそれぞれ {@link NameMatcher} の形式で判定します。
+ * 同じスキーマパターンのテーブルパターンは1つのマッチャーにまとめます。
+ * <code>regex:</code>で始まるパターンはスキーマ名で分割せず、テーブル名の正規表現として扱います。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+final class TableNameMatcher {
+
+	/** スキーマ指定なしのテーブルパターン */
+	private final NameMatcher tables;
+
+	/** スキーマパターン */
+	private final NameMatcher[] schemas;
+
+	/** スキーマパターン毎のテーブルパターン */
+	private final NameMatcher[] schemaTables;
+
+	/** パターン数 */
+	private final int size;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param patterns パターン一覧
+	 */
+	TableNameMatcher(final Collection<String> patterns) {
+		List<String> tablePatterns = new ArrayList<String>();
+		Map<String, List<String>> qualified = new LinkedHashMap<String, List<String>>();
+		for (String pattern : patterns) {
+			int index = (null == pattern || pattern.startsWith(NameMatcher.REGEX_PREFIX)) ? -1 : pattern.indexOf('.');
+			if (-1 == index) {
+				tablePatterns.add(pattern);
+			} else {
+				String schema = pattern.substring(0, index);
+				List<String> list = qualified.get(schema);
+				if (null == list) {
+					list = new ArrayList<String>();
+					qualified.put(schema, list);
+				}
+				list.add(pattern.substring(index + 1));
+			}
+		}
+
+		tables = new NameMatcher(tablePatterns);
+		schemas = new NameMatcher[qualified.size()];
+		schemaTables = new NameMatcher[qualified.size()];
+		int i = 0;
+		for (Map.Entry<String, List<String>> entry : qualified.entrySet()) {
+			List<String> schema = new ArrayList<String>(1);
+			schema.add(entry.getKey());
+			schemas[i] = new NameMatcher(schema);
+			schemaTables[i] = new NameMatcher(entry.getValue());
+			i++;
+		}
+		size = patterns.size();
+	}
+
+	/**
+	 * パターンが存在しないか判断する。
+	 * 
+	 * @return 判断
+	 */
+	boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * テーブルがいずれかのパターンに一致するか判断する。
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param tableName テーブル名
+	 * @return 判断
+	 */
+	boolean matches(final String schemaName, final String tableName) {
+		if (tables.matches(tableName)) {
+			return true;
+		}
+		for (int i = 0; i < schemas.length; i++) {
+			if (schemas[i].matches(schemaName) && schemaTables[i].matches(tableName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,650 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.azkfw.database.definition.DatabaseDefinition;
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.ForeignKeyFeildModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexFieldModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.ModelInterner;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+
+/**
+ * このクラスは、データベース情報のスナップショットを保持するクラスです。
+ * <p>
+ * スナップショットはバイナリ形式で保存し、次回起動時に読み込むことでデータベース定義の解析を省略できます。
+ * 形式は下記の通りです。文字列は文字列テーブルで重複を除き、各要素からは文字列テーブルの番号で参照します。
+ * 数値は可変長で格納し、<code>null</code>の文字列は番号0で表現します。
+ * <ul>
+ * <li>マジックナンバー(4byte) / フォーマットバージョン(4byte)</li>
+ * <li>セクション(種別1byte + 長さ4byte + 本体)の繰り返し。未知の種別のセクションは読み飛ばします。</li>
+ * <li>ヘッダーセクション - カタログバージョン、作成日時、解析オプションの識別文字列(フォーマットバージョン3以降)</li>
+ * <li>文字列テーブルセクション - 文字列数、文字列(UTF-8)</li>
+ * <li>テーブルセクション - テーブル数、テーブル(バージョン・フィールド・インデックス・外部キーを含む)。テーブルのバージョンはフォーマットバージョン2以降</li>
+ * </ul>
+ * 長さ・要素数は読込済みのバイト数で検証する為、破損したスナップショットは {@link IOException} になります。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class DatabaseModelSnapshot {
+
+	/** マジックナンバー */
+	private static final int MAGIC = 0x415A4442; // AZDB
+
+	/** フォーマットバージョン */
+	private static final int FORMAT_VERSION = 3;
+
+	/** フォーマットバージョン(テーブルバージョン追加) */
+	private static final int FORMAT_VERSION_TABLE_VERSION = 2;
+
+	/** フォーマットバージョン(解析オプションの識別文字列追加) */
+	private static final int FORMAT_VERSION_OPTION_FINGERPRINT = 3;
+
+	/** セクション種別: ヘッダー */
+	private static final byte SECTION_HEADER = 1;
+
+	/** セクション種別: 文字列テーブル */
+	private static final byte SECTION_STRINGS = 2;
+
+	/** セクション種別: テーブル */
+	private static final byte SECTION_TABLES = 3;
+
+	/** 終端 */
+	private static final byte SECTION_END = 0;
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	/** データベース情報 */
+	private final DatabaseModel database;
+
+	/** カタログバージョン */
+	private final String catalogVersion;
+
+	/** 解析オプションの識別文字列 */
+	private final String optionFingerprint;
+
+	/** 作成日時 */
+	private final long createDate;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param database データベース情報
+	 * @param catalogVersion カタログバージョン
+	 */
+	public DatabaseModelSnapshot(final DatabaseModel database, final String catalogVersion) {
+		this(database, catalogVersion, null, System.currentTimeMillis());
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param database データベース情報
+	 * @param catalogVersion カタログバージョン
+	 * @param optionFingerprint 解析オプションの識別文字列
+	 */
+	public DatabaseModelSnapshot(final DatabaseModel database, final String catalogVersion, final String optionFingerprint) {
+		this(database, catalogVersion, optionFingerprint, System.currentTimeMillis());
+	}
+
+	private DatabaseModelSnapshot(final DatabaseModel database, final String catalogVersion, final String optionFingerprint,
+			final long createDate) {
+		this.database = database;
+		this.catalogVersion = catalogVersion;
+		this.optionFingerprint = optionFingerprint;
+		this.createDate = createDate;
+	}
+
+	/**
+	 * データベース情報を取得する。
+	 * 
+	 * @return データベース情報
+	 */
+	public DatabaseModel getDatabase() {
+		return database;
+	}
+
+	/**
+	 * カタログバージョンを取得する。
+	 * 
+	 * @return カタログバージョン
+	 */
+	public String getCatalogVersion() {
+		return catalogVersion;
+	}
+
+	/**
+	 * 解析オプションの識別文字列を取得する。
+	 * 
+	 * @return 識別文字列。フォーマットバージョン2以前のスナップショットの場合、<code>null</code>
+	 */
+	public String getOptionFingerprint() {
+		return optionFingerprint;
+	}
+
+	/**
+	 * 作成日時を取得する。
+	 * 
+	 * @return 作成日時(ミリ秒)
+	 */
+	public long getCreateDate() {
+		return createDate;
+	}
+
+	/**
+	 * スナップショットが最新か判断する。
+	 * <p>
+	 * カタログバージョンが一致する場合、最新と判断します。カタログバージョンが取得できない場合は最新と判断しません。
+	 * </p>
+	 * 
+	 * @param definition データベース定義
+	 * @return 判断
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	public boolean isValid(final DatabaseDefinition definition) throws SQLException {
+		if (null == catalogVersion) {
+			return false;
+		}
+		return catalogVersion.equals(definition.getCatalogVersion());
+	}
+
+	/**
+	 * スナップショットをファイルへ書き込む。
+	 * <p>
+	 * 同じディレクトリの一時ファイルへ書き込んだ後、ファイルを置き換えます。
+	 * 置き換えはファイルシステムが対応している場合アトミックに行う為、読込中・書込中に他のプロセスが不完全なファイルを読むことはありません。
+	 * </p>
+	 * 
+	 * @param file ファイル
+	 * @throws IOException 入出力操作に起因する問題が発生した場合
+	 */
+	public void write(final File file) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+		File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+		boolean moved = false;
+		try {
+			OutputStream stream = null;
+			try {
+				stream = new FileOutputStream(tmp);
+				write(stream);
+			} finally {
+				if (null != stream) {
+					stream.close();
+				}
+			}
+
+			try {
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			moved = true;
+		} finally {
+			if (!moved && tmp.exists() && !tmp.delete()) {
+				tmp.deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * スナップショットをストリームへ書き込む。
+	 * <p>
+	 * ストリームは閉じません。
+	 * </p>
+	 * 
+	 * @param stream ストリーム
+	 * @throws IOException 入出力操作に起因する問題が発生した場合
+	 */
+	public void write(final OutputStream stream) throws IOException {
+		StringTable strings = new StringTable();
+
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		{
+			DataOutputStream out = new DataOutputStream(header);
+			writeVarInt(out, strings.index(catalogVersion));
+			out.writeLong(createDate);
+			writeVarInt(out, strings.index(optionFingerprint));
+			out.flush();
+		}
+
+		ByteArrayOutputStream tables = new ByteArrayOutputStream(64 * 1024);
+		{
+			DataOutputStream out = new DataOutputStream(tables);
+			List<TableModel> list = database.getTables();
+			writeVarInt(out, list.size());
+			for (TableModel table : list) {
+				writeTable(out, table, strings);
+			}
+			out.flush();
+		}
+
+		ByteArrayOutputStream stringTable = new ByteArrayOutputStream(64 * 1024);
+		{
+			DataOutputStream out = new DataOutputStream(stringTable);
+			writeVarInt(out, strings.list.size());
+			for (String string : strings.list) {
+				byte[] bytes = string.getBytes(UTF8);
+				writeVarInt(out, bytes.length);
+				out.write(bytes);
+			}
+			out.flush();
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+		out.writeInt(MAGIC);
+		out.writeInt(FORMAT_VERSION);
+		writeSection(out, SECTION_HEADER, header);
+		writeSection(out, SECTION_STRINGS, stringTable);
+		writeSection(out, SECTION_TABLES, tables);
+		out.writeByte(SECTION_END);
+		out.flush();
+	}
+
+	/**
+	 * スナップショットをファイルから読み込む。
+	 * 
+	 * @param file ファイル
+	 * @return スナップショット
+	 * @throws IOException 入出力操作に起因する問題が発生した場合、またはスナップショットの形式が不正な場合
+	 */
+	public static DatabaseModelSnapshot read(final File file) throws IOException {
+		InputStream stream = null;
+		try {
+			stream = new FileInputStream(file);
+			return read(stream);
+		} finally {
+			if (null != stream) {
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * スナップショットをストリームから読み込む。
+	 * <p>
+	 * ストリームは閉じません。
+	 * </p>
+	 * 
+	 * @param stream ストリーム
+	 * @return スナップショット
+	 * @throws IOException 入出力操作に起因する問題が発生した場合、またはスナップショットの形式が不正な場合
+	 */
+	public static DatabaseModelSnapshot read(final InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 64 * 1024));
+		if (MAGIC != in.readInt()) {
+			throw new IOException("Not a database model snapshot.");
+		}
+		int version = in.readInt();
+		if (1 > version || FORMAT_VERSION < version) {
+			throw new IOException(String.format("Unsupported snapshot version.[%d]", version));
+		}
+
+		String[] strings = null;
+		int catalogVersionIndex = -1;
+		int optionFingerprintIndex = 0;
+		long createDate = 0;
+		DatabaseModel database = null;
+		while (true) {
+			byte section = in.readByte();
+			if (SECTION_END == section) {
+				break;
+			}
+			byte[] body = readSection(in, in.readInt());
+			DataInputStream sin = new DataInputStream(new ByteArrayInputStream(body));
+
+			switch (section) {
+			case SECTION_HEADER:
+				// 文字列テーブルより前に出現するため番号のみ保持する
+				catalogVersionIndex = readVarInt(sin);
+				createDate = sin.readLong();
+				if (FORMAT_VERSION_OPTION_FINGERPRINT <= version) {
+					optionFingerprintIndex = readVarInt(sin);
+				}
+				break;
+			case SECTION_STRINGS:
+				strings = readStrings(sin);
+				break;
+			case SECTION_TABLES:
+				if (null == strings) {
+					throw new IOException("String table not found.");
+				}
+				database = readTables(sin, strings, version);
+				break;
+			default:
+				// 未知のセクションは読み飛ばす
+				break;
+			}
+		}
+		if (null == strings || null == database || -1 == catalogVersionIndex) {
+			throw new IOException("Incomplete snapshot.");
+		}
+
+		return new DatabaseModelSnapshot(database, string(strings, catalogVersionIndex), string(strings, optionFingerprintIndex), createDate);
+	}
+
+	/**
+	 * セクションの本体を読み込む。
+	 * <p>
+	 * 長さ分の領域を先に確保せず、読み込んだ分だけ確保する為、破損した長さでも読込済みのバイト数を超えて確保しません。
+	 * </p>
+	 * 
+	 * @param in ストリーム
+	 * @param length 長さ
+	 * @return 本体
+	 * @throws IOException 長さが不正な場合、またはストリームが途中で終了した場合
+	 */
+	private static byte[] readSection(final DataInputStream in, final int length) throws IOException {
+		if (0 > length) {
+			throw new IOException(String.format("Invalid section length.[%d]", length));
+		}
+		ByteArrayOutputStream body = new ByteArrayOutputStream(Math.min(length, 64 * 1024));
+		byte[] buffer = new byte[8 * 1024];
+		int remaining = length;
+		while (0 < remaining) {
+			int size = in.read(buffer, 0, Math.min(buffer.length, remaining));
+			if (0 > size) {
+				throw new EOFException("Truncated snapshot section.");
+			}
+			body.write(buffer, 0, size);
+			remaining -= size;
+		}
+		return body.toByteArray();
+	}
+
+	private static void writeSection(final DataOutputStream out, final byte section, final ByteArrayOutputStream body) throws IOException {
+		out.writeByte(section);
+		out.writeInt(body.size());
+		body.writeTo(out);
+	}
+
+	private static void writeTable(final DataOutputStream out, final TableModel table, final StringTable strings) throws IOException {
+		writeVarInt(out, strings.index((null != table.getSchema()) ? table.getSchema().getName() : null));
+		writeVarInt(out, strings.index(table.getName()));
+		writeVarInt(out, strings.index(table.getLabel()));
+		writeVarInt(out, strings.index(table.getComment()));
+		writeVarInt(out, strings.index(table.getVersion()));
+
+		List<FieldModel> fields = table.getFields();
+		writeVarInt(out, fields.size());
+		for (FieldModel field : fields) {
+			writeVarInt(out, strings.index(field.getName()));
+			writeVarInt(out, strings.index(field.getLabel()));
+			writeVarInt(out, strings.index((null != field.getType()) ? field.getType().getLabel() : null));
+			writeVarInt(out, strings.index(field.getExtra()));
+			writeVarInt(out, strings.index(field.getComment()));
+			int flags = 0;
+			if (field.isNotNull()) {
+				flags |= 0x01;
+			}
+			if (field.isDefaultFlag()) {
+				flags |= 0x02;
+			}
+			out.writeByte(flags);
+			if (field.isDefaultFlag()) {
+				Object value = field.getDefaultValue();
+				writeVarInt(out, strings.index((null != value) ? value.toString() : null));
+			}
+		}
+
+		List<IndexModel> indexs = table.getIndexs();
+		writeVarInt(out, indexs.size());
+		for (IndexModel index : indexs) {
+			writeVarInt(out, strings.index(index.getName()));
+			writeVarInt(out, strings.index(index.getComment()));
+			int flags = 0;
+			if (index.isPrimaryKey()) {
+				flags |= 0x01;
+			}
+			if (index.isUnique()) {
+				flags |= 0x02;
+			}
+			out.writeByte(flags);
+			List<IndexFieldModel> indexFields = index.getFields();
+			writeVarInt(out, indexFields.size());
+			for (IndexFieldModel field : indexFields) {
+				writeVarInt(out, strings.index(field.getName()));
+			}
+		}
+
+		List<ForeignKeyModel> foreignKeys = table.getForeignKeys();
+		writeVarInt(out, foreignKeys.size());
+		for (ForeignKeyModel foreignKey : foreignKeys) {
+			writeVarInt(out, strings.index(foreignKey.getName()));
+			writeVarInt(out, strings.index(foreignKey.getReferenceTableName()));
+			List<ForeignKeyFeildModel> keyFields = foreignKey.getFields();
+			List<ForeignKeyFeildModel> referenceFields = foreignKey.getReferenceFields();
+			writeVarInt(out, keyFields.size());
+			for (ForeignKeyFeildModel field : keyFields) {
+				writeVarInt(out, strings.index(field.getName()));
+			}
+			writeVarInt(out, referenceFields.size());
+			for (ForeignKeyFeildModel field : referenceFields) {
+				writeVarInt(out, strings.index(field.getName()));
+			}
+		}
+	}
+
+	private static String[] readStrings(final DataInputStream in) throws IOException {
+		int size = readSize(in);
+		String[] strings = new String[size + 1];
+		strings[0] = null;
+		byte[] buffer = new byte[256];
+		for (int i = 1; i <= size; i++) {
+			int length = readSize(in);
+			if (buffer.length < length) {
+				buffer = new byte[Math.max(length, buffer.length * 2)];
+			}
+			in.readFully(buffer, 0, length);
+			strings[i] = new String(buffer, 0, length, UTF8);
+		}
+		return strings;
+	}
+
+	private static DatabaseModel readTables(final DataInputStream in, final String[] strings, final int version) throws IOException {
+		Map<String, SchemaModel> schemas = new HashMap<String, SchemaModel>();
+		ModelInterner interner = new ModelInterner();
+
+		DatabaseModel database = new DatabaseModel();
+		int tableSize = readSize(in);
+		for (int i = 0; i < tableSize; i++) {
+			String schemaName = string(strings, readVarInt(in));
+			SchemaModel schema = null;
+			if (null != schemaName) {
+				schema = schemas.get(schemaName);
+				if (null == schema) {
+					schema = new SchemaModel();
+					schema.setName(schemaName);
+					schemas.put(schemaName, schema);
+				}
+			}
+
+			TableModel table = new TableModel();
+			table.setSchema(schema);
+			table.setName(string(strings, readVarInt(in)));
+			table.setLabel(string(strings, readVarInt(in)));
+			table.setComment(string(strings, readVarInt(in)));
+			if (FORMAT_VERSION_TABLE_VERSION <= version) {
+				table.setVersion(string(strings, readVarInt(in)));
+			}
+
+			int fieldSize = readSize(in);
+			for (int j = 0; j < fieldSize; j++) {
+				FieldModel field = new FieldModel();
+				field.setName(string(strings, readVarInt(in)));
+				field.setLabel(string(strings, readVarInt(in)));
+				field.setType(interner.getFieldType(string(strings, readVarInt(in))));
+				field.setExtra(string(strings, readVarInt(in)));
+				field.setComment(string(strings, readVarInt(in)));
+				int flags = in.readByte();
+				field.setNotNull(0 != (flags & 0x01));
+				field.setDefaultFlag(0 != (flags & 0x02));
+				if (field.isDefaultFlag()) {
+					field.setDefaultValue(string(strings, readVarInt(in)));
+				}
+				table.addField(field);
+			}
+
+			int indexSize = readSize(in);
+			for (int j = 0; j < indexSize; j++) {
+				IndexModel index = new IndexModel();
+				index.setName(string(strings, readVarInt(in)));
+				index.setComment(string(strings, readVarInt(in)));
+				int flags = in.readByte();
+				index.setPrimaryKey(0 != (flags & 0x01));
+				index.setUnique(0 != (flags & 0x02));
+				int size = readSize(in);
+				for (int k = 0; k < size; k++) {
+					IndexFieldModel field = new IndexFieldModel();
+					field.setName(string(strings, readVarInt(in)));
+					index.addField(field);
+				}
+				table.addIndex(index);
+			}
+
+			int foreignKeySize = readSize(in);
+			for (int j = 0; j < foreignKeySize; j++) {
+				ForeignKeyModel foreignKey = new ForeignKeyModel();
+				foreignKey.setName(string(strings, readVarInt(in)));
+				foreignKey.setReferenceTableName(string(strings, readVarInt(in)));
+				int size = readSize(in);
+				for (int k = 0; k < size; k++) {
+					ForeignKeyFeildModel field = new ForeignKeyFeildModel();
+					field.setName(string(strings, readVarInt(in)));
+					foreignKey.addField(field);
+				}
+				size = readSize(in);
+				for (int k = 0; k < size; k++) {
+					ForeignKeyFeildModel field = new ForeignKeyFeildModel();
+					field.setName(string(strings, readVarInt(in)));
+					foreignKey.addReferenceField(field);
+				}
+				table.addForeignKey(foreignKey);
+			}
+
+			database.addTable(table);
+		}
+		return database;
+	}
+
+	private static String string(final String[] strings, final int index) throws IOException {
+		if (0 > index || strings.length <= index) {
+			throw new IOException(String.format("Invalid string index.[%d]", index));
+		}
+		return strings[index];
+	}
+
+	/**
+	 * 要素数・長さを読み込む。
+	 * <p>
+	 * 各要素は1byte以上の為、セクションの残りバイト数を超える値は不正です。
+	 * </p>
+	 * 
+	 * @param in セクションのストリーム
+	 * @return 要素数・長さ
+	 * @throws IOException 値が不正な場合
+	 */
+	private static int readSize(final DataInputStream in) throws IOException {
+		int size = readVarInt(in);
+		if (0 > size || in.available() < size) {
+			throw new IOException(String.format("Invalid size.[%d]", size));
+		}
+		return size;
+	}
+
+	private static void writeVarInt(final DataOutputStream out, final int value) throws IOException {
+		int v = value;
+		while (0 != (v & ~0x7F)) {
+			out.writeByte((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		out.writeByte(v);
+	}
+
+	private static int readVarInt(final DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if (0 == (b & 0x80)) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable length integer.");
+	}
+
+	/**
+	 * このクラスは、書き込み時の文字列テーブルを保持するクラスです。
+	 */
+	private static final class StringTable {
+
+		/** 文字列リスト */
+		private final List<String> list = new ArrayList<String>();
+
+		/** 番号マップ */
+		private final Map<String, Integer> indexs = new HashMap<String, Integer>();
+
+		/**
+		 * 文字列の番号を取得する。
+		 * 
+		 * @param string 文字列
+		 * @return 番号。<code>null</code>の場合、0を返す。
+		 */
+		private int index(final String string) {
+			if (null == string) {
+				return 0;
+			}
+			Integer index = indexs.get(string);
+			if (null == index) {
+				list.add(string);
+				index = Integer.valueOf(list.size());
+				indexs.put(string, index);
+			}
+			return index.intValue();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.parser.DatabaseDefinitionParser;
+import org.azkfw.database.definition.parser.ParseExecutors;
+
+/**
+ * このクラスは、データベース定義を非同期に解析し {@link CompletableFuture} で結果を返すユーティリティクラスです。
+ * <p>
+ * 解析は {@link DatabaseDefinitionParser#parseAsync(DataSource, Executor)} で実行機能のスレッドで行います。
+ * 返却したフューチャーを取り消した場合、解析中のスレッドに割り込み、実行中のクエリを取り消します。
+ * </p>
+ * 
+ * <pre>
+ * CompletableFuture&lt;DatabaseModel&gt; ready = CompletableParsers.parseAsync(parser, dataSource);
+ * ready.thenAccept(database -&gt; ...);
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class CompletableParsers {
+
+	private CompletableParsers() {
+	}
+
+	/**
+	 * 既定の実行機能で非同期に解析する。
+	 * 
+	 * @param parser パーサー
+	 * @param dataSource データソース
+	 * @return 解析結果のフューチャー
+	 * @see ParseExecutors#getDefault()
+	 */
+	public static CompletableFuture<DatabaseModel> parseAsync(final DatabaseDefinitionParser parser, final DataSource dataSource) {
+		return parseAsync(parser, dataSource, ParseExecutors.getDefault());
+	}
+
+	/**
+	 * 非同期に解析する。
+	 * 
+	 * @param parser パーサー
+	 * @param dataSource データソース
+	 * @param executor 実行機能
+	 * @return 解析結果のフューチャー
+	 */
+	public static CompletableFuture<DatabaseModel> parseAsync(final DatabaseDefinitionParser parser, final DataSource dataSource,
+			final Executor executor) {
+		ParseFuture future = new ParseFuture();
+		future.task = parser.parseAsync(dataSource, command -> executor.execute(() -> {
+			command.run();
+			future.completeFromTask();
+		}));
+		// 実行機能が呼出し元のスレッドで実行した場合、タスクの設定前に完了している
+		future.completeFromTask();
+		return future;
+	}
+
+	/**
+	 * このクラスは、取り消しを解析タスクへ伝播するフューチャークラスです。
+	 */
+	private static final class ParseFuture extends CompletableFuture<DatabaseModel> {
+
+		/** 解析タスク */
+		private volatile Future<DatabaseModel> task;
+
+		/**
+		 * 解析タスクが終了している場合、その結果で完了する。
+		 */
+		private void completeFromTask() {
+			Future<DatabaseModel> t = task;
+			if (null == t || !t.isDone() || t.isCancelled()) {
+				return;
+			}
+			try {
+				complete(t.get());
+			} catch (ExecutionException ex) {
+				completeExceptionally(ex.getCause());
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				completeExceptionally(ex);
+			}
+		}
+
+		@Override
+		public boolean cancel(final boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			Future<DatabaseModel> t = task;
+			if (cancelled && null != t) {
+				t.cancel(true);
+			}
+			return cancelled;
+		}
+	}
+}
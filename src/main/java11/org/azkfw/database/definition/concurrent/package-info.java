@@ -0,0 +1,7 @@
+/**
+ * {@link java.util.concurrent.CompletableFuture} を使用した非同期解析のクラスを提供します。
+ * <p>
+ * Java 11以降でのみ利用できるため、マルチリリースJARの META-INF/versions/11 に格納します。
+ * </p>
+ */
+package org.azkfw.database.definition.concurrent;
@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.jfr;
+
+import org.azkfw.database.definition.QueryKind;
+import org.azkfw.database.definition.metrics.IntrospectionPhase;
+import org.azkfw.database.definition.metrics.IntrospectionTracer;
+
+/**
+ * このクラスは、Java Flight Recorder のイベントを発行するトレーサークラスです。
+ * <p>
+ * 記録が無効な場合はイベントを保持せず <code>null</code> を返すため、イベント生成はJITにより除去されます。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author kawakicchi
+ */
+public final class JfrIntrospectionTracer implements IntrospectionTracer {
+
+	@Override
+	public Object start(final IntrospectionPhase phase, final QueryKind kind, final String schemaName, final String tableName) {
+		IntrospectionEvent event;
+		if (IntrospectionPhase.QUERY == phase) {
+			CatalogQueryEvent query = new CatalogQueryEvent();
+			if (!query.isEnabled()) {
+				return null;
+			}
+			query.queryKind = (null != kind) ? kind.name() : null;
+			event = query;
+		} else {
+			IntrospectionPhaseEvent phaseEvent = new IntrospectionPhaseEvent();
+			if (!phaseEvent.isEnabled()) {
+				return null;
+			}
+			phaseEvent.phase = phase.name();
+			event = phaseEvent;
+		}
+		event.schema = schemaName;
+		event.table = tableName;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void end(final Object context, final long rows, final boolean failed) {
+		if (context instanceof IntrospectionEvent) {
+			IntrospectionEvent event = (IntrospectionEvent) context;
+			event.end();
+			if (event.shouldCommit()) {
+				event.rows = rows;
+				event.failed = failed;
+				event.commit();
+			}
+		}
+	}
+}
@@ -0,0 +1,345 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class AbstractDatabaseDefinitionTest extends TestCase {
+
+	@Test
+	public void testLazyLoad() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 3);
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect());
+		definition.setLazyMode(true);
+		definition.setPrefetchSize(1);
+
+		List<TableModel> tables = definition.getTableList(createSchema("public"));
+		assertEquals("テーブル数", 3, tables.size());
+		assertEquals("未読込", 0, catalog.getQueryCount(QueryKind.FIELD));
+		for (TableModel table : tables) {
+			assertFalse("未読込", table.isLoaded());
+		}
+
+		TableModel table = tables.get(1);
+		assertEquals("フィールド数", 2, table.getFields().size());
+		assertNotNull("主キー", table.getPrimaryIndex());
+		assertTrue("読込済み", table.isLoaded());
+		assertFalse("先読みしない", tables.get(2).isLoaded());
+		assertEquals("読込", 1, catalog.getQueryCount(QueryKind.FIELD));
+
+		// 読込済みのテーブルは再読込しない
+		table.getField("id");
+		assertEquals("読込", 1, catalog.getQueryCount(QueryKind.FIELD));
+		definition.close();
+	}
+
+	@Test
+	public void testPrefetch() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 10);
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect());
+		definition.setLazyMode(true);
+		definition.setPrefetchSize(4);
+
+		List<TableModel> tables = definition.getTableList(createSchema("public"));
+		assertEquals("テーブル数", 10, tables.size());
+
+		tables.get(2).getFields();
+		assertEquals("一括取得", 1, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+		assertEquals("テーブル毎の取得", 0, catalog.getQueryCount(QueryKind.FIELD));
+		for (int i = 0; i < tables.size(); i++) {
+			assertEquals("先読み " + i, 2 <= i && i < 6, tables.get(i).isLoaded());
+		}
+		for (int i = 2; i < 6; i++) {
+			TableModel table = tables.get(i);
+			assertEquals("フィールド数", 2, table.getFields().size());
+			assertEquals("インデックス数", 1, table.getIndexs().size());
+			assertEquals("pk_" + table.getName(), table.getPrimaryIndex().getName());
+		}
+		assertEquals("先読み済み", 1, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+
+		// 末尾は先読み件数に満たない
+		tables.get(8).getFields();
+		assertEquals("一括取得", 2, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+		assertTrue(tables.get(9).isLoaded());
+		assertEquals("フィールド数", 2, tables.get(9).getFields().size());
+		definition.close();
+	}
+
+	@Test
+	public void testUnload() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 2);
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect());
+		definition.setLazyMode(true);
+		definition.setPrefetchSize(1);
+
+		TableModel table = definition.getTableList(createSchema("public")).get(0);
+		List<FieldModel> fields = table.getFields();
+		assertEquals("フィールド数", 2, fields.size());
+
+		table.unload();
+		assertFalse("破棄", table.isLoaded());
+		// 取得済みのリストは破棄の影響を受けない
+		assertEquals("取得済みのリスト", 2, fields.size());
+
+		List<FieldModel> reloaded = table.getFields();
+		assertNotSame("再読込", fields, reloaded);
+		assertEquals("フィールド数", 2, reloaded.size());
+		assertEquals("再読込", 2, catalog.getQueryCount(QueryKind.FIELD));
+		definition.close();
+	}
+
+	@Test
+	public void testConcurrentUnload() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 1);
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect());
+		definition.setLazyMode(true);
+
+		final TableModel table = definition.getTableList(createSchema("public")).get(0);
+		final AtomicBoolean running = new AtomicBoolean(true);
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		List<Thread> readers = new ArrayList<Thread>();
+		for (int i = 0; i < 4; i++) {
+			Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						while (running.get()) {
+							int count = 0;
+							for (FieldModel field : table.getFields()) {
+								assertNotNull(field.getName());
+								count++;
+							}
+							assertEquals("フィールド数", 2, count);
+						}
+					} catch (Throwable ex) {
+						// ConcurrentModificationException など
+						errors.add(ex);
+					}
+				}
+			});
+			thread.start();
+			readers.add(thread);
+		}
+		for (int i = 0; i < 1000 && errors.isEmpty(); i++) {
+			table.unload();
+			Thread.yield();
+		}
+		running.set(false);
+		for (Thread thread : readers) {
+			thread.join(10000L);
+			assertFalse("終了", thread.isAlive());
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+		definition.close();
+	}
+
+	@Test
+	public void testLoadAfterClose() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 2);
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect());
+		definition.setLazyMode(true);
+		definition.setPrefetchSize(1);
+
+		List<TableModel> tables = definition.getTableList(createSchema("public"));
+		tables.get(0).getFields();
+		definition.close();
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+
+		// 読込済みのテーブルは参照できる
+		assertEquals("フィールド数", 2, tables.get(0).getFields().size());
+		try {
+			tables.get(1).getFields();
+			fail("解放後の読込");
+		} catch (IllegalStateException ex) {
+			assertFalse("未読込", tables.get(1).isLoaded());
+		}
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+	}
+
+	@Test
+	public void testBulk() throws Exception {
+		FakeCatalog catalog = createCatalog();
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect());
+
+		List<TableModel> tables = definition.getTableList(createSchema("public"));
+		assertEquals("一括取得", 1, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+		assertEquals("一括取得", 1, catalog.getQueryCount(QueryKind.SCHEMA_INDEX));
+		assertEquals("一括取得", 1, catalog.getQueryCount(QueryKind.SCHEMA_FOREIGN_KEY));
+		assertEquals("テーブル毎の取得", 0, catalog.getQueryCount(QueryKind.FIELD));
+
+		// テーブル一覧の順序は一括取得の結果の順序(テーブル名順)に依存しない
+		assertEquals("[orders, customers, b_items, a_empty]", toNames(tables));
+		TableModel orders = tables.get(0);
+		assertEquals("[id, customer_id, total]", toNames(orders.getFields()));
+		assertEquals("複数フィールドのインデックス", 2, orders.getIndex("ix_orders").getFields().size());
+		assertEquals("外部キー", "customers", orders.getForeignKey("fk_orders_customer").getReferenceTableName());
+		// 名前がnullの行(インデックス・外部キーが存在しないテーブル)は無視する
+		TableModel items = tables.get(2);
+		assertTrue("インデックスなし", items.getIndexs().isEmpty());
+		assertTrue("外部キーなし", items.getForeignKeys().isEmpty());
+		assertTrue("フィールドなし", tables.get(3).getFields().isEmpty());
+		definition.close();
+	}
+
+	@Test
+	public void testBulkEqualsPerTable() throws Exception {
+		FakeCatalog catalog = createCatalog();
+		FakeCatalog.Definition bulk = new FakeCatalog.Definition(catalog.connect());
+		FakeCatalog.Definition perTable = new FakeCatalog.Definition(catalog.connect());
+		perTable.setBulkMode(false);
+
+		List<TableModel> expected = perTable.getTableList(createSchema("public"));
+		assertEquals("テーブル毎の取得", 4, catalog.getQueryCount(QueryKind.FIELD));
+		catalog.resetQueryCount();
+		List<TableModel> actual = bulk.getTableList(createSchema("public"));
+		assertEquals("テーブル毎の取得", 0, catalog.getQueryCount(QueryKind.FIELD));
+
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(describe(expected.get(i)), describe(actual.get(i)));
+		}
+
+		// 結果の並び順が異なっても同じテーブルへ振り分ける
+		catalog.setDescending(true);
+		actual = bulk.getTableList(createSchema("public"));
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(describe(expected.get(i)), describe(actual.get(i)));
+		}
+		bulk.close();
+		perTable.close();
+	}
+
+	@Test
+	public void testSchemaParameter() throws Exception {
+		FakeCatalog catalog = createCatalog();
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect()) {
+			@Override
+			protected String getTableVersionSQL() {
+				StringBuilder sql = new StringBuilder();
+				sql.append("TABLE_VERSION WHERE a.schema_name = ? ");
+				appendTableFilter(sql, "a.table_name");
+				sql.append("AND b.schema_name = ");
+				appendSchemaParameter(sql);
+				appendTableFilter(sql, "b.table_name");
+				return sql.toString();
+			}
+		};
+		definition.setCatalogFilter(new CatalogFilter(Collections.<String> emptyList(), Collections.<String> emptyList(), Collections.singletonList("orders"),
+				Collections.<String> emptyList()));
+
+		// 2箇所目のスキーマ名は絞込み条件と同様に出現順にバインドする
+		Map<String, String> versions = definition.getTableVersions(createSchema("public"));
+		assertEquals("public,orders,public,orders", versions.get("orders"));
+		definition.close();
+	}
+
+	@Test
+	public void testCatalogVersionFilter() throws Exception {
+		FakeCatalog catalog = createCatalog();
+		FakeCatalog.Definition definition = new FakeCatalog.Definition(catalog.connect()) {
+			@Override
+			protected String getCatalogVersionSQL() {
+				StringBuilder sql = new StringBuilder();
+				sql.append("CATALOG_VERSION WHERE 1 = 1 ");
+				appendSchemaFilter(sql, "schema_name");
+				return sql.toString();
+			}
+		};
+		assertEquals("絞込み条件なし", "", definition.getCatalogVersion());
+
+		// カタログのバージョンもスキーマの絞込み条件の値をバインドする
+		definition.setCatalogFilter(new CatalogFilter(Collections.singletonList("public"), Collections.<String> emptyList(),
+				Collections.<String> emptyList(), Collections.<String> emptyList()));
+		assertEquals("public", definition.getCatalogVersion());
+		definition.close();
+	}
+
+	/**
+	 * 一括取得の振り分けを確認するカタログを生成する。
+	 * <p>
+	 * テーブル一覧はテーブル名順ではなく、一括取得の結果にのみ現れるテーブル(<code>a_hidden</code>)と、
+	 * インデックス・外部キーが存在しない(名前がnullの行を返す)テーブルを含みます。
+	 * </p>
+	 * 
+	 * @return カタログ
+	 */
+	private static FakeCatalog createCatalog() {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTable("public", "orders").addField("id", "int").addField("customer_id", "int").addField("total", "numeric")
+				.addIndex("pk_orders", "id", true, true).addIndex("ix_orders", "customer_id", false, false)
+				.addIndex("ix_orders", "total", false, false).addForeignKey("fk_orders_customer", "customer_id", "customers", "id");
+		catalog.addTable("public", "customers").addField("id", "int").addField("name", "varchar")
+				.addIndex("pk_customers", "id", true, true);
+		catalog.addTable("public", "b_items").addField("name", "varchar");
+		catalog.addTable("public", "a_hidden").addField("secret", "varchar").addIndex("pk_hidden", "secret", true, true).hide();
+		catalog.addTable("public", "a_empty");
+		return catalog;
+	}
+
+	private static String describe(final TableModel table) throws Exception {
+		StringBuilder s = new StringBuilder(table.getName());
+		for (FieldModel field : table.getFields()) {
+			s.append(String.format(" field(%s %s)", field.getName(), field.getType().getLabel()));
+		}
+		for (IndexModel index : table.getIndexs()) {
+			s.append(String.format(" index(%s %s %b %b)", index.getName(), toNames(index.getFields()), index.isUnique(), index.isPrimaryKey()));
+		}
+		for (ForeignKeyModel foreignKey : table.getForeignKeys()) {
+			s.append(String.format(" fk(%s %s %s %s)", foreignKey.getName(), toNames(foreignKey.getFields()), foreignKey.getReferenceTableName(),
+					toNames(foreignKey.getReferenceFields())));
+		}
+		return s.toString();
+	}
+
+	private static String toNames(final List<?> models) throws Exception {
+		List<String> names = new ArrayList<String>();
+		for (Object model : models) {
+			names.add((String) model.getClass().getMethod("getName").invoke(model));
+		}
+		return names.toString();
+	}
+
+	private static SchemaModel createSchema(final String name) {
+		SchemaModel schema = new SchemaModel();
+		schema.setName(name);
+		return schema;
+	}
+}
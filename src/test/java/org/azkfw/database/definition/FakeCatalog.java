@@ -0,0 +1,522 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+/**
+ * テスト用にメモリ上のカタログをSQLの結果として返すコネクションを生成するクラスです。
+ * <p>
+ * SQLの先頭の語をクエリ種別として扱い、{@link Definition} が生成するSQLにのみ応答します。
+ * テーブルが存在しないインデックス・外部キーは、外部結合と同様に名前が <code>null</code> の行を返します。
+ * 一括取得の結果はテーブル名順に並べます。
+ * </p>
+ * 
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class FakeCatalog {
+
+	/** スキーマ名毎のテーブル */
+	private final Map<String, List<Table>> schemas;
+
+	/** クエリ種別毎の実行回数 */
+	private final Map<QueryKind, Integer> queries;
+
+	/** 取得したコネクション数 */
+	private int connections;
+
+	/** 閉じていないコネクション数 */
+	private int openConnections;
+
+	/** 閉じていないステートメント数 */
+	private int openStatements;
+
+	/** 一括取得の結果をテーブル名の降順に並べるか(照合順序の異なるデータベースを模倣する) */
+	private boolean descending;
+
+	public FakeCatalog() {
+		schemas = new LinkedHashMap<String, List<Table>>();
+		queries = new EnumMap<QueryKind, Integer>(QueryKind.class);
+	}
+
+	/**
+	 * テーブルを追加する。
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param name テーブル名
+	 * @return テーブル
+	 */
+	public synchronized Table addTable(final String schemaName, final String name) {
+		List<Table> tables = schemas.get(schemaName);
+		if (null == tables) {
+			tables = new ArrayList<Table>();
+			schemas.put(schemaName, tables);
+		}
+		Table table = new Table(name);
+		tables.add(table);
+		return table;
+	}
+
+	/**
+	 * スキーマに <code>count</code> 件のテーブルを追加する。テーブル名は <code>t_0001</code> 形式です。
+	 * 
+	 * @param schemaName スキーマ名
+	 * @param count 件数
+	 */
+	public void addTables(final String schemaName, final int count) {
+		for (int i = 1; i <= count; i++) {
+			String name = String.format("t_%04d", i);
+			addTable(schemaName, name).addField("id", "int").addField("name", "varchar").addIndex("pk_" + name, "id", true, true);
+		}
+	}
+
+	public synchronized void setDescending(final boolean descending) {
+		this.descending = descending;
+	}
+
+	public synchronized int getQueryCount(final QueryKind kind) {
+		Integer count = queries.get(kind);
+		return (null != count) ? count.intValue() : 0;
+	}
+
+	public synchronized void resetQueryCount() {
+		queries.clear();
+	}
+
+	public synchronized int getConnectionCount() {
+		return connections;
+	}
+
+	public synchronized int getOpenConnectionCount() {
+		return openConnections;
+	}
+
+	public synchronized int getOpenStatementCount() {
+		return openStatements;
+	}
+
+	/**
+	 * コネクションを取得する。
+	 * 
+	 * @return コネクション
+	 */
+	public Connection connect() {
+		synchronized (this) {
+			connections++;
+			openConnections++;
+		}
+		return proxy(Connection.class, new InvocationHandler() {
+			private boolean closed;
+
+			@Override
+			public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+				String name = method.getName();
+				if ("prepareStatement".equals(name)) {
+					if (closed) {
+						throw new SQLException("Closed connection.");
+					}
+					return prepare((Connection) proxy, (String) args[0]);
+				} else if ("close".equals(name)) {
+					synchronized (FakeCatalog.this) {
+						if (!closed) {
+							closed = true;
+							openConnections--;
+						}
+					}
+					return null;
+				} else if ("isClosed".equals(name)) {
+					return closed;
+				} else if ("getAutoCommit".equals(name)) {
+					return true;
+				}
+				return defaultValue(method);
+			}
+		});
+	}
+
+	/**
+	 * コネクションを取得するデータソースを取得する。
+	 * 
+	 * @return データソース
+	 */
+	public DataSource getDataSource() {
+		return proxy(DataSource.class, new InvocationHandler() {
+			@Override
+			public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+				if ("getConnection".equals(method.getName())) {
+					return connect();
+				}
+				return defaultValue(method);
+			}
+		});
+	}
+
+	private PreparedStatement prepare(final Connection connection, final String sql) {
+		synchronized (this) {
+			openStatements++;
+		}
+		int end = sql.indexOf(' ');
+		final QueryKind kind = QueryKind.valueOf((0 <= end) ? sql.substring(0, end) : sql);
+		final Map<Integer, String> params = new HashMap<Integer, String>();
+		return proxy(PreparedStatement.class, new InvocationHandler() {
+			private boolean closed;
+
+			@Override
+			public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+				String name = method.getName();
+				if ("setString".equals(name)) {
+					params.put((Integer) args[0], (String) args[1]);
+					return null;
+				} else if ("executeQuery".equals(name)) {
+					if (closed) {
+						throw new SQLException("Closed statement.");
+					}
+					return execute(kind, params);
+				} else if ("getConnection".equals(name)) {
+					return connection;
+				} else if ("close".equals(name)) {
+					synchronized (FakeCatalog.this) {
+						if (!closed) {
+							closed = true;
+							openStatements--;
+						}
+					}
+					return null;
+				} else if ("isClosed".equals(name)) {
+					return closed;
+				}
+				return defaultValue(method);
+			}
+		});
+	}
+
+	private ResultSet execute(final QueryKind kind, final Map<Integer, String> params) throws SQLException {
+		final List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+		synchronized (this) {
+			Integer count = queries.get(kind);
+			queries.put(kind, (null != count) ? count.intValue() + 1 : 1);
+
+			String schemaName = params.get(1);
+			List<Table> tables = schemas.get(schemaName);
+			if (null == tables) {
+				tables = Collections.emptyList();
+			}
+			switch (kind) {
+			case SCHEMA:
+				for (String name : schemas.keySet()) {
+					rows.add(row("name", name));
+				}
+				break;
+			case TABLE_LIST:
+				for (Table table : tables) {
+					if (!table.hidden) {
+						rows.add(row("label", table.name, "name", table.name, "schema", schemaName, "comment", null));
+					}
+				}
+				break;
+			case TABLE:
+			case FIELD:
+			case INDEX:
+			case FOREIGN_KEY:
+				for (Table table : tables) {
+					if (table.name.equals(params.get(2))) {
+						if (QueryKind.TABLE == kind) {
+							if (!table.hidden) {
+								rows.add(row("label", table.name, "name", table.name, "schema", schemaName, "comment", null));
+							}
+						} else {
+							rows.addAll(table.getRows(kind, false));
+						}
+					}
+				}
+				break;
+			case TABLE_VERSION:
+			case CATALOG_VERSION:
+				// バージョンはバインド値を順に連結した文字列
+				StringBuilder version = new StringBuilder();
+				for (int i = 1; i <= params.size(); i++) {
+					version.append((1 < i) ? "," : "").append(params.get(i));
+				}
+				if (QueryKind.CATALOG_VERSION == kind) {
+					rows.add(row("version", version.toString()));
+					break;
+				}
+				for (Table table : tables) {
+					if (!table.hidden) {
+						rows.add(row("name", table.name, "version", version.toString()));
+					}
+				}
+				break;
+			case SCHEMA_FIELD:
+			case SCHEMA_INDEX:
+			case SCHEMA_FOREIGN_KEY:
+				// 先読みの場合、2番目以降のバインド変数はテーブル名
+				Set<String> names = null;
+				if (1 < params.size()) {
+					names = new HashSet<String>();
+					for (Map.Entry<Integer, String> param : params.entrySet()) {
+						if (1 < param.getKey().intValue()) {
+							names.add(param.getValue());
+						}
+					}
+				}
+				List<Table> sorted = new ArrayList<Table>(tables);
+				Collections.sort(sorted, new Comparator<Table>() {
+					@Override
+					public int compare(final Table o1, final Table o2) {
+						return (descending) ? o2.name.compareTo(o1.name) : o1.name.compareTo(o2.name);
+					}
+				});
+				for (Table table : sorted) {
+					if (null == names || names.contains(table.name)) {
+						rows.addAll(table.getRows(kind, true));
+					}
+				}
+				break;
+			default:
+				throw new SQLException(String.format("Unsupported query.[%s]", kind));
+			}
+		}
+
+		return proxy(ResultSet.class, new InvocationHandler() {
+			private int index = -1;
+
+			@Override
+			public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+				String name = method.getName();
+				if ("next".equals(name)) {
+					index++;
+					return index < rows.size();
+				} else if ("getString".equals(name)) {
+					return rows.get(index).get(args[0]);
+				} else if ("getObject".equals(name)) {
+					return rows.get(index).get(args[0]);
+				} else if ("getBoolean".equals(name)) {
+					return Boolean.TRUE.equals(rows.get(index).get(args[0]));
+				}
+				return defaultValue(method);
+			}
+		});
+	}
+
+	private static Map<String, Object> row(final Object... values) {
+		Map<String, Object> row = new HashMap<String, Object>();
+		for (int i = 0; i < values.length; i += 2) {
+			row.put((String) values[i], values[i + 1]);
+		}
+		return row;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(final Class<T> clazz, final InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(FakeCatalog.class.getClassLoader(), new Class<?>[] { clazz }, new InvocationHandler() {
+			@Override
+			public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+				if ("equals".equals(method.getName())) {
+					return proxy == args[0];
+				} else if ("hashCode".equals(method.getName())) {
+					return System.identityHashCode(proxy);
+				} else if ("toString".equals(method.getName())) {
+					return clazz.getSimpleName();
+				}
+				return handler.invoke(proxy, method, args);
+			}
+		});
+	}
+
+	private static Object defaultValue(final Method method) {
+		Class<?> type = method.getReturnType();
+		if (boolean.class == type) {
+			return false;
+		} else if (int.class == type) {
+			return 0;
+		} else if (long.class == type) {
+			return 0L;
+		}
+		return null;
+	}
+
+	/**
+	 * テスト用のテーブルを表すクラスです。
+	 */
+	public static final class Table {
+
+		private final String name;
+
+		private final List<Map<String, Object>> fields;
+
+		private final List<Map<String, Object>> indexs;
+
+		private final List<Map<String, Object>> foreignKeys;
+
+		/** テーブル一覧に含めない場合、<code>true</code> */
+		private boolean hidden;
+
+		private Table(final String name) {
+			this.name = name;
+			fields = new ArrayList<Map<String, Object>>();
+			indexs = new ArrayList<Map<String, Object>>();
+			foreignKeys = new ArrayList<Map<String, Object>>();
+		}
+
+		public Table addField(final String fieldName, final String type) {
+			fields.add(row("label", fieldName, "name", fieldName, "type", type, "extra", null, "notnull", Boolean.FALSE, "default", null,
+					"comment", null));
+			return this;
+		}
+
+		public Table addIndex(final String indexName, final String fieldName, final boolean unique, final boolean primaryKey) {
+			indexs.add(row("name", indexName, "field_name", fieldName, "unique_key", unique, "primary_key", primaryKey));
+			return this;
+		}
+
+		public Table addForeignKey(final String foreignKeyName, final String fieldName, final String refTableName, final String refFieldName) {
+			foreignKeys.add(row("name", foreignKeyName, "field_name", fieldName, "ref_table_name", refTableName, "ref_field_name",
+					refFieldName));
+			return this;
+		}
+
+		/**
+		 * テーブル一覧に含めない(フィールド等の一括取得の結果にのみ現れる)テーブルにする。
+		 * 
+		 * @return テーブル
+		 */
+		public Table hide() {
+			hidden = true;
+			return this;
+		}
+
+		private List<Map<String, Object>> getRows(final QueryKind kind, final boolean bulk) {
+			List<Map<String, Object>> source;
+			switch (kind) {
+			case FIELD:
+			case SCHEMA_FIELD:
+				source = fields;
+				break;
+			case INDEX:
+			case SCHEMA_INDEX:
+				source = indexs;
+				break;
+			default:
+				source = foreignKeys;
+				break;
+			}
+
+			List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+			if (source.isEmpty() && source != fields) {
+				// 外部結合でインデックス・外部キーが存在しない行
+				rows.add(row("name", null, "field_name", null, "unique_key", Boolean.FALSE, "primary_key", Boolean.FALSE, "ref_table_name",
+						null, "ref_field_name", null));
+			} else {
+				rows.addAll(source);
+			}
+			if (bulk) {
+				List<Map<String, Object>> result = new ArrayList<Map<String, Object>>(rows.size());
+				for (Map<String, Object> row : rows) {
+					Map<String, Object> r = new HashMap<String, Object>(row);
+					r.put("table_name", name);
+					result.add(r);
+				}
+				rows = result;
+			}
+			return rows;
+		}
+	}
+
+	/**
+	 * {@link FakeCatalog} のコネクションに応答させるデータベース定義クラスです。
+	 */
+	public static class Definition extends AbstractDatabaseDefinition {
+
+		public Definition(final Connection connection) {
+			super(Definition.class, connection);
+		}
+
+		@Override
+		protected String getSchemaSQL() {
+			return "SCHEMA";
+		}
+
+		@Override
+		protected String getTableListSQL() {
+			return "TABLE_LIST";
+		}
+
+		@Override
+		protected String getTableSQL() {
+			return "TABLE";
+		}
+
+		@Override
+		protected String getFieldSQL() {
+			return "FIELD";
+		}
+
+		@Override
+		protected String getIndexSQL() {
+			return "INDEX";
+		}
+
+		@Override
+		protected String getForeignKeySQL() {
+			return "FOREIGN_KEY";
+		}
+
+		@Override
+		protected String getSchemaFieldSQL() {
+			return getBulkSQL(QueryKind.SCHEMA_FIELD);
+		}
+
+		@Override
+		protected String getSchemaIndexSQL() {
+			return getBulkSQL(QueryKind.SCHEMA_INDEX);
+		}
+
+		@Override
+		protected String getSchemaForeignKeySQL() {
+			return getBulkSQL(QueryKind.SCHEMA_FOREIGN_KEY);
+		}
+
+		private String getBulkSQL(final QueryKind kind) {
+			StringBuilder sql = new StringBuilder();
+			sql.append(kind.name()).append(" WHERE schema_name = ? ");
+			appendTableFilter(sql, "table_name");
+			return sql.toString();
+		}
+	}
+}
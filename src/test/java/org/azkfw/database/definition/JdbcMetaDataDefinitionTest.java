@@ -0,0 +1,237 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class JdbcMetaDataDefinitionTest extends TestCase {
+
+	@Test
+	public void testBulkReturnsEmpty() throws Exception {
+		// テーブル名の省略に対応せず、空の結果を返すドライバ(SQLite)
+		FakeMetaData fake = new FakeMetaData(false);
+		JdbcMetaDataDefinition definition = new JdbcMetaDataDefinition(fake.connection);
+		SchemaModel schema = definition.getSchemaList().get(0);
+
+		List<TableModel> tables = definition.getTableList(schema);
+		assertEquals("テーブル数", 2, tables.size());
+		for (TableModel table : tables) {
+			assertNotNull("主キー " + table.getName(), table.getPrimaryIndex());
+			assertEquals("フィールド数", 2, table.getFields().size());
+		}
+		assertNotNull("インデックス", tables.get(1).getIndex("ix_orders"));
+		assertNotNull("外部キー", tables.get(1).getForeignKey("fk_orders"));
+		assertEquals("一括取得 + テーブル毎の取得", 3, fake.getCount("getPrimaryKeys"));
+
+		// 以降はテーブル毎に取得する
+		fake.counts.clear();
+		tables = definition.getTableList(schema);
+		assertNotNull("主キー", tables.get(0).getPrimaryIndex());
+		assertEquals("テーブル毎の取得", 2, fake.getCount("getPrimaryKeys"));
+		assertEquals("テーブル毎の取得", 2, fake.getCount("getIndexInfo"));
+		assertEquals("テーブル毎の取得", 2, fake.getCount("getImportedKeys"));
+		assertEquals("一括取得", 1, fake.getCount("getColumns"));
+		definition.close();
+	}
+
+	@Test
+	public void testBulk() throws Exception {
+		FakeMetaData fake = new FakeMetaData(true);
+		JdbcMetaDataDefinition definition = new JdbcMetaDataDefinition(fake.connection);
+		SchemaModel schema = definition.getSchemaList().get(0);
+
+		List<TableModel> tables = definition.getTableList(schema);
+		assertNotNull("主キー", tables.get(0).getPrimaryIndex());
+		assertNotNull("外部キー", tables.get(1).getForeignKey("fk_orders"));
+		assertEquals("一括取得", 1, fake.getCount("getPrimaryKeys"));
+		assertEquals("一括取得", 1, fake.getCount("getIndexInfo"));
+		assertEquals("一括取得", 1, fake.getCount("getImportedKeys"));
+		definition.close();
+	}
+
+	@Test
+	public void testBulkWithoutForeignKeys() throws Exception {
+		// テーブル名の省略に対応し、外部キーが存在しないデータベース
+		FakeMetaData fake = new FakeMetaData(true);
+		fake.foreignKeys = false;
+		JdbcMetaDataDefinition definition = new JdbcMetaDataDefinition(fake.connection);
+		SchemaModel schema = definition.getSchemaList().get(0);
+
+		List<TableModel> tables = definition.getTableList(schema);
+		assertTrue("外部キーなし", tables.get(1).getForeignKeys().isEmpty());
+		// 空の結果はテーブル毎に確認する
+		assertEquals("一括取得 + テーブル毎の取得", 3, fake.getCount("getImportedKeys"));
+
+		// 結果を得られたメソッドは空の結果でも確認しない
+		fake.counts.clear();
+		fake.primaryKeys = false;
+		tables = definition.getTableList(schema);
+		assertNull("主キーなし", tables.get(0).getPrimaryIndex());
+		assertEquals("一括取得", 1, fake.getCount("getPrimaryKeys"));
+		definition.close();
+	}
+
+	/**
+	 * テーブル <code>customers</code>・<code>orders</code> を返すメタデータを模倣するクラスです。
+	 */
+	private static class FakeMetaData implements InvocationHandler {
+
+		private final Connection connection;
+
+		/** テーブル名の省略に対応するか */
+		private final boolean nullTable;
+
+		/** 主キーを返すか */
+		private boolean primaryKeys = true;
+
+		/** 外部キーを返すか */
+		private boolean foreignKeys = true;
+
+		/** メソッド毎の呼出し回数 */
+		private final Map<String, Integer> counts = new HashMap<String, Integer>();
+
+		private FakeMetaData(final boolean nullTable) {
+			this.nullTable = nullTable;
+			final DatabaseMetaData meta = proxy(DatabaseMetaData.class, this);
+			connection = proxy(Connection.class, new InvocationHandler() {
+				@Override
+				public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+					if ("getMetaData".equals(method.getName())) {
+						return meta;
+					}
+					return defaultValue(method);
+				}
+			});
+		}
+
+		private int getCount(final String method) {
+			Integer count = counts.get(method);
+			return (null != count) ? count.intValue() : 0;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			String name = method.getName();
+			counts.put(name, getCount(name) + 1);
+			List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+			if ("getTables".equals(name)) {
+				rows.add(row("TABLE_NAME", "customers", "TABLE_TYPE", "TABLE"));
+				rows.add(row("TABLE_NAME", "orders", "TABLE_TYPE", "TABLE"));
+			} else if ("getColumns".equals(name)) {
+				rows.add(row("TABLE_NAME", "customers", "COLUMN_NAME", "id", "TYPE_NAME", "INTEGER"));
+				rows.add(row("TABLE_NAME", "customers", "COLUMN_NAME", "name", "TYPE_NAME", "TEXT"));
+				rows.add(row("TABLE_NAME", "orders", "COLUMN_NAME", "id", "TYPE_NAME", "INTEGER"));
+				rows.add(row("TABLE_NAME", "orders", "COLUMN_NAME", "customer_id", "TYPE_NAME", "INTEGER"));
+			} else if ("getPrimaryKeys".equals(name) || "getIndexInfo".equals(name) || "getImportedKeys".equals(name)) {
+				String table = (String) args[2];
+				if (null == table && !nullTable) {
+					return result(rows);
+				}
+				if ("getPrimaryKeys".equals(name) && primaryKeys) {
+					for (String t : new String[] { "customers", "orders" }) {
+						if (null == table || t.equals(table)) {
+							rows.add(row("TABLE_NAME", t, "PK_NAME", null, "KEY_SEQ", 1, "COLUMN_NAME", "id"));
+						}
+					}
+				} else if ("getIndexInfo".equals(name)) {
+					if (null == table || "orders".equals(table)) {
+						rows.add(row("TABLE_NAME", "orders", "INDEX_NAME", "ix_orders", "NON_UNIQUE", Boolean.TRUE, "TYPE",
+								(short) DatabaseMetaData.tableIndexOther, "COLUMN_NAME", "customer_id"));
+					}
+				} else if ("getImportedKeys".equals(name) && foreignKeys) {
+					if (null == table || "orders".equals(table)) {
+						rows.add(row("FKTABLE_NAME", "orders", "PKTABLE_NAME", "customers", "FK_NAME", "fk_orders", "FKCOLUMN_NAME",
+								"customer_id", "PKCOLUMN_NAME", "id"));
+					}
+				}
+			} else if (ResultSet.class == method.getReturnType()) {
+				return result(rows);
+			} else {
+				return defaultValue(method);
+			}
+			return result(rows);
+		}
+
+		private static ResultSet result(final List<Map<String, Object>> rows) {
+			return proxy(ResultSet.class, new InvocationHandler() {
+				private int index = -1;
+
+				@Override
+				public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+					String name = method.getName();
+					if ("next".equals(name)) {
+						index++;
+						return index < rows.size();
+					}
+					if (name.startsWith("get") && null != args && 1 == args.length && args[0] instanceof String) {
+						Object value = rows.get(index).get(args[0]);
+						return (null != value) ? value : defaultValue(method);
+					}
+					return defaultValue(method);
+				}
+			});
+		}
+
+		private static Map<String, Object> row(final Object... values) {
+			Map<String, Object> row = new HashMap<String, Object>();
+			for (int i = 0; i < values.length; i += 2) {
+				row.put((String) values[i], values[i + 1]);
+			}
+			return row;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(final Class<T> clazz, final InvocationHandler handler) {
+			return (T) Proxy.newProxyInstance(FakeMetaData.class.getClassLoader(), new Class<?>[] { clazz }, handler);
+		}
+
+		private static Object defaultValue(final Method method) {
+			Class<?> type = method.getReturnType();
+			if (boolean.class == type) {
+				return false;
+			} else if (int.class == type) {
+				return 0;
+			} else if (short.class == type) {
+				return (short) 0;
+			} else if (long.class == type) {
+				return 0L;
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,308 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Savepoint;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.metrics.IntrospectionMetrics;
+import org.azkfw.database.definition.metrics.IntrospectionPhase;
+import org.azkfw.database.definition.metrics.IntrospectionTracer;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class PostgreSQLDefinitionTest extends TestCase {
+
+	@Test
+	public void testTimeoutInStreaming() throws Exception {
+		FakeConnection fake = new FakeConnection(true);
+		PostgreSQLDefinition definition = new PostgreSQLDefinition(fake.connection);
+		definition.setStreamingMode(true);
+
+		fake.timeout = true;
+		try {
+			definition.getSchemaList();
+			fail("タイムアウト");
+		} catch (SQLTimeoutException ex) {
+			assertEquals("57014", ex.getSQLState());
+		}
+		assertFalse("中断", fake.aborted);
+
+		// タイムアウト後のクエリも実行できる
+		assertTrue(definition.getSchemaList().isEmpty());
+
+		definition.close();
+		assertTrue("自動コミット", fake.autoCommit);
+	}
+
+	@Test
+	public void testTimeoutInTransaction() throws Exception {
+		FakeConnection fake = new FakeConnection(false);
+		PostgreSQLDefinition definition = new PostgreSQLDefinition(fake.connection);
+
+		fake.timeout = true;
+		try {
+			definition.getSchemaList();
+			fail("タイムアウト");
+		} catch (SQLTimeoutException ex) {
+			assertEquals("57014", ex.getSQLState());
+		}
+		assertFalse("中断", fake.aborted);
+		// 呼出し元のトランザクションはロールバックしない
+		assertEquals("ロールバック", 0, fake.rollbacks);
+
+		assertTrue(definition.getSchemaList().isEmpty());
+		assertEquals("セーブポイント", 0, fake.savepoints);
+
+		definition.close();
+		assertFalse("自動コミット", fake.autoCommit);
+	}
+
+	@Test
+	public void testTimeoutWhileReadingInStreaming() throws Exception {
+		FakeConnection fake = new FakeConnection(true);
+		PostgreSQLDefinition definition = new PostgreSQLDefinition(fake.connection);
+		definition.setStreamingMode(true);
+
+		fake.readTimeout = true;
+		try {
+			definition.getSchemaList();
+			fail("タイムアウト");
+		} catch (SQLTimeoutException ex) {
+			assertEquals("57014", ex.getSQLState());
+		}
+		assertFalse("中断", fake.aborted);
+		assertEquals("ロールバック", 1, fake.rollbacks);
+
+		assertTrue(definition.getSchemaList().isEmpty());
+
+		definition.close();
+		assertTrue("自動コミット", fake.autoCommit);
+	}
+
+	@Test
+	public void testTimeoutWhileReadingInTransaction() throws Exception {
+		FakeConnection fake = new FakeConnection(false);
+		PostgreSQLDefinition definition = new PostgreSQLDefinition(fake.connection);
+		definition.setFetchSize(100);
+
+		fake.readTimeout = true;
+		try {
+			definition.getSchemaList();
+			fail("タイムアウト");
+		} catch (SQLTimeoutException ex) {
+			assertEquals("57014", ex.getSQLState());
+		}
+		assertFalse("中断", fake.aborted);
+		assertEquals("ロールバック", 0, fake.rollbacks);
+		assertEquals("セーブポイント", 0, fake.savepoints);
+
+		assertTrue(definition.getSchemaList().isEmpty());
+		assertEquals("セーブポイント", 0, fake.savepoints);
+
+		definition.close();
+		assertFalse("自動コミット", fake.autoCommit);
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		FakeConnection fake = new FakeConnection(true);
+		PostgreSQLDefinition definition = new PostgreSQLDefinition(fake.connection);
+		assertTrue(definition.getSchemaList().isEmpty());
+
+		definition.cancel();
+		try {
+			definition.getSchemaList();
+			fail("取消し");
+		} catch (SQLTimeoutException ex) {
+			fail("取消しはタイムアウトとして扱わない");
+		} catch (SQLException ex) {
+			assertEquals("Introspection cancelled.", ex.getMessage());
+		}
+		definition.close();
+	}
+
+	@Test
+	public void testMetricsOnTimeout() throws Exception {
+		FakeConnection fake = new FakeConnection(true);
+		PostgreSQLDefinition definition = new PostgreSQLDefinition(fake.connection);
+		IntrospectionMetrics metrics = new IntrospectionMetrics();
+		final int[] ends = new int[2];
+		definition.setMetricsSink(metrics);
+		definition.setTracer(new IntrospectionTracer() {
+			@Override
+			public Object start(final IntrospectionPhase phase, final QueryKind kind, final String schemaName, final String tableName) {
+				return phase;
+			}
+
+			@Override
+			public void end(final Object context, final long rows, final boolean failed) {
+				ends[(failed) ? 1 : 0]++;
+			}
+		});
+
+		fake.timeout = true;
+		try {
+			definition.getSchemaList();
+			fail("タイムアウト");
+		} catch (SQLTimeoutException ex) {
+			// 中断したクエリも計測する
+		}
+		assertEquals("計測数", 1L, metrics.getLatency(QueryKind.SCHEMA).getCount());
+		assertEquals("失敗数", 1L, metrics.getFailureCount(QueryKind.SCHEMA));
+		assertEquals("失敗した区間", 1, ends[1]);
+
+		assertTrue(definition.getSchemaList().isEmpty());
+		assertEquals("計測数", 2L, metrics.getLatency(QueryKind.SCHEMA).getCount());
+		assertEquals("失敗数", 1L, metrics.getFailureCount(QueryKind.SCHEMA));
+		assertEquals("成功した区間", 1, ends[0]);
+		definition.close();
+	}
+
+	/**
+	 * エラーでトランザクションを中断するPostgreSQLのコネクションを模倣するクラスです。
+	 */
+	private static class FakeConnection implements InvocationHandler {
+
+		private final Connection connection;
+
+		private boolean autoCommit;
+
+		/** 次のクエリをタイムアウトさせるか */
+		private boolean timeout;
+
+		/** 次のクエリの結果の読込(カーソルの逐次取得)をタイムアウトさせるか */
+		private boolean readTimeout;
+
+		/** トランザクションの中断 */
+		private boolean aborted;
+
+		/** トランザクションのロールバック回数 */
+		private int rollbacks;
+
+		/** 解放されていないセーブポイント数 */
+		private int savepoints;
+
+		private FakeConnection(final boolean autoCommit) {
+			this.autoCommit = autoCommit;
+			connection = proxy(Connection.class, this);
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("getAutoCommit".equals(name)) {
+				return autoCommit;
+			} else if ("setAutoCommit".equals(name)) {
+				autoCommit = (Boolean) args[0];
+				aborted = false;
+			} else if ("rollback".equals(name)) {
+				if (null == args) {
+					rollbacks++;
+					savepoints = 0;
+				} else {
+					savepoints--;
+				}
+				aborted = false;
+			} else if ("setSavepoint".equals(name)) {
+				checkAborted();
+				savepoints++;
+				return proxy(Savepoint.class, null);
+			} else if ("releaseSavepoint".equals(name)) {
+				checkAborted();
+				savepoints--;
+			} else if ("prepareStatement".equals(name)) {
+				return proxy(PreparedStatement.class, new InvocationHandler() {
+					@Override
+					public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+						if ("getConnection".equals(method.getName())) {
+							return connection;
+						} else if ("executeQuery".equals(method.getName())) {
+							return executeQuery();
+						}
+						return defaultValue(method);
+					}
+				});
+			}
+			return defaultValue(method);
+		}
+
+		private ResultSet executeQuery() throws SQLException {
+			checkAborted();
+			if (timeout) {
+				timeout = false;
+				aborted = !autoCommit;
+				throw new SQLException("canceling statement due to statement timeout", "57014");
+			}
+			final boolean failRead = readTimeout;
+			readTimeout = false;
+			return proxy(ResultSet.class, new InvocationHandler() {
+				@Override
+				public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+					if ("next".equals(method.getName()) && failRead) {
+						aborted = !autoCommit;
+						throw new SQLException("canceling statement due to statement timeout", "57014");
+					}
+					return defaultValue(method);
+				}
+			});
+		}
+
+		private void checkAborted() throws SQLException {
+			if (aborted) {
+				throw new SQLException("current transaction is aborted", "25P02");
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(final Class<T> clazz, final InvocationHandler handler) {
+			return (T) Proxy.newProxyInstance(FakeConnection.class.getClassLoader(), new Class<?>[] { clazz }, (null != handler) ? handler
+					: new InvocationHandler() {
+						@Override
+						public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+							return defaultValue(method);
+						}
+					});
+		}
+
+		private static Object defaultValue(final Method method) {
+			Class<?> type = method.getReturnType();
+			if (boolean.class == type) {
+				return false;
+			} else if (int.class == type) {
+				return 0;
+			} else if (long.class == type) {
+				return 0L;
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,337 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.cache;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.DatabaseDefinition;
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class CachingDatabaseDefinitionTest extends TestCase {
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		final CatalogCache cache = new CatalogCache(0L, 0L);
+		final CountingDefinition definition = new CountingDefinition(3);
+		final SchemaModel schema = createSchema();
+
+		// 全スレッドが取得を開始するまで読込を完了させない
+		definition.release = new CountDownLatch(1);
+		final CountDownLatch arrived = new CountDownLatch(8);
+		final List<TableModel> results = Collections.synchronizedList(new ArrayList<TableModel>());
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 8; i++) {
+			Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						arrived.countDown();
+						results.add(new CachingDatabaseDefinition(definition, cache, "db").getTable(schema, "t_1"));
+					} catch (Throwable ex) {
+						errors.add(ex);
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		assertTrue("開始", arrived.await(10L, TimeUnit.SECONDS));
+		definition.release.countDown();
+		for (Thread thread : threads) {
+			thread.join(10000L);
+			assertFalse("終了", thread.isAlive());
+		}
+
+		assertTrue(errors.toString(), errors.isEmpty());
+		assertEquals("取得数", 8, results.size());
+		assertEquals("読込数", 1, definition.tableCount.get());
+		assertEquals("キャッシュの読込数", 1L, cache.getLoadCount());
+		assertEquals("ヒット数+ミス数", 8L, cache.getHitCount() + cache.getMissCount());
+		for (TableModel table : results) {
+			assertSame("共有", results.get(0), table);
+			assertTrue("凍結", table.isFrozen());
+		}
+		assertNull("存在しないテーブル", new CachingDatabaseDefinition(definition, cache, "db").getTable(schema, "t_9"));
+		assertNull("存在しないテーブル(キャッシュ)", new CachingDatabaseDefinition(definition, cache, "db").getTable(schema, "t_9"));
+		assertEquals("読込数", 2, definition.tableCount.get());
+	}
+
+	@Test
+	public void testVersions() throws Exception {
+		CatalogCache cache = new CatalogCache(0L, 0L);
+		CountingDefinition definition = new CountingDefinition(3);
+		SchemaModel schema = createSchema();
+
+		CachingDatabaseDefinition def = new CachingDatabaseDefinition(definition, cache, "db");
+		def.getTableVersions(schema);
+		assertEquals("テーブル数", 3, def.getTableList(schema).size());
+		assertEquals("バージョン", "1", def.getTable(schema, "t_0").getVersion());
+		assertEquals("一覧の読込数", 1, definition.listCount.get());
+		assertEquals("テーブルの読込数", 0, definition.tableCount.get());
+
+		// 変更されたテーブルのみ再取得する
+		definition.versions.put("t_1", "2");
+		def = new CachingDatabaseDefinition(definition, cache, "db");
+		def.getTableVersions(schema);
+		List<TableModel> tables = def.getTableList(schema);
+		assertEquals("テーブル数", 3, tables.size());
+		assertEquals("バージョン", "2", tables.get(1).getVersion());
+		assertEquals("一覧の読込数", 1, definition.listCount.get());
+		assertEquals("テーブルの読込数", 1, definition.tableCount.get());
+
+		// テーブルが追加された場合は一覧を再取得する
+		definition.versions.put("t_3", "1");
+		def = new CachingDatabaseDefinition(definition, cache, "db");
+		def.getTableVersions(schema);
+		assertEquals("テーブル数", 4, def.getTableList(schema).size());
+		assertEquals("一覧の読込数", 2, definition.listCount.get());
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		CatalogCache cache = new CatalogCache(0L, 25L);
+		CountingDefinition definition = new CountingDefinition(5);
+		SchemaModel schema = createSchema();
+
+		CachingDatabaseDefinition def = new CachingDatabaseDefinition(definition, cache, "db");
+		for (int i = 0; i < 5; i++) {
+			// カラム数10 + 1
+			def.getTable(schema, "t_" + i);
+		}
+		// 上限を超える度に上限の3/4まで破棄する
+		assertTrue("重み", 18L >= cache.getWeight());
+		assertEquals("破棄数", 4L, cache.getEvictionCount());
+		assertEquals("エントリ数", 1, cache.size());
+
+		def.getTable(schema, "t_4");
+		assertEquals("ヒット数", 1L, cache.getHitCount());
+		def.getTable(schema, "t_0");
+		assertEquals("読込数", 6, definition.tableCount.get());
+
+		cache.invalidate("db");
+		assertEquals("エントリ数", 0, cache.size());
+		assertEquals("重み", 0L, cache.getWeight());
+	}
+
+	@Test
+	public void testEvictionOrder() throws Exception {
+		CatalogCache cache = new CatalogCache(0L, 40L);
+		CountingDefinition definition = new CountingDefinition(5);
+		SchemaModel schema = createSchema();
+
+		CachingDatabaseDefinition def = new CachingDatabaseDefinition(definition, cache, "db");
+		def.getTable(schema, "t_0");
+		def.getTable(schema, "t_1");
+		def.getTable(schema, "t_2");
+		// 参照したエントリは破棄しない
+		def.getTable(schema, "t_0");
+		def.getTable(schema, "t_3");
+		assertEquals("破棄数", 2L, cache.getEvictionCount());
+
+		def.getTable(schema, "t_0");
+		def.getTable(schema, "t_3");
+		assertEquals("ヒット数", 3L, cache.getHitCount());
+		assertEquals("読込数", 4, definition.tableCount.get());
+		def.getTable(schema, "t_1");
+		assertEquals("読込数", 5, definition.tableCount.get());
+	}
+
+	@Test
+	public void testHeavySchema() throws Exception {
+		CatalogCache cache = new CatalogCache(0L, 50L);
+		CountingDefinition definition = new CountingDefinition(10);
+		SchemaModel schema = createSchema();
+
+		CachingDatabaseDefinition def = new CachingDatabaseDefinition(definition, cache, "db");
+		// 重みの合計(110)が上限を超える為、テーブルは保持しない
+		assertEquals("テーブル数", 10, def.getTableList(schema).size());
+		assertEquals("一覧の読込数", 1, definition.listCount.get());
+		assertEquals("テーブルの読込数", 0, definition.tableCount.get());
+		assertEquals("破棄数", 0L, cache.getEvictionCount());
+
+		// 保持していないテーブルはテーブル一覧から取得する
+		List<TableModel> tables = def.getTableList(schema);
+		assertEquals("テーブル数", 10, tables.size());
+		assertEquals("順序", "t_9", tables.get(9).getName());
+		assertEquals("一覧の読込数", 2, definition.listCount.get());
+		assertEquals("テーブルの読込数", 0, definition.tableCount.get());
+	}
+
+	@Test
+	public void testEvictedTable() throws Exception {
+		CatalogCache cache = new CatalogCache(0L, 60L);
+		CountingDefinition definition = new CountingDefinition(4);
+		SchemaModel schema = createSchema();
+
+		CachingDatabaseDefinition def = new CachingDatabaseDefinition(definition, cache, "db");
+		assertEquals("テーブル数", 4, def.getTableList(schema).size());
+		cache.invalidate(new CatalogCache.Key("db", "public", "t_1"));
+
+		// 破棄されたテーブルが1件のみの場合は個別に取得する
+		List<TableModel> tables = def.getTableList(schema);
+		assertEquals("テーブル数", 4, tables.size());
+		assertEquals("順序", "t_1", tables.get(1).getName());
+		assertEquals("一覧の読込数", 1, definition.listCount.get());
+		assertEquals("テーブルの読込数", 1, definition.tableCount.get());
+	}
+
+	@Test
+	public void testConcurrentEviction() throws Exception {
+		final CatalogCache cache = new CatalogCache(0L, 50L);
+		final CountingDefinition definition = new CountingDefinition(20);
+		final SchemaModel schema = createSchema();
+
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 8; i++) {
+			final int offset = i;
+			Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						CachingDatabaseDefinition def = new CachingDatabaseDefinition(definition, cache, "db");
+						for (int j = 0; j < 2000; j++) {
+							def.getTable(schema, "t_" + ((j + offset) % 20));
+							if (0 == j % 50) {
+								cache.invalidate(new CatalogCache.Key("db", "public", "t_" + offset));
+							}
+						}
+					} catch (Throwable ex) {
+						errors.add(ex);
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			thread.join(10000L);
+			assertFalse("終了", thread.isAlive());
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+
+		// 破棄と読込が並行しても重みの合計はエントリと一致する
+		cache.invalidateAll();
+		assertEquals("エントリ数", 0, cache.size());
+		assertEquals("重み", 0L, cache.getWeight());
+	}
+
+	private static SchemaModel createSchema() {
+		SchemaModel schema = new SchemaModel();
+		schema.setName("public");
+		return schema;
+	}
+
+	private static final class CountingDefinition implements DatabaseDefinition {
+
+		private final Map<String, String> versions;
+
+		private final AtomicInteger listCount;
+
+		private final AtomicInteger tableCount;
+
+		/** 設定した場合、テーブルの読込はカウントダウンまで待機する */
+		private volatile CountDownLatch release;
+
+		private CountingDefinition(final int size) {
+			versions = new LinkedHashMap<String, String>();
+			for (int i = 0; i < size; i++) {
+				versions.put("t_" + i, "1");
+			}
+			listCount = new AtomicInteger();
+			tableCount = new AtomicInteger();
+			release = null;
+		}
+
+		@Override
+		public List<SchemaModel> getSchemaList() throws SQLException {
+			List<SchemaModel> schemas = new ArrayList<SchemaModel>();
+			schemas.add(createSchema());
+			return schemas;
+		}
+
+		@Override
+		public List<TableModel> getTableList(final SchemaModel schema) throws SQLException {
+			listCount.incrementAndGet();
+			List<TableModel> tables = new ArrayList<TableModel>();
+			for (String name : versions.keySet()) {
+				tables.add(createTable(schema, name));
+			}
+			return tables;
+		}
+
+		@Override
+		public TableModel getTable(final SchemaModel schema, final String tableName) throws SQLException {
+			tableCount.incrementAndGet();
+			CountDownLatch latch = release;
+			try {
+				if (null != latch && !latch.await(10L, TimeUnit.SECONDS)) {
+					throw new SQLException("Timed out waiting for release.");
+				}
+			} catch (InterruptedException ex) {
+				throw new SQLException(ex);
+			}
+			return (versions.containsKey(tableName)) ? createTable(schema, tableName) : null;
+		}
+
+		@Override
+		public Map<String, String> getTableVersions(final SchemaModel schema) throws SQLException {
+			return new LinkedHashMap<String, String>(versions);
+		}
+
+		@Override
+		public String getCatalogVersion() throws SQLException {
+			return null;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		private static TableModel createTable(final SchemaModel schema, final String name) {
+			TableModel table = new TableModel();
+			table.setSchema(schema);
+			table.setName(name);
+			for (int i = 0; i < 10; i++) {
+				FieldModel field = new FieldModel();
+				field.setName("c_" + i);
+				table.addField(field);
+			}
+			return table;
+		}
+	}
+}
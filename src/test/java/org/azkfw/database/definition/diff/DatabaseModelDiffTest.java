@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.diff;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.FieldTypeModel;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class DatabaseModelDiffTest extends TestCase {
+
+	@Test
+	public void testSame() {
+		DatabaseModel before = createDatabase("varchar(10)", false);
+		DatabaseModel after = createDatabase("varchar(10)", false);
+
+		ChangeSet changes = DatabaseModelDiff.diff(before, after);
+		assertTrue("差分なし", changes.isEmpty());
+	}
+
+	@Test
+	public void testAltered() {
+		DatabaseModel before = createDatabase("varchar(10)", false);
+		DatabaseModel after = createDatabase("varchar(20)", true);
+
+		ChangeSet changes = DatabaseModelDiff.diff(before, after);
+		assertEquals("テーブル差分数", 2, changes.getTableChanges().size());
+
+		Change<TableModel> altered = changes.getTableChanges().get(0);
+		assertEquals("変更", ChangeType.ALTERED, altered.getType());
+		assertEquals("テーブル名", "m_user", altered.getTableName());
+
+		Change<TableModel> added = changes.getTableChanges().get(1);
+		assertEquals("追加", ChangeType.ADDED, added.getType());
+		assertEquals("テーブル名", "t_log", added.getTableName());
+
+		assertEquals("フィールド差分数", 1, changes.getFieldChanges().size());
+		Change<FieldModel> field = changes.getFieldChanges().get(0);
+		assertEquals("変更", ChangeType.ALTERED, field.getType());
+		assertEquals("フィールド名", "name", field.getName());
+		assertEquals("変更前", "varchar(10)", field.getBefore().getType().getLabel());
+		assertEquals("変更後", "varchar(20)", field.getAfter().getType().getLabel());
+	}
+
+	@Test
+	public void testRemoved() {
+		DatabaseModel before = createDatabase("varchar(10)", true);
+		DatabaseModel after = createDatabase("varchar(10)", false);
+
+		ChangeSet changes = DatabaseModelDiff.diff(before, after);
+		assertEquals("テーブル差分数", 1, changes.getTableChanges().size());
+		assertEquals("削除", ChangeType.REMOVED, changes.getTableChanges().get(0).getType());
+		assertTrue("フィールド差分なし", changes.getFieldChanges().isEmpty());
+	}
+
+	@Test
+	public void testQualifiedName() {
+		SchemaModel ab = new SchemaModel();
+		ab.setName("a.b");
+		SchemaModel a = new SchemaModel();
+		a.setName("a");
+		SchemaModel nullName = new SchemaModel();
+		nullName.setName("null");
+
+		DatabaseModel before = new DatabaseModel();
+		before.addTable(createTable(ab, "c", "text"));
+		before.addTable(createTable(null, "m_user", "text"));
+		DatabaseModel after = new DatabaseModel();
+		after.addTable(createTable(a, "b.c", "text"));
+		after.addTable(createTable(nullName, "m_user", "text"));
+
+		DatabaseFingerprint fingerprint = DatabaseFingerprint.of(before);
+		assertNotNull("スキーマあり", fingerprint.getTableHash("a.b", "c"));
+		assertNull("区切り文字を含む", fingerprint.getTableHash("a", "b.c"));
+		assertNotNull("スキーマなし", fingerprint.getTableHash(null, "m_user"));
+		assertNull("スキーマ名null", fingerprint.getTableHash("null", "m_user"));
+
+		ChangeSet changes = DatabaseModelDiff.diff(before, after);
+		assertEquals("テーブル差分数", 4, changes.getTableChanges().size());
+		assertEquals("削除", ChangeType.REMOVED, changes.getTableChanges().get(0).getType());
+		assertEquals("削除", ChangeType.REMOVED, changes.getTableChanges().get(1).getType());
+		assertEquals("追加", ChangeType.ADDED, changes.getTableChanges().get(2).getType());
+		assertEquals("追加", ChangeType.ADDED, changes.getTableChanges().get(3).getType());
+	}
+
+	private static DatabaseModel createDatabase(final String nameType, final boolean log) {
+		SchemaModel schema = new SchemaModel();
+		schema.setName("public");
+
+		DatabaseModel database = new DatabaseModel();
+		database.addTable(createTable(schema, "m_user", nameType));
+		if (log) {
+			database.addTable(createTable(schema, "t_log", "text"));
+		}
+		return database;
+	}
+
+	private static TableModel createTable(final SchemaModel schema, final String name, final String nameType) {
+		TableModel table = new TableModel();
+		table.setSchema(schema);
+		table.setName(name);
+		table.setLabel(name);
+
+		FieldTypeModel integer = new FieldTypeModel();
+		integer.setLabel("integer");
+		FieldModel id = new FieldModel();
+		id.setName("id");
+		id.setLabel("id");
+		id.setType(integer);
+		id.setNotNull(true);
+		table.addField(id);
+
+		FieldTypeModel text = new FieldTypeModel();
+		text.setLabel(nameType);
+		FieldModel field = new FieldModel();
+		field.setName("name");
+		field.setLabel("name");
+		field.setType(text);
+		table.addField(field);
+		return table;
+	}
+}
@@ -0,0 +1,185 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.model;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class DatabaseModelTest extends TestCase {
+
+	@Test
+	public void testFreeze() {
+		SchemaModel schema = new SchemaModel();
+		schema.setName("public");
+
+		DatabaseModel database = new DatabaseModel();
+		for (int i = 0; i < 3; i++) {
+			database.addTable(createTable(schema, "t_" + i, 20));
+		}
+
+		DatabaseModel frozen = database.freeze();
+		assertTrue("凍結", frozen.isFrozen());
+		assertSame("凍結済み", frozen, frozen.freeze());
+		assertEquals("テーブル数", 3, frozen.getTables().size());
+
+		TableModel table = frozen.getTable("public", "t_1");
+		assertTrue("凍結", table.isFrozen());
+		assertEquals("フィールド数", 20, table.getFields().size());
+		assertEquals("フィールド(索引)", "c_15", table.getField("c_15").getName());
+		assertNull("存在しないフィールド", table.getField("c_20"));
+		assertSame("型の共有", frozen.getTable("t_0").getField("c_0").getType(), table.getField("c_0").getType());
+
+		IndexModel index = table.getPrimaryIndex();
+		assertEquals("インデックス", "t_1_pkey", index.getName());
+		assertEquals("インデックスフィールド", "c_0", index.getField("c_0").getName());
+		assertSame("インデックスフィールドの共有", index.getFields().get(0), frozen.getTable("t_0").getPrimaryIndex().getFields().get(0));
+
+		ForeignKeyModel foreignKey = table.getForeignKey("t_1_fkey");
+		assertEquals("外部キーフィールド", "c_1", foreignKey.getFields().get(0).getName());
+		assertEquals("参照フィールド", "c_0", foreignKey.getReferenceFields().get(0).getName());
+		assertEquals("参照フィールド数", 1, foreignKey.getReferenceFields().size());
+
+		try {
+			table.addField(new FieldModel());
+			fail("変更不可");
+		} catch (UnsupportedOperationException ex) {
+		}
+		try {
+			table.getFields().remove(0);
+			fail("変更不可");
+		} catch (UnsupportedOperationException ex) {
+		}
+
+		// 凍結後の変更は反映しない
+		database.getTable("t_1").getField("c_0").setComment("changed");
+		assertNull("複製", table.getField("c_0").getComment());
+	}
+
+	@Test
+	public void testFreezeLeaf() {
+		SchemaModel schema = new SchemaModel();
+		schema.setName("public");
+		DatabaseModel database = new DatabaseModel();
+		database.addTable(createTable(schema, "t_0", 2));
+
+		TableModel table = database.freeze().getTable("public", "t_0");
+		FieldModel field = table.getField("c_1");
+		assertTrue("フィールド", field.isFrozen());
+		assertTrue("フィールドタイプ", field.getType().isFrozen());
+		assertTrue("スキーマ", table.getSchema().isFrozen());
+		assertTrue("インデックスフィールド", table.getPrimaryIndex().getFields().get(0).isFrozen());
+		assertTrue("外部キーフィールド", table.getForeignKey("t_0_fkey").getFields().get(0).isFrozen());
+		assertFalse("凍結前のフィールド", database.getTable("t_0").getField("c_1").isFrozen());
+
+		try {
+			field.setName("c_9");
+			fail("フィールド");
+		} catch (UnsupportedOperationException ex) {
+		}
+		assertSame("索引", field, table.getField("c_1"));
+		try {
+			field.getType().setLabel("text");
+			fail("フィールドタイプ");
+		} catch (UnsupportedOperationException ex) {
+		}
+		try {
+			table.getSchema().setName("other");
+			fail("スキーマ");
+		} catch (UnsupportedOperationException ex) {
+		}
+		try {
+			table.getPrimaryIndex().getFields().get(0).setName("c_9");
+			fail("インデックスフィールド");
+		} catch (UnsupportedOperationException ex) {
+		}
+		try {
+			table.getForeignKey("t_0_fkey").getReferenceFields().get(0).setName("c_9");
+			fail("外部キーフィールド");
+		} catch (UnsupportedOperationException ex) {
+		}
+	}
+
+	@Test
+	public void testIncomplete() {
+		SchemaModel schema = new SchemaModel();
+		schema.setName("public");
+
+		DatabaseModel database = new DatabaseModel();
+		TableModel complete = createTable(schema, "t_0", 2);
+		TableModel incomplete = createTable(schema, "t_1", 2);
+		database.addTable(complete);
+		database.addTable(incomplete);
+		assertTrue("完了", database.isComplete());
+
+		database.addIncompleteSchema("public");
+		database.addIncompleteTable(incomplete);
+		assertFalse("未完了", database.isComplete());
+		assertEquals("未完了スキーマ", "public", database.getIncompleteSchemas().get(0));
+		assertFalse("完了テーブル", database.isIncomplete(complete));
+		assertTrue("未完了テーブル", database.isIncomplete(incomplete));
+
+		DatabaseModel frozen = database.freeze();
+		assertFalse("凍結後も未完了", frozen.isComplete());
+		assertTrue("凍結後も未完了テーブル", frozen.isIncomplete(frozen.getTable("public", "t_1")));
+		assertFalse("凍結後も完了テーブル", frozen.isIncomplete(frozen.getTable("public", "t_0")));
+	}
+
+	private static TableModel createTable(final SchemaModel schema, final String name, final int fieldCount) {
+		TableModel table = new TableModel();
+		table.setSchema(schema);
+		table.setName(name);
+		table.setLabel(name);
+
+		for (int i = 0; i < fieldCount; i++) {
+			FieldTypeModel type = new FieldTypeModel();
+			type.setLabel("integer");
+			FieldModel field = new FieldModel();
+			field.setName("c_" + i);
+			field.setLabel("c_" + i);
+			field.setType(type);
+			table.addField(field);
+		}
+
+		IndexModel index = new IndexModel();
+		index.setName(name + "_pkey");
+		index.setPrimaryKey(true);
+		index.setUnique(true);
+		IndexFieldModel indexField = new IndexFieldModel();
+		indexField.setName("c_0");
+		index.addField(indexField);
+		table.addIndex(index);
+
+		ForeignKeyModel foreignKey = new ForeignKeyModel();
+		foreignKey.setName(name + "_fkey");
+		foreignKey.setReferenceTableName("t_0");
+		ForeignKeyFeildModel field = new ForeignKeyFeildModel();
+		field.setName("c_1");
+		foreignKey.addField(field);
+		ForeignKeyFeildModel referenceField = new ForeignKeyFeildModel();
+		referenceField.setName("c_0");
+		foreignKey.addReferenceField(referenceField);
+		table.addForeignKey(foreignKey);
+		return table;
+	}
+}
@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class ModelInternerTest extends TestCase {
+
+	@Test
+	public void testIntern() {
+		ModelInterner interner = new ModelInterner();
+		String value = interner.intern(new String("m_user"));
+		assertSame("同じ値", value, interner.intern(new String("m_user")));
+		assertEquals("値", "m_user", value);
+		assertNull("null", interner.intern(null));
+		assertEquals("文字列数", 1, interner.getStringCount());
+	}
+
+	@Test
+	public void testFieldType() {
+		ModelInterner interner = new ModelInterner();
+		FieldTypeModel type = interner.getFieldType(new String("integer"));
+		assertSame("同じラベル", type, interner.getFieldType(new String("integer")));
+		assertNotSame("異なるラベル", type, interner.getFieldType("text"));
+		assertSame("ラベルの文字列", type.getLabel(), interner.intern("integer"));
+		assertEquals("フィールドタイプ数", 2, interner.getFieldTypeCount());
+
+		assertTrue("凍結", type.isFrozen());
+		try {
+			type.setLabel("bigint");
+			fail("共有するフィールドタイプは変更不可");
+		} catch (UnsupportedOperationException ex) {
+		}
+		assertEquals("ラベル", "integer", interner.getFieldType("integer").getLabel());
+
+		FieldTypeModel unknown = interner.getFieldType(null);
+		assertNotSame("ラベルなしは共有しない", unknown, interner.getFieldType(null));
+		assertFalse("ラベルなしは凍結しない", unknown.isFrozen());
+		assertEquals("フィールドタイプ数", 2, interner.getFieldTypeCount());
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		final ModelInterner interner = new ModelInterner();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<FieldTypeModel[]>> futures = new ArrayList<Future<FieldTypeModel[]>>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(new Callable<FieldTypeModel[]>() {
+					@Override
+					public FieldTypeModel[] call() {
+						FieldTypeModel[] types = new FieldTypeModel[100];
+						for (int j = 0; j < types.length; j++) {
+							types[j] = interner.getFieldType(new String("type_" + j));
+						}
+						return types;
+					}
+				}));
+			}
+			FieldTypeModel[] first = futures.get(0).get();
+			for (Future<FieldTypeModel[]> future : futures) {
+				FieldTypeModel[] types = future.get();
+				for (int j = 0; j < types.length; j++) {
+					assertSame("スレッド間で共有", first[j], types[j]);
+				}
+			}
+			assertEquals("フィールドタイプ数", 100, interner.getFieldTypeCount());
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,368 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.DatabaseDefinition;
+import org.azkfw.database.definition.FakeCatalog;
+import org.azkfw.database.definition.QueryKind;
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class AbstractDatabaseDefinitionParserTest extends TestCase {
+
+	@Test
+	public void testLazyRelease() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 3);
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		option.setLazyMode(true);
+		option.setPrefetchSize(1);
+		Connection connection = catalog.connect();
+
+		DatabaseModel database = createParser(option).parse(connection);
+		List<TableModel> tables = database.getTables();
+		assertEquals("テーブル数", 3, tables.size());
+		assertFalse("未読込", tables.get(0).isLoaded());
+
+		// 解析後もデータベース定義を保持して読み込む
+		assertEquals("フィールド数", 2, tables.get(0).getFields().size());
+		assertTrue("ステートメント", 0 < catalog.getOpenStatementCount());
+
+		database.release();
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+		assertEquals("読込済み", 2, tables.get(0).getFields().size());
+		try {
+			tables.get(1).getFields();
+			fail("解放後の読込");
+		} catch (IllegalStateException ex) {
+			assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+		}
+		// 2回目の解放は何もしない
+		database.release();
+		connection.close();
+	}
+
+	@Test
+	public void testEagerRelease() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 3);
+		Connection connection = catalog.connect();
+
+		DatabaseModel database = createParser(new DatabaseDefinitionParserOption()).parse(connection);
+		assertEquals("テーブル数", 3, database.getTables().size());
+		assertTrue("読込済み", database.getTables().get(0).isLoaded());
+		// 遅延読込しない場合は解析後に解放する
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+		connection.close();
+	}
+
+	@Test
+	public void testPublishLazy() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 3);
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		option.setLazyMode(true);
+		Connection connection = catalog.connect();
+
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		createParser(option).publish(connection).subscribe(subscriber);
+		assertTrue("完了", subscriber.completed);
+		assertEquals("テーブル数", 3, subscriber.tables.size());
+		// 発行後にデータベース定義を解放する為、遅延読込しない
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+		for (TableModel table : subscriber.tables) {
+			assertTrue("読込済み", table.isLoaded());
+			assertEquals("フィールド数", 2, table.getFields().size());
+		}
+		connection.close();
+	}
+
+	@Test
+	public void testPublishBatch() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 10);
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		option.setPrefetchSize(4);
+		Connection connection = catalog.connect();
+
+		CollectingSubscriber subscriber = new CollectingSubscriber(3L);
+		createParser(option).publish(connection).subscribe(subscriber);
+		assertEquals("発行数", 3, subscriber.tables.size());
+		// 要求件数分のみ読み込む
+		assertEquals("一括取得", 1, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+		assertEquals("テーブル毎の取得", 0, catalog.getQueryCount(QueryKind.FIELD));
+
+		subscriber.subscription.request(1L);
+		assertEquals("発行数", 4, subscriber.tables.size());
+		// 1件はテーブル毎に取得する
+		assertEquals("テーブル毎の取得", 1, catalog.getQueryCount(QueryKind.FIELD));
+
+		subscriber.subscription.request(100L);
+		assertTrue("完了", subscriber.completed);
+		assertEquals("発行数", 10, subscriber.tables.size());
+		// 残り6件は先読み件数(4件)ずつ取得する
+		assertEquals("一括取得", 3, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+		assertEquals("テーブル一覧", 1, catalog.getQueryCount(QueryKind.TABLE_LIST));
+		for (int i = 0; i < subscriber.tables.size(); i++) {
+			TableModel table = subscriber.tables.get(i);
+			assertEquals("順序", String.format("t_%04d", i + 1), table.getName());
+			assertEquals("フィールド数", 2, table.getFields().size());
+			assertEquals("インデックス数", 1, table.getIndexs().size());
+		}
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+		connection.close();
+	}
+
+	@Test
+	public void testPublishReentrantRequest() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 5);
+		Connection connection = catalog.connect();
+
+		CollectingSubscriber subscriber = new CollectingSubscriber(1L) {
+			@Override
+			public void onNext(final TableModel table) {
+				depth++;
+				maxDepth = Math.max(maxDepth, depth);
+				super.onNext(table);
+				// 発行中の要求は発行中のスレッドで処理する
+				subscription.request(1L);
+				depth--;
+			}
+		};
+		createParser(new DatabaseDefinitionParserOption()).publish(connection).subscribe(subscriber);
+		assertTrue("完了", subscriber.completed);
+		assertNull("例外", subscriber.error);
+		assertEquals("発行数", 5, subscriber.tables.size());
+		assertEquals("再帰しない", 1, subscriber.maxDepth);
+		connection.close();
+	}
+
+	@Test
+	public void testPublishCancel() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 5);
+		Connection connection = catalog.connect();
+
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE) {
+			@Override
+			public void onNext(final TableModel table) {
+				super.onNext(table);
+				if (2 == tables.size()) {
+					subscription.cancel();
+				}
+			}
+		};
+		createParser(new DatabaseDefinitionParserOption()).publish(connection).subscribe(subscriber);
+		assertEquals("発行数", 2, subscriber.tables.size());
+		assertFalse("完了しない", subscriber.completed);
+		assertNull("例外", subscriber.error);
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+
+		// 取消し後の要求は無視する
+		subscriber.subscription.request(1L);
+		assertEquals("発行数", 2, subscriber.tables.size());
+		connection.close();
+	}
+
+	@Test
+	public void testPublishRequestZero() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 5);
+		Connection connection = catalog.connect();
+
+		CollectingSubscriber subscriber = new CollectingSubscriber(0L);
+		createParser(new DatabaseDefinitionParserOption()).publish(connection).subscribe(subscriber);
+		assertEquals("要求前", 0, subscriber.tables.size());
+		assertEquals("要求前", 0, catalog.getQueryCount(QueryKind.SCHEMA));
+
+		subscriber.subscription.request(0L);
+		assertTrue("例外", subscriber.error instanceof IllegalArgumentException);
+		assertEquals("発行数", 0, subscriber.tables.size());
+		assertFalse("完了しない", subscriber.completed);
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+		connection.close();
+	}
+
+	@Test
+	public void testSubscribeTwice() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 1);
+		Connection connection = catalog.connect();
+
+		DatabaseDefinitionPublisher publisher = createParser(new DatabaseDefinitionParserOption()).publish(connection);
+		CollectingSubscriber first = new CollectingSubscriber(0L);
+		publisher.subscribe(first);
+
+		CollectingSubscriber second = new CollectingSubscriber(0L);
+		publisher.subscribe(second);
+		assertNotNull("購読開始を通知する", second.subscription);
+		assertTrue("例外", second.error instanceof IllegalStateException);
+
+		// 最初のサブスクライバーは影響を受けない
+		first.subscription.request(Long.MAX_VALUE);
+		assertTrue("完了", first.completed);
+		assertEquals("発行数", 1, first.tables.size());
+		connection.close();
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("large", 250);
+		catalog.addTables("small", 3);
+		catalog.addTables("empty", 0);
+		catalog.addTable("empty", "t_0001").hide();
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		option.setPrefetchSize(100);
+		List<String> expected = toNames(createParser(option).parse(catalog.getDataSource()));
+		assertEquals("テーブル数", 253, expected.size());
+
+		final AtomicInteger executed = new AtomicInteger();
+		option.setParallelism(3);
+		option.setExecutor(new Executor() {
+			@Override
+			public void execute(final Runnable command) {
+				executed.incrementAndGet();
+				new Thread(command).start();
+			}
+		});
+		catalog.resetQueryCount();
+		int connections = catalog.getConnectionCount();
+		DatabaseModel database = createParser(option).parse(catalog.getDataSource());
+
+		// 逐次解析と同じ順序
+		assertEquals("テーブル", expected, toNames(database));
+		for (TableModel table : database.getTables()) {
+			assertTrue("読込済み", table.isLoaded());
+			assertEquals("フィールド数", 2, table.getFields().size());
+			assertEquals("インデックス数", 1, table.getIndexs().size());
+		}
+		// 250件のスキーマを先読み件数ずつ分けて解析する
+		assertEquals("解析スレッド数", 3, executed.get());
+		assertEquals("一括取得", 4, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+		assertEquals("テーブル毎の取得", 0, catalog.getQueryCount(QueryKind.FIELD));
+		assertEquals("テーブル一覧", 3, catalog.getQueryCount(QueryKind.TABLE_LIST));
+		// コネクションは解析スレッド毎に1つのみ取得する
+		assertTrue("コネクション数", 1 + 3 >= catalog.getConnectionCount() - connections);
+		assertEquals("コネクション", 0, catalog.getOpenConnectionCount());
+		assertEquals("ステートメント", 0, catalog.getOpenStatementCount());
+	}
+
+	@Test
+	public void testParallelSingleSchema() throws Exception {
+		FakeCatalog catalog = new FakeCatalog();
+		catalog.addTables("public", 5);
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		option.setPrefetchSize(2);
+		option.setParallelism(2);
+
+		DatabaseModel database = createParser(option).parse(catalog.getDataSource());
+		// 1スキーマでもテーブルを分けて並列に解析する
+		assertEquals("テーブル", Arrays.asList("public.t_0001", "public.t_0002", "public.t_0003", "public.t_0004", "public.t_0005"), toNames(database));
+		// 最後の1件はテーブル毎に取得する
+		assertEquals("一括取得", 2, catalog.getQueryCount(QueryKind.SCHEMA_FIELD));
+		assertEquals("テーブル毎の取得", 1, catalog.getQueryCount(QueryKind.FIELD));
+		assertTrue("コネクション数", 1 + 2 >= catalog.getConnectionCount());
+		assertEquals("コネクション", 0, catalog.getOpenConnectionCount());
+	}
+
+	private static List<String> toNames(final DatabaseModel database) {
+		List<String> names = new ArrayList<String>();
+		for (TableModel table : database.getTables()) {
+			names.add(table.getSchema().getName() + "." + table.getName());
+		}
+		return names;
+	}
+
+	private static AbstractDatabaseDefinitionParser createParser(final DatabaseDefinitionParserOption option) {
+		AbstractDatabaseDefinitionParser parser = new AbstractDatabaseDefinitionParser("fake") {
+			@Override
+			protected DatabaseDefinition getDefinition(final Connection connection) {
+				return new FakeCatalog.Definition(connection);
+			}
+		};
+		parser.setOption(option);
+		return parser;
+	}
+
+	/**
+	 * 発行されたテーブル情報を保持するサブスクライバーです。
+	 */
+	private static class CollectingSubscriber implements DatabaseDefinitionSubscriber {
+
+		/** 購読開始時の要求件数 */
+		private final long initial;
+
+		protected DatabaseDefinitionSubscription subscription;
+
+		protected final List<TableModel> tables = new ArrayList<TableModel>();
+
+		private Throwable error;
+
+		private boolean completed;
+
+		/** onNext の呼出しの深さ */
+		protected int depth;
+
+		/** onNext の呼出しの最大の深さ */
+		protected int maxDepth;
+
+		private CollectingSubscriber(final long initial) {
+			this.initial = initial;
+		}
+
+		@Override
+		public void onSubscribe(final DatabaseDefinitionSubscription subscription) {
+			this.subscription = subscription;
+			if (0L < initial) {
+				subscription.request(initial);
+			}
+		}
+
+		@Override
+		public void onNext(final TableModel table) {
+			tables.add(table);
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.parser;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.CatalogFilter;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class DatabaseDefinitionParserOptionTest extends TestCase {
+
+	@Test
+	public void testExcludeTable() {
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		option.addExcludeTable("tmp_*");
+		option.addExcludeTable("*_BAK");
+		option.addExcludeTable("audit_2019*");
+		option.addExcludeTable("log_??");
+		option.addExcludeTable("m_*_old");
+		option.addExcludeTable("regex:t_[0-9]+");
+		option.addExcludeTable("work.*");
+		option.addExcludeTable("M_CONFIG");
+
+		assertFalse("前方一致", option.isEnableTable(table("public", "tmp_user")));
+		assertFalse("後方一致", option.isEnableTable(table("public", "m_user_bak")));
+		assertFalse("前方一致", option.isEnableTable(table("public", "AUDIT_201901")));
+		assertFalse("1文字", option.isEnableTable(table("public", "log_01")));
+		assertFalse("ワイルドカード", option.isEnableTable(table("public", "m_user_old")));
+		assertFalse("正規表現", option.isEnableTable(table("public", "T_123")));
+		assertFalse("スキーマ指定", option.isEnableTable(table("work", "m_user")));
+		assertFalse("完全一致", option.isEnableTable(table("public", "m_config")));
+
+		assertTrue("対象", option.isEnableTable(table("public", "m_user")));
+		assertTrue("1文字", option.isEnableTable(table("public", "log_001")));
+		assertTrue("正規表現", option.isEnableTable(table("public", "t_12a")));
+		assertTrue("完全一致", option.isEnableTable(table("public", "m_config2")));
+		assertTrue("後方一致", option.isEnableTable(table("public", "bak")));
+	}
+
+	@Test
+	public void testIncludeTable() {
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		option.addIncludeTable("public", "m_*");
+		option.addIncludeTable("t_order");
+		option.addExcludeTable("m_config");
+
+		assertTrue("スキーマ指定", option.isEnableTable(table("public", "m_user")));
+		assertFalse("スキーマ不一致", option.isEnableTable(table("work", "m_user")));
+		assertTrue("スキーマ指定なし", option.isEnableTable(table("work", "t_order")));
+		assertFalse("除外優先", option.isEnableTable(table("public", "m_config")));
+		assertFalse("対象外", option.isEnableTable(table("public", "t_item")));
+
+		// パターン追加後は再コンパイルする
+		option.addIncludeTable("t_*");
+		assertTrue("追加", option.isEnableTable(table("public", "t_item")));
+	}
+
+	@Test
+	public void testSchema() {
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		assertTrue("指定なし", option.isEnableSchema(schema("public")));
+
+		option.addIncludeSchema("app_*");
+		option.addExcludeSchema("app_test");
+		assertTrue("対象", option.isEnableSchema(schema("APP_MAIN")));
+		assertFalse("除外", option.isEnableSchema(schema("app_test")));
+		assertFalse("対象外", option.isEnableSchema(schema("public")));
+	}
+
+	@Test
+	public void testCatalogFilter() {
+		DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+		assertTrue("指定なし", option.getCatalogFilter().isEmpty());
+
+		option.addIncludeSchema("APP_*");
+		option.addIncludeSchema("public");
+		option.addExcludeTable("tmp_*");
+		option.addExcludeTable("log_%?");
+		option.addExcludeTable("regex:t_[0-9]+");
+		option.addExcludeTable("work", "m_user");
+		CatalogFilter filter = option.getCatalogFilter();
+		assertEquals("完全一致", Arrays.asList("public"), filter.getIncludeSchemas().getNames());
+		assertEquals("ワイルドカード", Arrays.asList("app\\_%"), filter.getIncludeSchemas().getPatterns());
+		assertEquals("正規表現・スキーマ指定は除く", Arrays.asList("tmp\\_%", "log\\_\\%_"), filter.getExcludeTables().getPatterns());
+		assertTrue("除外なし", filter.getExcludeSchemas().isEmpty());
+
+		// 対象条件は一部だけSQLに組み込まない
+		option.addIncludeTable("m_*");
+		option.addIncludeTable("regex:t_[0-9]+");
+		assertTrue("正規表現を含む", option.getCatalogFilter().getIncludeTables().isEmpty());
+	}
+
+	@Test
+	public void testCatalogFilterTurkishLocale() {
+		Locale locale = Locale.getDefault();
+		Locale.setDefault(new Locale("tr", "TR"));
+		try {
+			DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+			option.addIncludeTable("ITEMS");
+			option.addIncludeTable("LIST_*");
+			CatalogFilter filter = option.getCatalogFilter();
+			assertEquals("完全一致", Arrays.asList("items"), filter.getIncludeTables().getNames());
+			assertEquals("ワイルドカード", Arrays.asList("list\\_%"), filter.getIncludeTables().getPatterns());
+		} finally {
+			Locale.setDefault(locale);
+		}
+	}
+
+	@Test
+	public void testFingerprint() {
+		DatabaseDefinitionParserOption option1 = new DatabaseDefinitionParserOption();
+		option1.addIncludeSchema("public");
+		option1.addExcludeTable("tmp_*");
+		DatabaseDefinitionParserOption option2 = new DatabaseDefinitionParserOption();
+		option2.addIncludeSchema("public");
+		option2.addExcludeTable("tmp_*");
+		assertEquals("同じ条件", option1.getFingerprint(), option2.getFingerprint());
+
+		option2.setBulkMode(false);
+		assertEquals("結果に影響しないオプション", option1.getFingerprint(), option2.getFingerprint());
+
+		option2.addExcludeTable("log_*");
+		assertFalse("除外テーブル追加", option1.getFingerprint().equals(option2.getFingerprint()));
+
+		// 区切り文字を含むパターン
+		DatabaseDefinitionParserOption option3 = new DatabaseDefinitionParserOption();
+		option3.addIncludeSchema("a]b");
+		DatabaseDefinitionParserOption option4 = new DatabaseDefinitionParserOption();
+		option4.addIncludeSchema("a");
+		option4.addIncludeSchema("b");
+		assertFalse("区切り文字", option3.getFingerprint().equals(option4.getFingerprint()));
+	}
+
+	private static SchemaModel schema(final String name) {
+		SchemaModel schema = new SchemaModel();
+		schema.setName(name);
+		return schema;
+	}
+
+	private static TableModel table(final String schemaName, final String name) {
+		TableModel table = new TableModel();
+		table.setSchema(schema(schemaName));
+		table.setName(name);
+		return table;
+	}
+}
@@ -0,0 +1,103 @@
+package org.azkfw.database.definition.parser;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.dbcp.BasicDataSource;
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class JdbcMetaDataDefinitionParserTest extends TestCase {
+
+	@Test
+	public void test() throws Exception {
+		Class.forName("org.h2.Driver");
+		Connection connection = DriverManager.getConnection("jdbc:h2:mem:metadata", "sa", "");
+		try {
+			Statement stmt = connection.createStatement();
+			stmt.execute("CREATE TABLE parent (id INT NOT NULL, code VARCHAR(10) NOT NULL, PRIMARY KEY (id, code))");
+			stmt.execute("CREATE TABLE child (id INT AUTO_INCREMENT PRIMARY KEY, parent_id INT, parent_code VARCHAR(10), "
+					+ "CONSTRAINT fk_child_parent FOREIGN KEY (parent_id, parent_code) REFERENCES parent (id, code))");
+			stmt.execute("CREATE INDEX ix_child_code ON child (parent_code, parent_id)");
+			stmt.close();
+
+			for (boolean bulk : new boolean[] { true, false }) {
+				DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+				option.setBulkMode(bulk);
+
+				JdbcMetaDataDefinitionParser parser = new JdbcMetaDataDefinitionParser();
+				parser.setOption(option);
+				DatabaseModel model = parser.parse(connection);
+
+				TableModel parent = model.getTable("PUBLIC", "PARENT");
+				assertNotNull("テーブル", parent);
+				assertEquals("フィールド数", 2, parent.getFields().size());
+				assertTrue("NOT NULL", parent.getField("CODE").isNotNull());
+				IndexModel primary = parent.getPrimaryIndex();
+				assertNotNull("主キー", primary);
+				assertEquals("主キー", "ID", primary.getFields().get(0).getName());
+				assertEquals("主キー", "CODE", primary.getFields().get(1).getName());
+
+				TableModel child = model.getTable("PUBLIC", "CHILD");
+				assertNotNull("テーブル", child);
+				assertEquals("フィールド数", 3, child.getFields().size());
+				IndexModel index = child.getIndex("IX_CHILD_CODE");
+				assertNotNull("インデックス", index);
+				assertFalse("ユニーク", index.isUnique());
+				assertEquals("インデックス", "PARENT_CODE", index.getFields().get(0).getName());
+				assertEquals("インデックス", "PARENT_ID", index.getFields().get(1).getName());
+
+				ForeignKeyModel foreignKey = child.getForeignKey("FK_CHILD_PARENT");
+				assertNotNull("外部キー", foreignKey);
+				assertEquals("参照テーブル", "PARENT", foreignKey.getReferenceTableName());
+				assertEquals("外部キー", "PARENT_ID", foreignKey.getFields().get(0).getName());
+				assertEquals("参照フィールド", "ID", foreignKey.getReferenceFields().get(0).getName());
+				assertEquals("外部キー", "PARENT_CODE", foreignKey.getFields().get(1).getName());
+				assertEquals("参照フィールド", "CODE", foreignKey.getReferenceFields().get(1).getName());
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
+	@Test
+	public void testDataSource() throws Exception {
+		BasicDataSource dataSource = new BasicDataSource();
+		dataSource.setDriverClassName("org.h2.Driver");
+		dataSource.setUrl("jdbc:h2:mem:datasource;DB_CLOSE_DELAY=-1");
+		dataSource.setUsername("sa");
+		dataSource.setPassword("");
+		try {
+			Connection connection = dataSource.getConnection();
+			Statement stmt = connection.createStatement();
+			stmt.execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))");
+			stmt.close();
+			connection.close();
+
+			JdbcMetaDataDefinitionParser parser = new JdbcMetaDataDefinitionParser();
+			for (int i = 0; i < 3; i++) {
+				DatabaseModel model = parser.parse(dataSource);
+				assertNotNull("テーブル", model.getTable("PUBLIC", "ITEM"));
+				assertEquals("返却", 0, dataSource.getNumActive());
+				assertEquals("再利用", 1, dataSource.getNumIdle());
+			}
+
+			DatabaseModel model = parser.parse(dataSource);
+			assertNotNull("差分更新", parser.refresh(dataSource, model).getTable("PUBLIC", "ITEM"));
+			assertEquals("返却", 0, dataSource.getNumActive());
+		} finally {
+			dataSource.close();
+		}
+	}
+}
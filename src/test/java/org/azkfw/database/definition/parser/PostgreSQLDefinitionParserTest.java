@@ -17,10 +17,21 @@
  */
 package org.azkfw.database.definition.parser;
 
-import junit.framework.TestCase;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexModel;
 import org.azkfw.database.definition.model.TableModel;
+import org.junit.Assume;
 import org.junit.Test;
 
 /**
@@ -28,7 +39,10 @@ import org.junit.Test;
  * @version 1.0.0 2015/03/29
  * @author Kawakicchi
  */
-public class PostgreSQLDefinitionParserTest extends TestCase {
+public class PostgreSQLDefinitionParserTest {
+
+	/** カタログモードの検証用スキーマ */
+	private static final String FIXTURE_SCHEMA = "azk_catalog_test";
 
 	@Test
 	public void test() {
@@ -41,4 +55,111 @@ public class PostgreSQLDefinitionParserTest extends TestCase {
 			System.out.println(table.getName());
 		}
 	}
+
+	@Test
+	public void testCatalogMode() throws SQLException {
+		Connection connection = getConnection();
+		try {
+			createFixture(connection);
+
+			DatabaseDefinitionParserOption option = new DatabaseDefinitionParserOption();
+			option.addIncludeSchema(FIXTURE_SCHEMA);
+			PostgreSQLDefinitionParser parser = new PostgreSQLDefinitionParser(true);
+			parser.setOption(option);
+			DatabaseModel model = parser.parse(connection);
+
+			assertEquals("テーブル数", 2, model.getTables().size());
+
+			// テーブル・フィールドのコメント
+			TableModel parent = model.getTable(FIXTURE_SCHEMA, "parent");
+			assertNotNull("親テーブル", parent);
+			assertEquals("テーブルコメント", "親テーブル", parent.getComment());
+			assertEquals("フィールドコメント", "コード", parent.getField("code").getComment());
+			assertEquals("フィールドコメント(未設定)", "", parent.getField("id").getComment());
+
+			TableModel child = model.getTable(FIXTURE_SCHEMA, "child");
+			assertNotNull("子テーブル", child);
+			assertEquals("テーブルコメント(未設定)", "", child.getComment());
+			assertEquals("フィールド数", 3, child.getFields().size());
+
+			// 主キー以外のインデックス
+			assertTrue("主キー", child.getPrimaryIndex().isPrimaryKey());
+			assertEquals("主キーフィールド", "id", child.getPrimaryIndex().getFields().get(0).getName());
+			IndexModel index = child.getIndex("child_name_idx");
+			assertNotNull("インデックス", index);
+			assertFalse("主キー", index.isPrimaryKey());
+			assertFalse("ユニーク", index.isUnique());
+			assertEquals("インデックスフィールド数", 2, index.getFields().size());
+			assertEquals("インデックスフィールド", "name", index.getFields().get(0).getName());
+			assertEquals("インデックスフィールド", "parent_id", index.getFields().get(1).getName());
+			IndexModel unique = parent.getIndex("parent_code_key");
+			assertNotNull("ユニークインデックス", unique);
+			assertTrue("ユニーク", unique.isUnique());
+
+			// 外部キーの参照先テーブル・フィールド
+			ForeignKeyModel foreignKey = child.getForeignKey("child_parent_fk");
+			assertNotNull("外部キー", foreignKey);
+			assertEquals("参照テーブル", "parent", foreignKey.getReferenceTableName());
+			assertEquals("フィールド数", 1, foreignKey.getFields().size());
+			assertEquals("フィールド", "parent_id", foreignKey.getFields().get(0).getName());
+			assertEquals("参照フィールド数", 1, foreignKey.getReferenceFields().size());
+			assertEquals("参照フィールド", "id", foreignKey.getReferenceFields().get(0).getName());
+			assertTrue("外部キー(親テーブル)", parent.getForeignKeys().isEmpty());
+		} finally {
+			try {
+				execute(connection, "DROP SCHEMA IF EXISTS " + FIXTURE_SCHEMA + " CASCADE");
+			} finally {
+				connection.close();
+			}
+		}
+	}
+
+	/**
+	 * 検証用のデータベースへ接続する。接続できない場合はテストをスキップする。
+	 * <p>
+	 * 接続先はシステムプロパティ <code>test.postgresql.url</code>、<code>test.postgresql.user</code>、<code>test.postgresql.password</code> で変更できます。
+	 * </p>
+	 * 
+	 * @return コネクション
+	 */
+	private static Connection getConnection() {
+		Connection connection = null;
+		try {
+			Class.forName("org.postgresql.Driver");
+			connection = DriverManager.getConnection(System.getProperty("test.postgresql.url", "jdbc:postgresql://localhost/db_test"),
+					System.getProperty("test.postgresql.user", "tester"), System.getProperty("test.postgresql.password", "test"));
+		} catch (ClassNotFoundException ex) {
+			Assume.assumeNoException(ex);
+		} catch (SQLException ex) {
+			Assume.assumeNoException(ex);
+		}
+		return connection;
+	}
+
+	/**
+	 * 検証用のスキーマを作成する。
+	 * 
+	 * @param connection コネクション
+	 * @throws SQLException SQL操作に起因する問題が発生した場合
+	 */
+	private static void createFixture(final Connection connection) throws SQLException {
+		execute(connection, "DROP SCHEMA IF EXISTS " + FIXTURE_SCHEMA + " CASCADE");
+		execute(connection, "CREATE SCHEMA " + FIXTURE_SCHEMA);
+		execute(connection, "CREATE TABLE " + FIXTURE_SCHEMA + ".parent (id INTEGER NOT NULL, code VARCHAR(16) NOT NULL, "
+				+ "PRIMARY KEY (id), CONSTRAINT parent_code_key UNIQUE (code))");
+		execute(connection, "CREATE TABLE " + FIXTURE_SCHEMA + ".child (id INTEGER NOT NULL, parent_id INTEGER, name VARCHAR(64), "
+				+ "PRIMARY KEY (id), CONSTRAINT child_parent_fk FOREIGN KEY (parent_id) REFERENCES " + FIXTURE_SCHEMA + ".parent (id))");
+		execute(connection, "CREATE INDEX child_name_idx ON " + FIXTURE_SCHEMA + ".child (name, parent_id)");
+		execute(connection, "COMMENT ON TABLE " + FIXTURE_SCHEMA + ".parent IS '親テーブル'");
+		execute(connection, "COMMENT ON COLUMN " + FIXTURE_SCHEMA + ".parent.code IS 'コード'");
+	}
+
+	private static void execute(final Connection connection, final String sql) throws SQLException {
+		Statement stmt = connection.createStatement();
+		try {
+			stmt.execute(sql);
+		} finally {
+			stmt.close();
+		}
+	}
 }
@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.database.definition.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+
+import org.azkfw.database.definition.model.DatabaseModel;
+import org.azkfw.database.definition.model.FieldModel;
+import org.azkfw.database.definition.model.FieldTypeModel;
+import org.azkfw.database.definition.model.ForeignKeyFeildModel;
+import org.azkfw.database.definition.model.ForeignKeyModel;
+import org.azkfw.database.definition.model.IndexFieldModel;
+import org.azkfw.database.definition.model.IndexModel;
+import org.azkfw.database.definition.model.SchemaModel;
+import org.azkfw.database.definition.model.TableModel;
+import org.junit.Test;
+
+/**
+ * @since 1.0.0
+ * @version 1.0.0 2026/10/17
+ * @author Kawakicchi
+ */
+public class DatabaseModelSnapshotTest extends TestCase {
+
+	@Test
+	public void testWriteRead() throws IOException {
+		SchemaModel schema = new SchemaModel();
+		schema.setName("public");
+
+		DatabaseModel database = new DatabaseModel();
+		database.addTable(createTable(schema, "m_user", null));
+		database.addTable(createTable(schema, "t_order", "m_user"));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new DatabaseModelSnapshot(database, "100:200", "is[6:public]").write(out);
+
+		DatabaseModelSnapshot snapshot = DatabaseModelSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals("カタログバージョン", "100:200", snapshot.getCatalogVersion());
+		assertEquals("オプション", "is[6:public]", snapshot.getOptionFingerprint());
+		assertTrue("作成日時", 0 < snapshot.getCreateDate());
+
+		DatabaseModel result = snapshot.getDatabase();
+		assertEquals("テーブル数", 2, result.getTables().size());
+		assertSame("スキーマ共有", result.getTables().get(0).getSchema(), result.getTables().get(1).getSchema());
+
+		TableModel table = result.getTable("public", "t_order");
+		assertNotNull("テーブル", table);
+		assertEquals("コメント", "t_order comment", table.getComment());
+		assertEquals("バージョン", "t_order:1", table.getVersion());
+		assertEquals("フィールド数", 2, table.getFields().size());
+
+		FieldModel id = table.getField("id");
+		assertEquals("タイプ", "integer", id.getType().getLabel());
+		assertTrue("NotNull", id.isNotNull());
+		assertFalse("デフォルト値", id.isDefaultFlag());
+
+		FieldModel name = table.getField("name");
+		assertNull("コメントなし", name.getComment());
+		assertTrue("デフォルト値", name.isDefaultFlag());
+		assertEquals("デフォルト値", "'none'", name.getDefaultValue());
+
+		IndexModel index = table.getPrimaryIndex();
+		assertEquals("主キー", "t_order_pkey", index.getName());
+		assertTrue("ユニーク", index.isUnique());
+		assertNotNull("主キーフィールド", index.getField("id"));
+
+		ForeignKeyModel foreignKey = table.getForeignKey("t_order_fk");
+		assertEquals("参照テーブル", "m_user", foreignKey.getReferenceTableName());
+		assertEquals("参照フィールド", "id", foreignKey.getReferenceFields().get(0).getName());
+	}
+
+	@Test
+	public void testInvalidStream() {
+		try {
+			DatabaseModelSnapshot.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+			fail("不正な形式");
+		} catch (IOException ex) {
+			// OK
+		}
+	}
+
+	@Test
+	public void testCorruptLength() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DatabaseModel database = new DatabaseModel();
+		database.addTable(createTable(null, "m_user", null));
+		new DatabaseModelSnapshot(database, "1").write(out);
+		byte[] bytes = out.toByteArray();
+
+		// マジックナンバー・フォーマットバージョン・セクション種別の後のセクション長
+		for (int length : new int[] { -1, Integer.MAX_VALUE - 8, bytes.length }) {
+			byte[] corrupt = bytes.clone();
+			ByteBuffer.wrap(corrupt).putInt(9, length);
+			try {
+				DatabaseModelSnapshot.read(new ByteArrayInputStream(corrupt));
+				fail("不正なセクション長");
+			} catch (IOException ex) {
+				// OK
+			}
+		}
+
+		// 文字列テーブルの要素数
+		ByteArrayOutputStream corrupt = new ByteArrayOutputStream();
+		DataOutputStream dout = new DataOutputStream(corrupt);
+		dout.write(bytes, 0, 8);
+		dout.writeByte(2);
+		dout.writeInt(5);
+		dout.write(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 });
+		dout.writeByte(0);
+		dout.flush();
+		try {
+			DatabaseModelSnapshot.read(new ByteArrayInputStream(corrupt.toByteArray()));
+			fail("不正な要素数");
+		} catch (IOException ex) {
+			// OK
+		}
+	}
+
+	@Test
+	public void testWriteFile() throws IOException {
+		File dir = File.createTempFile("snapshot", "");
+		assertTrue(dir.delete() && dir.mkdir());
+		try {
+			DatabaseModel database = new DatabaseModel();
+			database.addTable(createTable(null, "m_user", null));
+
+			File file = new File(dir, "model.snapshot");
+			new DatabaseModelSnapshot(database, "1").write(file);
+			new DatabaseModelSnapshot(database, "2").write(file);
+
+			assertEquals("置換", "2", DatabaseModelSnapshot.read(file).getCatalogVersion());
+			assertEquals("一時ファイル", 1, dir.listFiles().length);
+		} finally {
+			for (File file : dir.listFiles()) {
+				file.delete();
+			}
+			dir.delete();
+		}
+	}
+
+	private static TableModel createTable(final SchemaModel schema, final String name, final String refTableName) {
+		TableModel table = new TableModel();
+		table.setSchema(schema);
+		table.setName(name);
+		table.setLabel(name);
+		table.setComment(name + " comment");
+		table.setVersion(name + ":1");
+
+		FieldTypeModel integer = new FieldTypeModel();
+		integer.setLabel("integer");
+		FieldModel id = new FieldModel();
+		id.setName("id");
+		id.setLabel("id");
+		id.setType(integer);
+		id.setNotNull(true);
+		table.addField(id);
+
+		FieldTypeModel text = new FieldTypeModel();
+		text.setLabel("text");
+		FieldModel field = new FieldModel();
+		field.setName("name");
+		field.setLabel("name");
+		field.setType(text);
+		field.setDefaultFlag(true);
+		field.setDefaultValue("'none'");
+		table.addField(field);
+
+		IndexModel index = new IndexModel();
+		index.setName(name + "_pkey");
+		index.setPrimaryKey(true);
+		index.setUnique(true);
+		IndexFieldModel indexField = new IndexFieldModel();
+		indexField.setName("id");
+		index.addField(indexField);
+		table.addIndex(index);
+
+		if (null != refTableName) {
+			ForeignKeyModel foreignKey = new ForeignKeyModel();
+			foreignKey.setName(name + "_fk");
+			foreignKey.setReferenceTableName(refTableName);
+			ForeignKeyFeildModel keyField = new ForeignKeyFeildModel();
+			keyField.setName("id");
+			ForeignKeyFeildModel referenceField = new ForeignKeyFeildModel();
+			referenceField.setName("id");
+			foreignKey.addField(keyField);
+			foreignKey.addReferenceField(referenceField);
+			table.addForeignKey(foreignKey);
+		}
+		return table;
+	}
+}